@@ -0,0 +1,129 @@
+package net.runelite.client.plugins.microbot;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Rate-limited logging and early-return counters for script loops.
+ * This class will be included in each plugin JAR during the shadow build process.
+ * <p>
+ * Messages are only built when they are actually written, and each call site (identified by its key) writes at most
+ * once per interval; how many messages were suppressed in between is appended to the next one. Counters are keyed
+ * by an enum of reasons and written as one summary line by {@link #flushIfDue()}.
+ */
+public final class PluginDiagnostics
+{
+	private final String name;
+	private final long logIntervalMs;
+	private final long summaryIntervalMs;
+
+	private final Map<String, CallSite> callSites = new ConcurrentHashMap<>();
+	private final Map<Enum<?>, AtomicLong> counters = new ConcurrentHashMap<>();
+	private volatile long lastSummary = System.currentTimeMillis();
+
+	/**
+	 * @param name              prefix of every line, usually the script name
+	 * @param logIntervalMs     minimum time between two lines of the same call site
+	 * @param summaryIntervalMs time between two counter summaries
+	 */
+	public PluginDiagnostics(String name, long logIntervalMs, long summaryIntervalMs)
+	{
+		this.name = name;
+		this.logIntervalMs = logIntervalMs;
+		this.summaryIntervalMs = summaryIntervalMs;
+	}
+
+	/**
+	 * Writes the message unless this call site wrote one less than the log interval ago.
+	 *
+	 * @param key     identifies the call site
+	 * @param message built only if the line is written
+	 */
+	public void log(String key, Supplier<String> message)
+	{
+		CallSite site = callSites.computeIfAbsent(key, k -> new CallSite());
+		long now = System.currentTimeMillis();
+		long suppressed;
+		synchronized (site)
+		{
+			if (now - site.lastLogged < logIntervalMs)
+			{
+				site.suppressed++;
+				return;
+			}
+			suppressed = site.suppressed;
+			site.suppressed = 0;
+			site.lastLogged = now;
+		}
+		String line = name + ": " + message.get();
+		Microbot.log(suppressed > 0 ? line + " (" + suppressed + " similar suppressed)" : line);
+	}
+
+	/**
+	 * Counts one occurrence of the reason, e.g. why a loop iteration returned early.
+	 */
+	public void count(Enum<?> reason)
+	{
+		AtomicLong counter = counters.get(reason);
+		if (counter == null)
+		{
+			counters.putIfAbsent(reason, new AtomicLong());
+			counter = counters.get(reason);
+		}
+		counter.incrementAndGet();
+	}
+
+	/**
+	 * Counts the reason and also logs it, rate-limited per reason.
+	 */
+	public void count(Enum<?> reason, Supplier<String> message)
+	{
+		count(reason);
+		log(reason.getDeclaringClass().getSimpleName() + '.' + reason.name(), message);
+	}
+
+	/**
+	 * Writes the counter summary if the summary interval has passed. Cheap enough to call on every loop iteration.
+	 */
+	public void flushIfDue()
+	{
+		if (System.currentTimeMillis() - lastSummary >= summaryIntervalMs)
+		{
+			flush();
+		}
+	}
+
+	/**
+	 * Writes the counters collected since the last summary and resets them. Nothing is written if none were counted.
+	 */
+	public synchronized void flush()
+	{
+		lastSummary = System.currentTimeMillis();
+		StringBuilder summary = null;
+		for (Map.Entry<Enum<?>, AtomicLong> entry : counters.entrySet())
+		{
+			long count = entry.getValue().getAndSet(0);
+			if (count == 0)
+			{
+				continue;
+			}
+			if (summary == null)
+			{
+				summary = new StringBuilder(name).append(" summary:");
+			}
+			summary.append(' ').append(entry.getKey().name()).append('=').append(count);
+		}
+		if (summary != null)
+		{
+			Microbot.log(summary.toString());
+		}
+	}
+
+	private static final class CallSite
+	{
+		private long lastLogged;
+		private long suppressed;
+	}
+}
@@ -0,0 +1,205 @@
+package net.runelite.client.plugins.microbot;
+
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.GameState;
+import net.runelite.api.Quest;
+import net.runelite.api.QuestState;
+import net.runelite.api.Skill;
+import net.runelite.client.plugins.microbot.util.bank.Rs2Bank;
+import net.runelite.client.plugins.microbot.util.equipment.Rs2Equipment;
+import net.runelite.client.plugins.microbot.util.inventory.Rs2Inventory;
+import net.runelite.client.plugins.microbot.util.inventory.Rs2RunePouch;
+import net.runelite.client.plugins.microbot.util.player.Rs2Player;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Quest, skill, varbit, varplayer and item requirement checks with memoized results.
+ * This class will be included in each plugin JAR during the shadow build process.
+ * <p>
+ * A {@link Requirements} set keeps its last result until {@link #invalidate()} is called. Plugins using it call
+ * {@link #invalidate()} from their StatChanged, VarbitChanged (quest progress is varbit/varplayer based),
+ * ItemContainerChanged and GameStateChanged handlers.
+ */
+@Slf4j
+public final class RequirementEngine
+{
+	private static final AtomicLong GENERATION = new AtomicLong();
+
+	private RequirementEngine()
+	{
+		throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+	}
+
+	/**
+	 * Marks every memoized result as stale.
+	 */
+	public static void invalidate()
+	{
+		GENERATION.incrementAndGet();
+	}
+
+	/**
+	 * Invalidates on login and world hops, when all player state may have changed.
+	 */
+	public static void onGameStateChanged(GameState gameState)
+	{
+		if (gameState == GameState.LOGGED_IN || gameState == GameState.HOPPING || gameState == GameState.LOGIN_SCREEN)
+		{
+			invalidate();
+		}
+	}
+
+	/**
+	 * An immutable set of requirements with a memoized result.
+	 */
+	public static final class Requirements
+	{
+		private final Map<Quest, QuestState> quests;
+		private final Map<Skill, Integer> skills;
+		private final Map<Integer, Integer> varbits;
+		private final Map<Integer, Integer> varplayers;
+		private final Map<Integer, Integer> items;
+		private final boolean empty;
+
+		private volatile long evaluatedGeneration = -1;
+		private volatile boolean met;
+
+		public Requirements(Map<Quest, QuestState> quests, Map<Skill, Integer> skills, Map<Integer, Integer> varbits,
+			Map<Integer, Integer> varplayers, Map<Integer, Integer> items)
+		{
+			this.quests = quests == null || quests.isEmpty() ? Collections.emptyMap() : Collections.unmodifiableMap(new EnumMap<>(quests));
+			this.skills = skills == null || skills.isEmpty() ? Collections.emptyMap() : Collections.unmodifiableMap(new EnumMap<>(skills));
+			this.varbits = copy(varbits);
+			this.varplayers = copy(varplayers);
+			this.items = copy(items);
+			this.empty = this.quests.isEmpty() && this.skills.isEmpty() && this.varbits.isEmpty()
+				&& this.varplayers.isEmpty() && this.items.isEmpty();
+		}
+
+		public Map<Quest, QuestState> getQuests()
+		{
+			return quests;
+		}
+
+		public Map<Skill, Integer> getSkills()
+		{
+			return skills;
+		}
+
+		public Map<Integer, Integer> getVarbits()
+		{
+			return varbits;
+		}
+
+		public Map<Integer, Integer> getVarplayers()
+		{
+			return varplayers;
+		}
+
+		public Map<Integer, Integer> getItems()
+		{
+			return items;
+		}
+
+		/**
+		 * @return true if the logged-in player meets all requirements; false while logged out
+		 */
+		public boolean isMet()
+		{
+			if (Microbot.getClient() == null)
+			{
+				log.debug("Requirements checked without a client");
+				return false;
+			}
+			if (!Microbot.isLoggedIn())
+			{
+				log.debug("Player is not logged in, cannot check requirements");
+				return false;
+			}
+			if (empty)
+			{
+				return true;
+			}
+
+			// Read the generation first, so an invalidation during the evaluation forces another one
+			long generation = GENERATION.get();
+			if (evaluatedGeneration == generation)
+			{
+				return met;
+			}
+			boolean result = evaluate();
+			met = result;
+			evaluatedGeneration = generation;
+			return result;
+		}
+
+		private boolean evaluate()
+		{
+			for (Map.Entry<Quest, QuestState> quest : quests.entrySet())
+			{
+				QuestState currentState = Rs2Player.getQuestState(quest.getKey());
+				QuestState requiredState = quest.getValue();
+				// FINISHED must be finished, IN_PROGRESS must at least be started
+				if (requiredState == QuestState.FINISHED && currentState != QuestState.FINISHED)
+				{
+					return false;
+				}
+				if (requiredState == QuestState.IN_PROGRESS && currentState != QuestState.IN_PROGRESS && currentState != QuestState.FINISHED)
+				{
+					return false;
+				}
+			}
+
+			for (Map.Entry<Skill, Integer> skill : skills.entrySet())
+			{
+				if (!Rs2Player.getSkillRequirement(skill.getKey(), skill.getValue()))
+				{
+					return false;
+				}
+			}
+
+			for (Map.Entry<Integer, Integer> varbit : varbits.entrySet())
+			{
+				if (Microbot.getVarbitValue(varbit.getKey()) != varbit.getValue())
+				{
+					return false;
+				}
+			}
+
+			for (Map.Entry<Integer, Integer> varplayer : varplayers.entrySet())
+			{
+				if (Microbot.getVarbitPlayerValue(varplayer.getKey()) != varplayer.getValue())
+				{
+					return false;
+				}
+			}
+
+			for (Map.Entry<Integer, Integer> item : items.entrySet())
+			{
+				int itemId = item.getKey();
+				int requiredAmount = item.getValue();
+				//TODO we must check if we are checking for stackable items..
+				int numberOfItems = Rs2Inventory.count(itemId) + (Rs2Equipment.isWearing(itemId) ? 1 : 0);
+				int numberOfItemsInPouch = Rs2RunePouch.getQuantity(itemId);
+				int numberOfItemsInBank = Rs2Bank.count(itemId);
+				if (numberOfItems + numberOfItemsInPouch + numberOfItemsInBank < requiredAmount)
+				{
+					log.warn("Missing required item: {} x{} (have {})", itemId, requiredAmount, numberOfItems);
+					Microbot.log("Missing required item: " + itemId + " x" + requiredAmount + " (have " + numberOfItems + ")");
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private static Map<Integer, Integer> copy(Map<Integer, Integer> map)
+		{
+			return map == null || map.isEmpty() ? Collections.emptyMap() : Collections.unmodifiableMap(new LinkedHashMap<>(map));
+		}
+	}
+}
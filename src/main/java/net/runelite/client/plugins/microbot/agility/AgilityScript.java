@@ -6,6 +6,7 @@ import net.runelite.api.coords.WorldPoint;
 import net.runelite.api.gameval.ItemID;
 import net.runelite.client.plugins.agility.AgilityPlugin;
 import net.runelite.client.plugins.microbot.Microbot;
+import net.runelite.client.plugins.microbot.PluginDiagnostics;
 import net.runelite.client.plugins.microbot.Script;
 import net.runelite.client.plugins.microbot.agility.courses.BrimhavenSpikeCourse;
 import net.runelite.client.plugins.microbot.agility.courses.GnomeStrongholdCourse;
@@ -33,12 +34,31 @@ import java.util.stream.Collectors;
 public class AgilityScript extends Script
 {
 
+	/**
+	 * Why a main loop iteration returned before clicking an obstacle.
+	 */
+	enum EarlyReturn
+	{
+		LEVEL_NOT_MET,
+		NOT_ENOUGH_COINS,
+		ACTION_COOLDOWN,
+		NO_START_POINT,
+		FOOD,
+		SUMMER_PIES,
+		MARKS_OF_GRACE,
+		COURSE_SPECIFIC,
+		NO_OBSTACLE,
+		NOT_READY_TO_CLICK,
+		COMPLETION_TIMEOUT
+	}
+
+	private final PluginDiagnostics diagnostics = new PluginDiagnostics("AgilityScript", 30_000, 60_000);
+
 	final MicroAgilityPlugin plugin;
 	final MicroAgilityConfig config;
 
 	WorldPoint startPoint = null;
 	int lastAgilityXp = 0;
-	long lastTimeoutWarning = 0;  // For throttled timeout warnings
 
 	@Inject
 	public AgilityScript(MicroAgilityPlugin plugin, MicroAgilityConfig config)
@@ -57,6 +77,7 @@ public class AgilityScript extends Script
 			course.reset();
 		}
 		
+		diagnostics.flush();
 		super.shutdown();
 	}
 
@@ -79,11 +100,11 @@ public class AgilityScript extends Script
 					return;
 				}
 				
-				// Debug log to see if main loop is running
-				Microbot.log("AgilityScript main loop running - Course: " + config.agilityCourse().getTooltip());
+				diagnostics.flushIfDue();
+				diagnostics.log("loop", () -> "main loop running - Course: " + config.agilityCourse().getTooltip());
 				if (!plugin.hasRequiredLevel())
 				{
-					Microbot.log("Early return: Required level not met");
+					diagnostics.count(EarlyReturn.LEVEL_NOT_MET, () -> "Early return: Required level not met");
 					Microbot.showMessage("You do not have the required level for this course.");
 					shutdown();
 					return;
@@ -95,7 +116,7 @@ public class AgilityScript extends Script
 					BrimhavenSpikeCourse course = (BrimhavenSpikeCourse) plugin.getCourseHandler();
 					if (!course.hasPaid() && !course.hasRequiredCoins())
 					{
-						Microbot.log("Early return: Not enough coins for BrimhavenSpike course");
+						diagnostics.count(EarlyReturn.NOT_ENOUGH_COINS, () -> "Early return: Not enough coins for BrimhavenSpike course");
 						Microbot.showMessage("You need 200 coins to enter the Brimhaven Spike course!");
 						shutdown();
 						return;
@@ -103,12 +124,12 @@ public class AgilityScript extends Script
 				}
 				if (Rs2AntibanSettings.actionCooldownActive)
 				{
-					Microbot.log("Early return: Action cooldown active");
+					diagnostics.count(EarlyReturn.ACTION_COOLDOWN);
 					return;
 				}
 				if (startPoint == null)
 				{
-					Microbot.log("Early return: Start point is null");
+					diagnostics.count(EarlyReturn.NO_START_POINT, () -> "Early return: Start point is null");
 					Microbot.showMessage("Agility course: " + config.agilityCourse().getTooltip() + " is not supported.");
 					sleep(10000);
 					return;
@@ -119,29 +140,29 @@ public class AgilityScript extends Script
 
 				if (handleFood())
 				{
-					Microbot.log("Early return: Handling food");
+					diagnostics.count(EarlyReturn.FOOD);
 					return;
 				}
 				if (handleSummerPies())
 				{
-					Microbot.log("Early return: Handling summer pies");
+					diagnostics.count(EarlyReturn.SUMMER_PIES);
 					return;
 				}
 
 				if (lootMarksOfGrace())
 				{
-					Microbot.log("Early return: Looting marks of grace");
+					diagnostics.count(EarlyReturn.MARKS_OF_GRACE);
 					return;
 				}
 
 				if (handleCourseSpecificActions(playerWorldLocation))
 				{
+					diagnostics.count(EarlyReturn.COURSE_SPECIFIC);
 					return;
 				}
 				
-				// Debug log to see if script is running
 				if (plugin.getCourseHandler() instanceof BrimhavenSpikeCourse) {
-					Microbot.log("BrimhavenSpike course detected, but handleCourseSpecificActions returned false");
+					diagnostics.log("brimhavenNoAction", () -> "BrimhavenSpike course detected, but handleCourseSpecificActions returned false");
 				}
 
 				final int agilityExp = Microbot.getClient().getSkillExperience(Skill.AGILITY);
@@ -150,7 +171,7 @@ public class AgilityScript extends Script
 
 				if (gameObject == null)
 				{
-					Microbot.log("No agility obstacle found. Report this as a bug if this keeps happening.");
+					diagnostics.count(EarlyReturn.NO_OBSTACLE, () -> "No agility obstacle found. Report this as a bug if this keeps happening.");
 					return;
 				}
 
@@ -162,6 +183,7 @@ public class AgilityScript extends Script
 				// Check if we should click (handles animation/XP logic)
 				if (!plugin.getCourseHandler().shouldClickObstacle(currentAgilityXp, lastAgilityXp))
 				{
+					diagnostics.count(EarlyReturn.NOT_READY_TO_CLICK);
 					return; // Not ready to click yet
 				}
 				
@@ -222,11 +244,7 @@ public class AgilityScript extends Script
 					
 					if (!completed) {
 						// Timeout occurred - log warning (throttled to once per 30 seconds)
-						long now = System.currentTimeMillis();
-						if (now - lastTimeoutWarning > 30000) {
-							Microbot.log("Obstacle completion timed out - retrying on next iteration");
-							lastTimeoutWarning = now;
-						}
+						diagnostics.count(EarlyReturn.COMPLETION_TIMEOUT, () -> "Obstacle completion timed out - retrying on next iteration");
 						return;  // Bail early to avoid acting on stale state
 					}
 					
@@ -389,11 +407,7 @@ public class AgilityScript extends Script
 				
 				if (!completed) {
 					// Timeout during efficient alching - log warning
-					long now = System.currentTimeMillis();
-					if (now - lastTimeoutWarning > 30000) {
-						Microbot.log("Obstacle completion timed out during efficient alching");
-						lastTimeoutWarning = now;
-					}
+					diagnostics.count(EarlyReturn.COMPLETION_TIMEOUT, () -> "Obstacle completion timed out during efficient alching");
 					return false;  // Return false to indicate alch sequence failed
 				}
 				
@@ -414,7 +428,7 @@ public class AgilityScript extends Script
 
 	private boolean handleCourseSpecificActions(WorldPoint playerWorldLocation)
 	{
-		Microbot.log("handleCourseSpecificActions called for: " + plugin.getCourseHandler().getClass().getSimpleName());
+		diagnostics.log("courseSpecific", () -> "handleCourseSpecificActions called for: " + plugin.getCourseHandler().getClass().getSimpleName());
 		
 		if (plugin.getCourseHandler() instanceof PrifddinasCourse)
 		{
@@ -431,10 +445,9 @@ public class AgilityScript extends Script
 		}
 		else if (plugin.getCourseHandler() instanceof BrimhavenSpikeCourse)
 		{
-			Microbot.log("BrimhavenSpikeCourse detected, calling handleWalkToStart");
 			BrimhavenSpikeCourse course = (BrimhavenSpikeCourse) plugin.getCourseHandler();
 			boolean result = course.handleWalkToStart(playerWorldLocation);
-			Microbot.log("BrimhavenSpikeCourse handleWalkToStart returned: " + result);
+			diagnostics.log("brimhavenWalkToStart", () -> "BrimhavenSpikeCourse handleWalkToStart returned: " + result);
 			return result;
 		}
 		else if (!(plugin.getCourseHandler() instanceof GnomeStrongholdCourse))
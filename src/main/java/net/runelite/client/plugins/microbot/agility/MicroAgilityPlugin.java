@@ -2,12 +2,22 @@ package net.runelite.client.plugins.microbot.agility;
 
 import com.google.inject.Provides;
 import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.GameState;
 import net.runelite.api.Skill;
+import net.runelite.api.TileObject;
+import net.runelite.api.events.DecorativeObjectDespawned;
+import net.runelite.api.events.GameObjectDespawned;
+import net.runelite.api.events.GameStateChanged;
+import net.runelite.api.events.GroundObjectDespawned;
+import net.runelite.api.events.StatChanged;
+import net.runelite.api.events.WallObjectDespawned;
 import net.runelite.client.config.ConfigManager;
+import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
 import net.runelite.client.plugins.microbot.PluginConstants;
 import net.runelite.client.plugins.microbot.agility.courses.AgilityCourseHandler;
+import net.runelite.client.plugins.microbot.agility.courses.ObstacleIndex;
 import net.runelite.client.plugins.microbot.util.inventory.Rs2Inventory;
 import net.runelite.client.plugins.microbot.util.inventory.Rs2ItemModel;
 import net.runelite.client.plugins.microbot.util.player.Rs2Player;
@@ -34,7 +44,7 @@ import java.util.stream.Collectors;
 @Slf4j
 public class MicroAgilityPlugin extends Plugin
 {
-	public static final String version = "1.2.4";
+	public static final String version = "1.2.6";
 	@Inject
 	private MicroAgilityConfig config;
 	@Inject
@@ -76,6 +86,54 @@ public class MicroAgilityPlugin extends Plugin
 		return config.agilityCourse().getHandler();
 	}
 
+	@Subscribe
+	public void onGameObjectDespawned(GameObjectDespawned event)
+	{
+		onObstacleDespawned(event.getGameObject());
+	}
+
+	@Subscribe
+	public void onGroundObjectDespawned(GroundObjectDespawned event)
+	{
+		onObstacleDespawned(event.getGroundObject());
+	}
+
+	@Subscribe
+	public void onWallObjectDespawned(WallObjectDespawned event)
+	{
+		onObstacleDespawned(event.getWallObject());
+	}
+
+	@Subscribe
+	public void onDecorativeObjectDespawned(DecorativeObjectDespawned event)
+	{
+		onObstacleDespawned(event.getDecorativeObject());
+	}
+
+	@Subscribe
+	public void onGameStateChanged(GameStateChanged event)
+	{
+		if (event.getGameState() == GameState.LOADING || event.getGameState() == GameState.LOGIN_SCREEN)
+		{
+			ObstacleIndex.forCourse(getCourseHandler()).clearResolved();
+		}
+	}
+
+	@Subscribe
+	public void onStatChanged(StatChanged event)
+	{
+		// XP means the obstacle was completed; the next one must be resolved nearest-first again
+		if (event.getSkill() == Skill.AGILITY)
+		{
+			ObstacleIndex.forCourse(getCourseHandler()).clearResolved();
+		}
+	}
+
+	private void onObstacleDespawned(TileObject object)
+	{
+		ObstacleIndex.forCourse(getCourseHandler()).onDespawned(object);
+	}
+
 	public List<Rs2ItemModel> getInventoryFood()
 	{
 		return Rs2Inventory.getInventoryFood().stream().filter(i -> !(i.getName().toLowerCase().contains("summer pie"))).collect(Collectors.toList());
@@ -16,10 +16,13 @@ import net.runelite.client.plugins.microbot.util.walker.Rs2Walker;
 import java.util.Comparator;
 import java.util.List;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 public interface AgilityCourseHandler
 {
+	/**
+	 * Obstacles are first looked for within this many tiles of the player, then in the whole scene.
+	 */
+	int NEARBY_OBSTACLE_DISTANCE = 24;
 
 	WorldPoint getStartPoint();
 
@@ -36,16 +39,15 @@ public interface AgilityCourseHandler
 	{
 		WorldPoint playerLocation = Microbot.getClient().getLocalPlayer().getWorldLocation();
 
-		List<AgilityObstacleModel> matchingObstacles = getObstacles().stream()
-			.filter(o -> o.getOperationX().check(playerLocation.getX(), o.getRequiredX()) && o.getOperationY().check(playerLocation.getY(), o.getRequiredY()))
-			.collect(Collectors.toList());
-
-		List<Integer> objectIds = matchingObstacles.stream()
-			.map(AgilityObstacleModel::getObjectID)
-			.collect(Collectors.toList());
+		ObstacleIndex index = ObstacleIndex.forCourse(this);
+		int[] objectIds = index.candidateIds(playerLocation.getX(), playerLocation.getY());
+		if (objectIds.length == 0)
+		{
+			return null;
+		}
 
 		Predicate<TileObject> validObjectPredicate = obj -> {
-			if (!objectIds.contains(obj.getId()))
+			if (!ObstacleIndex.contains(objectIds, obj.getId()))
 			{
 				return false;
 			}
@@ -75,7 +77,17 @@ public interface AgilityCourseHandler
 			return true;
 		};
 
-		return Rs2GameObject.getAll(validObjectPredicate).stream().findFirst().orElse(null);
+		// Until the next XP drop the player is still on the same step, re-check its obstacle before scanning the scene
+		TileObject cached = index.getResolved(objectIds);
+		if (cached != null && validObjectPredicate.test(cached))
+		{
+			return cached;
+		}
+
+		TileObject obstacle = Rs2GameObject.getAll(validObjectPredicate, NEARBY_OBSTACLE_DISTANCE).stream().findFirst()
+			.orElseGet(() -> Rs2GameObject.getAll(validObjectPredicate).stream().findFirst().orElse(null));
+		index.setResolved(objectIds, obstacle);
+		return obstacle;
 	}
 
 	// Simple method to check if we should click or wait
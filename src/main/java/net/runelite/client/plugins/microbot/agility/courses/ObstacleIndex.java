@@ -0,0 +1,185 @@
+package net.runelite.client.plugins.microbot.agility.courses;
+
+import net.runelite.api.TileObject;
+import net.runelite.client.plugins.microbot.agility.models.AgilityObstacleModel;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A course's obstacle list compiled into position buckets.
+ * <p>
+ * Every obstacle condition is a comparison of the player's x or y against a fixed value, so the x and y axes are
+ * split into ranges in which no condition changes. Each range stores a bit mask of the obstacles whose condition
+ * holds, and the candidate object ids of an x/y range pair are resolved once into an {@code int[]}.
+ * The last resolved obstacle object is reused only for the same candidate ids, and is dropped on agility XP
+ * gain, despawn or scene reload, so it never wins over a nearer obstacle of the next step.
+ */
+public final class ObstacleIndex
+{
+	private static final Map<Class<?>, ObstacleIndex> INDEXES = new ConcurrentHashMap<>();
+
+	private final int[] objectIds;
+	private final int[] xBounds;
+	private final long[] xMasks;
+	private final int[] yBounds;
+	private final long[] yMasks;
+	private final Map<Long, int[]> candidatesByMask = new ConcurrentHashMap<>();
+
+	private volatile Resolved resolved;
+
+	private static final class Resolved
+	{
+		private final int[] candidateIds;
+		private final TileObject object;
+
+		private Resolved(int[] candidateIds, TileObject object)
+		{
+			this.candidateIds = candidateIds;
+			this.object = object;
+		}
+	}
+
+	ObstacleIndex(List<AgilityObstacleModel> obstacles)
+	{
+		if (obstacles.size() > Long.SIZE)
+		{
+			throw new IllegalArgumentException("Too many obstacles for one course: " + obstacles.size());
+		}
+		objectIds = obstacles.stream().mapToInt(AgilityObstacleModel::getObjectID).toArray();
+
+		TreeSet<Integer> xs = new TreeSet<>();
+		TreeSet<Integer> ys = new TreeSet<>();
+		for (AgilityObstacleModel obstacle : obstacles)
+		{
+			// A condition on value v can only change its result at v or v + 1
+			xs.add(obstacle.getRequiredX());
+			xs.add(obstacle.getRequiredX() + 1);
+			ys.add(obstacle.getRequiredY());
+			ys.add(obstacle.getRequiredY() + 1);
+		}
+		xBounds = xs.stream().mapToInt(Integer::intValue).toArray();
+		yBounds = ys.stream().mapToInt(Integer::intValue).toArray();
+		xMasks = new long[xBounds.length + 1];
+		yMasks = new long[yBounds.length + 1];
+
+		for (int range = 0; range <= xBounds.length; range++)
+		{
+			int x = range == 0 ? xBounds[0] - 1 : xBounds[range - 1];
+			for (int i = 0; i < obstacles.size(); i++)
+			{
+				AgilityObstacleModel obstacle = obstacles.get(i);
+				if (obstacle.getOperationX().check(x, obstacle.getRequiredX()))
+				{
+					xMasks[range] |= 1L << i;
+				}
+			}
+		}
+		for (int range = 0; range <= yBounds.length; range++)
+		{
+			int y = range == 0 ? yBounds[0] - 1 : yBounds[range - 1];
+			for (int i = 0; i < obstacles.size(); i++)
+			{
+				AgilityObstacleModel obstacle = obstacles.get(i);
+				if (obstacle.getOperationY().check(y, obstacle.getRequiredY()))
+				{
+					yMasks[range] |= 1L << i;
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return the compiled index of the course, built on first use
+	 */
+	public static ObstacleIndex forCourse(AgilityCourseHandler course)
+	{
+		ObstacleIndex index = INDEXES.get(course.getClass());
+		if (index == null)
+		{
+			index = new ObstacleIndex(course.getObstacles());
+			ObstacleIndex existing = INDEXES.putIfAbsent(course.getClass(), index);
+			if (existing != null)
+			{
+				index = existing;
+			}
+		}
+		return index;
+	}
+
+	/**
+	 * @return the object ids of the obstacles whose position condition holds at x/y, never null
+	 */
+	public int[] candidateIds(int x, int y)
+	{
+		long mask = xMasks[range(xBounds, x)] & yMasks[range(yBounds, y)];
+		int[] ids = candidatesByMask.get(mask);
+		if (ids == null)
+		{
+			ids = new int[Long.bitCount(mask)];
+			int n = 0;
+			for (int i = 0; i < objectIds.length; i++)
+			{
+				if ((mask & (1L << i)) != 0)
+				{
+					ids[n++] = objectIds[i];
+				}
+			}
+			candidatesByMask.put(mask, ids);
+		}
+		return ids;
+	}
+
+	static boolean contains(int[] ids, int id)
+	{
+		for (int candidate : ids)
+		{
+			if (candidate == id)
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @return the object last resolved for exactly these candidate ids (as returned by {@link #candidateIds}), or null
+	 */
+	TileObject getResolved(int[] candidateIds)
+	{
+		Resolved current = resolved;
+		return current != null && current.candidateIds == candidateIds ? current.object : null;
+	}
+
+	void setResolved(int[] candidateIds, TileObject object)
+	{
+		resolved = object == null ? null : new Resolved(candidateIds, object);
+	}
+
+	/**
+	 * Drops the cached obstacle object if it is the one that despawned.
+	 */
+	public void onDespawned(TileObject object)
+	{
+		Resolved current = resolved;
+		if (current != null && current.object == object)
+		{
+			resolved = null;
+		}
+	}
+
+	public void clearResolved()
+	{
+		resolved = null;
+	}
+
+	private static int range(int[] bounds, int value)
+	{
+		int position = Arrays.binarySearch(bounds, value);
+		// Exact hit on bound i starts range i + 1; otherwise the insertion point is the range
+		return position >= 0 ? position + 1 : -position - 1;
+	}
+}
@@ -60,7 +60,7 @@ import java.util.stream.Collectors;
                 "playerassistant" }, cardUrl = "https://chsami.github.io/Microbot-Hub/AIOFighterPlugin/assets/card.png", iconUrl = "https://chsami.github.io/Microbot-Hub/AIOFighterPlugin/assets/icon.png", enabledByDefault = PluginConstants.DEFAULT_ENABLED, isExternal = PluginConstants.IS_EXTERNAL)
 @Slf4j
 public class AIOFighterPlugin extends Plugin {
-    public static final String version = "2.0.8";
+    public static final String version = "2.1.3";
     public static boolean needShopping = false;
     private static final String SET = "Set";
     private static final String CENTER_TILE = ColorUtil.wrapWithColorTag("Center Tile", JagexColors.MENU_TARGET);
@@ -84,6 +84,12 @@ public class AIOFighterPlugin extends Plugin {
     @Setter
     private static volatile boolean waitingForLoot = false;
 
+    /**
+     * Pre-parsed config read by the sub-script loops, rebuilt whenever the config group changes.
+     */
+    @Getter
+    private static volatile AIOFighterSettings settings;
+
     /**
      * Centralized method to clear wait-for-loot state
      * 
@@ -116,6 +122,7 @@ public class AIOFighterPlugin extends Plugin {
     private final SlayerScript slayerScript = new SlayerScript();
     private final ShopScript shopScript = new ShopScript();
     private final DodgeProjectileScript dodgeScript = new DodgeProjectileScript();
+    private final AIOFighterScheduler scheduler = new AIOFighterScheduler();
     @Inject
     private AIOFighterConfig config;
     @Inject
@@ -138,6 +145,7 @@ public class AIOFighterPlugin extends Plugin {
     @Override
     protected void startUp() throws AWTException {
         Microbot.pauseAllScripts.compareAndSet(true, false);
+        settings = AIOFighterSettings.from(config);
         // initialize any data on startup
         ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
         AtomicReference<ScheduledFuture<?>> futureRef = new AtomicReference<>();
@@ -167,21 +175,23 @@ public class AIOFighterPlugin extends Plugin {
         }
         if (!config.toggleCenterTile() && Microbot.isLoggedIn() && !config.slayerMode())
             setCenter(Rs2Player.getWorldLocation());
-        dodgeScript.run(config);
-        lootScript.run(config);
-        cannonScript.run(config);
-        attackNpc.run(config);
-        foodScript.run(config);
-        safeSpotScript.run(config);
-        flickerScript.run(config);
-        useSpecialAttackScript.run(config);
-        buryScatterScript.run(config);
-        attackStyleScript.run(config);
-        prayerScript.run(config);
-        highAlchScript.run(config);
-        potionManagerScript.run(config);
-        safetyScript.run(config);
-        slayerScript.run(config);
+        // All sub-scripts below register with the scheduler: survival tasks on one thread, the rest on another
+        scheduler.start();
+        dodgeScript.run(config, scheduler);
+        lootScript.run(config, scheduler);
+        cannonScript.run(config, scheduler);
+        attackNpc.run(config, scheduler);
+        foodScript.run(config, scheduler);
+        safeSpotScript.run(config, scheduler);
+        flickerScript.run(config, scheduler);
+        useSpecialAttackScript.run(config, scheduler);
+        buryScatterScript.run(config, scheduler);
+        attackStyleScript.run(config, scheduler);
+        prayerScript.run(config, scheduler);
+        highAlchScript.run(config, scheduler);
+        potionManagerScript.run(config, scheduler);
+        safetyScript.run(config, scheduler);
+        slayerScript.run(config, scheduler);
 
         // Configure special attack settings
         if (config.useSpecialAttack() && config.specWeapon() != null) {
@@ -195,8 +205,8 @@ public class AIOFighterPlugin extends Plugin {
         }
 
         Rs2Slayer.blacklistedSlayerMonsters = getBlacklistedSlayerNpcs();
-        bankerScript.run(config);
-        shopScript.run(config);
+        bankerScript.run(config, scheduler);
+        shopScript.run(config, scheduler);
     }
 
     protected void shutDown() {
@@ -221,6 +231,7 @@ public class AIOFighterPlugin extends Plugin {
         safetyScript.shutdown();
         slayerScript.shutdown();
         shopScript.shutdown();
+        scheduler.stop();
         resetLocation();
         Microbot.getSpecialAttackConfigs().reset();
         overlayManager.remove(playerAssistOverlay);
@@ -481,6 +492,11 @@ public class AIOFighterPlugin extends Plugin {
     // on setting change
     @Subscribe
     public void onConfigChanged(ConfigChanged event) {
+        // "state" is written on every state change and is not part of the settings
+        if (AIOFighterConfig.GROUP.equals(event.getGroup()) && !"state".equals(event.getKey())) {
+            settings = AIOFighterSettings.from(config);
+            attackNpc.getTargetTracker().reset(settings);
+        }
 
         if (AIOFighterConfig.GROUP.equals(event.getGroup()) && event.getKey().equals(HIGH_ALCH_BLACKLIST_KEY)) {
             LinkedHashSet<String> normalized = normalizeCsvEntries(event.getNewValue());
@@ -529,12 +545,13 @@ public class AIOFighterPlugin extends Plugin {
         if (projectile.getTargetActor() == null) {
             // Projectiles that have targetActor null are targeting a WorldPoint and are
             // dodgeable.
-            dodgeScript.projectiles.add(event.getProjectile());
+            dodgeScript.addProjectile(projectile);
         }
     }
 
     @Subscribe
     public void onGameTick(GameTick gameTick) {
+        scheduler.onGameTick();
         try {
             // execute flicker script
             if (config.togglePrayer())
@@ -544,8 +561,19 @@ public class AIOFighterPlugin extends Plugin {
         }
     }
 
+    @Subscribe
+    public void onNpcSpawned(NpcSpawned npcSpawned) {
+        attackNpc.getTargetTracker().onNpcSpawned(npcSpawned.getNpc());
+    }
+
+    @Subscribe
+    public void onInteractingChanged(InteractingChanged event) {
+        attackNpc.getTargetTracker().onInteractingChanged(event.getSource(), event.getTarget());
+    }
+
     @Subscribe
     public void onNpcDespawned(NpcDespawned npcDespawned) {
+        attackNpc.getTargetTracker().onNpcDespawned(npcDespawned.getNpc());
         try {
             if (config.togglePrayer())
                 flickerScript.onNpcDespawned(npcDespawned);
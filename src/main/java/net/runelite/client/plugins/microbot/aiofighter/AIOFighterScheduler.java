@@ -0,0 +1,424 @@
+package net.runelite.client.plugins.microbot.aiofighter;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.plugins.microbot.Microbot;
+import net.runelite.client.plugins.microbot.aiofighter.enums.State;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Runs the AIO Fighter sub-scripts on two threads instead of one executor per script.
+ * <p>
+ * Survival tasks (safety, dodge, food, prayer, flicker) run on their own {@link Lane#CRITICAL} thread, so a
+ * blocking walk, bank or loot on the {@link Lane#NORMAL} thread never delays them. Passes are aligned to game
+ * ticks: {@link #onGameTick()} takes the shared {@link TickSnapshot} and wakes each lane on the tick and
+ * {@link #PASS_INTERVAL_MS} and twice that later. A lane that is still busy coalesces the wake-ups into one pass.
+ * Within a pass due tasks run in {@link Task} order; tasks with a period of a game tick or more run at most once
+ * per game tick, and a task whose {@code active} check is false is skipped without running its body.
+ * <p>
+ * Budgets are enforced: a pass stops once it has run for {@link #PASS_INTERVAL_MS} and leaves the remaining tasks
+ * for the next pass, and a task that ran longer than its period is held back for as long as it overran
+ * (at most {@link #MAX_BACKOFF_MS}). Run counts and run times are kept per task.
+ */
+@Slf4j
+public class AIOFighterScheduler {
+
+    static final long PASS_INTERVAL_MS = 200;
+    private static final long GAME_TICK_MS = 600;
+    private static final long MAX_BACKOFF_MS = 5000;
+
+    /**
+     * The thread a task runs on.
+     */
+    public enum Lane {
+        /**
+         * Keeps the player alive; never shares a thread with tasks that walk, bank or loot.
+         */
+        CRITICAL,
+        NORMAL
+    }
+
+    /**
+     * Scheduled sub-scripts, in the order they run within a pass of their lane.
+     */
+    public enum Task {
+        SAFETY(600, false, Lane.CRITICAL),
+        DODGE(200, false, Lane.CRITICAL),
+        FOOD(600, false, Lane.CRITICAL),
+        PRAYER(500, false, Lane.CRITICAL),
+        FLICKER(200, false, Lane.CRITICAL),
+        POTIONS(600, false, Lane.NORMAL),
+        SPECIAL_ATTACK(1000, false, Lane.NORMAL),
+        ATTACK_STYLE(1000, false, Lane.NORMAL),
+        ATTACK(600, false, Lane.NORMAL),
+        SAFE_SPOT(600, true, Lane.NORMAL),
+        CANNON(2000, false, Lane.NORMAL),
+        LOOT(200, true, Lane.NORMAL),
+        BURY_SCATTER(600, false, Lane.NORMAL),
+        HIGH_ALCH(600, false, Lane.NORMAL),
+        SLAYER(1000, false, Lane.NORMAL),
+        BANKER(2000, false, Lane.NORMAL),
+        SHOP(600, false, Lane.NORMAL);
+
+        @Getter
+        private final long periodMs;
+        /**
+         * Skip while the fighter is banking or walking.
+         */
+        private final boolean skipWhileTravelling;
+        @Getter
+        private final Lane lane;
+
+        Task(long periodMs, boolean skipWhileTravelling, Lane lane) {
+            this.periodMs = periodMs;
+            this.skipWhileTravelling = skipWhileTravelling;
+            this.lane = lane;
+        }
+    }
+
+    /**
+     * Client state captured once per game tick and shared by every task of both lanes.
+     */
+    @Getter
+    public static final class TickSnapshot {
+        private final int tick;
+        private final boolean loggedIn;
+        private final State state;
+
+        private TickSnapshot(int tick, boolean loggedIn, State state) {
+            this.tick = tick;
+            this.loggedIn = loggedIn;
+            this.state = state;
+        }
+
+        public boolean isTravelling() {
+            return state == State.BANKING || state == State.WALKING;
+        }
+    }
+
+    /**
+     * Run counters of one task. Written by the task's lane thread only.
+     */
+    @Getter
+    public static final class TaskStats {
+        private final Task task;
+        private volatile long runs;
+        private volatile long skips;
+        private volatile long deferred;
+        private volatile long overBudget;
+        private volatile long totalNanos;
+        private volatile long maxNanos;
+
+        private TaskStats(Task task) {
+            this.task = task;
+        }
+
+        public long getAverageMicros() {
+            return runs == 0 ? 0 : totalNanos / runs / 1000;
+        }
+    }
+
+    private static final class Registration {
+        private final Task task;
+        private final BooleanSupplier active;
+        private final Runnable body;
+        private final TaskStats stats;
+        private long lastRunAt;
+        private int lastRunTick = -1;
+        private long heldBackUntil;
+        private final TaskHandle handle = new TaskHandle();
+
+        private Registration(Task task, BooleanSupplier active, Runnable body) {
+            this.task = task;
+            this.active = active;
+            this.body = body;
+            this.stats = new TaskStats(task);
+        }
+    }
+
+    /**
+     * The {@code mainScheduledFuture} handed to one sub-script. Cancelling it only stops that task; the lane thread
+     * is shared, so a cancel never interrupts it and the task is simply no longer run.
+     */
+    private static final class TaskHandle implements ScheduledFuture<Void> {
+        private volatile boolean cancelled;
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean wasCancelled = cancelled;
+            cancelled = true;
+            return !wasCancelled;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public boolean isDone() {
+            return cancelled;
+        }
+
+        @Override
+        public Void get() throws InterruptedException, ExecutionException {
+            throw new CancellationException();
+        }
+
+        @Override
+        public Void get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+            if (!cancelled) {
+                throw new TimeoutException();
+            }
+            throw new CancellationException();
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return 0;
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+
+    private final Map<Task, Registration> registrations = Collections.synchronizedMap(new EnumMap<>(Task.class));
+    private final Map<Lane, LaneRunner> lanes = new EnumMap<>(Lane.class);
+    @Getter
+    private volatile TickSnapshot snapshot = new TickSnapshot(-1, false, State.UNKNOWN);
+    private volatile long lastTickAt;
+
+    /**
+     * Starts both lane threads. Tasks registered afterwards join the next pass of their lane.
+     */
+    public synchronized void start() {
+        if (!lanes.isEmpty()) {
+            return;
+        }
+        for (Lane lane : Lane.values()) {
+            LaneRunner runner = new LaneRunner(lane);
+            runner.start();
+            lanes.put(lane, runner);
+        }
+    }
+
+    /**
+     * Registers a sub-script. Re-registering a task replaces the previous body.
+     *
+     * @param task   which sub-script this is, defines lane, order and period
+     * @param active cheap check, usually a config toggle; the body is skipped while it is false
+     * @param body   the sub-script loop body
+     * @return a handle for this task only; the script's {@code isRunning()} follows it and cancelling it
+     * unregisters the task without affecting the other tasks of its lane
+     */
+    public synchronized ScheduledFuture<?> register(Task task, BooleanSupplier active, Runnable body) {
+        Registration registration = new Registration(task, active, body);
+        Registration previous = registrations.put(task, registration);
+        if (previous != null) {
+            previous.handle.cancel(false);
+        }
+        return registration.handle;
+    }
+
+    /**
+     * Called from the plugin's GameTick handler: refreshes the shared snapshot and wakes both lanes.
+     */
+    public void onGameTick() {
+        lastTickAt = System.currentTimeMillis();
+        refreshSnapshot();
+        LaneRunner[] runners;
+        synchronized (this) {
+            runners = lanes.values().toArray(new LaneRunner[0]);
+        }
+        for (LaneRunner runner : runners) {
+            runner.wakeForTick();
+        }
+    }
+
+    public synchronized void stop() {
+        for (LaneRunner runner : lanes.values()) {
+            runner.stop();
+        }
+        lanes.clear();
+        for (TaskStats stats : getTaskStats()) {
+            log.debug("{}: runs={}, skips={}, deferred={}, overBudget={}, avg={}us, max={}us", stats.getTask(),
+                    stats.getRuns(), stats.getSkips(), stats.getDeferred(), stats.getOverBudget(),
+                    stats.getAverageMicros(), stats.getMaxNanos() / 1000);
+        }
+        synchronized (registrations) {
+            for (Registration registration : registrations.values()) {
+                registration.handle.cancel(false);
+            }
+        }
+        registrations.clear();
+    }
+
+    /**
+     * @return the run counters of all registered tasks, in run order
+     */
+    public List<TaskStats> getTaskStats() {
+        List<TaskStats> stats = new ArrayList<>();
+        synchronized (registrations) {
+            for (Registration registration : registrations.values()) {
+                stats.add(registration.stats);
+            }
+        }
+        return stats;
+    }
+
+    private void refreshSnapshot() {
+        boolean loggedIn = Microbot.isLoggedIn();
+        snapshot = new TickSnapshot(
+                loggedIn ? Microbot.getClient().getTickCount() : -1,
+                loggedIn,
+                loggedIn ? AIOFighterPlugin.getState() : State.UNKNOWN);
+    }
+
+    /**
+     * One lane: a single thread, woken on game ticks, with a watchdog pass for when no ticks arrive.
+     */
+    private final class LaneRunner {
+        private final Lane lane;
+        private final AtomicBoolean passQueued = new AtomicBoolean();
+        private ScheduledExecutorService executor;
+        private ScheduledFuture<?> watchdog;
+
+        private LaneRunner(Lane lane) {
+            this.lane = lane;
+        }
+
+        private void start() {
+            executor = Executors.newSingleThreadScheduledExecutor();
+            watchdog = executor.scheduleWithFixedDelay(this::watchdogPass, 0, GAME_TICK_MS, TimeUnit.MILLISECONDS);
+        }
+
+        private void stop() {
+            watchdog.cancel(true);
+            executor.shutdownNow();
+        }
+
+        private void wakeForTick() {
+            if (executor.isShutdown()) {
+                return;
+            }
+            requestPass();
+            executor.schedule(this::requestPass, PASS_INTERVAL_MS, TimeUnit.MILLISECONDS);
+            executor.schedule(this::requestPass, 2 * PASS_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        }
+
+        private void requestPass() {
+            // Wake-ups that arrive while a pass is queued or the lane is busy collapse into that pass
+            if (passQueued.compareAndSet(false, true)) {
+                executor.execute(this::runPass);
+            }
+        }
+
+        private void watchdogPass() {
+            // Only needed while game ticks are not arriving, e.g. before login
+            if (System.currentTimeMillis() - lastTickAt > 2 * GAME_TICK_MS) {
+                refreshSnapshot();
+                requestPass();
+            }
+        }
+
+        private void runPass() {
+            passQueued.set(false);
+            TickSnapshot current = snapshot;
+
+            List<Registration> laneTasks = new ArrayList<>();
+            synchronized (registrations) {
+                for (Registration registration : registrations.values()) {
+                    if (registration.task.getLane() == lane && !registration.handle.isCancelled()) {
+                        laneTasks.add(registration);
+                    }
+                }
+            }
+
+            long passStart = System.currentTimeMillis();
+            for (int i = 0; i < laneTasks.size(); i++) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+                if (System.currentTimeMillis() - passStart >= PASS_INTERVAL_MS) {
+                    // Pass budget used up, the rest goes first in line on the next pass
+                    long now = System.currentTimeMillis();
+                    for (int j = i; j < laneTasks.size(); j++) {
+                        if (isDue(laneTasks.get(j), current, now)) {
+                            laneTasks.get(j).stats.deferred++;
+                        }
+                    }
+                    requestPass();
+                    return;
+                }
+                runIfDue(laneTasks.get(i), current);
+            }
+        }
+    }
+
+    private static boolean isDue(Registration registration, TickSnapshot current, long now) {
+        Task task = registration.task;
+        if (now < registration.heldBackUntil) {
+            return false;
+        }
+        if (now - registration.lastRunAt < task.periodMs - PASS_INTERVAL_MS / 2) {
+            return false;
+        }
+        // Tick-length tasks run at most once per game tick
+        return task.periodMs < GAME_TICK_MS || current.getTick() != registration.lastRunTick;
+    }
+
+    private void runIfDue(Registration registration, TickSnapshot current) {
+        Task task = registration.task;
+        long now = System.currentTimeMillis();
+        // An earlier task of this pass may have cancelled it
+        if (registration.handle.isCancelled() || !isDue(registration, current, now)) {
+            return;
+        }
+
+        TaskStats stats = registration.stats;
+        if (!current.isLoggedIn() || (task.skipWhileTravelling && current.isTravelling()) || !registration.active.getAsBoolean()) {
+            stats.skips++;
+            return;
+        }
+
+        registration.lastRunAt = now;
+        registration.lastRunTick = current.getTick();
+
+        long start = System.nanoTime();
+        try {
+            registration.body.run();
+        } catch (Exception ex) {
+            Microbot.logStackTrace(task.name(), ex);
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            stats.runs++;
+            stats.totalNanos += elapsed;
+            if (elapsed > stats.maxNanos) {
+                stats.maxNanos = elapsed;
+            }
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(elapsed);
+            if (elapsedMs > task.periodMs) {
+                stats.overBudget++;
+                // Hold the task back by its overrun so it cannot monopolise its lane
+                registration.heldBackUntil = System.currentTimeMillis() + Math.min(elapsedMs - task.periodMs, MAX_BACKOFF_MS);
+            }
+        }
+    }
+}
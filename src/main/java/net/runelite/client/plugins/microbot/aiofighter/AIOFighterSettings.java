@@ -0,0 +1,267 @@
+package net.runelite.client.plugins.microbot.aiofighter;
+
+import lombok.Getter;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.plugins.grounditems.GroundItem;
+import net.runelite.client.plugins.microbot.aiofighter.enums.DefaultLooterStyle;
+import net.runelite.client.plugins.microbot.inventorysetups.InventorySetup;
+import net.runelite.client.plugins.microbot.util.coords.Rs2WorldArea;
+import net.runelite.client.plugins.microbot.util.grounditem.LootingParameters;
+import net.runelite.client.plugins.microbot.util.grounditem.Rs2GroundItem;
+import net.runelite.client.plugins.microbot.util.grounditem.Rs2LootEngine;
+import net.runelite.client.plugins.microbot.util.magic.Rs2CombatSpells;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable, pre-parsed view of {@link AIOFighterConfig} for the sub-script loops.
+ * <p>
+ * Built by {@link AIOFighterPlugin} on start-up and again on every {@code ConfigChanged} of the
+ * {@link AIOFighterConfig#GROUP} group, so the loops neither go through the config proxy nor re-parse
+ * comma separated lists on every pass.
+ */
+@Getter
+public final class AIOFighterSettings {
+
+    private static final WorldPoint UNSET_LOCATION = new WorldPoint(0, 0, 0);
+    private static final int MIN_STACK_EXCLUSIVE_ARROWS = 9; // allow 2+
+    private static final int MIN_STACK_EXCLUSIVE_RUNES = 1; // allow 2+
+
+    // Sub-script toggles
+    private final boolean combatEnabled;
+    private final boolean lootEnabled;
+    private final boolean foodEnabled;
+    private final boolean prayerEnabled;
+    private final boolean quickPrayer;
+    private final boolean safeSpotEnabled;
+    private final boolean cannonEnabled;
+    private final boolean specialAttackEnabled;
+    private final boolean highAlchEnabled;
+    private final boolean dodgeProjectiles;
+    private final boolean safetyEnabled;
+    private final boolean slayerMode;
+    private final boolean buryBones;
+    private final boolean scatterAshes;
+    private final boolean styleSwitchEnabled;
+
+    // Combat
+    /**
+     * Lowercase NPC names to attack.
+     */
+    private final Set<String> attackableNpcNames;
+    private final WorldPoint centerLocation;
+    private final boolean centerSet;
+    private final int attackRadius;
+    private final Rs2WorldArea attackableArea;
+    private final boolean attackReachableNpcs;
+    private final boolean centerTileRequired;
+    private final boolean reanimateEnsouledHeads;
+    private final boolean waitForLoot;
+    private final int lootWaitTimeoutMs;
+    private final boolean returnToCenter;
+    private final long returnToCenterDelayMs;
+
+    // Loot
+    private final int minLootPrice;
+    private final int maxLootPrice;
+    private final int minFreeSlots;
+    private final boolean delayedLooting;
+    private final boolean onlyLootMyItems;
+    private final boolean eatFoodForSpace;
+    private final boolean forceLoot;
+    private final boolean lootByValue;
+    private final boolean lootCoins;
+    private final boolean lootUntradables;
+    private final boolean lootArrows;
+    private final boolean lootRunes;
+    /**
+     * Matches ground items whose name contains one of the configured item names, or null if the item list is unused.
+     */
+    private final Predicate<GroundItem> lootNameFilter;
+    private final LootingParameters lootingParameters;
+    /**
+     * One combined, distance-sorted looting pass with all configured filters; {@code loot()} runs it.
+     */
+    private final Rs2LootEngine.Builder lootEngine;
+
+    // Banking
+    private final boolean bankEnabled;
+    private final boolean useInventorySetup;
+    private final InventorySetup inventorySetup;
+    private final InventorySetup currentInventorySetup;
+    private final InventorySetup defaultInventorySetup;
+    private final boolean usePoolAtFerox;
+    private final boolean slayerHasTaskWeakness;
+    private final String slayerTaskWeaknessItem;
+    private final String slayerLocation;
+
+    // Safety
+    private final boolean useMagic;
+    private final Rs2CombatSpells magicSpell;
+    private final boolean stopOnMissingRunes;
+    private final boolean stopOnMissingFood;
+    private final boolean stopOnMissingArrows;
+    private final boolean stopOnLowHealth;
+    private final int healthSafetyValue;
+
+    // Attack style
+    private final int attackStyleChangeDelay;
+    private final boolean disableStyleSwitchOnMaxCombat;
+    private final boolean balanceCombatSkills;
+    private final boolean avoidControlled;
+    private final int attackSkillTarget;
+    private final int strengthSkillTarget;
+    private final int defenceSkillTarget;
+
+    private AIOFighterSettings(AIOFighterConfig config) {
+        combatEnabled = config.toggleCombat();
+        lootEnabled = config.toggleLootItems();
+        foodEnabled = config.toggleFood();
+        prayerEnabled = config.togglePrayer();
+        quickPrayer = config.toggleQuickPray();
+        safeSpotEnabled = config.toggleSafeSpot();
+        cannonEnabled = config.toggleCannon();
+        specialAttackEnabled = config.useSpecialAttack();
+        highAlchEnabled = config.toggleHighAlchProfitable();
+        dodgeProjectiles = config.dodgeProjectiles();
+        safetyEnabled = config.useSafety();
+        slayerMode = config.slayerMode();
+        buryBones = config.toggleBuryBones();
+        scatterAshes = config.toggleScatter();
+        styleSwitchEnabled = config.toggleAllowStyleSwitch();
+
+        attackableNpcNames = parseNames(config.attackableNpcs());
+        centerLocation = config.centerLocation();
+        centerSet = centerLocation.getX() != 0 || centerLocation.getY() != 0;
+        attackRadius = config.attackRadius();
+        attackableArea = new Rs2WorldArea(centerLocation.toWorldArea()).offset(attackRadius);
+        attackReachableNpcs = config.attackReachableNpcs();
+        centerTileRequired = config.toggleCenterTile();
+        reanimateEnsouledHeads = config.reanimateEnsouledHeads();
+        waitForLoot = config.toggleWaitForLoot();
+        lootWaitTimeoutMs = config.lootWaitTimeout() * 1000;
+        returnToCenter = config.returnToCenter();
+        returnToCenterDelayMs = config.returnToCenterDelay() * 1000L;
+
+        minLootPrice = config.minPriceOfItemsToLoot();
+        maxLootPrice = config.maxPriceOfItemsToLoot();
+        minFreeSlots = config.bank() ? config.minFreeSlots() : 0;
+        delayedLooting = config.toggleDelayedLooting();
+        onlyLootMyItems = config.toggleOnlyLootMyItems();
+        eatFoodForSpace = config.eatFoodForSpace();
+        forceLoot = config.toggleForceLoot();
+        DefaultLooterStyle looterStyle = config.looterStyle();
+        lootByValue = looterStyle == DefaultLooterStyle.GE_PRICE_RANGE || looterStyle == DefaultLooterStyle.MIXED;
+        lootCoins = config.toggleLootCoins();
+        lootUntradables = config.toggleLootUntradables();
+        lootArrows = config.toggleLootArrows();
+        lootRunes = config.toggleLootRunes();
+        boolean lootByName = looterStyle == DefaultLooterStyle.ITEM_LIST || looterStyle == DefaultLooterStyle.MIXED;
+        lootNameFilter = lootByName ? compileNameFilter(config.listOfItemsToLoot()) : null;
+        lootingParameters = new LootingParameters(
+                minLootPrice,
+                maxLootPrice,
+                attackRadius,
+                /* minQuantity */ 1,
+                /* minInvSlots */ minFreeSlots,
+                delayedLooting,
+                onlyLootMyItems
+        );
+        lootingParameters.setEatFoodForSpace(eatFoodForSpace);
+        lootEngine = compileLootEngine();
+
+        bankEnabled = config.bank();
+        useInventorySetup = config.useInventorySetup();
+        inventorySetup = config.inventorySetup();
+        currentInventorySetup = config.currentInventorySetup();
+        defaultInventorySetup = config.defaultInventorySetup();
+        usePoolAtFerox = config.usePoolAtFerox();
+        slayerHasTaskWeakness = config.slayerHasTaskWeakness();
+        slayerTaskWeaknessItem = config.slayerTaskWeaknessItem();
+        slayerLocation = config.slayerLocation();
+
+        useMagic = config.useMagic();
+        magicSpell = config.magicSpell();
+        stopOnMissingRunes = config.missingRunes();
+        stopOnMissingFood = config.missingFood();
+        stopOnMissingArrows = config.missingArrows();
+        stopOnLowHealth = config.lowHealth();
+        healthSafetyValue = config.healthSafetyValue();
+
+        attackStyleChangeDelay = config.attackStyleChangeDelay();
+        disableStyleSwitchOnMaxCombat = config.toggleDisableOnMaxCombat();
+        balanceCombatSkills = config.toggleBalanceCombatSkills();
+        avoidControlled = config.toggleAvoidControlled();
+        attackSkillTarget = config.attackSkillTarget();
+        strengthSkillTarget = config.strengthSkillTarget();
+        defenceSkillTarget = config.defenceSkillTarget();
+    }
+
+    public static AIOFighterSettings from(AIOFighterConfig config) {
+        return new AIOFighterSettings(config);
+    }
+
+    /**
+     * @return true if the NPC name is one of the configured attackable NPCs (case-insensitive)
+     */
+    public boolean isAttackable(String npcName) {
+        return npcName != null && attackableNpcNames.contains(npcName.toLowerCase());
+    }
+
+    public boolean isUnsetCenter() {
+        return centerLocation.equals(UNSET_LOCATION);
+    }
+
+    /**
+     * @return the slayer task's setup in slayer mode, otherwise the configured setup; null if there is none
+     */
+    public InventorySetup getActiveInventorySetup() {
+        return slayerMode ? currentInventorySetup : inventorySetup;
+    }
+
+    private Rs2LootEngine.Builder compileLootEngine() {
+        Rs2LootEngine.Builder builder = Rs2LootEngine.with(lootingParameters)
+                .withLootAction(Rs2GroundItem::coreLoot);
+
+        if (lootNameFilter != null) builder.addCustom("names", lootNameFilter, null);
+        if (lootByValue)                builder.addByValue();
+        if (buryBones)                  builder.addBones();
+        if (scatterAshes)               builder.addAshes();
+        if (lootCoins)                  builder.addCoins();
+        if (lootUntradables)            builder.addUntradables();
+        if (lootArrows)                 builder.addArrows(MIN_STACK_EXCLUSIVE_ARROWS);
+        if (lootRunes)                  builder.addRunes(MIN_STACK_EXCLUSIVE_RUNES);
+        return builder;
+    }
+
+    private static Set<String> parseNames(String csv) {
+        if (csv == null) {
+            return Collections.emptySet();
+        }
+        return Collections.unmodifiableSet(Arrays.stream(csv.split(","))
+                .map(name -> name.trim().toLowerCase())
+                .filter(name -> !name.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new)));
+    }
+
+    private static Predicate<GroundItem> compileNameFilter(String csv) {
+        final String[] needles = parseNames(csv).toArray(new String[0]);
+        if (needles.length == 0) {
+            return null;
+        }
+        return groundItem -> {
+            final String name = groundItem.getName() == null ? "" : groundItem.getName().trim().toLowerCase();
+            for (String needle : needles) {
+                if (name.contains(needle)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+}
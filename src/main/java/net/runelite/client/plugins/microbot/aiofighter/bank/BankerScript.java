@@ -10,7 +10,9 @@ import net.runelite.api.gameval.ItemID;
 import net.runelite.client.plugins.microbot.Microbot;
 import net.runelite.client.plugins.microbot.Script;
 import net.runelite.client.plugins.microbot.aiofighter.AIOFighterConfig;
+import net.runelite.client.plugins.microbot.aiofighter.AIOFighterScheduler;
 import net.runelite.client.plugins.microbot.aiofighter.AIOFighterPlugin;
+import net.runelite.client.plugins.microbot.aiofighter.AIOFighterSettings;
 import net.runelite.client.plugins.microbot.aiofighter.enums.State;
 import net.runelite.client.plugins.microbot.aiofighter.shop.ShopItem;
 import net.runelite.client.plugins.microbot.aiofighter.shop.ShopScript;
@@ -34,44 +36,41 @@ import net.runelite.client.plugins.microbot.util.walker.Rs2Walker;
 
 import javax.inject.Inject;
 import java.util.*;
-import java.util.concurrent.TimeUnit;
 
 @Slf4j
 public class BankerScript extends Script {
-    AIOFighterConfig config;
-
     boolean initialized = false;
     public static boolean inventorySetupChanged = false;
     private static boolean bankingTriggered = false;
     @Inject
     private MInventorySetupsPlugin inventorySetupsPlugin;
 
-    public boolean run(AIOFighterConfig config) {
-        this.config = config;
+    public boolean run(AIOFighterConfig config, AIOFighterScheduler scheduler) {
         this.inventorySetupsPlugin = Microbot.getPluginManager().getPlugins().stream()
                 .filter(plugin -> plugin instanceof MInventorySetupsPlugin)
                 .map(plugin -> (MInventorySetupsPlugin) plugin)
                 .findFirst()
                 .orElse(null);
-        mainScheduledFuture = scheduledExecutorService.scheduleWithFixedDelay(() -> {
+        mainScheduledFuture = scheduler.register(AIOFighterScheduler.Task.BANKER, () -> true, () -> {
             try {
                 if (!Microbot.isLoggedIn())
                     return;
                 if (!super.run())
                     return;
-                if (config.bank() && needBanking() && !AIOFighterPlugin.needShopping) {
+                final AIOFighterSettings settings = AIOFighterPlugin.getSettings();
+                if (settings.isBankEnabled() && needBanking() && !AIOFighterPlugin.needShopping) {
                     if (handleBanking()) {
                         Microbot.log("Banking handled successfully.");
                     }
                 } else if (!needBanking() &&
-                        config.centerLocation().distanceTo(Rs2Player.getWorldLocation()) > config.attackRadius() &&
-                        !config.centerLocation().equals(new WorldPoint(0, 0, 0))) {
+                        settings.getCenterLocation().distanceTo(Rs2Player.getWorldLocation()) > settings.getAttackRadius() &&
+                        !settings.isUnsetCenter()) {
 
                     boolean shouldWalk = false;
 
-                    if (config.slayerMode()) {
+                    if (settings.isSlayerMode()) {
                         Map<Integer, Integer> missingIds = Rs2Walker.getMissingTransportItemIdsWithQuantities(
-                                Rs2Walker.getTransportsForDestination(config.centerLocation(), true));
+                                Rs2Walker.getTransportsForDestination(settings.getCenterLocation(), true));
                         if (!missingIds.isEmpty()) {
                             Microbot.log("Missing items: " + missingIds);
                             shouldWalk = handleTeleports(missingIds);
@@ -85,8 +84,8 @@ public class BankerScript extends Script {
 
                     if (shouldWalk && Rs2Bank.closeBank()) {
                         AIOFighterPlugin.setState(State.WALKING);
-                        Microbot.log("Walking to center location: " + config.centerLocation());
-                        if (Rs2Walker.walkTo(config.centerLocation())) {
+                        Microbot.log("Walking to center location: " + settings.getCenterLocation());
+                        if (Rs2Walker.walkTo(settings.getCenterLocation())) {
                             AIOFighterPlugin.setState(State.IDLE);
 
                         }
@@ -95,7 +94,7 @@ public class BankerScript extends Script {
             } catch (Exception ex) {
                 Microbot.logStackTrace(this.getClass().getSimpleName(), ex);
             }
-        }, 0, 2000, TimeUnit.MILLISECONDS);
+        });
         return true;
     }
 
@@ -109,18 +108,21 @@ public class BankerScript extends Script {
      * inventory).
      */
     public boolean needBanking() {
-        if (config.currentInventorySetup() == null) {
-            if (config.defaultInventorySetup() != null) {
-                AIOFighterPlugin.setCurrentSlayerInventorySetup(config.defaultInventorySetup());
+        AIOFighterSettings settings = AIOFighterPlugin.getSettings();
+        if (settings.getCurrentInventorySetup() == null) {
+            if (settings.getDefaultInventorySetup() != null) {
+                AIOFighterPlugin.setCurrentSlayerInventorySetup(settings.getDefaultInventorySetup());
+                // The config change above rebuilt the settings
+                settings = AIOFighterPlugin.getSettings();
             }
         }
-        if (!config.bank()) {
+        if (!settings.isBankEnabled()) {
             return false;
         }
 
         // Don't bank if we can eat food for space instead
-        if (config.eatFoodForSpace() &&
-                Rs2Inventory.emptySlotCount() <= config.minFreeSlots() &&
+        if (settings.isEatFoodForSpace() &&
+                Rs2Inventory.emptySlotCount() <= settings.getMinFreeSlots() &&
                 !Rs2Inventory.getInventoryFood().isEmpty()) {
             // Food available to make space - let EatForSpaceScript handle it
             return false;
@@ -140,7 +142,7 @@ public class BankerScript extends Script {
 
         // (2) If there are too few empty slots, missing slayer items, or the inventory
         // setup changed
-        if ((Rs2Inventory.emptySlotCount() <= config.minFreeSlots() && config.bank()) || needSlayerItems()
+        if (Rs2Inventory.emptySlotCount() <= settings.getMinFreeSlots() || needSlayerItems()
                 || inventorySetupChanged) {
             Microbot.log("Low free slots, missing slayer items, or inventory setup changed, triggering banking.");
             bankingTriggered = true;
@@ -148,21 +150,13 @@ public class BankerScript extends Script {
         }
 
         // Double-check if inventory setup is still valid
-        if (config.currentInventorySetup() == null) {
+        if (settings.getCurrentInventorySetup() == null) {
             return false; // No current inventory setup, and also no default setup, so no need to bank
                           // because of the inventory setup
         }
 
-        String setupName = null;
-        if (config.slayerMode()) {
-            if (config.currentInventorySetup() != null) {
-                setupName = config.currentInventorySetup().getName();
-            }
-        } else {
-            if (config.inventorySetup() != null) {
-                setupName = config.inventorySetup().getName();
-            }
-        }
+        InventorySetup activeSetup = settings.getActiveInventorySetup();
+        String setupName = activeSetup != null ? activeSetup.getName() : null;
 
         if (setupName == null) {
             Microbot.log("Invalid inventory setup name, skipping banking.");
@@ -272,10 +266,11 @@ public class BankerScript extends Script {
 
     public boolean hasSlayerItems() {
         // If the current slayer task does not have a weakness, return true.
-        if (!config.slayerHasTaskWeakness()) {
+        AIOFighterSettings settings = AIOFighterPlugin.getSettings();
+        if (!settings.isSlayerHasTaskWeakness()) {
             return true;
         }
-        boolean result = Rs2Inventory.contains(config.slayerTaskWeaknessItem());
+        boolean result = Rs2Inventory.contains(settings.getSlayerTaskWeaknessItem());
         if (!result) {
             Microbot.log("hasSlayerItems(): Missing slayer task weakness item from inventory.");
         }
@@ -326,7 +321,7 @@ public class BankerScript extends Script {
     }
 
     public boolean needDesertProtection() {
-        boolean result = config.slayerLocation().contains("Desert")
+        boolean result = AIOFighterPlugin.getSettings().getSlayerLocation().contains("Desert")
                 && !Rs2Inventory.contains(ItemID.WATER_SKIN4, ItemID.WATER_SKIN3, ItemID.WATER_SKIN2,
                         ItemID.WATER_SKIN1);
         if (result) {
@@ -336,7 +331,7 @@ public class BankerScript extends Script {
     }
 
     public boolean needProtectiveSlayerEquipment() {
-        boolean result = config.slayerMode() && !hasProtectiveSlayerEquipment();
+        boolean result = AIOFighterPlugin.getSettings().isSlayerMode() && !hasProtectiveSlayerEquipment();
         if (result) {
             Microbot.log("needProtectiveSlayerEquipment(): In slayer mode but missing protective equipment.");
         }
@@ -344,7 +339,7 @@ public class BankerScript extends Script {
     }
 
     public boolean needSlayerItems() {
-        boolean result = config.slayerMode()
+        boolean result = AIOFighterPlugin.getSettings().isSlayerMode()
                 && (!hasSlayerItems() || needDesertProtection() || needProtectiveSlayerEquipment());
         if (result) {
             Microbot.log("needSlayerItems(): Banking triggered due to slayer item deficiency or equipment issues.");
@@ -352,20 +347,17 @@ public class BankerScript extends Script {
         return result;
     }
 
-    public void withdrawUpkeepItems(AIOFighterConfig config) {
+    public void withdrawUpkeepItems() {
+        final AIOFighterSettings settings = AIOFighterPlugin.getSettings();
         // Always empty special bags when banking
         Rs2Bank.depositLootingBag();
         Rs2Bank.emptyGemBag();
         Rs2Bank.emptyHerbSack();
         Rs2Bank.emptySeedBox();
 
-        if (config.useInventorySetup() || config.slayerMode()) {
-            String setupName = null;
-            if (config.slayerMode() && config.currentInventorySetup() != null) {
-                setupName = config.currentInventorySetup().getName();
-            } else if (!config.slayerMode() && config.inventorySetup() != null) {
-                setupName = config.inventorySetup().getName();
-            }
+        if (settings.isUseInventorySetup() || settings.isSlayerMode()) {
+            InventorySetup activeSetup = settings.getActiveInventorySetup();
+            String setupName = activeSetup != null ? activeSetup.getName() : null;
 
             if (setupName == null) {
                 Microbot.log("Cannot load inventory setup - null setup name");
@@ -377,8 +369,8 @@ public class BankerScript extends Script {
                 Microbot.log("Bank didn't open, returning.");
                 return;
             }
-            if (config.currentInventorySetup() != null) {
-                Microbot.log("Loading equipment for: " + config.currentInventorySetup().getName());
+            if (settings.getCurrentInventorySetup() != null) {
+                Microbot.log("Loading equipment for: " + settings.getCurrentInventorySetup().getName());
             } else {
                 Microbot.log("Loading equipment for unknown setup (null)");
             }
@@ -405,18 +397,18 @@ public class BankerScript extends Script {
             }
 
             if (needSlayerItems()) {
-                if (config.slayerHasTaskWeakness()) {
-                    if (Rs2Bank.hasBankItem(config.slayerTaskWeaknessItem())) {
-                        Rs2ItemModel item = Rs2Bank.getBankItem(config.slayerTaskWeaknessItem());
-                        if (Rs2Bank.hasBankItem(config.slayerTaskWeaknessItem(),
+                if (settings.isSlayerHasTaskWeakness()) {
+                    if (Rs2Bank.hasBankItem(settings.getSlayerTaskWeaknessItem())) {
+                        Rs2ItemModel item = Rs2Bank.getBankItem(settings.getSlayerTaskWeaknessItem());
+                        if (Rs2Bank.hasBankItem(settings.getSlayerTaskWeaknessItem(),
                                 item.isStackable() ? Rs2Slayer.getSlayerTaskSize() : 1, false)) {
-                            Rs2Bank.withdrawX(true, config.slayerTaskWeaknessItem(),
+                            Rs2Bank.withdrawX(true, settings.getSlayerTaskWeaknessItem(),
                                     item.isStackable() ? Rs2Slayer.getSlayerTaskSize() : 1);
                         } else {
                             ItemComposition itemComp = Microbot.getRs2ItemManager()
                                     .getItemComposition(Rs2Slayer.getSlayerTaskWeakness());
                             boolean isGeItem = itemComp.getId() == ItemID.SHANTAY_PASS;
-                            ShopScript.shopItems.add(new ShopItem(config.slayerTaskWeaknessItem(),
+                            ShopScript.shopItems.add(new ShopItem(settings.getSlayerTaskWeaknessItem(),
                                     itemComp.isStackable() ? Rs2Slayer.getSlayerTaskSize() : 1, itemComp.getId(),
                                     isGeItem ? ShopType.GRAND_EXCHANGE : ShopType.SLAYER_SHOP));
                             AIOFighterPlugin.needShopping = true;
@@ -426,7 +418,7 @@ public class BankerScript extends Script {
                         ItemComposition item = Microbot.getRs2ItemManager()
                                 .getItemComposition(Rs2Slayer.getSlayerTaskWeakness());
                         boolean isGeItem = item.getId() == ItemID.SHANTAY_PASS;
-                        ShopScript.shopItems.add(new ShopItem(config.slayerTaskWeaknessItem(),
+                        ShopScript.shopItems.add(new ShopItem(settings.getSlayerTaskWeaknessItem(),
                                 item.isStackable() ? Rs2Slayer.getSlayerTaskSize() : 1, item.getId(),
                                 isGeItem ? ShopType.GRAND_EXCHANGE : ShopType.SLAYER_SHOP));
                         AIOFighterPlugin.needShopping = true;
@@ -598,10 +590,10 @@ public class BankerScript extends Script {
         Rs2Prayer.disableAllPrayers();
         if (Rs2Bank.walkToBankAndUseBank()) {
             Microbot.log("Bank opened, withdrawing upkeep items...", Level.INFO);
-            withdrawUpkeepItems(config);
+            withdrawUpkeepItems();
 
             // Use Pool of Restoration at Ferox if configured
-            if (config.usePoolAtFerox() && Rs2Bank.getNearestBank() == BankLocation.FEROX_ENCLAVE) {
+            if (AIOFighterPlugin.getSettings().isUsePoolAtFerox() && Rs2Bank.getNearestBank() == BankLocation.FEROX_ENCLAVE) {
                 usePoolIfNeeded();
             }
 
@@ -625,10 +617,11 @@ public class BankerScript extends Script {
             }
 
             // Walk back to center location if it's set
-            if (!config.centerLocation().equals(new WorldPoint(0, 0, 0))) {
+            WorldPoint centerLocation = AIOFighterPlugin.getSettings().getCenterLocation();
+            if (!centerLocation.equals(new WorldPoint(0, 0, 0))) {
                 AIOFighterPlugin.setState(State.WALKING);
-                Microbot.log("Walking back to center location: " + config.centerLocation());
-                if (Rs2Walker.walkTo(config.centerLocation())) {
+                Microbot.log("Walking back to center location: " + centerLocation);
+                if (Rs2Walker.walkTo(centerLocation)) {
                     Microbot.log("Arrived at center location.");
                 }
                 // Wait for player to stop moving
@@ -3,14 +3,15 @@ package net.runelite.client.plugins.microbot.aiofighter.cannon;
 import net.runelite.client.plugins.microbot.Microbot;
 import net.runelite.client.plugins.microbot.Script;
 import net.runelite.client.plugins.microbot.aiofighter.AIOFighterConfig;
+import net.runelite.client.plugins.microbot.aiofighter.AIOFighterPlugin;
+import net.runelite.client.plugins.microbot.aiofighter.AIOFighterScheduler;
 import net.runelite.client.plugins.microbot.aiofighter.enums.State;
 import net.runelite.client.plugins.microbot.util.gameobject.Rs2Cannon;
 
-import java.util.concurrent.TimeUnit;
 
 public class CannonScript extends Script {
-    public boolean run(AIOFighterConfig config) {
-        mainScheduledFuture = scheduledExecutorService.scheduleWithFixedDelay(() -> {
+    public boolean run(AIOFighterConfig config, AIOFighterScheduler scheduler) {
+        mainScheduledFuture = scheduler.register(AIOFighterScheduler.Task.CANNON, () -> AIOFighterPlugin.getSettings().isCannonEnabled(), () -> {
             try {
                 if (!Microbot.isLoggedIn()) return;
                 if (!super.run() || !config.toggleCannon()) return;
@@ -24,7 +25,7 @@ public class CannonScript extends Script {
             } catch(Exception ex) {
                 Microbot.logStackTrace(this.getClass().getSimpleName(), ex);
             }
-        }, 0, 2000, TimeUnit.MILLISECONDS);
+        });
         return true;
     }
 
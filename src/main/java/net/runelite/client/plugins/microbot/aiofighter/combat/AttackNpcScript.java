@@ -1,5 +1,6 @@
 package net.runelite.client.plugins.microbot.aiofighter.combat;
 
+import lombok.Getter;
 import lombok.SneakyThrows;
 import net.runelite.api.Actor;
 import net.runelite.api.coords.WorldPoint;
@@ -7,7 +8,9 @@ import net.runelite.api.gameval.ItemID;
 import net.runelite.client.plugins.microbot.Microbot;
 import net.runelite.client.plugins.microbot.Script;
 import net.runelite.client.plugins.microbot.aiofighter.AIOFighterConfig;
+import net.runelite.client.plugins.microbot.aiofighter.AIOFighterScheduler;
 import net.runelite.client.plugins.microbot.aiofighter.AIOFighterPlugin;
+import net.runelite.client.plugins.microbot.aiofighter.AIOFighterSettings;
 import net.runelite.client.plugins.microbot.aiofighter.enums.AttackStyle;
 import net.runelite.client.plugins.microbot.aiofighter.enums.AttackStyleMapper;
 import net.runelite.client.plugins.microbot.aiofighter.enums.State;
@@ -33,11 +36,9 @@ import org.slf4j.event.Level;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Comparator;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.stream.Collectors;
 
 import static net.runelite.api.gameval.VarbitID.*;
 
@@ -50,29 +51,34 @@ public class AttackNpcScript extends Script {
     private boolean messageShown = false;
     private int noNpcCount = 0;
     private long lastCombatTime = 0;
+    @Getter
+    private final TargetTracker targetTracker = new TargetTracker();
 
     public static void skipNpc() {
         currentNpc = null;
     }
 
     @SneakyThrows
-    public void run(AIOFighterConfig config) {
+    public void run(AIOFighterConfig config, AIOFighterScheduler scheduler) {
         try {
             Rs2NpcManager.loadJson();
             Rs2Antiban.resetAntibanSettings();
             Rs2Antiban.antibanSetupTemplates.applyCombatSetup();
             Rs2Antiban.setActivityIntensity(ActivityIntensity.EXTREME);
+            targetTracker.reset(AIOFighterPlugin.getSettings());
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
 
-        mainScheduledFuture = scheduledExecutorService.scheduleWithFixedDelay(() -> {
+        mainScheduledFuture = scheduler.register(AIOFighterScheduler.Task.ATTACK, () -> AIOFighterPlugin.getSettings().isCombatEnabled(), () -> {
             try {
-                if (!Microbot.isLoggedIn() || !super.run() || !config.toggleCombat())
+                final AIOFighterSettings settings = AIOFighterPlugin.getSettings();
+                if (!Microbot.isLoggedIn() || !super.run() || !settings.isCombatEnabled())
                     return;
 
-                if (config.centerLocation().distanceTo(Rs2Player.getWorldLocation()) < config.attackRadius() &&
-                        !config.centerLocation().equals(new WorldPoint(0, 0, 0))
+                final WorldPoint center = settings.getCenterLocation();
+                if (center.distanceTo(Rs2Player.getWorldLocation()) < settings.getAttackRadius() &&
+                        !settings.isUnsetCenter()
                         && AIOFighterPlugin.getState() != State.BANKING) {
                     if (ShortestPathPlugin.getPathfinder() != null)
                         Rs2Walker.setTarget(null);
@@ -82,7 +88,7 @@ public class AttackNpcScript extends Script {
                 if (config.state().equals(State.BANKING) || config.state().equals(State.WALKING))
                     return;
 
-                if (config.reanimateEnsouledHeads()) {
+                if (settings.isReanimateEnsouledHeads()) {
                     Rs2EnsouledHead head = Rs2EnsouledHead.getReanimatableHead();
                     if (head != null) {
                         boolean prevPause = Microbot.pauseAllScripts.getAndSet(true);
@@ -103,34 +109,8 @@ public class AttackNpcScript extends Script {
                     }
                 }
 
-                attackableArea = new Rs2WorldArea(config.centerLocation().toWorldArea());
-                attackableArea = attackableArea.offset(config.attackRadius());
-                List<String> npcsToAttack = Arrays.stream(config.attackableNpcs().split(","))
-                        .map(x -> x.trim().toLowerCase())
-                        .collect(Collectors.toList());
-                filteredAttackableNpcs.set(
-                        Rs2Npc.getAttackableNpcs(config.attackReachableNpcs())
-                                .filter(npc -> npc.getWorldLocation().distanceTo(config.centerLocation()) <= config
-                                        .attackRadius())
-                                .filter(npc -> npc.getName() != null && !npcsToAttack.isEmpty()
-                                        && npcsToAttack.stream().anyMatch(npc.getName()::equalsIgnoreCase))
-                                .sorted(Comparator
-                                        .comparingInt((Rs2NpcModel npc) -> npc.getInteracting() == Microbot.getClient()
-                                                .getLocalPlayer() ? 0 : 1)
-                                        .thenComparingInt(npc -> Rs2Player.getRs2WorldPoint()
-                                                .distanceToPath(npc.getWorldLocation())))
-                                .collect(Collectors.toList()));
-                final List<Rs2NpcModel> attackableNpcs = new ArrayList<>();
-
-                for (var attackableNpc : filteredAttackableNpcs.get()) {
-                    if (attackableNpc == null || attackableNpc.getName() == null)
-                        continue;
-                    for (var npcToAttack : npcsToAttack) {
-                        if (npcToAttack.equalsIgnoreCase(attackableNpc.getName())) {
-                            attackableNpcs.add(attackableNpc);
-                        }
-                    }
-                }
+                attackableArea = settings.getAttackableArea();
+                final List<Rs2NpcModel> attackableNpcs = targetTracker.rank();
                 filteredAttackableNpcs.set(attackableNpcs);
 
                 // Check if we should pause while looting is happening
@@ -151,7 +131,7 @@ public class AttackNpcScript extends Script {
                 }
 
                 // Check if our cached target died
-                if (config.toggleWaitForLoot() && !AIOFighterPlugin.isWaitingForLoot() && cachedTargetNpcIndex != -1) {
+                if (settings.isWaitForLoot() && !AIOFighterPlugin.isWaitingForLoot() && cachedTargetNpcIndex != -1) {
                     // Find the NPC by index using Rs2 API
                     Rs2NpcModel cachedNpcModel = Rs2Npc.getNpcByIndex(cachedTargetNpcIndex);
 
@@ -167,9 +147,9 @@ public class AttackNpcScript extends Script {
                 }
 
                 // Check if we're waiting for loot
-                if (config.toggleWaitForLoot() && AIOFighterPlugin.isWaitingForLoot()) {
+                if (settings.isWaitForLoot() && AIOFighterPlugin.isWaitingForLoot()) {
                     long timeSinceKill = System.currentTimeMillis() - AIOFighterPlugin.getLastNpcKilledTime();
-                    int timeoutMs = config.lootWaitTimeout() * 1000;
+                    int timeoutMs = settings.getLootWaitTimeoutMs();
                     if (timeSinceKill >= timeoutMs) {
                         // Timeout reached, resume combat
                         AIOFighterPlugin.clearWaitForLoot("Loot wait timeout reached, resuming combat");
@@ -182,8 +162,7 @@ public class AttackNpcScript extends Script {
                     }
                 }
 
-                if (config.toggleCenterTile() && config.centerLocation().getX() == 0
-                        && config.centerLocation().getY() == 0) {
+                if (settings.isCenterTileRequired() && !settings.isCenterSet()) {
                     if (!messageShown) {
                         Microbot.showMessage("Please set a center location");
                         messageShown = true;
@@ -222,8 +201,8 @@ public class AttackNpcScript extends Script {
                     Rs2Antiban.actionCooldown();
                     // sleepUntil(Rs2Player::isInteracting, 1000);
 
-                    if (config.togglePrayer()) {
-                        if (!config.toggleQuickPray()) {
+                    if (settings.isPrayerEnabled()) {
+                        if (!settings.isQuickPrayer()) {
                             AttackStyle attackStyle = AttackStyleMapper
                                     .mapToAttackStyle(Rs2NpcManager.getAttackStyle(npc.getId()));
                             if (attackStyle != null) {
@@ -248,7 +227,7 @@ public class AttackNpcScript extends Script {
                     if (Rs2Player.getWorldLocation().isInArea(attackableArea)) {
                         Microbot.log(Level.INFO, "No attackable NPC found");
                         noNpcCount++;
-                        if (noNpcCount > 60 && config.slayerMode()) {
+                        if (noNpcCount > 60 && settings.isSlayerMode()) {
                             Microbot.log(Level.INFO, "No attackable NPC found for 60 ticks, resetting slayer task");
                             AIOFighterPlugin.addBlacklistedSlayerNpcs(Rs2Slayer.slayerTaskMonsterTarget);
                             noNpcCount = 0;
@@ -257,14 +236,13 @@ public class AttackNpcScript extends Script {
 
                         // Return to center when idle for too long
                         // Skip if we're in BANKING state to prevent tug-of-war with BankerScript
-                        if (config.returnToCenter() && AIOFighterPlugin.getState() != State.BANKING) {
+                        if (settings.isReturnToCenter() && AIOFighterPlugin.getState() != State.BANKING) {
                             if (lastCombatTime > 0) {
                                 long idleTime = System.currentTimeMillis() - lastCombatTime;
-                                long idleDelayMs = config.returnToCenterDelay() * 1000L;
+                                long idleDelayMs = settings.getReturnToCenterDelayMs();
                                 if (idleTime >= idleDelayMs) {
-                                    WorldPoint center = config.centerLocation();
                                     int distanceToCenter = Rs2Player.getWorldLocation().distanceTo(center);
-                                    if (!center.equals(new WorldPoint(0, 0, 0)) && distanceToCenter > 1) {
+                                    if (!settings.isUnsetCenter() && distanceToCenter > 1) {
                                         Microbot.log(Level.INFO,
                                                 "Idle for " + (idleTime / 1000)
                                                         + "s, returning to center tile (distance: " + distanceToCenter
@@ -280,7 +258,7 @@ public class AttackNpcScript extends Script {
                             }
                         }
                     } else {
-                        Rs2Walker.walkTo(config.centerLocation(), 0);
+                        Rs2Walker.walkTo(center, 0);
                         AIOFighterPlugin.setState(State.WALKING);
                     }
 
@@ -288,7 +266,7 @@ public class AttackNpcScript extends Script {
             } catch (Exception ex) {
                 Microbot.logStackTrace(this.getClass().getSimpleName(), ex);
             }
-        }, 0, 600, TimeUnit.MILLISECONDS);
+        });
     }
 
     /**
@@ -317,5 +295,6 @@ public class AttackNpcScript extends Script {
     @Override
     public void shutdown() {
         super.shutdown();
+        targetTracker.clear();
     }
 }
@@ -3,6 +3,8 @@ package net.runelite.client.plugins.microbot.aiofighter.combat;
 import net.runelite.client.plugins.microbot.Microbot;
 import net.runelite.client.plugins.microbot.Script;
 import net.runelite.client.plugins.microbot.aiofighter.AIOFighterConfig;
+import net.runelite.client.plugins.microbot.aiofighter.AIOFighterPlugin;
+import net.runelite.client.plugins.microbot.aiofighter.AIOFighterScheduler;
 import net.runelite.client.plugins.microbot.util.inventory.Rs2Inventory;
 import net.runelite.client.plugins.microbot.util.inventory.Rs2ItemModel;
 import net.runelite.client.plugins.microbot.util.magic.Rs2Magic;
@@ -10,11 +12,10 @@ import net.runelite.client.plugins.microbot.util.magic.Rs2Spells;
 import net.runelite.client.plugins.microbot.util.player.Rs2Player;
 
 import java.util.List;
-import java.util.concurrent.TimeUnit;
 
 public class BuryScatterScript extends Script {
-    public boolean run(AIOFighterConfig config) {
-        mainScheduledFuture = scheduledExecutorService.scheduleWithFixedDelay(() -> {
+    public boolean run(AIOFighterConfig config, AIOFighterScheduler scheduler) {
+        mainScheduledFuture = scheduler.register(AIOFighterScheduler.Task.BURY_SCATTER, () -> AIOFighterPlugin.getSettings().isBuryBones() || AIOFighterPlugin.getSettings().isScatterAshes(), () -> {
             try {
                 if (!Microbot.isLoggedIn() || !super.run()) {
                     return;
@@ -31,7 +32,7 @@ public class BuryScatterScript extends Script {
             } catch (Exception ex) {
                 Microbot.logStackTrace(this.getClass().getSimpleName(), ex);
             }
-        }, 0, 600, TimeUnit.MILLISECONDS);
+        });
         return true;
     }
 
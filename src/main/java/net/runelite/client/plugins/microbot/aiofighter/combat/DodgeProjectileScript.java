@@ -6,66 +6,143 @@ import net.runelite.api.coords.WorldPoint;
 import net.runelite.client.plugins.microbot.Microbot;
 import net.runelite.client.plugins.microbot.Script;
 import net.runelite.client.plugins.microbot.aiofighter.AIOFighterConfig;
+import net.runelite.client.plugins.microbot.aiofighter.AIOFighterPlugin;
+import net.runelite.client.plugins.microbot.aiofighter.AIOFighterScheduler;
 import net.runelite.client.plugins.microbot.util.tile.Rs2Tile;
 import net.runelite.client.plugins.microbot.util.walker.Rs2Walker;
 
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.concurrent.TimeUnit;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 public class DodgeProjectileScript extends Script {
 
-    public final ArrayList<Projectile> projectiles = new ArrayList<>();
+    // Search radius around the player for a safe tile
+    private static final int SEARCH_RADIUS = 5;
+    private static final int GRID_SIZE = SEARCH_RADIUS * 2 + 1;
+    // Tiles closer than this to a projectile target are dangerous
+    private static final int DANGER_RADIUS = 2;
+    private static final int[][] NEIGHBOURS = {
+            {-1, -1}, {0, -1}, {1, -1}, {-1, 0}, {1, 0}, {-1, 1}, {0, 1}, {1, 1}
+    };
 
-    public boolean run(AIOFighterConfig config) {
-        mainScheduledFuture = scheduledExecutorService.scheduleWithFixedDelay(() -> {
+    /**
+     * Dodgeable projectiles in flight. Added from the client thread, expired by the script thread.
+     */
+    private final Set<Projectile> projectiles = ConcurrentHashMap.newKeySet();
+
+    // Per-pass danger grid around the player and BFS scratch, only touched by the script thread
+    private final boolean[] danger = new boolean[GRID_SIZE * GRID_SIZE];
+    private final boolean[] visited = new boolean[GRID_SIZE * GRID_SIZE];
+    private final int[] queue = new int[GRID_SIZE * GRID_SIZE];
+    private final Map<WorldPoint, Boolean> reachableThisTick = new HashMap<>();
+    private int reachableTick = -1;
+
+    /**
+     * Registers a projectile aimed at a tile. Projectiles are reported every cycle, the set keeps each once.
+     */
+    public void addProjectile(Projectile projectile) {
+        projectiles.add(projectile);
+    }
+
+    public boolean run(AIOFighterConfig config, AIOFighterScheduler scheduler) {
+        mainScheduledFuture = scheduler.register(AIOFighterScheduler.Task.DODGE, () -> AIOFighterPlugin.getSettings().isDodgeProjectiles(), () -> {
             if (!config.dodgeProjectiles()) return;
             int cycle = Microbot.getClient().getGameCycle();
             projectiles.removeIf(projectile -> cycle >= projectile.getEndCycle());
 
             if (projectiles.isEmpty()) return;
-            WorldPoint[] dangerousPoints = projectiles.stream().map(Projectile::getTargetPoint).toArray(WorldPoint[]::new);
             WorldPoint playerLocation = Microbot.getClient().getLocalPlayer().getWorldLocation();
 
-            if (projectiles.stream().anyMatch(p -> p.getTargetPoint().distanceTo(playerLocation) < 2)) {
-                WorldPoint safePoint = calculateSafePoint(playerLocation, dangerousPoints);
+            if (markDangerousTiles(playerLocation)) {
+                WorldPoint safePoint = calculateSafePoint(playerLocation);
                 Rs2Walker.walkFastCanvas(safePoint);
             }
 
-        }, 0, 200, TimeUnit.MILLISECONDS);
+        });
         return true;
     }
 
-
-    private WorldPoint calculateSafePoint(WorldPoint playerLocation, WorldPoint[] dangerousPoints) {
-        // Define the search radius around the player
-        int searchRadius = 5;
-        int minDistance = Integer.MAX_VALUE;
-        WorldPoint bestPoint = playerLocation;
-
-        // Search in a square area around the player
-        for (int dx = -searchRadius; dx <= searchRadius; dx++) {
-            for (int dy = -searchRadius; dy <= searchRadius; dy++) {
-                WorldPoint candidate = playerLocation.dx(dx).dy(dy);
-
-                // Check if this point is safe (at least 2 tiles away from all dangerous points)
-                if (Arrays.stream(dangerousPoints).allMatch(p -> p.distanceTo(candidate) >= 2)) {
-                    // If the point is safe, check if it's closer to the player than our current best
-                    int distanceToPlayer = candidate.distanceTo(playerLocation);
-                    if (distanceToPlayer < minDistance && Rs2Tile.isTileReachable(candidate)) {
-                        minDistance = distanceToPlayer;
-                        bestPoint = candidate;
+    /**
+     * Fills the danger grid around the player.
+     *
+     * @return true if the player is standing on a dangerous tile
+     */
+    private boolean markDangerousTiles(WorldPoint playerLocation) {
+        Arrays.fill(danger, false);
+        boolean playerInDanger = false;
+        for (Projectile projectile : projectiles) {
+            WorldPoint target = projectile.getTargetPoint();
+            if (target == null || target.getPlane() != playerLocation.getPlane()) {
+                continue;
+            }
+            int centerX = target.getX() - playerLocation.getX() + SEARCH_RADIUS;
+            int centerY = target.getY() - playerLocation.getY() + SEARCH_RADIUS;
+            for (int x = centerX - DANGER_RADIUS + 1; x < centerX + DANGER_RADIUS; x++) {
+                for (int y = centerY - DANGER_RADIUS + 1; y < centerY + DANGER_RADIUS; y++) {
+                    if (x >= 0 && x < GRID_SIZE && y >= 0 && y < GRID_SIZE) {
+                        danger[y * GRID_SIZE + x] = true;
                     }
                 }
             }
+            if (target.distanceTo(playerLocation) < DANGER_RADIUS) {
+                playerInDanger = true;
+            }
+        }
+        return playerInDanger;
+    }
+
+    /**
+     * Breadth-first search outwards from the player for the nearest tile that is not dangerous and reachable.
+     * Reachability is cached for the current game tick.
+     */
+    private WorldPoint calculateSafePoint(WorldPoint playerLocation) {
+        int tick = Microbot.getClient().getTickCount();
+        if (tick != reachableTick) {
+            reachableThisTick.clear();
+            reachableTick = tick;
+        }
+
+        Arrays.fill(visited, false);
+        int start = SEARCH_RADIUS * GRID_SIZE + SEARCH_RADIUS;
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = start;
+        visited[start] = true;
+
+        while (head < tail) {
+            int cell = queue[head++];
+            int x = cell % GRID_SIZE;
+            int y = cell / GRID_SIZE;
+            if (!danger[cell]) {
+                WorldPoint candidate = playerLocation.dx(x - SEARCH_RADIUS).dy(y - SEARCH_RADIUS);
+                if (reachableThisTick.computeIfAbsent(candidate, Rs2Tile::isTileReachable)) {
+                    return candidate;
+                }
+            }
+            for (int[] neighbour : NEIGHBOURS) {
+                int nx = x + neighbour[0];
+                int ny = y + neighbour[1];
+                if (nx < 0 || nx >= GRID_SIZE || ny < 0 || ny >= GRID_SIZE) {
+                    continue;
+                }
+                int next = ny * GRID_SIZE + nx;
+                if (!visited[next]) {
+                    visited[next] = true;
+                    queue[tail++] = next;
+                }
+            }
         }
 
-        return bestPoint;
+        return playerLocation;
     }
 
     @Override
     public void shutdown() {
         super.shutdown();
+        projectiles.clear();
     }
 }
@@ -5,6 +5,8 @@ import net.runelite.api.events.NpcDespawned;
 import net.runelite.client.plugins.microbot.Microbot;
 import net.runelite.client.plugins.microbot.Script;
 import net.runelite.client.plugins.microbot.aiofighter.AIOFighterConfig;
+import net.runelite.client.plugins.microbot.aiofighter.AIOFighterPlugin;
+import net.runelite.client.plugins.microbot.aiofighter.AIOFighterScheduler;
 import net.runelite.client.plugins.microbot.aiofighter.enums.AttackStyle;
 import net.runelite.client.plugins.microbot.aiofighter.enums.AttackStyleMapper;
 import net.runelite.client.plugins.microbot.aiofighter.enums.PrayerStyle;
@@ -20,7 +22,6 @@ import net.runelite.client.plugins.microbot.util.prayer.Rs2PrayerEnum;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
@@ -38,14 +39,14 @@ public class FlickerScript extends Script {
     private int currentTick;
     private int tickToFlick = 0;
 
-    public boolean run(AIOFighterConfig config) {
+    public boolean run(AIOFighterConfig config, AIOFighterScheduler scheduler) {
         try {
             Rs2NpcManager.loadJson();
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
 
-        mainScheduledFuture = scheduledExecutorService.scheduleWithFixedDelay(() -> {
+        mainScheduledFuture = scheduler.register(AIOFighterScheduler.Task.FLICKER, () -> AIOFighterPlugin.getSettings().isPrayerEnabled(), () -> {
             try {
                 if (!Microbot.isLoggedIn() || !config.togglePrayer()) {
                     return;
@@ -102,7 +103,7 @@ public class FlickerScript extends Script {
             } catch (Exception ex) {
                 Microbot.logStackTrace(this.getClass().getSimpleName(), ex);
             }
-        }, 0, 200, TimeUnit.MILLISECONDS);
+        });
 
         return true;
     }
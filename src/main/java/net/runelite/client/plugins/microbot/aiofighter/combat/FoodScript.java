@@ -5,6 +5,8 @@ import net.runelite.api.Skill;
 import net.runelite.client.plugins.microbot.Microbot;
 import net.runelite.client.plugins.microbot.Script;
 import net.runelite.client.plugins.microbot.aiofighter.AIOFighterConfig;
+import net.runelite.client.plugins.microbot.aiofighter.AIOFighterPlugin;
+import net.runelite.client.plugins.microbot.aiofighter.AIOFighterScheduler;
 import net.runelite.client.plugins.microbot.util.equipment.Rs2Equipment;
 import net.runelite.client.plugins.microbot.util.inventory.Rs2Inventory;
 import net.runelite.client.plugins.microbot.util.inventory.Rs2ItemModel;
@@ -12,14 +14,13 @@ import net.runelite.client.plugins.microbot.util.player.Rs2Player;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
 
 public class FoodScript extends Script {
 
     Map<Integer, String> equipment = new HashMap<>();
 
-    public boolean run(AIOFighterConfig config) {
-        mainScheduledFuture = scheduledExecutorService.scheduleWithFixedDelay(() -> {
+    public boolean run(AIOFighterConfig config, AIOFighterScheduler scheduler) {
+        mainScheduledFuture = scheduler.register(AIOFighterScheduler.Task.FOOD, () -> AIOFighterPlugin.getSettings().isFoodEnabled(), () -> {
             try {
                 if (!Microbot.isLoggedIn()) return;
                 if (!super.run()) return;
@@ -41,7 +42,7 @@ public class FoodScript extends Script {
             } catch (Exception ex) {
                 Microbot.logStackTrace(this.getClass().getSimpleName(), ex);
             }
-        }, 0, 600, TimeUnit.MILLISECONDS);
+        });
         return true;
     }
 
@@ -3,6 +3,7 @@ package net.runelite.client.plugins.microbot.aiofighter.combat;
 import net.runelite.client.plugins.microbot.Microbot;
 import net.runelite.client.plugins.microbot.Script;
 import net.runelite.client.plugins.microbot.aiofighter.AIOFighterConfig;
+import net.runelite.client.plugins.microbot.aiofighter.AIOFighterScheduler;
 import net.runelite.client.plugins.microbot.aiofighter.AIOFighterPlugin;
 import net.runelite.client.plugins.microbot.globval.enums.InterfaceTab;
 import net.runelite.client.plugins.microbot.util.inventory.Rs2Inventory;
@@ -18,7 +19,6 @@ import net.runelite.client.plugins.microbot.util.tabs.Rs2Tab;
 import net.runelite.client.plugins.microbot.util.widget.Rs2Widget;
 
 import java.util.List;
-import java.util.concurrent.TimeUnit;
 
 public class HighAlchScript extends Script
 {
@@ -28,9 +28,9 @@ public class HighAlchScript extends Script
 	private int lastAlchCheckTick = -1;
 	private int nextAlchIntervalTicks = 0;
 
-	public boolean run(AIOFighterConfig config)
+	public boolean run(AIOFighterConfig config, AIOFighterScheduler scheduler)
 	{
-		mainScheduledFuture = scheduledExecutorService.scheduleWithFixedDelay(() -> {
+		mainScheduledFuture = scheduler.register(AIOFighterScheduler.Task.HIGH_ALCH, () -> AIOFighterPlugin.getSettings().isHighAlchEnabled(), () -> {
 			try
 			{
 				if (!Microbot.isLoggedIn() || !super.run() || !config.toggleHighAlchProfitable())
@@ -98,7 +98,7 @@ public class HighAlchScript extends Script
 			{
 				Microbot.logStackTrace(this.getClass().getSimpleName(), ex);
 			}
-		}, 0, 600, TimeUnit.MILLISECONDS);
+		});
 		return true;
 	}
 
@@ -5,17 +5,17 @@ import net.runelite.api.gameval.ItemID;
 import net.runelite.client.plugins.microbot.Microbot;
 import net.runelite.client.plugins.microbot.Script;
 import net.runelite.client.plugins.microbot.aiofighter.AIOFighterConfig;
+import net.runelite.client.plugins.microbot.aiofighter.AIOFighterScheduler;
 import net.runelite.client.plugins.microbot.aiofighter.AIOFighterPlugin;
 import net.runelite.client.plugins.microbot.aiofighter.enums.State;
 import net.runelite.client.plugins.microbot.util.combat.Rs2Combat;
 import net.runelite.client.plugins.microbot.util.inventory.Rs2Inventory;
 import net.runelite.client.plugins.microbot.util.player.Rs2Player;
 
-import java.util.concurrent.TimeUnit;
 
 public class PotionManagerScript extends Script {
-    public boolean run(AIOFighterConfig config) {
-        mainScheduledFuture = scheduledExecutorService.scheduleWithFixedDelay(() -> {
+    public boolean run(AIOFighterConfig config, AIOFighterScheduler scheduler) {
+        mainScheduledFuture = scheduler.register(AIOFighterScheduler.Task.POTIONS, () -> true, () -> {
             try {
                 if (!Microbot.isLoggedIn()) return;
                 if (!super.run()) return;
@@ -73,7 +73,7 @@ public class PotionManagerScript extends Script {
             } catch (Exception ex) {
                 Microbot.logStackTrace(this.getClass().getSimpleName(), ex);
             }
-        }, 0, 600, TimeUnit.MILLISECONDS);
+        });
         return true;
     }
 
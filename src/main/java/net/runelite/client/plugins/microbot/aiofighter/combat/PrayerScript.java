@@ -4,6 +4,8 @@ import lombok.extern.slf4j.Slf4j;
 import net.runelite.client.plugins.microbot.Microbot;
 import net.runelite.client.plugins.microbot.Script;
 import net.runelite.client.plugins.microbot.aiofighter.AIOFighterConfig;
+import net.runelite.client.plugins.microbot.aiofighter.AIOFighterPlugin;
+import net.runelite.client.plugins.microbot.aiofighter.AIOFighterScheduler;
 import net.runelite.client.plugins.microbot.aiofighter.enums.AttackStyle;
 import net.runelite.client.plugins.microbot.aiofighter.enums.AttackStyleMapper;
 import net.runelite.client.plugins.microbot.aiofighter.enums.PrayerStyle;
@@ -14,23 +16,22 @@ import net.runelite.client.plugins.microbot.util.npc.Rs2NpcModel;
 import net.runelite.client.plugins.microbot.util.prayer.Rs2Prayer;
 import net.runelite.client.plugins.microbot.util.prayer.Rs2PrayerEnum;
 
-import java.util.concurrent.TimeUnit;
 
 @Slf4j
 public class PrayerScript extends Script {
-    public boolean run(AIOFighterConfig config) {
+    public boolean run(AIOFighterConfig config, AIOFighterScheduler scheduler) {
         try {
             Rs2NpcManager.loadJson();
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
-        mainScheduledFuture = scheduledExecutorService.scheduleWithFixedDelay(() -> {
+        mainScheduledFuture = scheduler.register(AIOFighterScheduler.Task.PRAYER, () -> AIOFighterPlugin.getSettings().isPrayerEnabled(), () -> {
             try {
                 handlePrayer(config);
             } catch (Exception ex) {
                 Microbot.logStackTrace(this.getClass().getSimpleName(), ex);
             }
-        }, 0, 500, TimeUnit.MILLISECONDS);
+        });
         return true;
     }
 
@@ -5,21 +5,19 @@ import net.runelite.client.plugins.microbot.Microbot;
 import net.runelite.client.plugins.microbot.Script;
 import net.runelite.client.plugins.microbot.aiofighter.AIOFighterConfig;
 import net.runelite.client.plugins.microbot.aiofighter.AIOFighterPlugin;
-import net.runelite.client.plugins.microbot.aiofighter.enums.State;
+import net.runelite.client.plugins.microbot.aiofighter.AIOFighterScheduler;
 import net.runelite.client.plugins.microbot.util.player.Rs2Player;
 import net.runelite.client.plugins.microbot.util.walker.Rs2Walker;
 
-import java.util.concurrent.TimeUnit;
 
 public class SafeSpot extends Script {
 
     public WorldPoint currentSafeSpot = null;
     private boolean messageShown = false;
 
-public boolean run(AIOFighterConfig config) {
-    mainScheduledFuture = scheduledExecutorService.scheduleWithFixedDelay(() -> {
+public boolean run(AIOFighterConfig config, AIOFighterScheduler scheduler) {
+    mainScheduledFuture = scheduler.register(AIOFighterScheduler.Task.SAFE_SPOT, () -> AIOFighterPlugin.getSettings().isSafeSpotEnabled(), () -> {
         try {
-            if (AIOFighterPlugin.getState().equals(State.BANKING) || AIOFighterPlugin.getState().equals(State.WALKING)) return;
             if (!Microbot.isLoggedIn() || !super.run() || !config.toggleSafeSpot() || Rs2Player.isMoving()) return;
 
             currentSafeSpot = config.safeSpot();
@@ -44,7 +42,7 @@ public boolean run(AIOFighterConfig config) {
         } catch (Exception ex) {
             Microbot.logStackTrace(this.getClass().getSimpleName(), ex);
         }
-    }, 0, 600, TimeUnit.MILLISECONDS);
+    });
     return true;
 }
 
@@ -6,6 +6,7 @@ import net.runelite.api.coords.WorldPoint;
 import net.runelite.client.plugins.microbot.Microbot;
 import net.runelite.client.plugins.microbot.Script;
 import net.runelite.client.plugins.microbot.aiofighter.AIOFighterConfig;
+import net.runelite.client.plugins.microbot.aiofighter.AIOFighterScheduler;
 import net.runelite.client.plugins.microbot.aiofighter.AIOFighterPlugin;
 import net.runelite.client.plugins.microbot.aiofighter.enums.State;
 import net.runelite.client.plugins.microbot.aiofighter.model.InventorySetupUtil;
@@ -17,7 +18,6 @@ import net.runelite.client.plugins.microbot.util.skills.slayer.Rs2Slayer;
 
 import java.util.Arrays;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
 @Slf4j
 public class SlayerScript extends Script {
 
@@ -25,11 +25,11 @@ public class SlayerScript extends Script {
     static String cachedMonsterLocationName = null;
     AIOFighterConfig config;
     @SneakyThrows
-    public boolean run(AIOFighterConfig config) {
+    public boolean run(AIOFighterConfig config, AIOFighterScheduler scheduler) {
         this.config = config;
         Microbot.enableAutoRunOn = false;
         Rs2NpcManager.loadJson();
-        mainScheduledFuture = scheduledExecutorService.scheduleWithFixedDelay(() -> {
+        mainScheduledFuture = scheduler.register(AIOFighterScheduler.Task.SLAYER, () -> AIOFighterPlugin.getSettings().isSlayerMode(), () -> {
             try {
                 if (!Microbot.isLoggedIn()) return;
                 if (!super.run()) return;
@@ -42,7 +42,7 @@ public class SlayerScript extends Script {
             } catch (Exception ex) {
                 log.error("Error: " + ex);
             }
-        }, 0, 1000, TimeUnit.MILLISECONDS);
+        });
         return true;
     }
 
@@ -0,0 +1,138 @@
+package net.runelite.client.plugins.microbot.aiofighter.combat;
+
+import net.runelite.api.Actor;
+import net.runelite.api.NPC;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.plugins.microbot.Microbot;
+import net.runelite.client.plugins.microbot.aiofighter.AIOFighterSettings;
+import net.runelite.client.plugins.microbot.util.coords.Rs2WorldPoint;
+import net.runelite.client.plugins.microbot.util.npc.Rs2Npc;
+import net.runelite.client.plugins.microbot.util.npc.Rs2NpcModel;
+import net.runelite.client.plugins.microbot.util.player.Rs2Player;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps track of the NPCs the fighter may attack, fed by spawn, despawn and interacting events.
+ * <p>
+ * Only NPCs whose name matches {@link AIOFighterSettings#isAttackable(String)} are tracked, so the ranking
+ * never looks at unrelated NPCs. Events arrive on the client thread, {@link #rank} is called from the
+ * scheduler thread. Path distances are cached per NPC for the current game tick.
+ */
+public class TargetTracker {
+
+    // NPC index -> tracked NPC
+    private final Map<Integer, NPC> tracked = new ConcurrentHashMap<>();
+    // Indices of tracked NPCs currently interacting with the local player
+    private final Set<Integer> targetingPlayer = ConcurrentHashMap.newKeySet();
+    private volatile AIOFighterSettings settings;
+
+    // Only touched by the thread calling rank()
+    private final Map<Integer, Integer> pathDistances = new HashMap<>();
+    private int pathDistanceTick = -1;
+
+    /**
+     * Drops all tracked NPCs and re-seeds from the NPCs currently loaded, matching the given settings.
+     */
+    public void reset(AIOFighterSettings settings) {
+        this.settings = settings;
+        tracked.clear();
+        targetingPlayer.clear();
+        if (settings == null || !Microbot.isLoggedIn()) {
+            return;
+        }
+        final Actor localPlayer = Microbot.getClient().getLocalPlayer();
+        Rs2Npc.getNpcs(npc -> settings.isAttackable(npc.getName())).forEach(npc -> {
+            tracked.put(npc.getIndex(), npc.getRuneliteNpc());
+            if (localPlayer != null && npc.getInteracting() == localPlayer) {
+                targetingPlayer.add(npc.getIndex());
+            }
+        });
+    }
+
+    public void clear() {
+        settings = null;
+        tracked.clear();
+        targetingPlayer.clear();
+    }
+
+    public void onNpcSpawned(NPC npc) {
+        final AIOFighterSettings current = settings;
+        if (current != null && current.isAttackable(npc.getName())) {
+            tracked.put(npc.getIndex(), npc);
+        }
+    }
+
+    public void onNpcDespawned(NPC npc) {
+        tracked.remove(npc.getIndex());
+        targetingPlayer.remove(npc.getIndex());
+    }
+
+    public void onInteractingChanged(Actor source, Actor target) {
+        if (!(source instanceof NPC)) {
+            return;
+        }
+        final int index = ((NPC) source).getIndex();
+        if (!tracked.containsKey(index)) {
+            return;
+        }
+        if (target != null && target == Microbot.getClient().getLocalPlayer()) {
+            targetingPlayer.add(index);
+        } else {
+            targetingPlayer.remove(index);
+        }
+    }
+
+    public boolean isEmpty() {
+        return tracked.isEmpty();
+    }
+
+    /**
+     * Ranks the tracked NPCs that are attackable and within the attack radius. NPCs already fighting the player
+     * come first, then by path distance.
+     *
+     * @return the ranked targets, best first; empty if nothing is tracked
+     */
+    public List<Rs2NpcModel> rank() {
+        final AIOFighterSettings current = settings;
+        if (current == null || tracked.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        final WorldPoint center = current.getCenterLocation();
+        final int attackRadius = current.getAttackRadius();
+        final List<Rs2NpcModel> candidates = new ArrayList<>();
+        Rs2Npc.getAttackableNpcs(current.isAttackReachableNpcs())
+                .filter(npc -> tracked.containsKey(npc.getIndex()))
+                .filter(npc -> npc.getWorldLocation().distanceTo(center) <= attackRadius)
+                .forEach(candidates::add);
+        if (candidates.size() < 2) {
+            return candidates;
+        }
+
+        final int tick = Microbot.getClient().getTickCount();
+        if (tick != pathDistanceTick) {
+            pathDistances.clear();
+            pathDistanceTick = tick;
+        }
+        final Rs2WorldPoint playerLocation = Rs2Player.getRs2WorldPoint();
+        for (Rs2NpcModel npc : candidates) {
+            pathDistances.computeIfAbsent(npc.getIndex(), index -> playerLocation.distanceToPath(npc.getWorldLocation()));
+        }
+
+        candidates.sort((a, b) -> {
+            final int byTarget = Boolean.compare(!targetingPlayer.contains(a.getIndex()), !targetingPlayer.contains(b.getIndex()));
+            if (byTarget != 0) {
+                return byTarget;
+            }
+            return Integer.compare(pathDistances.get(a.getIndex()), pathDistances.get(b.getIndex()));
+        });
+        return candidates;
+    }
+}
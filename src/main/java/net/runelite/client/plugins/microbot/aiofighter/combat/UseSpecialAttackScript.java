@@ -3,15 +3,16 @@ package net.runelite.client.plugins.microbot.aiofighter.combat;
 import net.runelite.client.plugins.microbot.Microbot;
 import net.runelite.client.plugins.microbot.Script;
 import net.runelite.client.plugins.microbot.aiofighter.AIOFighterConfig;
+import net.runelite.client.plugins.microbot.aiofighter.AIOFighterPlugin;
+import net.runelite.client.plugins.microbot.aiofighter.AIOFighterScheduler;
 import net.runelite.client.plugins.microbot.util.equipment.Rs2Equipment;
 import net.runelite.client.plugins.microbot.util.player.Rs2Player;
 
-import java.util.concurrent.TimeUnit;
 
 public class UseSpecialAttackScript extends Script {
 
-    public boolean run(AIOFighterConfig config) {
-        mainScheduledFuture = scheduledExecutorService.scheduleWithFixedDelay(() -> {
+    public boolean run(AIOFighterConfig config, AIOFighterScheduler scheduler) {
+        mainScheduledFuture = scheduler.register(AIOFighterScheduler.Task.SPECIAL_ATTACK, () -> AIOFighterPlugin.getSettings().isSpecialAttackEnabled(), () -> {
             try {
                 if (!Microbot.isLoggedIn()) return;
                 if (!super.run()) return;
@@ -22,7 +23,7 @@ public class UseSpecialAttackScript extends Script {
             } catch (Exception ex) {
                 Microbot.logStackTrace(this.getClass().getSimpleName(), ex);
             }
-        }, 0, 1000, TimeUnit.MILLISECONDS);
+        });
         return true;
     }
 
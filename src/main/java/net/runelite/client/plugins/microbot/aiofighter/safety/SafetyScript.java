@@ -5,53 +5,48 @@ import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.microbot.Microbot;
 import net.runelite.client.plugins.microbot.Script;
 import net.runelite.client.plugins.microbot.aiofighter.AIOFighterConfig;
+import net.runelite.client.plugins.microbot.aiofighter.AIOFighterScheduler;
 import net.runelite.client.plugins.microbot.aiofighter.AIOFighterPlugin;
+import net.runelite.client.plugins.microbot.aiofighter.AIOFighterSettings;
+import net.runelite.client.plugins.microbot.inventorysetups.InventorySetup;
 import net.runelite.client.plugins.microbot.util.bank.Rs2Bank;
 import net.runelite.client.plugins.microbot.util.equipment.Rs2Equipment;
 import net.runelite.client.plugins.microbot.util.inventory.Rs2Inventory;
 import net.runelite.client.plugins.microbot.util.magic.Rs2Magic;
 import net.runelite.client.plugins.microbot.util.player.Rs2Player;
 
-import java.util.concurrent.TimeUnit;
 
 import static net.runelite.client.plugins.microbot.Microbot.log;
 
 @Slf4j
 public class SafetyScript extends Script {
-    public boolean run(AIOFighterConfig config) {
-        mainScheduledFuture = scheduledExecutorService.scheduleWithFixedDelay(() -> {
+    public boolean run(AIOFighterConfig config, AIOFighterScheduler scheduler) {
+        mainScheduledFuture = scheduler.register(AIOFighterScheduler.Task.SAFETY, () -> AIOFighterPlugin.getSettings().isSafetyEnabled(), () -> {
             try {
                 if (!Microbot.isLoggedIn()) return;
                 if (!super.run()) return;
-                if (!config.useSafety()) return;
-                if (config.missingRunes() && config.useMagic() && !Rs2Magic.hasRequiredRunes(config.magicSpell())){
-                    stopAndLog("Missing runes for spell: " + config.magicSpell());
+                final AIOFighterSettings settings = AIOFighterPlugin.getSettings();
+                if (!settings.isSafetyEnabled()) return;
+                if (settings.isStopOnMissingRunes() && settings.isUseMagic() && !Rs2Magic.hasRequiredRunes(settings.getMagicSpell())){
+                    stopAndLog("Missing runes for spell: " + settings.getMagicSpell());
                 }
-                if (config.missingFood() && Rs2Inventory.getInventoryFood().isEmpty() && !config.bank()){
+                if (settings.isStopOnMissingFood() && Rs2Inventory.getInventoryFood().isEmpty() && !settings.isBankEnabled()){
                     stopAndLog("Missing food in inventory. Turn Missing Food config off if you don't want this.");
                 }
-                if (config.missingArrows() && !Rs2Equipment.isWearing(x -> x.getName().toLowerCase().contains("arrow") || x.getName().toLowerCase().contains("bolt") || x.getName().toLowerCase().contains("dart") || x.getName().toLowerCase().contains("knife"))){
+                if (settings.isStopOnMissingArrows() && !Rs2Equipment.isWearing(x -> x.getName().toLowerCase().contains("arrow") || x.getName().toLowerCase().contains("bolt") || x.getName().toLowerCase().contains("dart") || x.getName().toLowerCase().contains("knife"))){
                     stopAndLog("Missing arrows in inventory/equipment");
                 }
-                String setupName = "";
-                if (config.slayerMode()) {
-                    if (config.currentInventorySetup() != null) {
-                        setupName = config.currentInventorySetup().getName();
-                    }
-                } else {
-                    if (config.inventorySetup() != null) {
-                        setupName = config.inventorySetup().getName();
-                    }
-                }
-                if (config.lowHealth() && Rs2Inventory.getInventoryFood().isEmpty() && (!config.bank() || setupName == null)){
-                    if (Rs2Player.getHealthPercentage() < config.healthSafetyValue()){
+                InventorySetup setup = settings.getActiveInventorySetup();
+                String setupName = setup != null ? setup.getName() : "";
+                if (settings.isStopOnLowHealth() && Rs2Inventory.getInventoryFood().isEmpty() && (!settings.isBankEnabled() || setupName == null)){
+                    if (Rs2Player.getHealthPercentage() < settings.getHealthSafetyValue()){
                         stopAndLog("Low health: " + Rs2Player.getHealthPercentage() + "%");
                     }
                 }
             } catch(Exception ex) {
                 System.out.println("Safety script error: "+ex.getMessage());
             }
-        }, 0, 600, TimeUnit.MILLISECONDS);
+        });
         return true;
     }
 
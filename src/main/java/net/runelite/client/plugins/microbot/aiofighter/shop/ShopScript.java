@@ -5,6 +5,7 @@ import net.runelite.api.ItemID;
 import net.runelite.client.plugins.microbot.Microbot;
 import net.runelite.client.plugins.microbot.Script;
 import net.runelite.client.plugins.microbot.aiofighter.AIOFighterConfig;
+import net.runelite.client.plugins.microbot.aiofighter.AIOFighterScheduler;
 import net.runelite.client.plugins.microbot.aiofighter.AIOFighterPlugin;
 import net.runelite.client.plugins.microbot.util.bank.Rs2Bank;
 import net.runelite.client.plugins.microbot.util.grandexchange.Rs2GrandExchange;
@@ -15,7 +16,6 @@ import net.runelite.client.plugins.microbot.util.skills.slayer.Rs2Slayer;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -23,9 +23,9 @@ public class ShopScript extends Script {
     public static ShopType shopType = ShopType.GRAND_EXCHANGE;
     public static List<ShopItem> shopItems = new ArrayList<>();
 
-    public boolean run(AIOFighterConfig config) {
+    public boolean run(AIOFighterConfig config, AIOFighterScheduler scheduler) {
 
-        mainScheduledFuture = scheduledExecutorService.scheduleWithFixedDelay(() -> {
+        mainScheduledFuture = scheduler.register(AIOFighterScheduler.Task.SHOP, () -> AIOFighterPlugin.needShopping, () -> {
             try {
 
                 if (!super.run()) {
@@ -160,7 +160,7 @@ public class ShopScript extends Script {
             } catch (Exception ex) {
                 log.error("ShopScript: Exception occurred - {}", ex.getMessage(), ex);
             }
-        }, 0, 600, TimeUnit.MILLISECONDS);
+        });
         return true;
     }
     @Override
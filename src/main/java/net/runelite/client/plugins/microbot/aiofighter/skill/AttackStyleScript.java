@@ -7,13 +7,15 @@ import net.runelite.api.widgets.WidgetInfo;
 import net.runelite.client.plugins.microbot.Microbot;
 import net.runelite.client.plugins.microbot.Script;
 import net.runelite.client.plugins.microbot.aiofighter.AIOFighterConfig;
+import net.runelite.client.plugins.microbot.aiofighter.AIOFighterPlugin;
+import net.runelite.client.plugins.microbot.aiofighter.AIOFighterScheduler;
+import net.runelite.client.plugins.microbot.aiofighter.AIOFighterSettings;
 import net.runelite.client.plugins.microbot.globval.enums.InterfaceTab;
 import net.runelite.client.plugins.microbot.util.combat.Rs2Combat;
 import net.runelite.client.plugins.microbot.util.magic.Rs2Magic;
 import net.runelite.client.plugins.microbot.util.tabs.Rs2Tab;
 
 import java.util.*;
-import java.util.concurrent.TimeUnit;
 
 
 enum AttackStyle {
@@ -54,17 +56,18 @@ public class AttackStyleScript extends Script {
     private int attackStyleChangeDelay = 0;
     long lastAttackStyleChangeTime = System.currentTimeMillis();
 
-    public boolean run(AIOFighterConfig config) {
-        attackStyleChangeDelay = config.attackStyleChangeDelay();
+    public boolean run(AIOFighterConfig config, AIOFighterScheduler scheduler) {
         lastAttackStyleChangeTime = System.currentTimeMillis();
-        mainScheduledFuture = scheduledExecutorService.scheduleWithFixedDelay(() -> scheduledTask(config), 0, 1, TimeUnit.SECONDS);
+        mainScheduledFuture = scheduler.register(AIOFighterScheduler.Task.ATTACK_STYLE, () -> AIOFighterPlugin.getSettings().isStyleSwitchEnabled(), this::scheduledTask);
         return true;
     }
 
-    private void scheduledTask(AIOFighterConfig config) {
+    private void scheduledTask() {
         try {
+            final AIOFighterSettings settings = AIOFighterPlugin.getSettings();
+            attackStyleChangeDelay = settings.getAttackStyleChangeDelay();
             // Early exit conditions
-            if (!Microbot.isLoggedIn() || !super.run() || !config.toggleAllowStyleSwitch() || disableIfMaxed(config.toggleDisableOnMaxCombat()))
+            if (!Microbot.isLoggedIn() || !super.run() || !settings.isStyleSwitchEnabled() || disableIfMaxed(settings.isDisableStyleSwitchOnMaxCombat()))
                 return;
 
             // Initialize levels if not done yet
@@ -81,9 +84,9 @@ public class AttackStyleScript extends Script {
                 leveledUp = true;
             }
 
-            if (config.useMagic()) {
-                if (Rs2Magic.getCurrentAutoCastSpell() != config.magicSpell()) {
-                    Rs2Combat.setAutoCastSpell(config.magicSpell(), false);
+            if (settings.isUseMagic()) {
+                if (Rs2Magic.getCurrentAutoCastSpell() != settings.getMagicSpell()) {
+                    Rs2Combat.setAutoCastSpell(settings.getMagicSpell(), false);
                 }
                 return;
             }
@@ -106,29 +109,29 @@ public class AttackStyleScript extends Script {
                     // if rapid is available, switch to it
                     int attackStyleVarbit = Microbot.getVarbitPlayerValue(VarPlayer.ATTACK_STYLE);
                     if (attackStyleVarbit != 1) {
-                        changeAttackStyle(config, WidgetInfo.COMBAT_STYLE_TWO);
+                        changeAttackStyle(WidgetInfo.COMBAT_STYLE_TWO);
                     }
                 } else {
                     // if rapid is not available, switch to first attack style
                     int attackStyleVarbit = Microbot.getVarbitPlayerValue(VarPlayer.ATTACK_STYLE);
                     if (attackStyleVarbit != 0) {
-                        changeAttackStyle(config, WidgetInfo.COMBAT_STYLE_ONE);
+                        changeAttackStyle(WidgetInfo.COMBAT_STYLE_ONE);
                     }
                 }
                 return;
             }
 
             // Select skills based on configuration
-            selectSkills(config);
+            selectSkills(settings);
 
             // Get the component to display
-            WidgetInfo componentToDisplay = getComponentToDisplay(config);
+            WidgetInfo componentToDisplay = getComponentToDisplay(settings);
 
             Microbot.log("Current Attack Style: " + attackStyle.getName());
             Microbot.log("Attack Style to Train: " + attackStyleToTrain.getName());
             // Change attack style if needed
             if (attackStyle != attackStyleToTrain) {
-                changeAttackStyle(config, componentToDisplay);
+                changeAttackStyle(componentToDisplay);
             }
         } catch (Exception ex) {
             Microbot.logStackTrace("AttackStyleScript", ex);
@@ -156,7 +159,7 @@ public class AttackStyleScript extends Script {
         initializedLevels = true;
     }
 
-    private void changeAttackStyle(AIOFighterConfig config, WidgetInfo attackStyleWidgetInfo) {
+    private void changeAttackStyle(WidgetInfo attackStyleWidgetInfo) {
         if (Rs2Tab.getCurrentTab() != InterfaceTab.COMBAT) {
             Rs2Tab.switchToCombatOptionsTab();
             sleepUntil(() -> Rs2Tab.getCurrentTab() == InterfaceTab.COMBAT, 2000);
@@ -231,12 +234,12 @@ public class AttackStyleScript extends Script {
         return getSkillLevel(skill) < levelRequired;
     }
 
-    private void selectSkills(AIOFighterConfig config) {
-        boolean balanceCombatSkills = config.toggleBalanceCombatSkills();
+    private void selectSkills(AIOFighterSettings settings) {
+        boolean balanceCombatSkills = settings.isBalanceCombatSkills();
 
-        boolean needAttack = needLevel(config.attackSkillTarget(), Skill.ATTACK);
-        boolean needStrength = needLevel(config.strengthSkillTarget(), Skill.STRENGTH);
-        boolean needDefence = needLevel(config.defenceSkillTarget(), Skill.DEFENCE);
+        boolean needAttack = needLevel(settings.getAttackSkillTarget(), Skill.ATTACK);
+        boolean needStrength = needLevel(settings.getStrengthSkillTarget(), Skill.STRENGTH);
+        boolean needDefence = needLevel(settings.getDefenceSkillTarget(), Skill.DEFENCE);
 
         if (balanceCombatSkills) {
             Skill lowestSkill = getLowestSkill(
@@ -302,7 +305,7 @@ public class AttackStyleScript extends Script {
         return attackStyle.getSkills().length > 1;
     }
 
-    private WidgetInfo getComponentToDisplay(AIOFighterConfig config) {
+    private WidgetInfo getComponentToDisplay(AIOFighterSettings settings) {
         List<WidgetInfo> componentsToDisplay = new ArrayList<>();
         AttackStyle[] attackStyles = getWeaponTypeStyles(equippedWeaponTypeVarbit);
         Random random = new Random();
@@ -316,7 +319,7 @@ public class AttackStyleScript extends Script {
 
             boolean selectedSkill = false;
             for (Skill skill : attackStyle.getSkills()) {
-                if (isSkillControlled(attackStyle) && config.toggleAvoidControlled()) {
+                if (isSkillControlled(attackStyle) && settings.isAvoidControlled()) {
                     continue;
                 }
                 if (selectedSkills.contains(skill)) {
@@ -0,0 +1,211 @@
+package net.runelite.client.plugins.microbot.banksorter;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Plans the drag operations needed to turn the current layout of a bank tab into the sorted layout.
+ * <p>
+ * A layout is described as {@code destinationBySlot[slot] = slot the item currently in {@code slot} must end up in},
+ * i.e. a permutation of {@code 0..n-1} over the slots relative to the start of the tab.
+ * <ul>
+ *     <li>{@link Mode#SWAP}: the permutation is decomposed into cycles; a cycle of length k needs k - 1 swaps,
+ *     so the plan has {@code n - cycles} moves, which is the minimum for swaps.</li>
+ *     <li>{@link Mode#INSERT}: the longest run of items already in correct relative order (LIS) is kept in place and
+ *     every other item is inserted once, so the plan has {@code n - LIS} moves, which is the minimum for inserts.</li>
+ * </ul>
+ * The planner works purely on an in-memory model and never touches widgets, which also makes it usable offline
+ * through {@link #simulate(int[], List, Mode)}.
+ */
+final class BankRearrangePlanner {
+
+    /**
+     * Bank "Rearrange mode" setting, see {@code Varbits.BANK_REARRANGE_MODE} (0 = swap, 1 = insert).
+     */
+    enum Mode {
+        SWAP,
+        INSERT;
+
+        static Mode fromVarbit(int value) {
+            return value == 1 ? INSERT : SWAP;
+        }
+    }
+
+    /**
+     * A single drag from one slot to another, both relative to the start of the tab.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    @ToString
+    static final class Move {
+        private final int fromSlot;
+        private final int toSlot;
+    }
+
+    private BankRearrangePlanner() {
+    }
+
+    /**
+     * Computes the minimal sequence of drags for the given mode.
+     *
+     * @param destinationBySlot permutation: destination slot of the item currently in each slot
+     * @param mode              the bank rearrange mode
+     * @return the moves to perform in order
+     * @throws IllegalArgumentException if {@code destinationBySlot} is not a permutation
+     */
+    static List<Move> plan(int[] destinationBySlot, Mode mode) {
+        validatePermutation(destinationBySlot);
+        return mode == Mode.INSERT ? planInserts(destinationBySlot) : planSwaps(destinationBySlot);
+    }
+
+    /**
+     * Applies the moves to the layout and returns the resulting layout. A correct plan yields
+     * {@code result[slot] == slot} for every slot.
+     *
+     * @param destinationBySlot permutation: destination slot of the item currently in each slot
+     * @param moves             the moves to apply
+     * @param mode              the bank rearrange mode the moves were planned for
+     * @return the destination of the item in each slot after all moves
+     */
+    static int[] simulate(int[] destinationBySlot, List<Move> moves, Mode mode) {
+        int[] layout = Arrays.copyOf(destinationBySlot, destinationBySlot.length);
+        for (Move move : moves) {
+            applyMove(layout, move, mode);
+        }
+        return layout;
+    }
+
+    /**
+     * @return true if every item in the layout is in its destination slot
+     */
+    static boolean isSorted(int[] destinationBySlot) {
+        for (int slot = 0; slot < destinationBySlot.length; slot++) {
+            if (destinationBySlot[slot] != slot) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<Move> planSwaps(int[] destinationBySlot) {
+        int[] layout = Arrays.copyOf(destinationBySlot, destinationBySlot.length);
+        List<Move> moves = new ArrayList<>();
+
+        // Walk each cycle: send the item in 'start' to its destination, the displaced item comes back to 'start'
+        for (int start = 0; start < layout.length; start++) {
+            while (layout[start] != start) {
+                int destination = layout[start];
+                moves.add(new Move(start, destination));
+                layout[start] = layout[destination];
+                layout[destination] = destination;
+            }
+        }
+        return moves;
+    }
+
+    private static List<Move> planInserts(int[] destinationBySlot) {
+        int n = destinationBySlot.length;
+        boolean[] settled = longestIncreasingRun(destinationBySlot);
+
+        // Model of the tab as a list of destinations in current slot order
+        List<Integer> layout = new ArrayList<>(n);
+        for (int destination : destinationBySlot) {
+            layout.add(destination);
+        }
+
+        boolean[] settledByDestination = new boolean[n];
+        for (int slot = 0; slot < n; slot++) {
+            if (settled[slot]) {
+                settledByDestination[destinationBySlot[slot]] = true;
+            }
+        }
+
+        // Insert the remaining items in destination order, each right after its (already settled) predecessor
+        List<Move> moves = new ArrayList<>(n);
+        for (int destination = 0; destination < n; destination++) {
+            if (settledByDestination[destination]) {
+                continue;
+            }
+            int fromSlot = layout.indexOf(destination);
+            layout.remove(fromSlot);
+            int toSlot = destination == 0 ? 0 : layout.indexOf(destination - 1) + 1;
+            layout.add(toSlot, destination);
+            settledByDestination[destination] = true;
+            if (fromSlot != toSlot) {
+                moves.add(new Move(fromSlot, toSlot));
+            }
+        }
+        return moves;
+    }
+
+    /**
+     * Marks the slots that form one longest strictly increasing subsequence of destinations (O(n log n)).
+     */
+    private static boolean[] longestIncreasingRun(int[] values) {
+        int n = values.length;
+        int[] tailSlots = new int[n];
+        int[] previous = new int[n];
+        int length = 0;
+
+        for (int slot = 0; slot < n; slot++) {
+            int low = 0;
+            int high = length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (values[tailSlots[mid]] < values[slot]) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            previous[slot] = low > 0 ? tailSlots[low - 1] : -1;
+            tailSlots[low] = slot;
+            if (low == length) {
+                length++;
+            }
+        }
+
+        boolean[] inRun = new boolean[n];
+        for (int slot = length > 0 ? tailSlots[length - 1] : -1; slot >= 0; slot = previous[slot]) {
+            inRun[slot] = true;
+        }
+        return inRun;
+    }
+
+    /**
+     * Applies one move to a layout in place. Works on any per-slot values, e.g. item ids.
+     */
+    static void applyMove(int[] layout, Move move, Mode mode) {
+        int from = move.getFromSlot();
+        int to = move.getToSlot();
+        int moved = layout[from];
+
+        if (mode == Mode.SWAP) {
+            layout[from] = layout[to];
+            layout[to] = moved;
+        } else if (from < to) {
+            System.arraycopy(layout, from + 1, layout, from, to - from);
+            layout[to] = moved;
+        } else if (from > to) {
+            System.arraycopy(layout, to, layout, to + 1, from - to);
+            layout[to] = moved;
+        }
+    }
+
+    private static void validatePermutation(int[] destinationBySlot) {
+        boolean[] seen = new boolean[destinationBySlot.length];
+        for (int destination : destinationBySlot) {
+            if (destination < 0 || destination >= destinationBySlot.length || seen[destination]) {
+                throw new IllegalArgumentException("Layout is not a permutation: " + Arrays.toString(destinationBySlot));
+            }
+            seen[destination] = true;
+        }
+    }
+}
@@ -9,6 +9,7 @@ import net.runelite.api.Point;
 import net.runelite.api.Varbits;
 import net.runelite.api.widgets.Widget;
 import net.runelite.client.plugins.microbot.Microbot;
+import net.runelite.client.plugins.microbot.PluginDiagnostics;
 import net.runelite.client.plugins.microbot.Script;
 import net.runelite.client.plugins.microbot.util.bank.Rs2Bank;
 import net.runelite.client.plugins.microbot.util.math.Rs2Random;
@@ -27,6 +28,7 @@ public class BankTabSorterScript extends Script {
     private static final Pattern ITEM_NAME_SUFFIX_PATTERN = Pattern.compile("^(.*?)(?:\\s*\\((\\d+)\\))?$");
     // Regex for general numeric parts in names, not just suffixes
     private static final Pattern NUMERIC_PART_PATTERN = Pattern.compile("\\d+");
+    private static final int MAX_REPLANS = 3;
     // --- Item Data & Definitions ---
     private static final Map<String, Integer> TOOL_LEVELS_PICKAXE = new LinkedHashMap<>();
     private static final Map<String, Integer> TOOL_LEVELS_AXE = new LinkedHashMap<>();
@@ -67,7 +69,6 @@ public class BankTabSorterScript extends Script {
             "Skilling-Resource-Herb", "Skilling-Resource-Seed", "Skilling-Resource-Fish", "Skilling-Resource-Other",
             "Clue-Scrolls", "Quest-Items", "Cosmetic/Holiday", "Miscellaneous"
     );
-    private static final Map<String, Map<String, Double>> SIMILARITY_CACHE = new HashMap<>();
 
     static {
         // Tool Levels (Mining Level for Pickaxes, Woodcutting for Axes)
@@ -153,6 +154,8 @@ public class BankTabSorterScript extends Script {
     Client client;
     Mouse mouse;
     private volatile boolean isRunningTask = false;
+    // One "Moving slot" line every few seconds instead of one per move
+    private final PluginDiagnostics diagnostics = new PluginDiagnostics("BankTabSorter", 5_000, 60_000);
 
     // Static helper method, can be called from BankSortItem constructor
     private static String classifyItem(BankSortItem item) {
@@ -265,92 +268,6 @@ public class BankTabSorterScript extends Script {
         return "other-resource";
     }
 
-    private static double jaroSimilarity(String s1, String s2) {
-        if (s1 == null || s2 == null) return 0.0; // Null check
-        if (s1.equals(s2)) return 1.0;
-        int len1 = s1.length(), len2 = s2.length();
-        if (len1 == 0 || len2 == 0) return 0.0;
-
-        int matchDistance = Math.max(len1, len2) / 2 - 1;
-        if (matchDistance < 0) matchDistance = 0; // Ensure non-negative
-
-        boolean[] s1Matches = new boolean[len1];
-        boolean[] s2Matches = new boolean[len2];
-        int matches = 0;
-        for (int i = 0; i < len1; i++) {
-            int start = Math.max(0, i - matchDistance);
-            int end = Math.min(i + matchDistance + 1, len2);
-            for (int j = start; j < end; j++) {
-                if (s2Matches[j] || s1.charAt(i) != s2.charAt(j)) continue;
-                s1Matches[i] = true;
-                s2Matches[j] = true;
-                matches++;
-                break;
-            }
-        }
-        if (matches == 0) return 0.0;
-
-        double t = 0; // Transpositions
-        int k = 0;
-        for (int i = 0; i < len1; i++) {
-            if (!s1Matches[i]) continue;
-            while (k < len2 && !s2Matches[k]) k++; // Ensure k advances only up to len2
-            if (k < len2 && s1.charAt(i) != s2.charAt(k++)) t++; // Check k < len2 before charAt
-        }
-        t /= 2.0;
-        return ((double) matches / len1 + (double) matches / len2 + (matches - t) / matches) / 3.0;
-    }
-
-    private static double jaroWinklerSimilarity(String s1, String s2) {
-        if (s1 == null || s2 == null) return 0.0;
-        if (s1.equals(s2)) return 1.0; // Handles case where both are empty too
-        if (s1.isEmpty() || s2.isEmpty()) return 0.0;
-
-        s1 = s1.toLowerCase().trim(); // Normalize
-        s2 = s2.toLowerCase().trim();
-        if (s1.equals(s2)) return 1.0; // Check again after normalization
-
-        // Cache implementation (simple, consider thread-safety if script becomes multi-threaded)
-        String cacheKey = s1.compareTo(s2) < 0 ? s1 + "|" + s2 : s2 + "|" + s1; // Canonical key
-        synchronized (SIMILARITY_CACHE) {
-            Map<String, Double> cachedEntry = SIMILARITY_CACHE.get(cacheKey);
-            if (cachedEntry != null && cachedEntry.containsKey("similarity")) {
-                return cachedEntry.get("similarity");
-            }
-        }
-
-        double jaroSim = jaroSimilarity(s1, s2);
-        if (jaroSim < 0.7) { // Optimization: Winkler adjustment is less impactful for low Jaro scores
-            // Cache and return early for low Jaro scores
-            synchronized (SIMILARITY_CACHE) {
-                Map<String, Double> resultMap = new HashMap<>();
-                resultMap.put("similarity", jaroSim);
-                SIMILARITY_CACHE.put(cacheKey, resultMap);
-            }
-            return jaroSim;
-        }
-
-
-        int prefixLength = 0;
-        int maxPrefixLength = Math.min(Math.min(s1.length(), s2.length()), 4); // Max prefix is 4
-        for (int i = 0; i < maxPrefixLength; i++) {
-            if (s1.charAt(i) == s2.charAt(i)) prefixLength++;
-            else break;
-        }
-
-        double result = jaroSim + (prefixLength * 0.1 * (1.0 - jaroSim));
-        result = Math.min(result, 1.0); // Ensure result does not exceed 1.0
-
-
-        synchronized (SIMILARITY_CACHE) {
-            Map<String, Double> resultMap = new HashMap<>();
-            resultMap.put("similarity", result);
-            SIMILARITY_CACHE.put(cacheKey, resultMap);
-        }
-
-        return result;
-    }
-
     private static int checkCommonSubstrings(String s1, String s2) {
         int minSubstringLength = 3;
         int maxSubstringLengthConsidered = 7; // Don't look for overly long common substrings
@@ -570,79 +487,7 @@ public class BankTabSorterScript extends Script {
     }
 
     private List<BankSortItem> applySimilarityClustering(List<BankSortItem> items) {
-        if (items.size() <= 1) {
-            return items;
-        }
-
-        final double SIMILARITY_THRESHOLD = 0.95;
-        final int MAX_CLUSTER_SIZE = 30; // Example, adjust as needed
-
-        List<BankSortItem> specialItems = new ArrayList<>();
-        List<BankSortItem> regularItems = new ArrayList<>();
-
-        for (BankSortItem item : items) {
-            if (item.getItemSetType() != null || item.getItemTier() != null) {
-                specialItems.add(item);
-            } else {
-                regularItems.add(item);
-            }
-        }
-
-        List<SimilarityCluster> clusters = new ArrayList<>();
-        if (!regularItems.isEmpty()) {
-            // Sort regular items alphabetically first to make clustering more deterministic/stable
-            regularItems.sort(Comparator.comparing(BankSortItem::getProcessedName));
-            clusters.add(new SimilarityCluster(regularItems.get(0), SIMILARITY_THRESHOLD));
-        }
-
-        for (int i = 1; i < regularItems.size(); i++) {
-            BankSortItem item = regularItems.get(i);
-            SimilarityCluster bestCluster = null;
-            double bestSimilarity = 0.0; // Must be > SIMILARITY_THRESHOLD to be considered
-
-            for (SimilarityCluster cluster : clusters) {
-                if (cluster.getItems().size() >= MAX_CLUSTER_SIZE) {
-                    continue;
-                }
-                // Check if item can be added based on centroid similarity first
-                if (cluster.canAddItem(item)) {
-                    double similarity = cluster.getMaxSimilarityWithItem(item); // More precise check
-                    if (similarity > bestSimilarity) { // No need to check > SIMILARITY_THRESHOLD again if canAddItem was true based on it.
-                        bestSimilarity = similarity;
-                        bestCluster = cluster;
-                    }
-                }
-            }
-
-            if (bestCluster != null) {
-                bestCluster.addItem(item);
-            } else {
-                clusters.add(new SimilarityCluster(item, SIMILARITY_THRESHOLD));
-            }
-        }
-
-        for (BankSortItem specialItem : specialItems) {
-            clusters.add(new SimilarityCluster(specialItem, SIMILARITY_THRESHOLD)); // Effectively a cluster of one
-        }
-
-
-        mergeSimilarClusters(clusters, SIMILARITY_THRESHOLD + 0.05); // Slightly higher threshold for merging clusters
-
-        for (SimilarityCluster cluster : clusters) {
-            cluster.getItems().sort(Comparator.comparing(BankSortItem::getBaseName)
-                    .thenComparing((i) -> i.getDoseOrCharge() != -1 ? -i.getDoseOrCharge() : Integer.MAX_VALUE) // Sort no-dose last
-                    .thenComparing(BankSortItem::getProcessedName)); // Final tie-breaker
-        }
-
-        // Sort clusters by their first item's representative name or category
-        clusters.sort(Comparator.comparing(cluster -> cluster.getItems().get(0).getBaseName()));
-
-        List<BankSortItem> sortedOutputItems = new ArrayList<>();
-        for (SimilarityCluster cluster : clusters) {
-            sortedOutputItems.addAll(cluster.getItems());
-        }
-
-        return sortedOutputItems;
+        return SimilarityClusteringEngine.cluster(items);
     }
 
     private void sortSpecialCategory(List<BankSortItem> items, String category) {
@@ -819,115 +664,129 @@ public class BankTabSorterScript extends Script {
             return;
         }
         Microbot.log("Rearranging " + sortedItems.size() + " items in bank tab starting at absolute index " + tabAbsoluteStartIndex);
-        boolean[] slotCorrect = new boolean[sortedItems.size()];
 
-        for (int i = 0; i < sortedItems.size(); i++) {
-            if (!isRunning()) {
-                Microbot.log("Script shutdown requested during rearrangement.");
+        int size = sortedItems.size();
+        for (BankSortItem item : sortedItems) {
+            size = Math.max(size, item.getOriginalIndex() - tabAbsoluteStartIndex + 1);
+        }
+        int[] sortedItemIds = sortedItems.stream().mapToInt(BankSortItem::getId).toArray();
+        BankRearrangePlanner.Mode mode = BankRearrangePlanner.Mode.fromVarbit(Microbot.getVarbitValue(Varbits.BANK_REARRANGE_MODE));
+
+        int movesPerformed = 0;
+        int plans = 0;
+        replan:
+        while (true) {
+            if (plans++ > MAX_REPLANS) {
+                Microbot.log("Bank tab kept changing during rearrangement. Please run the sorter again.");
                 break;
             }
-            if (!Rs2Bank.isOpen()) {
-                Microbot.log("Bank closed during rearrangement. Stopping.");
+
+            // Plan from the item ids shown right now, not from the snapshot the sort was computed on
+            int[] slotItemIds = readSlotItemIds(tabAbsoluteStartIndex, size);
+            int[] destinationBySlot = slotItemIds == null ? null : buildDestinationLayout(sortedItemIds, slotItemIds);
+            if (destinationBySlot == null) {
+                Microbot.log("CRITICAL: Current tab layout does not match the item list. Please run the sorter again.");
                 break;
             }
-            if (slotCorrect[i]) continue;
-
-            BankSortItem desiredItemForThisSlot = sortedItems.get(i);
-            int targetSlotAbsolute = tabAbsoluteStartIndex + i;
 
-            Widget widgetCurrentlyInTargetSlot = Rs2Bank.getItemWidget(targetSlotAbsolute);
-            if (widgetCurrentlyInTargetSlot != null && widgetCurrentlyInTargetSlot.getItemId() == desiredItemForThisSlot.getId()) {
-                slotCorrect[i] = true;
-                continue;
+            List<BankRearrangePlanner.Move> moves = BankRearrangePlanner.plan(destinationBySlot, mode);
+            if (!BankRearrangePlanner.isSorted(BankRearrangePlanner.simulate(destinationBySlot, moves, mode))) {
+                Microbot.log("CRITICAL: Planned moves do not produce the sorted layout. Aborting rearrangement.");
+                break;
             }
+            Microbot.log("Planned " + moves.size() + " moves in " + mode + " mode for " + sortedItems.size() + " items.");
 
-            Widget sourceWidget = findWidgetToMove(desiredItemForThisSlot, sortedItems, tabAbsoluteStartIndex, slotCorrect, i);
-            if (sourceWidget == null) {
-                Microbot.log("CRITICAL: Could not find source widget for '" + desiredItemForThisSlot.getProcessedName() +
-                        "' (ID: " + desiredItemForThisSlot.getId() + ", OrigIdx: " + desiredItemForThisSlot.getOriginalIndex() +
-                        ") to move to target slot " + targetSlotAbsolute + ". Skipping this item.");
-                slotCorrect[i] = true;
-                continue;
-            }
+            for (BankRearrangePlanner.Move move : moves) {
+                if (!isRunning()) {
+                    Microbot.log("Script shutdown requested during rearrangement.");
+                    break replan;
+                }
+                if (!Rs2Bank.isOpen()) {
+                    Microbot.log("Bank closed during rearrangement. Stopping.");
+                    break replan;
+                }
 
-            int sourceSlotAbsolute = sourceWidget.getIndex();
-            if (sourceSlotAbsolute == targetSlotAbsolute) {
-                slotCorrect[i] = true;
-                continue;
-            }
+                int sourceSlotAbsolute = tabAbsoluteStartIndex + move.getFromSlot();
+                int targetSlotAbsolute = tabAbsoluteStartIndex + move.getToSlot();
+                Widget sourceWidget = Rs2Bank.getItemWidget(sourceSlotAbsolute);
+                Widget targetSlotWidget = Rs2Bank.getItemWidget(targetSlotAbsolute);
+                if (sourceWidget == null || targetSlotWidget == null) {
+                    Microbot.log("CRITICAL: Could not get widget for slot " + (sourceWidget == null ? sourceSlotAbsolute : targetSlotAbsolute) + ". Stopping rearrangement.");
+                    break replan;
+                }
 
-            Microbot.log("Moving '" + desiredItemForThisSlot.getProcessedName() + "' from slot " + sourceSlotAbsolute + " to slot " + targetSlotAbsolute);
-            Point sourcePoint = calculateWidgetClickPoint(sourceWidget);
+                // A dropped drag, lag or the player can move items between two drags; never drag the wrong item
+                if (sourceWidget.getItemId() != slotItemIds[move.getFromSlot()]
+                        || targetSlotWidget.getItemId() != slotItemIds[move.getToSlot()]) {
+                    Microbot.log("Slot " + sourceSlotAbsolute + " or " + targetSlotAbsolute + " no longer holds the planned item. Re-planning.");
+                    continue replan;
+                }
 
-            // Get the widget for the target slot (it could be an item, placeholder, or empty slot representation)
-            Widget targetSlotWidget = Rs2Bank.getItemWidget(targetSlotAbsolute);
-            Point targetPoint;
+                Point sourcePoint = calculateWidgetClickPoint(sourceWidget);
+                Point targetPoint = calculateWidgetClickPoint(targetSlotWidget);
+                if (sourcePoint.equals(new Point(-1, -1)) || targetPoint.equals(new Point(-1, -1))) {
+                    Microbot.log("Invalid source or target point for drag operation. Source: " + sourcePoint + ", Target: " + targetPoint + ". Stopping rearrangement.");
+                    break replan;
+                }
 
-            if (targetSlotWidget == null) {
-                // This implies Rs2Bank.getItemWidget(targetSlotAbsolute) couldn't find a widget for this slot.
-                // This is a problem, as we need a target UI element to drag to.
-                Microbot.log("CRITICAL: Could not get widget for target slot " + targetSlotAbsolute + ". Skipping move for item '" + desiredItemForThisSlot.getProcessedName() + "'.");
-                slotCorrect[i] = true; // Cannot proceed with this move
-                continue;
+                diagnostics.log("move", () -> "Moving slot " + sourceSlotAbsolute + " to slot " + targetSlotAbsolute);
+                Microbot.getMouse().drag(sourcePoint, targetPoint);
+                sleep(Rs2Random.between(350, 500));
+                BankRearrangePlanner.applyMove(slotItemIds, move, mode);
+                movesPerformed++;
             }
-            targetPoint = calculateWidgetClickPoint(targetSlotWidget);
-
+            break;
+        }
+        Microbot.log("Item rearrangement finished after " + movesPerformed + " moves.");
+    }
 
-            if (sourcePoint.equals(new Point(-1, -1)) || targetPoint.equals(new Point(-1, -1))) {
-                Microbot.log("Invalid source or target point for drag operation. Source: " + sourcePoint + ", Target: " + targetPoint + ". Skipping move for item '" + desiredItemForThisSlot.getProcessedName() + "' to slot " + targetSlotAbsolute);
-                slotCorrect[i] = true;
-                continue;
-            }
-            if (sourcePoint.equals(targetPoint)) {
-                Microbot.log("Source and target points are identical for item '" + desiredItemForThisSlot.getProcessedName() + "' (Slot " + sourceSlotAbsolute + " to " + targetSlotAbsolute + "). Skipping move to prevent issues.");
-                slotCorrect[i] = true; // Mark as handled if source and target are same slot effectively
-                continue;
+    /**
+     * @return the item id shown in each of the {@code size} slots from the tab start, or null if a slot widget is missing
+     */
+    private int[] readSlotItemIds(int tabAbsoluteStartIndex, int size) {
+        int[] slotItemIds = new int[size];
+        for (int slot = 0; slot < size; slot++) {
+            Widget widget = Rs2Bank.getItemWidget(tabAbsoluteStartIndex + slot);
+            if (widget == null) {
+                return null;
             }
-
-            Microbot.getMouse().drag(sourcePoint, targetPoint);
-            sleep(Rs2Random.between(350, 500));
-            slotCorrect[i] = true;
+            slotItemIds[slot] = widget.getItemId();
         }
-        Microbot.log("Item rearrangement loop finished.");
+        return slotItemIds;
     }
 
-    private Widget findWidgetToMove(BankSortItem itemToPlace, List<BankSortItem> sortedItems,
-                                    int tabAbsoluteStartIndex, boolean[] slotCorrectStatus, int currentTargetSlotRelative) {
-        List<Widget> currentBankItemWidgets = Rs2Bank.getItems(); // Get fresh list of items
-        if (currentBankItemWidgets == null) return null;
-
-        // We are looking for the specific BankSortItem instance (itemToPlace)
-        // Its ID is itemToPlace.getId() and its originalIndex is itemToPlace.getOriginalIndex()
-
-        Widget candidateWidget = null;
-
-        for (Widget widget : currentBankItemWidgets) {
-            if (widget.getItemId() == itemToPlace.getId()) {
-                int widgetCurrentSlotAbsolute = widget.getIndex();
-                int widgetCurrentSlotRelative = widgetCurrentSlotAbsolute - tabAbsoluteStartIndex;
+    /**
+     * Builds the planner model of the tab: for every slot relative to the tab start, the slot its item has to end up in.
+     * Slots within the model that hold no sortable item (e.g. placeholders) are sent to the slots left over after
+     * the sorted items.
+     *
+     * @param sortedItemIds item ids in their target order
+     * @param slotItemIds   item ids currently shown in each slot relative to the tab start
+     * @return the destination layout, or null if a sorted item is no longer in the tab
+     */
+    private static int[] buildDestinationLayout(int[] sortedItemIds, int[] slotItemIds) {
+        Map<Integer, Deque<Integer>> slotsByItemId = new HashMap<>();
+        for (int slot = 0; slot < slotItemIds.length; slot++) {
+            slotsByItemId.computeIfAbsent(slotItemIds[slot], id -> new ArrayDeque<>()).add(slot);
+        }
 
-                // Is this widget already in its final, correct sorted position?
-                boolean isWidgetInFinalCorrectPlace = false;
-                if (widgetCurrentSlotRelative >= 0 && widgetCurrentSlotRelative < sortedItems.size()) {
-                    if (slotCorrectStatus[widgetCurrentSlotRelative] && sortedItems.get(widgetCurrentSlotRelative).getId() == widget.getItemId()) {
-                        if (sortedItems.get(widgetCurrentSlotRelative) == itemToPlace) { // Comparing object reference
-                            isWidgetInFinalCorrectPlace = true;
-                        }
-                    }
-                }
+        int[] destinationBySlot = new int[slotItemIds.length];
+        Arrays.fill(destinationBySlot, -1);
+        for (int target = 0; target < sortedItemIds.length; target++) {
+            Deque<Integer> slots = slotsByItemId.get(sortedItemIds[target]);
+            if (slots == null || slots.isEmpty()) {
+                return null;
+            }
+            destinationBySlot[slots.poll()] = target;
+        }
 
-                if (!isWidgetInFinalCorrectPlace) {
-                    if (widget.getIndex() == itemToPlace.getOriginalIndex()) {
-                        return widget; // Best candidate: the item at its original starting position.
-                    }
-                    if (candidateWidget == null) {
-                        candidateWidget = widget; // First available candidate.
-                    }
-                }
+        int nextFillerDestination = sortedItemIds.length;
+        for (int slot = 0; slot < destinationBySlot.length; slot++) {
+            if (destinationBySlot[slot] == -1) {
+                destinationBySlot[slot] = nextFillerDestination++;
             }
         }
-        // If no "ideal" candidate (like the one from originalIndex) was found and returned, return any found candidate.
-        return candidateWidget;
+        return destinationBySlot;
     }
 
     private Point calculateWidgetClickPoint(Widget widget) {
@@ -1006,56 +865,10 @@ public class BankTabSorterScript extends Script {
         return nameA.compareTo(nameB);
     }
 
-    private void mergeSimilarClusters(List<SimilarityCluster> clusters, double similarityThreshold) {
-        if (clusters.size() <= 1) return;
-        boolean merged;
-        do {
-            merged = false;
-            for (int i = 0; i < clusters.size(); i++) { // Iterate with index for removal
-                SimilarityCluster cluster1 = clusters.get(i);
-                if (cluster1.getItems().isEmpty()) continue; // Should not happen
-
-                for (int j = i + 1; j < clusters.size(); j++) {
-                    SimilarityCluster cluster2 = clusters.get(j);
-                    if (cluster2.getItems().isEmpty()) continue;
-
-                    double clusterSimilarity = getClusterSimilarity(cluster1, cluster2);
-
-                    if (clusterSimilarity > similarityThreshold) {
-                        // Merge cluster2 into cluster1
-                        cluster1.getItems().addAll(cluster2.getItems()); // Simplistic merge, might need centroid update
-                        clusters.remove(j); // Remove cluster2
-                        j--; // Adjust index after removal
-                        merged = true;
-                    }
-                }
-            }
-        } while (merged);
-    }
-
-    private double getClusterSimilarity(SimilarityCluster cluster1, SimilarityCluster cluster2) {
-        // Using centroid names for similarity
-        String centroidBase1 = cluster1.centroidBaseName;
-        String centroidBase2 = cluster2.centroidBaseName;
-        String centroidProc1 = cluster1.centroidProcessedName;
-        String centroidProc2 = cluster2.centroidProcessedName;
-
-        double baseNameSimilarity = jaroWinklerSimilarity(centroidBase1, centroidBase2);
-        double processedNameSimilarity = jaroWinklerSimilarity(centroidProc1, centroidProc2);
-
-        // Consider category match as a strong indicator for merging
-        // (Assuming first items are representative of category)
-        String category1 = cluster1.getItems().get(0).getCategory();
-        String category2 = cluster2.getItems().get(0).getCategory();
-        double categoryBoost = category1.equals(category2) ? 0.15 : 0.0;
-
-        return Math.min(1.0, Math.max(baseNameSimilarity, processedNameSimilarity) + categoryBoost);
-    }
-
     @Getter
     @EqualsAndHashCode(onlyExplicitlyIncluded = true)
     @ToString(onlyExplicitlyIncluded = true)
-    private static class BankSortItem {
+    static class BankSortItem {
         @EqualsAndHashCode.Include
         @ToString.Include
         private final int id;
@@ -1213,143 +1026,4 @@ public class BankTabSorterScript extends Script {
             return null;
         }
     }
-
-    private static class SimilarityCluster {
-        private final List<BankSortItem> items;
-        private final Map<String, Double> centroidSimilarities;
-        private final double similarityThreshold;
-        private final String centroidProcessedName;
-        private final String centroidBaseName;
-
-        public SimilarityCluster(BankSortItem initialItem, double threshold) {
-            this.items = new ArrayList<>();
-            this.items.add(initialItem);
-            this.centroidBaseName = initialItem.getBaseName();
-            this.centroidProcessedName = initialItem.getProcessedName();
-            this.centroidSimilarities = new HashMap<>();
-            this.similarityThreshold = threshold;
-        }
-
-        public boolean canAddItem(BankSortItem item) {
-            // Special items with set types or tiers should be in their own clusters
-            if (item.getItemSetType() != null || item.getItemTier() != null) {
-                return false;
-            }
-
-            // For potions, teleportation items and other items with charges/doses,
-            // consider items of the same base name to be similar regardless of dose
-            if (item.getDoseOrCharge() != -1 && item.getBaseName().equals(centroidBaseName)) {
-                return true;
-            }
-
-            // Check fuzzy similarity using various approaches
-
-            // 1. Full processed name similarity (includes numbers, etc.)
-            String itemKey = item.getProcessedName();
-            double processedNameSimilarity = centroidSimilarities.computeIfAbsent(
-                    "proc:" + itemKey,
-                    k -> jaroWinklerSimilarity(centroidProcessedName, itemKey));
-
-            // 2. Base name similarity (without numbers)
-            double baseNameSimilarity = centroidSimilarities.computeIfAbsent(
-                    "base:" + item.getBaseName(),
-                    k -> jaroWinklerSimilarity(centroidBaseName, item.getBaseName()));
-
-            // 3. Word-by-word similarity for multi-word items
-            double wordSimilarity = getWordByWordSimilarity(centroidBaseName, item.getBaseName());
-
-            // 4. Check for common words or substrings
-            double commonWordSimilarity = getCommonWordSimilarity(centroidBaseName, item.getBaseName());
-
-            // Use the highest similarity score from all approaches
-            double maxSimilarity = Math.max(
-                    Math.max(processedNameSimilarity, baseNameSimilarity),
-                    Math.max(wordSimilarity, commonWordSimilarity)
-            );
-
-            return maxSimilarity > similarityThreshold;
-        }
-
-        private double getWordByWordSimilarity(String str1, String str2) {
-            String[] words1 = str1.split("\\s+");
-            String[] words2 = str2.split("\\s+");
-
-            // If either string has only one word, we've already checked whole string similarity
-            if (words1.length <= 1 || words2.length <= 1) {
-                return 0.0;
-            }
-
-            double maxWordSimilarity = 0.0;
-            int matchedWords = 0;
-
-            // Compare each word in str1 with each word in str2
-            for (String word1 : words1) {
-                if (word1.length() <= 2) continue; // Skip very short words
-
-                double bestMatch = 0.0;
-                for (String word2 : words2) {
-                    if (word2.length() <= 2) continue; // Skip very short words
-
-                    double similarity = jaroWinklerSimilarity(word1, word2);
-                    bestMatch = Math.max(bestMatch, similarity);
-                }
-
-                if (bestMatch > 0.95) { // High similarity threshold for individual words
-                    matchedWords++;
-                }
-                maxWordSimilarity = Math.max(maxWordSimilarity, bestMatch);
-            }
-
-            // If we have multiple matching words, boost the similarity
-            if (matchedWords >= 2) {
-                return Math.min(1.0, maxWordSimilarity + 0.15); // Boost but cap at 1.0
-            }
-
-            return maxWordSimilarity;
-        }
-
-        private double getCommonWordSimilarity(String str1, String str2) {
-            // Check for common words or important keywords
-            String[] commonKeywords = {"sword", "shield", "platebody", "platelegs", "robe", "top", "legs", "body",
-                    "helm", "granite", "dragon", "rune", "adamant", "mithril", "gold", "iron",
-                    "bronze", "potion", "teleport", "seeds", "herb"};
-
-            for (String keyword : commonKeywords) {
-                if (str1.contains(keyword) && str2.contains(keyword)) {
-                    // If they share an important keyword, boost similarity
-                    return 0.9; // Significant boost for sharing important keywords
-                }
-            }
-
-            return 0.0;
-        }
-
-        public void addItem(BankSortItem item) {
-            items.add(item);
-        }
-
-        public List<BankSortItem> getItems() {
-            return items;
-        }
-
-        // Get the highest similarity score between this item and any item in the cluster
-        public double getMaxSimilarityWithItem(BankSortItem item) {
-            double maxSimilarity = 0.0;
-            for (BankSortItem clusterItem : items) {
-                // Use the same fuzzy matching approach
-                double baseNameSimilarity = jaroWinklerSimilarity(clusterItem.getBaseName(), item.getBaseName());
-                double processedNameSimilarity = jaroWinklerSimilarity(clusterItem.getProcessedName(), item.getProcessedName());
-                double wordSimilarity = getWordByWordSimilarity(clusterItem.getBaseName(), item.getBaseName());
-                double commonWordSimilarity = getCommonWordSimilarity(clusterItem.getBaseName(), item.getBaseName());
-
-                double itemSimilarity = Math.max(
-                        Math.max(processedNameSimilarity, baseNameSimilarity),
-                        Math.max(wordSimilarity, commonWordSimilarity)
-                );
-
-                maxSimilarity = Math.max(maxSimilarity, itemSimilarity);
-            }
-            return maxSimilarity;
-        }
-    }
-}
\ No newline at end of file
+}
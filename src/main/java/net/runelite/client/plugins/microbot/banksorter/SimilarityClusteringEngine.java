@@ -0,0 +1,349 @@
+package net.runelite.client.plugins.microbot.banksorter;
+
+import net.runelite.client.plugins.microbot.banksorter.BankTabSorterScript.BankSortItem;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Groups bank items with fuzzy-similar names so they end up next to each other in the sorted tab.
+ * <p>
+ * Instead of comparing every item with every cluster, items are blocked by name prefix and word prefixes:
+ * an item is only scored against clusters whose centroid shares at least one block key.
+ * Jaro-Winkler scores are kept in a size-bounded LRU cache shared by all sorts.
+ */
+final class SimilarityClusteringEngine {
+
+    static final double SIMILARITY_THRESHOLD = 0.95;
+    static final int MAX_CLUSTER_SIZE = 30;
+
+    private static final int BLOCK_PREFIX_LENGTH = 3;
+    private static final int MAX_CACHED_SIMILARITIES = 20_000;
+
+    private static final String[] COMMON_KEYWORDS = {"sword", "shield", "platebody", "platelegs", "robe", "top", "legs", "body",
+            "helm", "granite", "dragon", "rune", "adamant", "mithril", "gold", "iron",
+            "bronze", "potion", "teleport", "seeds", "herb"};
+
+    private static final Map<String, Double> SIMILARITY_CACHE = Collections.synchronizedMap(
+            new LinkedHashMap<String, Double>(1024, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Double> eldest) {
+                    return size() > MAX_CACHED_SIMILARITIES;
+                }
+            });
+
+    private SimilarityClusteringEngine() {
+    }
+
+    /**
+     * Clusters the items of one category and returns them in cluster order.
+     * Items with a set type or tier are never clustered and stay as clusters of one.
+     */
+    static List<BankSortItem> cluster(List<BankSortItem> items) {
+        if (items.size() <= 1) {
+            return items;
+        }
+
+        List<BankSortItem> specialItems = new ArrayList<>();
+        List<BankSortItem> regularItems = new ArrayList<>();
+        for (BankSortItem item : items) {
+            if (item.getItemSetType() != null || item.getItemTier() != null) {
+                specialItems.add(item);
+            } else {
+                regularItems.add(item);
+            }
+        }
+
+        // Sort regular items alphabetically first to make clustering more deterministic/stable
+        regularItems.sort(Comparator.comparing(BankSortItem::getProcessedName));
+
+        List<SimilarityCluster> clusters = new ArrayList<>();
+        Map<String, List<SimilarityCluster>> blockIndex = new HashMap<>();
+        for (BankSortItem item : regularItems) {
+            SimilarityCluster bestCluster = null;
+            double bestSimilarity = 0.0;
+
+            for (SimilarityCluster cluster : candidates(blockIndex, item.getBaseName())) {
+                if (cluster.getItems().size() >= MAX_CLUSTER_SIZE || !cluster.canAddItem(item)) {
+                    continue;
+                }
+                double similarity = cluster.getMaxSimilarityWithItem(item);
+                if (similarity > bestSimilarity) {
+                    bestSimilarity = similarity;
+                    bestCluster = cluster;
+                }
+            }
+
+            if (bestCluster != null) {
+                bestCluster.addItem(item);
+            } else {
+                SimilarityCluster cluster = new SimilarityCluster(item, clusters.size());
+                clusters.add(cluster);
+                index(blockIndex, cluster);
+            }
+        }
+
+        for (BankSortItem specialItem : specialItems) {
+            clusters.add(new SimilarityCluster(specialItem, clusters.size())); // Effectively a cluster of one
+        }
+
+        for (SimilarityCluster cluster : clusters) {
+            cluster.getItems().sort(Comparator.comparing(BankSortItem::getBaseName)
+                    .thenComparing((i) -> i.getDoseOrCharge() != -1 ? -i.getDoseOrCharge() : Integer.MAX_VALUE) // Sort no-dose last
+                    .thenComparing(BankSortItem::getProcessedName)); // Final tie-breaker
+        }
+
+        // Sort clusters by their first item's representative name
+        clusters.sort(Comparator.comparing(cluster -> cluster.getItems().get(0).getBaseName()));
+
+        List<BankSortItem> sortedOutputItems = new ArrayList<>(items.size());
+        for (SimilarityCluster cluster : clusters) {
+            sortedOutputItems.addAll(cluster.getItems());
+        }
+        return sortedOutputItems;
+    }
+
+    /**
+     * Block keys of a name: its leading characters plus the leading characters of every word longer than two
+     * characters. Names that share no key are never compared.
+     */
+    private static Set<String> blockKeys(String name) {
+        Set<String> keys = new LinkedHashSet<>();
+        keys.add("n:" + prefix(name));
+        for (String word : name.split("\\s+")) {
+            if (word.length() > 2) {
+                keys.add("w:" + prefix(word));
+            }
+        }
+        return keys;
+    }
+
+    private static String prefix(String value) {
+        return value.length() <= BLOCK_PREFIX_LENGTH ? value : value.substring(0, BLOCK_PREFIX_LENGTH);
+    }
+
+    private static void index(Map<String, List<SimilarityCluster>> blockIndex, SimilarityCluster cluster) {
+        for (String key : blockKeys(cluster.centroidBaseName)) {
+            blockIndex.computeIfAbsent(key, k -> new ArrayList<>()).add(cluster);
+        }
+    }
+
+    /**
+     * Clusters sharing a block key with the name, in creation order so that ties go to the earliest cluster.
+     */
+    private static Set<SimilarityCluster> candidates(Map<String, List<SimilarityCluster>> blockIndex, String name) {
+        Set<SimilarityCluster> candidates = new TreeSet<>(Comparator.comparingInt(cluster -> cluster.order));
+        for (String key : blockKeys(name)) {
+            List<SimilarityCluster> block = blockIndex.get(key);
+            if (block != null) {
+                candidates.addAll(block);
+            }
+        }
+        return candidates;
+    }
+
+    static double jaroSimilarity(String s1, String s2) {
+        if (s1 == null || s2 == null) return 0.0; // Null check
+        if (s1.equals(s2)) return 1.0;
+        int len1 = s1.length(), len2 = s2.length();
+        if (len1 == 0 || len2 == 0) return 0.0;
+
+        int matchDistance = Math.max(len1, len2) / 2 - 1;
+        if (matchDistance < 0) matchDistance = 0; // Ensure non-negative
+
+        boolean[] s1Matches = new boolean[len1];
+        boolean[] s2Matches = new boolean[len2];
+        int matches = 0;
+        for (int i = 0; i < len1; i++) {
+            int start = Math.max(0, i - matchDistance);
+            int end = Math.min(i + matchDistance + 1, len2);
+            for (int j = start; j < end; j++) {
+                if (s2Matches[j] || s1.charAt(i) != s2.charAt(j)) continue;
+                s1Matches[i] = true;
+                s2Matches[j] = true;
+                matches++;
+                break;
+            }
+        }
+        if (matches == 0) return 0.0;
+
+        double t = 0; // Transpositions
+        int k = 0;
+        for (int i = 0; i < len1; i++) {
+            if (!s1Matches[i]) continue;
+            while (k < len2 && !s2Matches[k]) k++; // Ensure k advances only up to len2
+            if (k < len2 && s1.charAt(i) != s2.charAt(k++)) t++; // Check k < len2 before charAt
+        }
+        t /= 2.0;
+        return ((double) matches / len1 + (double) matches / len2 + (matches - t) / matches) / 3.0;
+    }
+
+    static double jaroWinklerSimilarity(String s1, String s2) {
+        if (s1 == null || s2 == null) return 0.0;
+        if (s1.equals(s2)) return 1.0; // Handles case where both are empty too
+        if (s1.isEmpty() || s2.isEmpty()) return 0.0;
+
+        s1 = s1.toLowerCase().trim(); // Normalize
+        s2 = s2.toLowerCase().trim();
+        if (s1.equals(s2)) return 1.0; // Check again after normalization
+
+        String cacheKey = s1.compareTo(s2) < 0 ? s1 + "|" + s2 : s2 + "|" + s1; // Canonical key
+        Double cached = SIMILARITY_CACHE.get(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+
+        double result = jaroSimilarity(s1, s2);
+        if (result >= 0.7) { // Winkler adjustment is less impactful for low Jaro scores
+            int prefixLength = 0;
+            int maxPrefixLength = Math.min(Math.min(s1.length(), s2.length()), 4); // Max prefix is 4
+            for (int i = 0; i < maxPrefixLength; i++) {
+                if (s1.charAt(i) == s2.charAt(i)) prefixLength++;
+                else break;
+            }
+            result = Math.min(result + (prefixLength * 0.1 * (1.0 - result)), 1.0);
+        }
+
+        SIMILARITY_CACHE.put(cacheKey, result);
+        return result;
+    }
+
+    private static final class SimilarityCluster {
+        private final int order;
+        private final List<BankSortItem> items;
+        private final Map<String, Double> centroidSimilarities;
+        private final String centroidProcessedName;
+        private final String centroidBaseName;
+
+        SimilarityCluster(BankSortItem initialItem, int order) {
+            this.order = order;
+            this.items = new ArrayList<>();
+            this.items.add(initialItem);
+            this.centroidBaseName = initialItem.getBaseName();
+            this.centroidProcessedName = initialItem.getProcessedName();
+            this.centroidSimilarities = new HashMap<>();
+        }
+
+        boolean canAddItem(BankSortItem item) {
+            // Special items with set types or tiers should be in their own clusters
+            if (item.getItemSetType() != null || item.getItemTier() != null) {
+                return false;
+            }
+
+            // For potions, teleportation items and other items with charges/doses,
+            // consider items of the same base name to be similar regardless of dose
+            if (item.getDoseOrCharge() != -1 && item.getBaseName().equals(centroidBaseName)) {
+                return true;
+            }
+
+            // 1. Full processed name similarity (includes numbers, etc.)
+            String itemKey = item.getProcessedName();
+            double processedNameSimilarity = centroidSimilarities.computeIfAbsent(
+                    "proc:" + itemKey,
+                    k -> jaroWinklerSimilarity(centroidProcessedName, itemKey));
+
+            // 2. Base name similarity (without numbers)
+            double baseNameSimilarity = centroidSimilarities.computeIfAbsent(
+                    "base:" + item.getBaseName(),
+                    k -> jaroWinklerSimilarity(centroidBaseName, item.getBaseName()));
+
+            // 3. Word-by-word similarity for multi-word items
+            double wordSimilarity = getWordByWordSimilarity(centroidBaseName, item.getBaseName());
+
+            // 4. Check for common words or substrings
+            double commonWordSimilarity = getCommonWordSimilarity(centroidBaseName, item.getBaseName());
+
+            // Use the highest similarity score from all approaches
+            double maxSimilarity = Math.max(
+                    Math.max(processedNameSimilarity, baseNameSimilarity),
+                    Math.max(wordSimilarity, commonWordSimilarity)
+            );
+
+            return maxSimilarity > SIMILARITY_THRESHOLD;
+        }
+
+        void addItem(BankSortItem item) {
+            items.add(item);
+        }
+
+        List<BankSortItem> getItems() {
+            return items;
+        }
+
+        // Get the highest similarity score between this item and any item in the cluster
+        double getMaxSimilarityWithItem(BankSortItem item) {
+            double maxSimilarity = 0.0;
+            for (BankSortItem clusterItem : items) {
+                double baseNameSimilarity = jaroWinklerSimilarity(clusterItem.getBaseName(), item.getBaseName());
+                double processedNameSimilarity = jaroWinklerSimilarity(clusterItem.getProcessedName(), item.getProcessedName());
+                double wordSimilarity = getWordByWordSimilarity(clusterItem.getBaseName(), item.getBaseName());
+                double commonWordSimilarity = getCommonWordSimilarity(clusterItem.getBaseName(), item.getBaseName());
+
+                double itemSimilarity = Math.max(
+                        Math.max(processedNameSimilarity, baseNameSimilarity),
+                        Math.max(wordSimilarity, commonWordSimilarity)
+                );
+
+                maxSimilarity = Math.max(maxSimilarity, itemSimilarity);
+            }
+            return maxSimilarity;
+        }
+
+        private static double getWordByWordSimilarity(String str1, String str2) {
+            String[] words1 = str1.split("\\s+");
+            String[] words2 = str2.split("\\s+");
+
+            // If either string has only one word, we've already checked whole string similarity
+            if (words1.length <= 1 || words2.length <= 1) {
+                return 0.0;
+            }
+
+            double maxWordSimilarity = 0.0;
+            int matchedWords = 0;
+
+            // Compare each word in str1 with each word in str2
+            for (String word1 : words1) {
+                if (word1.length() <= 2) continue; // Skip very short words
+
+                double bestMatch = 0.0;
+                for (String word2 : words2) {
+                    if (word2.length() <= 2) continue; // Skip very short words
+
+                    double similarity = jaroWinklerSimilarity(word1, word2);
+                    bestMatch = Math.max(bestMatch, similarity);
+                }
+
+                if (bestMatch > 0.95) { // High similarity threshold for individual words
+                    matchedWords++;
+                }
+                maxWordSimilarity = Math.max(maxWordSimilarity, bestMatch);
+            }
+
+            // If we have multiple matching words, boost the similarity
+            if (matchedWords >= 2) {
+                return Math.min(1.0, maxWordSimilarity + 0.15); // Boost but cap at 1.0
+            }
+
+            return maxWordSimilarity;
+        }
+
+        private static double getCommonWordSimilarity(String str1, String str2) {
+            for (String keyword : COMMON_KEYWORDS) {
+                if (str1.contains(keyword) && str2.contains(keyword)) {
+                    // If they share an important keyword, boost similarity
+                    return 0.9; // Significant boost for sharing important keywords
+                }
+            }
+
+            return 0.0;
+        }
+    }
+}
@@ -11,6 +11,8 @@ import net.runelite.client.ui.overlay.components.LineComponent;
 
 import javax.inject.Inject;
 import java.awt.*;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Setter
 @Slf4j
@@ -18,6 +20,7 @@ public class ClueSolverOverlay extends OverlayPanel {
 
     @Setter
     private String currentTaskStatus = "Idle";  // Default message
+    private final Map<ClueStage, Long> stageLatencies = new ConcurrentHashMap<>();  // Latest clue step, in ms
     public final ButtonComponent myButton;
 
     @Inject
@@ -52,6 +55,22 @@ public class ClueSolverOverlay extends OverlayPanel {
         setCurrentTaskStatus(status);
     }
 
+    /**
+     * Records how long a stage of the current clue step took.
+     * @param stage The finished stage.
+     * @param millis The time the stage took, in milliseconds.
+     */
+    public void updateStageLatency(ClueStage stage, long millis) {
+        stageLatencies.put(stage, millis);
+    }
+
+    /**
+     * Clears the stage latencies when a new clue step starts.
+     */
+    public void resetStageLatencies() {
+        stageLatencies.clear();
+    }
+
     @Override
     public Dimension render(Graphics2D graphics) {
         try {
@@ -67,6 +86,16 @@ public class ClueSolverOverlay extends OverlayPanel {
                     .right("Status: " + currentTaskStatus)
                     .build());
 
+            for (ClueStage stage : ClueStage.values()) {
+                Long millis = stageLatencies.get(stage);
+                if (millis != null) {
+                    panelComponent.getChildren().add(LineComponent.builder()
+                            .left(stage.getDisplayName())
+                            .right(String.format("%.1fs", millis / 1000.0))
+                            .build());
+                }
+            }
+
             // Add the button to the overlay panel
             panelComponent.getChildren().add(myButton);
             // Placeholder for additional information (e.g., clue type, progress)
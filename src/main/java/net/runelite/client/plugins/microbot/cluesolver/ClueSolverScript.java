@@ -16,16 +16,25 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.*;
-import java.util.function.Supplier;
+import java.util.function.Function;
 
 @Slf4j
 public class ClueSolverScript extends Script {
-    private Future<?> currentTask;
-    private Future<?> itemRequirementsTask;
-    private ClueScroll currentClue;
+    private static final long REQUIREMENTS_TIMEOUT_MINUTES = 5;
+    private static final long CLUE_TASK_TIMEOUT_MINUTES = 15;
+    private static final long VERIFY_TIMEOUT_SECONDS = 10;
+
+    private volatile ClueScroll currentClue;
     private final ScheduledExecutorService executorService = Executors.newScheduledThreadPool(3);
 
+    // The clue step being solved. A new generation makes the stages of older steps stop at their next boundary.
+    private volatile CompletableFuture<Boolean> pipeline;
+    private volatile int pipelineGeneration;
+    private volatile ClueTask activeTask;
+    private volatile CompletableFuture<Boolean> verification;
+
     @Inject
     Client client;
     @Inject
@@ -37,26 +46,26 @@ public class ClueSolverScript extends Script {
     @Inject
     ClueSolverPlugin clueSolverPlugin;
 
-    // Factory map to link ClueScroll subclasses to ClueTask suppliers
-    private final Map<Class<? extends ClueScroll>, Supplier<ClueTask>> taskFactoryMap = new HashMap<>();
+    // Factory map to link ClueScroll subclasses to ClueTask factories
+    private final Map<Class<? extends ClueScroll>, Function<ClueScroll, ClueTask>> taskFactoryMap = new HashMap<>();
 
     public ClueSolverScript() {
         initializeTaskFactoryMap();
     }
 
     private void initializeTaskFactoryMap() {
-        taskFactoryMap.put(CoordinateClue.class, () -> new CoordinateClueTask(client, (CoordinateClue) currentClue, clueScrollPlugin, clueSolverPlugin, eventBus, executorService));
-        taskFactoryMap.put(EmoteClue.class, () -> new EmoteClueTask(client, (EmoteClue) currentClue, clueScrollPlugin, clueSolverPlugin, eventBus, executorService));
-        taskFactoryMap.put(CrypticClue.class, () -> new CrypticClueTask(client, (CrypticClue) currentClue, clueScrollPlugin, clueSolverPlugin, eventBus, executorService));
-        taskFactoryMap.put(MapClue.class, () -> new MapClueTask(client, (MapClue) currentClue, clueScrollPlugin, clueSolverPlugin, eventBus, executorService));
-        taskFactoryMap.put(FairyRingClue.class, () -> new FairyRingClueTask(client, (FairyRingClue) currentClue, clueScrollPlugin, clueSolverPlugin, eventBus, executorService));
-        taskFactoryMap.put(FaloTheBardClue.class, () -> new FaloTheBardClueTask(client, (FaloTheBardClue) currentClue, clueScrollPlugin, clueSolverPlugin, eventBus, executorService));
-        taskFactoryMap.put(MusicClue.class, () -> new MusicClueTask(client, (MusicClue) currentClue, clueScrollPlugin, clueSolverPlugin, eventBus, executorService));
-        taskFactoryMap.put(SkillChallengeClue.class, () -> new SkillChallengeClueTask(client, (SkillChallengeClue) currentClue, clueScrollPlugin, clueSolverPlugin, eventBus, executorService));
-        taskFactoryMap.put(AnagramClue.class, () -> new AnagramClueTask(client, (AnagramClue) currentClue, clueScrollPlugin, clueSolverPlugin, eventBus, executorService));
-        taskFactoryMap.put(ThreeStepCrypticClue.class, () -> new ThreeStepCrypticClueTask(client, (ThreeStepCrypticClue) currentClue, clueScrollPlugin, clueSolverPlugin, eventBus, executorService));
-        taskFactoryMap.put(HotColdClue.class, () -> new HotColdClueTask(client, (HotColdClue) currentClue, clueScrollPlugin, clueSolverPlugin, eventBus, executorService));
-        taskFactoryMap.put(CipherClue.class, () -> new CipherClueTask(client, (CipherClue) currentClue, clueScrollPlugin, clueSolverPlugin, eventBus, executorService));
+        taskFactoryMap.put(CoordinateClue.class, clue -> new CoordinateClueTask(client, (CoordinateClue) clue, clueScrollPlugin, clueSolverPlugin, eventBus, executorService));
+        taskFactoryMap.put(EmoteClue.class, clue -> new EmoteClueTask(client, (EmoteClue) clue, clueScrollPlugin, clueSolverPlugin, eventBus, executorService));
+        taskFactoryMap.put(CrypticClue.class, clue -> new CrypticClueTask(client, (CrypticClue) clue, clueScrollPlugin, clueSolverPlugin, eventBus, executorService));
+        taskFactoryMap.put(MapClue.class, clue -> new MapClueTask(client, (MapClue) clue, clueScrollPlugin, clueSolverPlugin, eventBus, executorService));
+        taskFactoryMap.put(FairyRingClue.class, clue -> new FairyRingClueTask(client, (FairyRingClue) clue, clueScrollPlugin, clueSolverPlugin, eventBus, executorService));
+        taskFactoryMap.put(FaloTheBardClue.class, clue -> new FaloTheBardClueTask(client, (FaloTheBardClue) clue, clueScrollPlugin, clueSolverPlugin, eventBus, executorService));
+        taskFactoryMap.put(MusicClue.class, clue -> new MusicClueTask(client, (MusicClue) clue, clueScrollPlugin, clueSolverPlugin, eventBus, executorService));
+        taskFactoryMap.put(SkillChallengeClue.class, clue -> new SkillChallengeClueTask(client, (SkillChallengeClue) clue, clueScrollPlugin, clueSolverPlugin, eventBus, executorService));
+        taskFactoryMap.put(AnagramClue.class, clue -> new AnagramClueTask(client, (AnagramClue) clue, clueScrollPlugin, clueSolverPlugin, eventBus, executorService));
+        taskFactoryMap.put(ThreeStepCrypticClue.class, clue -> new ThreeStepCrypticClueTask(client, (ThreeStepCrypticClue) clue, clueScrollPlugin, clueSolverPlugin, eventBus, executorService));
+        taskFactoryMap.put(HotColdClue.class, clue -> new HotColdClueTask(client, (HotColdClue) clue, clueScrollPlugin, clueSolverPlugin, eventBus, executorService));
+        taskFactoryMap.put(CipherClue.class, clue -> new CipherClueTask(client, (CipherClue) clue, clueScrollPlugin, clueSolverPlugin, eventBus, executorService));
     }
 
     public boolean start() {
@@ -80,40 +89,169 @@ public class ClueSolverScript extends Script {
         }
 
         ClueScroll clue = clueScrollPlugin.getClue();
+        CompletableFuture<Boolean> pendingVerification = verification;
+        if (pendingVerification != null && !Objects.equals(clue, currentClue)) {
+            // The solved clue was replaced by the next one, or the casket was opened
+            pendingVerification.complete(true);
+        }
+
         if (clue != null && !clue.equals(currentClue)) {
+            CompletableFuture<Boolean> running = pipeline;
+            if (running != null && !running.isDone()) {
+                log.info("Clue changed while the previous one was still being solved, cancelling it.");
+                cancelPipeline();
+            }
             currentClue = clue;
             overlay.updateTaskStatus("New Clue Detected: " + clue.getClass().getSimpleName());
             log.info("New Clue Detected: {}", clue.getClass().getSimpleName());
+            startPipeline(clue);
+        } else {
+            log.debug("No new clue detected or clue already being processed.");
+        }
+    }
 
-            List<ItemRequirement> requiredItems = determineRequiredItems(clue);
-            if (!requiredItems.isEmpty()) {
-                if (itemRequirementsTask != null && !itemRequirementsTask.isDone()) {
-                    log.warn("Previous item requirements task is still running, skipping this clue.");
-                    return;
-                }
-                RequirementHandlerTask requirementHandlerTask = new RequirementHandlerTask(client, requiredItems, eventBus, clueScrollPlugin, clueSolverPlugin, executorService);
+    /**
+     * Solves one clue step as composed stages: requirements, then travel and action (both run by the clue task,
+     * split by {@link ClueTask#markArrived()}), then verify. Each stage is completed by the task's own callbacks,
+     * a timeout, or {@link #processClues()}, so no executor thread waits on another stage.
+     */
+    private void startPipeline(ClueScroll clue) {
+        if (!taskFactoryMap.containsKey(clue.getClass())) {
+            log.warn("No task found for clue type: {}", clue.getClass().getSimpleName());
+            return;
+        }
 
-                CompletableFuture<Boolean> requirementFuture = new CompletableFuture<>();
-                requirementHandlerTask.setFuture(requirementFuture);
+        int generation = ++pipelineGeneration;
+        overlay.resetStageLatencies();
+        CompletableFuture<Boolean> run = fulfillRequirements(clue)
+                .thenCompose(met -> {
+                    if (generation != pipelineGeneration) {
+                        return CompletableFuture.completedFuture(false);
+                    }
+                    if (!met) {
+                        overlay.updateTaskStatus("Requirement fulfillment failed");
+                        return CompletableFuture.completedFuture(false);
+                    }
+                    overlay.updateTaskStatus("Starting clue task...");
+                    return runClueTask(clue);
+                })
+                .thenCompose(success -> success && generation == pipelineGeneration
+                        ? verify()
+                        : CompletableFuture.completedFuture(false));
+        pipeline = run;
+        run.whenComplete((result, ex) -> onPipelineComplete(run, result, ex));
+    }
 
-                requirementFuture.thenRun(this::onRequirementsMet)
-                        .exceptionally(ex -> {
-                            log.error("Failed to fulfill requirements", ex);
-                            overlay.updateTaskStatus("Requirement fulfillment failed");
-                            return null;
-                        });
+    private CompletableFuture<Boolean> fulfillRequirements(ClueScroll clue) {
+        List<ItemRequirement> requiredItems = determineRequiredItems(clue);
+        if (requiredItems.isEmpty()) {
+            return CompletableFuture.completedFuture(true);
+        }
 
-                if (!executorService.isShutdown()) {
-                   itemRequirementsTask = executorService.submit(requirementHandlerTask);
-                }
-            } else {
-                startClueTask(createClueTaskForClue(clue));
-            }
+        long start = System.currentTimeMillis();
+        RequirementHandlerTask requirementHandlerTask = new RequirementHandlerTask(client, requiredItems, eventBus, clueScrollPlugin, clueSolverPlugin, executorService);
+        return runTask(requirementHandlerTask, REQUIREMENTS_TIMEOUT_MINUTES, TimeUnit.MINUTES)
+                .whenComplete((met, ex) -> {
+                    overlay.updateStageLatency(ClueStage.REQUIREMENTS, System.currentTimeMillis() - start);
+                    if (ex != null) {
+                        log.error("Failed to fulfill requirements", ex);
+                    }
+                });
+    }
+
+    private CompletableFuture<Boolean> runClueTask(ClueScroll clue) {
+        ClueTask task = createClueTaskForClue(clue);
+        if (task == null) {
+            return CompletableFuture.completedFuture(false);
+        }
+
+        long start = System.currentTimeMillis();
+        task.getArrived().thenAccept(arrivedAt -> overlay.updateStageLatency(ClueStage.TRAVEL, arrivedAt - start));
+        return runTask(task, CLUE_TASK_TIMEOUT_MINUTES, TimeUnit.MINUTES)
+                .whenComplete((result, ex) -> {
+                    long end = System.currentTimeMillis();
+                    Long arrivedAt = task.getArrived().getNow(null);
+                    if (arrivedAt == null) {
+                        // Ended before arriving, so it never left the travel stage
+                        overlay.updateStageLatency(ClueStage.TRAVEL, end - start);
+                    } else {
+                        overlay.updateStageLatency(ClueStage.ACTION, end - arrivedAt);
+                    }
+                    overlay.updateTaskStatus("Clue Task completed: " + (ex == null && result ? "Success" : "Failed"));
+                });
+    }
+
+    /**
+     * Runs the task on the executor without waiting for it. The returned future is completed by the task itself,
+     * or exceptionally on timeout, in which case the task is cancelled.
+     */
+    private CompletableFuture<Boolean> runTask(ClueTask task, long timeout, TimeUnit unit) {
+        CompletableFuture<Boolean> future = new CompletableFuture<>();
+        task.setFuture(future);
+        activeTask = task;
+        executorService.execute(task);
+        return future.orTimeout(timeout, unit)
+                .whenComplete((result, ex) -> {
+                    if (ex != null) {
+                        task.cancel();
+                    }
+                });
+    }
+
+    /**
+     * Completes once {@link #processClues()} sees the solved clue replaced, or false after the timeout.
+     */
+    private CompletableFuture<Boolean> verify() {
+        overlay.updateTaskStatus("Verifying clue step...");
+        long start = System.currentTimeMillis();
+        CompletableFuture<Boolean> pendingVerification = new CompletableFuture<>();
+        verification = pendingVerification;
+        return pendingVerification.completeOnTimeout(false, VERIFY_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                .whenComplete((verified, ex) -> {
+                    overlay.updateStageLatency(ClueStage.VERIFY, System.currentTimeMillis() - start);
+                    if (ex == null && !verified) {
+                        log.warn("Clue step was not confirmed within {} seconds.", VERIFY_TIMEOUT_SECONDS);
+                    }
+                });
+    }
+
+    private void onPipelineComplete(CompletableFuture<Boolean> run, Boolean result, Throwable ex) {
+        if (run != pipeline) {
+            // Superseded by a newer clue step
+            return;
+        }
+        activeTask = null;
+        verification = null;
+
+        Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+        if (cause instanceof CancellationException) {
+            log.info("Clue step cancelled.");
+        } else if (cause != null) {
+            log.error("Error executing clue task", cause);
         } else {
-            log.debug("No new clue detected or clue already being processed.");
+            log.info("Clue step finished: {}", result ? "Success" : "Failed");
         }
+        resetCurrentClue();
     }
 
+    /**
+     * Stops the running clue step: the active task is cancelled and the stages after it are skipped.
+     */
+    private void cancelPipeline() {
+        pipelineGeneration++;
+        ClueTask task = activeTask;
+        if (task != null) {
+            task.cancel();
+        }
+        CompletableFuture<Boolean> pendingVerification = verification;
+        if (pendingVerification != null) {
+            pendingVerification.cancel(false);
+        }
+        CompletableFuture<Boolean> running = pipeline;
+        if (running != null) {
+            running.cancel(false);
+        }
+    }
 
     private List<ItemRequirement> determineRequiredItems(ClueScroll clue) {
         List<ItemRequirement> requiredItems = new ArrayList<>();
@@ -146,39 +284,8 @@ public class ClueSolverScript extends Script {
     }
 
     private ClueTask createClueTaskForClue(ClueScroll clue) {
-        Supplier<ClueTask> taskSupplier = taskFactoryMap.get(clue.getClass());
-        return (taskSupplier != null) ? taskSupplier.get() : null;
-    }
-
-    private void onRequirementsMet() {
-        if (currentClue != null) {
-            overlay.updateTaskStatus("Starting clue task...");
-            startClueTask(createClueTaskForClue(currentClue));
-        }
-    }
-
-    private void startClueTask(ClueTask task) {
-        if (task == null) {
-            log.warn("No task found for clue type: {}", currentClue.getClass().getSimpleName());
-            return;
-        }
-
-        currentTask = executorService.submit(() -> {
-            CompletableFuture<Boolean> future = new CompletableFuture<>();
-            task.setFuture(future);
-            task.run();
-
-            try {
-                boolean result = future.get();
-                overlay.updateTaskStatus("Clue Task completed: " + (result ? "Success" : "Failed"));
-                return result;
-            } catch (Exception e) {
-                log.error("Error executing clue task", e);
-                return false;
-            } finally {
-                resetCurrentClue();
-            }
-        });
+        Function<ClueScroll, ClueTask> taskFactory = taskFactoryMap.get(clue.getClass());
+        return (taskFactory != null) ? taskFactory.apply(clue) : null;
     }
 
     private void resetCurrentClue() {
@@ -189,12 +296,8 @@ public class ClueSolverScript extends Script {
     @Override
     public void shutdown() {
         super.shutdown();
-        if (currentTask != null && !currentTask.isDone()) {
-            currentTask.cancel(true);
-        }
-        if (itemRequirementsTask != null && !itemRequirementsTask.isDone()) {
-            itemRequirementsTask.cancel(true);
-        }
+        cancelPipeline();
+        currentClue = null;
         eventBus.unregister(this);
 
         overlay.updateTaskStatus("Clue Solver Script stopped");
@@ -0,0 +1,18 @@
+package net.runelite.client.plugins.microbot.cluesolver;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The stages a clue step goes through in {@link ClueSolverScript}, in order.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ClueStage {
+    REQUIREMENTS("Requirements"),
+    TRAVEL("Travel"),
+    ACTION("Action"),
+    VERIFY("Verify");
+
+    private final String displayName;
+}
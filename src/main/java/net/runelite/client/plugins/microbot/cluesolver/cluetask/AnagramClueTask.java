@@ -66,6 +66,9 @@ public class AnagramClueTask extends ClueTask {
     @SneakyThrows
     @Subscribe
     public void onGameTick(GameTick event) {
+        if (isFinished()) {
+            return;
+        }
         if (currentTask != null && !currentTask.isDone()) {
             log.warn("Previous task is still running, skipping this tick.");
             return;
@@ -87,6 +90,7 @@ public class AnagramClueTask extends ClueTask {
         switch (state) {
             case WALKING_TO_LOCATION:
                 if (hasArrived(player)) {
+                    markArrived();
                     transitionToInteractionState();
                 } else if (isWithinRadius(location, player.getWorldLocation(), 3)) {
                     Rs2Walker.walkFastCanvas(location);
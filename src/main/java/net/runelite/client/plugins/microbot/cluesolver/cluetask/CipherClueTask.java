@@ -77,6 +77,9 @@ public class CipherClueTask extends ClueTask {
 
     @Subscribe
     public void onGameTick(GameTick event) {
+        if (isFinished()) {
+            return;
+        }
         Player player = client.getLocalPlayer();
         WorldPoint playerLocation = player.getWorldLocation();
         WorldPoint clueLocation = clue.getLocation(clueScrollPlugin);
@@ -85,6 +88,7 @@ public class CipherClueTask extends ClueTask {
             case WALKING_TO_LOCATION:
                 if (isWithinRadius(clueLocation, playerLocation, 5)) {
                     log.info("Arrived at clue location.");
+                    markArrived();
                     state = State.INTERACTING_WITH_NPC;
                 }
                 break;
@@ -5,6 +5,7 @@ import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
 import net.runelite.client.plugins.cluescrolls.ClueScrollPlugin;
 import net.runelite.client.plugins.microbot.cluesolver.ClueSolverPlugin;
+import net.runelite.client.plugins.microbot.util.walker.Rs2Walker;
 
 import java.util.concurrent.CompletableFuture;
 
@@ -21,6 +22,8 @@ public abstract class ClueTask implements Runnable {
 
     @Setter
     private CompletableFuture<Boolean> future;  // Future to indicate task completion
+    private final CompletableFuture<Long> arrived = new CompletableFuture<>();  // Completes with the arrival time
+    private volatile boolean running;  // True while executeTask() runs on the executor
 
     public ClueTask(Client client, ClueScrollPlugin clueScrollPlugin, ClueSolverPlugin clueSolverPlugin) {
         this.client = client;
@@ -30,12 +33,23 @@ public abstract class ClueTask implements Runnable {
 
     @Override
     public void run() {
+        // Cancelled or timed out before the executor picked it up: never register or start walking
+        if (isFinished()) {
+            return;
+        }
+        running = true;
         try {
             boolean success = executeTask();
             //completeTask(success);
+            if (isFinished()) {
+                // Cancelled while registering or walking; completeTask lets subclasses release what they registered
+                completeTask(false);
+            }
         } catch (Exception e) {
             log.error("Error executing ClueTask: {}", e.getMessage(), e);
             completeTask(false);
+        } finally {
+            running = false;
         }
     }
 
@@ -57,6 +71,39 @@ public abstract class ClueTask implements Runnable {
         }
     }
 
+    /**
+     * Marks the end of the travel stage. Subclasses call this once the player reached the clue location;
+     * later calls are ignored.
+     */
+    protected void markArrived() {
+        arrived.complete(System.currentTimeMillis());
+    }
+
+    /**
+     * @return a future completed with the time the player arrived; never completes if the task ended before arriving.
+     */
+    public CompletableFuture<Long> getArrived() {
+        return arrived;
+    }
+
+    /**
+     * Stops the task. Completes it as failed, which also lets subclasses unregister from the event bus, and stops
+     * a walk this task is still blocked in.
+     */
+    public void cancel() {
+        completeTask(false);
+        if (running) {
+            Rs2Walker.setTarget(null);
+        }
+    }
+
+    /**
+     * @return true once the task completed, failed, timed out or was cancelled; subclasses check it between steps
+     */
+    protected boolean isFinished() {
+        return future != null && future.isDone();
+    }
+
     /**
      * Utility method for subclasses to perform necessary checks or preparations.
      * This can be overridden by subclasses for specific preconditions.
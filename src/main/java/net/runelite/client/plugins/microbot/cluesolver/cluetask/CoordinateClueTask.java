@@ -81,6 +81,9 @@ public class CoordinateClueTask extends ClueTask {
 
     @Subscribe
     public void onGameTick(GameTick event) {
+        if (isFinished()) {
+            return;
+        }
         if (currentTask != null && !currentTask.isDone()) {
             log.warn("Previous task is still running, skipping this tick.");
             return;
@@ -102,6 +105,7 @@ public class CoordinateClueTask extends ClueTask {
             case WALKING_TO_LOCATION:
                 if (isWithinRadius(location, player.getWorldLocation(), 5)) {
                     log.info("Arrived at coordinate clue location.");
+                    markArrived();
                     state = (enemy != null) ? State.FIGHTING_ENEMY : State.DIGGING;
                 }
                 break;
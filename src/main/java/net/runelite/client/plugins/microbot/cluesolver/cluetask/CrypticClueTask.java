@@ -73,6 +73,9 @@ public class CrypticClueTask extends ClueTask {
 
     @Subscribe
     public void onGameTick(GameTick event) {
+        if (isFinished()) {
+            return;
+        }
         if (currentTask != null && !currentTask.isDone()) {
             log.warn("Previous task is still running, skipping this tick.");
             return;
@@ -96,6 +99,7 @@ public class CrypticClueTask extends ClueTask {
             case WALKING_TO_LOCATION:
                 if (isWithinRadius(Objects.requireNonNull(clueLocation), playerLocation, 30)) {
                     log.info("Arrived at clue location.");
+                    markArrived();
                     transitionToNextState();
                 }
                 break;
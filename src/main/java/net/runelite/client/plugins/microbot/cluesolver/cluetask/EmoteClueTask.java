@@ -89,6 +89,9 @@ public class EmoteClueTask extends ClueTask {
 
     @Subscribe
     public void onGameTick(GameTick event) {
+        if (isFinished()) {
+            return;
+        }
         if (null != currentTask && !currentTask.isDone()) {
             log.warn("Previous task is still running, skipping this tick.");
             return;
@@ -133,6 +136,7 @@ public class EmoteClueTask extends ClueTask {
         WorldPoint location = clue.getLocation(clueScrollPlugin);
         if (client.getLocalPlayer().getWorldLocation().equals(location)) {
             log.info("Arrived at Emote Clue location.");
+            markArrived();
             state = State.PERFORMING_EMOTES;
         } else {
             log.debug("Walking to clue location: {}", location);
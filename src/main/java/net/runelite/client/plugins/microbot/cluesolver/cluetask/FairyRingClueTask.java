@@ -63,6 +63,9 @@ public class FairyRingClueTask extends ClueTask {
 
     @Subscribe
     public void onGameTick(GameTick event) {
+        if (isFinished()) {
+            return;
+        }
         Player player = client.getLocalPlayer();
         if (player == null) return;
 
@@ -70,6 +73,7 @@ public class FairyRingClueTask extends ClueTask {
             case NAVIGATING_TO_FAIRY_RING:
                 if (isPlayerAtLocation()) {
                     log.info("Player has arrived at the Fairy Ring location.");
+                    markArrived();
                     state = State.USING_FAIRY_RING;
                     useFairyRing();
                 }
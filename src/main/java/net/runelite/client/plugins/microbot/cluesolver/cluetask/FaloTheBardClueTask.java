@@ -63,6 +63,9 @@ public class FaloTheBardClueTask extends ClueTask {
 
     @Subscribe
     public void onGameTick(GameTick event) {
+        if (isFinished()) {
+            return;
+        }
         Player player = client.getLocalPlayer();
         if (player == null) return;
 
@@ -70,6 +73,7 @@ public class FaloTheBardClueTask extends ClueTask {
             case WALKING_TO_LOCATION:
                 if (isPlayerAtLocation()) {
                     log.info("Player has arrived at Falo the Bard's location.");
+                    markArrived();
                     state = State.INTERACTING_WITH_NPC;
                     interactWithNpc();
                 }
@@ -37,15 +37,9 @@ public class HotColdClueTask extends ClueTask {
         this.backgroundExecutor = backgroundExecutor;
     }
 
-    @Override
-    public void run() {
-        eventBus.register(this);
-        log.info("Starting HotColdClueTask");
-        backgroundExecutor.submit(this);
-    }
-
     @Override
     protected boolean executeTask() throws Exception {
+        eventBus.register(this);
         log.info("Executing Hot Cold clue task.");
         navigateToGeneralLocation();
         return true;
@@ -71,6 +65,9 @@ public class HotColdClueTask extends ClueTask {
 
     @Subscribe
     public void onGameTick(GameTick event) {
+        if (isFinished()) {
+            return;
+        }
         Player player = client.getLocalPlayer();
         if (player == null) return;
 
@@ -78,6 +75,7 @@ public class HotColdClueTask extends ClueTask {
             case NAVIGATING_TO_LOCATION:
                 if (isPlayerNearStartingLocation()) {
                     log.info("Player is near the starting location.");
+                    markArrived();
                     state = State.SEARCHING_AREA;
                     searchAreaForClue();
                 }
@@ -72,11 +72,15 @@ public class MapClueTask extends ClueTask {
 
     @Subscribe
     public void onGameTick(GameTick event) {
+        if (isFinished()) {
+            return;
+        }
         Player player = client.getLocalPlayer();
         switch (state) {
             case WALKING_TO_LOCATION:
                 if (isWithinRadius(location, player.getWorldLocation(), 5)) {
                     log.info("Arrived at map clue location.");
+                    markArrived();
                     if (objectId != -1) {
                         state = State.INTERACTING_WITH_OBJECT;
                         interactWithObject();
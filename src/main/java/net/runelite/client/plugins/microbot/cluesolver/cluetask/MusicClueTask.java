@@ -69,6 +69,9 @@ public class MusicClueTask extends ClueTask {
 
     @Subscribe
     public void onGameTick(GameTick event) {
+        if (isFinished()) {
+            return;
+        }
         if (currentTask != null && !currentTask.isDone()) {
             log.warn("Previous task is still running, skipping this tick.");
             return;
@@ -92,6 +95,7 @@ public class MusicClueTask extends ClueTask {
             case WALKING_TO_LOCATION:
                 if (isWithinRadius(location, player.getWorldLocation(), 5)) {
                     log.info("Arrived at music clue location.");
+                    markArrived();
                     state = State.PLAYING_SONG;
                 }
                 break;
@@ -51,6 +51,7 @@ public class RequirementHandlerTask extends ClueTask {
 
     /**
      * Retrieves a list of missing items based on the requirements asynchronously on the client thread.
+     * Walking to the bank is handed back to the background executor, so it never blocks the client thread.
      */
     private void checkForMissingItemsAsync() {
         Microbot.getClientThread().invokeLater(() -> {
@@ -58,7 +59,7 @@ public class RequirementHandlerTask extends ClueTask {
             if (missingItems.isEmpty()) {
                 completeTask(true);
             } else {
-                fetchMissingItemsFromBank(missingItems);
+                backgroundExecutor.execute(() -> fetchMissingItemsFromBank(missingItems));
             }
         });
     }
@@ -124,29 +125,28 @@ public class RequirementHandlerTask extends ClueTask {
         Rs2Bank.withdrawAndEquip(itemName);
         itemReceivedFuture = new CompletableFuture<>();
 
-        backgroundExecutor.submit(() -> {
-            try {
-                boolean received = itemReceivedFuture.get(5, TimeUnit.SECONDS);
-
-                if (received) {
-                    Microbot.log("Item " + itemName + " received: " + received);
-                    currentRequirement = null;
-
-                } else {
-                    log.warn("Item {} not received in time.", itemName);
-                    Rs2Bank.closeBank();
-                    completeTask(false);
-                }
-            } catch (InterruptedException | ExecutionException | TimeoutException e) {
-                log.warn("Error waiting for item {}: {}", itemName, e.getMessage());
+        // Completed by onItemContainerChanged; no thread waits for it
+        itemReceivedFuture.orTimeout(5, TimeUnit.SECONDS).whenCompleteAsync((received, ex) -> {
+            if (ex == null && received) {
+                Microbot.log("Item " + itemName + " received: " + received);
+                currentRequirement = null;
+            } else if (ex == null) {
+                log.warn("Item {} not received in time.", itemName);
+                Rs2Bank.closeBank();
+                completeTask(false);
+            } else {
+                log.warn("Error waiting for item {}: {}", itemName, ex.toString());
                 Rs2Bank.closeBank();
                 completeTask(false);
             }
-        });
+        }, backgroundExecutor);
     }
 
     @Subscribe
     public void onGameTick(GameTick event) {
+        if (isFinished()) {
+            return;
+        }
         if (Rs2Bank.isOpen() && currentRequirement == null) {
             fetchNextItem();
         } else if (!Rs2Bank.isOpen() && client.getLocalPlayer().getWorldLocation().distanceTo(Rs2Bank.getNearestBank().getWorldPoint()) <= 5) {
@@ -62,6 +62,9 @@ public class SkillChallengeClueTask extends ClueTask {
 
     @Subscribe
     public void onGameTick(GameTick event) {
+        if (isFinished()) {
+            return;
+        }
         Player player = client.getLocalPlayer();
         if (player == null) return;
 
@@ -69,6 +72,7 @@ public class SkillChallengeClueTask extends ClueTask {
             case NAVIGATING_TO_LOCATION:
                 if (isPlayerAtLocation()) {
                     log.info("Player has arrived at the skill challenge location.");
+                    markArrived();
                     state = State.PERFORMING_SKILL_TASK;
                     performSkillTask();
                 }
@@ -118,4 +122,11 @@ public class SkillChallengeClueTask extends ClueTask {
         // Placeholder for logic to confirm skill task completion
         return true;
     }
+
+    @Override
+    protected void completeTask(boolean success) {
+        super.completeTask(success);
+        eventBus.unregister(this);
+        log.info("Skill challenge clue task completed with status: {}", success ? "Success" : "Failure");
+    }
 }
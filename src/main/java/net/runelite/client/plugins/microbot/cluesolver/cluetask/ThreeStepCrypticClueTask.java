@@ -78,6 +78,9 @@ public class ThreeStepCrypticClueTask extends ClueTask {
 
     @Subscribe
     public void onGameTick(GameTick event) {
+        if (isFinished()) {
+            return;
+        }
         Player player = client.getLocalPlayer();
         if (player == null) return;
 
@@ -86,6 +89,7 @@ public class ThreeStepCrypticClueTask extends ClueTask {
 
         if (targetLocation != null && playerLocation.distanceTo(targetLocation) < 3) {
             log.info("Player arrived at the location for {}.", state);
+            markArrived();
             processStep();
         }
     }
@@ -0,0 +1,20 @@
+package net.runelite.client.plugins.microbot.geflipper;
+
+import java.util.List;
+import net.runelite.api.widgets.Widget;
+
+/**
+ * The subset of Flipping Copilot state the flipper script consumes.
+ */
+interface CopilotBridge
+{
+	/**
+	 * @return the type of the current suggestion (e.g. "buy", "sell", "abort"), or null if there is none
+	 */
+	String getSuggestionType();
+
+	/**
+	 * @return the widgets Copilot is currently highlighting, never null
+	 */
+	List<Widget> getHighlightedWidgets();
+}
@@ -23,7 +23,7 @@ import java.awt.*;
         isExternal = PluginConstants.IS_EXTERNAL
 )
 public class FlipperPlugin extends Plugin {
-    public static final String version = "1.1.0";
+    public static final String version = "1.1.1";
     @Inject
     private Client client;
     @Inject
@@ -6,7 +6,6 @@ import net.runelite.api.coords.WorldArea;
 import net.runelite.api.gameval.InterfaceID;
 import net.runelite.api.gameval.ItemID;
 import net.runelite.api.widgets.Widget;
-import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.microbot.Microbot;
 import net.runelite.client.plugins.microbot.Script;
 import net.runelite.client.plugins.microbot.util.antiban.Rs2Antiban;
@@ -23,10 +22,6 @@ import net.runelite.client.plugins.microbot.util.widget.Rs2Widget;
 
 import java.awt.*;
 import java.awt.event.KeyEvent;
-import java.lang.reflect.Field;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 
@@ -41,9 +36,7 @@ public class FlipperScript extends Script {
 	private final WorldArea grandExchangeArea = new WorldArea(3136, 3465, 61, 54, 0);
     State state = State.GOING_TO_GE;
 
-    private Plugin flippingCopilot;
-	private Object suggestionManager;
-    private Object highlightController;
+    private CopilotBridge copilot;
     private long lastActionTime = 0;
     private long actionCooldown = 1500; // randomized cooldown between actions
 
@@ -125,9 +118,7 @@ public class FlipperScript extends Script {
 	@Override
 	public void shutdown()
 	{
-		flippingCopilot = null;
-		suggestionManager = null;
-		highlightController = null;
+		copilot = null;
 		lastActionTime = 0;
 		actionCooldown = 1500;
 		super.shutdown();
@@ -135,170 +126,36 @@ public class FlipperScript extends Script {
 
 	private boolean initialize()
 	{
-		if (flippingCopilot != null && suggestionManager != null && highlightController != null) return true;
-
-		Plugin _flippingCopilot = getFlippingCopilot();
-		Object _suggestionManager = getSuggestionManager(_flippingCopilot);
-		Object _highlightController = getHighlightController(_flippingCopilot);
-
-		return _flippingCopilot != null && _suggestionManager != null && _highlightController != null;
-	}
-
-	private Plugin getFlippingCopilot()
-	{
-		if (flippingCopilot == null)
+		if (copilot == null)
 		{
-			flippingCopilot = Microbot.getPluginManager()
-				.getPlugins()
-				.stream()
-				.filter(plugin -> plugin.getClass().getSimpleName().equalsIgnoreCase("FlippingCopilotPlugin"))
-				.findFirst()
-				.orElse(null);
+			copilot = ReflectiveCopilotBridge.connect();
 		}
-		return flippingCopilot;
+		return copilot != null;
 	}
 
-	private Object getHighlightController(Plugin flippingCopilot)
+	private Widget getWidgetFromOverlay(String suggestionType)
 	{
-		if (flippingCopilot == null) return null;
-		if (highlightController == null)
+		for (Widget widget : copilot.getHighlightedWidgets())
 		{
-			try
-			{
-				Field highlightControllerField = flippingCopilot.getClass().getDeclaredField("highlightController");
-				highlightControllerField.setAccessible(true);
-				highlightController = highlightControllerField.get(flippingCopilot);
-			}
-			catch (Exception e)
+			// For abort suggestions, only the "home" grand exchange slot widgets are relevant
+			if (!Objects.equals(suggestionType, "abort") || isGrandExchangeSlot(widget.getId()))
 			{
-				log.error("Could not access HighlightController: {} - ", e.getMessage(), e);
+				return widget;
 			}
 		}
-		return highlightController;
+		return null;
 	}
 
-	private Object getSuggestionManager(Plugin flippingCopilot)
+	private boolean isGrandExchangeSlot(int widgetId)
 	{
-		if (flippingCopilot == null) return null;
-		if (suggestionManager == null)
+		for (int slotId : grandExchangeSlotIds)
 		{
-			try
-			{
-				Field suggestionManagerField = flippingCopilot.getClass().getDeclaredField("suggestionManager");
-				suggestionManagerField.setAccessible(true);
-				suggestionManager = suggestionManagerField.get(flippingCopilot);
-			}
-			catch (Exception e)
+			if (slotId == widgetId)
 			{
-				log.error("Could not access SuggestionManager: {} - ", e.getMessage(), e);
-			}
-		}
-		return suggestionManager;
-	}
-
-	private Object getSuggestion(Object suggestionManager)
-	{
-		if (suggestionManager == null) return null;
-		try
-		{
-			Field suggestionField = suggestionManager.getClass().getDeclaredField("suggestion");
-			suggestionField.setAccessible(true);
-			return suggestionField.get(suggestionManager);
-		}
-		catch (Exception e)
-		{
-			log.error("Could not access Suggestion: {} ", e.getMessage(), e);
-			return null;
-		}
-	}
-
-	private String getSuggestionType(Object suggestion)
-	{
-		if (suggestion == null) return null;
-		try
-		{
-			Field typeField = suggestion.getClass().getDeclaredField("type");
-			typeField.setAccessible(true);
-			return (String) typeField.get(suggestion);
-		}
-		catch (Exception e)
-		{
-			log.error("Could not access suggestion type: {} - ", e.getMessage(), e);
-			return null;
-		}
-	}
-
-	private List<Object> getHighlightOverlays(Object highlightController)
-	{
-		if (highlightController == null) return null;
-		try
-		{
-			Field highlightOverlaysField = highlightController.getClass().getDeclaredField("highlightOverlays");
-			highlightOverlaysField.setAccessible(true);
-			@SuppressWarnings("unchecked")
-			List<Object> highlightOverlays = (List<Object>) highlightOverlaysField.get(highlightController);
-			return highlightOverlays;
-		}
-		catch (Exception e)
-		{
-			log.error("Could not access highlight overlays: {} - ", e.getMessage(), e);
-			return null;
-		}
-	}
-
-	private List<Widget> getHighlightWidgets(Object highlightController)
-	{
-		final List<Widget> highlightWidgets = new ArrayList<>();
-		if (highlightController == null)
-		{
-			return highlightWidgets;
-		}
-
-		List<Object> highlightOverlays = getHighlightOverlays(highlightController);
-
-		for (Object highlightOverlay : highlightOverlays)
-		{
-			try
-			{
-				Field widgetField = highlightOverlay.getClass().getDeclaredField("widget");
-				widgetField.setAccessible(true);
-				highlightWidgets.add((Widget) widgetField.get(highlightOverlay));
-			}
-			catch (Exception e)
-			{
-				log.error("Could not get widget from overlay: {} - ", e.getMessage(), e);
-				return highlightWidgets;
+				return true;
 			}
 		}
-
-		return highlightWidgets;
-	}
-
-	private Widget getWidgetFromOverlay(Object highlightController, String suggestionType)
-	{
-		List<Object> highlightOverlays = getHighlightOverlays(highlightController);
-		if (highlightOverlays == null || highlightOverlays.isEmpty())
-		{
-			return null;
-		}
-
-		if (Objects.equals(suggestionType, "abort"))
-		{
-			return getHighlightWidgets(highlightController).stream()
-				.filter(Objects::nonNull)
-				// Filter to "home" grand exchange slot widgets
-				.filter(widget -> Arrays.stream(grandExchangeSlotIds).anyMatch(id -> id == widget.getId()))
-				.findFirst()
-				.orElse(null);
-		}
-		else
-		{
-			// For other suggestion types, we can return the first highlighted widget
-			return getHighlightWidgets(highlightController).stream()
-				.filter(Objects::nonNull)
-				.findFirst()
-				.orElse(null);
-		}
+		return false;
 	}
 
 	private boolean checkAndAbortIfNeeded()
@@ -306,19 +163,16 @@ public class FlipperScript extends Script {
 		long currentTime = System.currentTimeMillis();
 		if (currentTime - lastActionTime < actionCooldown) return true;
 
-		if (flippingCopilot == null || highlightController == null || suggestionManager == null) return false;
+		if (copilot == null) return false;
 		try
 		{
-			Object currentSuggestion = getSuggestion(suggestionManager);
-			if (currentSuggestion == null) return false;
-
-			String suggestionType = getSuggestionType(currentSuggestion);
+			String suggestionType = copilot.getSuggestionType();
 
 			if (!Objects.equals(suggestionType, "abort")) return false;
 
 			log.info("Found suggestion type '{}'.", suggestionType);
 
-			Widget abortWidget = getWidgetFromOverlay(highlightController, suggestionType);
+			Widget abortWidget = getWidgetFromOverlay(suggestionType);
 			if (abortWidget != null)
 			{
 				NewMenuEntry menuEntry = new NewMenuEntry("Abort offer", "", 2, MenuAction.CC_OP, 2, abortWidget.getId(), false);
@@ -356,10 +210,10 @@ public class FlipperScript extends Script {
 		long currentTime = System.currentTimeMillis();
 		if (currentTime - lastActionTime < actionCooldown) return;
 
-		if (flippingCopilot == null || highlightController == null) return;
+		if (copilot == null) return;
 
 		try {
-			Widget highlightedWidget = getWidgetFromOverlay(highlightController, "");
+			Widget highlightedWidget = getWidgetFromOverlay("");
 			boolean isHighlightedVisible = highlightedWidget != null && Rs2Widget.isWidgetVisible(highlightedWidget.getId());
 
 			if (isHighlightedVisible) {
@@ -0,0 +1,172 @@
+package net.runelite.client.plugins.microbot.geflipper;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.widgets.Widget;
+import net.runelite.client.plugins.Plugin;
+import net.runelite.client.plugins.microbot.Microbot;
+
+/**
+ * {@link CopilotBridge} backed by Flipping Copilot's private fields.
+ * <p>
+ * All fields are resolved once into {@link MethodHandle} getters when the bridge is created, so a change in
+ * Copilot's internals fails in {@link #connect()} instead of on every poll. The suggestion type is only
+ * re-read when Copilot replaces its suggestion object.
+ */
+@Slf4j
+final class ReflectiveCopilotBridge implements CopilotBridge
+{
+	private static final String PLUGIN_CLASS_NAME = "FlippingCopilotPlugin";
+	private static final long LOOKUP_RETRY_MS = 5000;
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+	private static volatile long lastFailedLookup;
+
+	private final Object suggestionManager;
+	private final Object highlightController;
+	private final MethodHandle suggestionGetter;
+	private final MethodHandle highlightOverlaysGetter;
+	// Highlight overlays can be of several classes, each resolved on first sight
+	private final Map<Class<?>, MethodHandle> widgetGetters = new ConcurrentHashMap<>();
+	private final Map<Class<?>, MethodHandle> typeGetters = new ConcurrentHashMap<>();
+
+	private Object lastSuggestion;
+	private String lastSuggestionType;
+
+	private ReflectiveCopilotBridge(Object suggestionManager, Object highlightController) throws ReflectiveOperationException
+	{
+		this.suggestionManager = suggestionManager;
+		this.highlightController = highlightController;
+		this.suggestionGetter = getter(suggestionManager.getClass(), "suggestion");
+		this.highlightOverlaysGetter = getter(highlightController.getClass(), "highlightOverlays");
+	}
+
+	/**
+	 * Finds the Flipping Copilot plugin and resolves its internals.
+	 * Failed lookups are not retried for a few seconds, so an absent plugin is not searched for on every poll.
+	 *
+	 * @return the bridge, or null if Copilot is not installed or its internals changed
+	 */
+	static CopilotBridge connect()
+	{
+		if (System.currentTimeMillis() - lastFailedLookup < LOOKUP_RETRY_MS)
+		{
+			return null;
+		}
+
+		Plugin flippingCopilot = Microbot.getPluginManager()
+			.getPlugins()
+			.stream()
+			.filter(plugin -> plugin.getClass().getSimpleName().equalsIgnoreCase(PLUGIN_CLASS_NAME))
+			.findFirst()
+			.orElse(null);
+
+		if (flippingCopilot == null)
+		{
+			lastFailedLookup = System.currentTimeMillis();
+			return null;
+		}
+
+		try
+		{
+			Object suggestionManager = getter(flippingCopilot.getClass(), "suggestionManager").invoke(flippingCopilot);
+			Object highlightController = getter(flippingCopilot.getClass(), "highlightController").invoke(flippingCopilot);
+			if (suggestionManager == null || highlightController == null)
+			{
+				lastFailedLookup = System.currentTimeMillis();
+				return null;
+			}
+			return new ReflectiveCopilotBridge(suggestionManager, highlightController);
+		}
+		catch (Throwable t)
+		{
+			log.error("Could not bind to Flipping Copilot internals: {} - ", t.getMessage(), t);
+			lastFailedLookup = System.currentTimeMillis();
+			return null;
+		}
+	}
+
+	@Override
+	public synchronized String getSuggestionType()
+	{
+		try
+		{
+			Object suggestion = suggestionGetter.invoke(suggestionManager);
+			if (suggestion != lastSuggestion)
+			{
+				lastSuggestion = suggestion;
+				lastSuggestionType = suggestion == null ? null : (String) handleFor(typeGetters, suggestion.getClass(), "type").invoke(suggestion);
+			}
+			return lastSuggestionType;
+		}
+		catch (Throwable t)
+		{
+			log.error("Could not access suggestion type: {} - ", t.getMessage(), t);
+			return null;
+		}
+	}
+
+	@Override
+	public List<Widget> getHighlightedWidgets()
+	{
+		List<?> highlightOverlays;
+		try
+		{
+			highlightOverlays = (List<?>) highlightOverlaysGetter.invoke(highlightController);
+		}
+		catch (Throwable t)
+		{
+			log.error("Could not access highlight overlays: {} - ", t.getMessage(), t);
+			return Collections.emptyList();
+		}
+
+		if (highlightOverlays == null || highlightOverlays.isEmpty())
+		{
+			return Collections.emptyList();
+		}
+
+		List<Widget> widgets = new ArrayList<>(highlightOverlays.size());
+		for (Object highlightOverlay : highlightOverlays)
+		{
+			try
+			{
+				Widget widget = (Widget) handleFor(widgetGetters, highlightOverlay.getClass(), "widget").invoke(highlightOverlay);
+				if (widget != null)
+				{
+					widgets.add(widget);
+				}
+			}
+			catch (Throwable t)
+			{
+				log.error("Could not get widget from overlay: {} - ", t.getMessage(), t);
+				break;
+			}
+		}
+		return widgets;
+	}
+
+	private static MethodHandle handleFor(Map<Class<?>, MethodHandle> cache, Class<?> type, String fieldName) throws ReflectiveOperationException
+	{
+		MethodHandle handle = cache.get(type);
+		if (handle == null)
+		{
+			handle = getter(type, fieldName);
+			cache.put(type, handle);
+		}
+		return handle;
+	}
+
+	private static MethodHandle getter(Class<?> type, String fieldName) throws ReflectiveOperationException
+	{
+		Field field = type.getDeclaredField(fieldName);
+		field.setAccessible(true);
+		return LOOKUP.unreflectGetter(field);
+	}
+}
@@ -0,0 +1,99 @@
+package net.runelite.client.plugins.microbot.kittentracker;
+
+/**
+ * Write-behind buffer for the kitten state persisted in {@link KittenConfig}.
+ * <p>
+ * Setters only record the latest value, so repeated sets of a key between two flushes coalesce into a single
+ * {@code ConfigManager} write. Getters return the pending value if there is one. The plugin calls {@link #flush()}
+ * on follower transitions (new follower, follower gone, grown up, ran away, handed over) and on logout/hop.
+ */
+class KittenConfigBuffer {
+    private static final int FELINE_ID = 1;
+    private static final int LAST_ATTENTION_TYPE = 1 << 1;
+    private static final int GROWTH_TICKS_ALIVE = 1 << 2;
+    private static final int NEXT_HUNGRY_TICK = 1 << 3;
+    private static final int NEXT_ATTENTION_TICK = 1 << 4;
+
+    private final KittenConfig config;
+
+    private int dirty;
+    private int felineId;
+    private KittenAttentionType lastAttentionType;
+    private int growthTicksAlive;
+    private int nextHungryTick;
+    private int nextAttentionTick;
+
+    KittenConfigBuffer(KittenConfig config) {
+        this.config = config;
+    }
+
+    synchronized int felineId() {
+        return (dirty & FELINE_ID) != 0 ? felineId : config.felineId();
+    }
+
+    synchronized void felineId(int id) {
+        felineId = id;
+        dirty |= FELINE_ID;
+    }
+
+    synchronized KittenAttentionType lastAttentionType() {
+        return (dirty & LAST_ATTENTION_TYPE) != 0 ? lastAttentionType : config.lastAttentionType();
+    }
+
+    synchronized void lastAttentionType(KittenAttentionType type) {
+        lastAttentionType = type;
+        dirty |= LAST_ATTENTION_TYPE;
+    }
+
+    synchronized int growthTicksAlive() {
+        return (dirty & GROWTH_TICKS_ALIVE) != 0 ? growthTicksAlive : config.growthTicksAlive();
+    }
+
+    synchronized void growthTicksAlive(int ticks) {
+        growthTicksAlive = ticks;
+        dirty |= GROWTH_TICKS_ALIVE;
+    }
+
+    synchronized int nextHungryTick() {
+        return (dirty & NEXT_HUNGRY_TICK) != 0 ? nextHungryTick : config.nextHungryTick();
+    }
+
+    synchronized void nextHungryTick(int ticks) {
+        nextHungryTick = ticks;
+        dirty |= NEXT_HUNGRY_TICK;
+    }
+
+    synchronized int nextAttentionTick() {
+        return (dirty & NEXT_ATTENTION_TICK) != 0 ? nextAttentionTick : config.nextAttentionTick();
+    }
+
+    synchronized void nextAttentionTick(int ticks) {
+        nextAttentionTick = ticks;
+        dirty |= NEXT_ATTENTION_TICK;
+    }
+
+    /**
+     * Writes the pending values to the config, once per key.
+     */
+    synchronized void flush() {
+        if (dirty == 0) {
+            return;
+        }
+        if ((dirty & FELINE_ID) != 0) {
+            config.felineId(felineId);
+        }
+        if ((dirty & LAST_ATTENTION_TYPE) != 0) {
+            config.lastAttentionType(lastAttentionType);
+        }
+        if ((dirty & GROWTH_TICKS_ALIVE) != 0) {
+            config.growthTicksAlive(growthTicksAlive);
+        }
+        if ((dirty & NEXT_HUNGRY_TICK) != 0) {
+            config.nextHungryTick(nextHungryTick);
+        }
+        if ((dirty & NEXT_ATTENTION_TICK) != 0) {
+            config.nextAttentionTick(nextAttentionTick);
+        }
+        dirty = 0;
+    }
+}
@@ -41,7 +41,6 @@ import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
 import net.runelite.client.plugins.microbot.Microbot;
 import net.runelite.client.plugins.microbot.PluginConstants;
-import net.runelite.client.plugins.microbot.util.widget.Rs2Widget;
 import net.runelite.client.ui.overlay.OverlayManager;
 import net.runelite.client.ui.overlay.infobox.InfoBoxManager;
 import net.runelite.client.ui.overlay.infobox.Timer;
@@ -51,7 +50,6 @@ import org.apache.commons.lang3.StringUtils;
 import javax.inject.Inject;
 import java.time.Duration;
 import java.time.Instant;
-import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -71,7 +69,7 @@ import java.util.List;
         isExternal = PluginConstants.IS_EXTERNAL
 )
 public class KittenPlugin extends Plugin {
-    public static final String version = "1.3.0";
+    public static final String version = "1.3.1";
     private static final int VAR_PLAYER_FOLLOWER = 447;
     private static final int WIDGET_ID_DIALOG_NOTIFICATION_GROUP_ID = 229;
     private static final int WIDGET_ID_DIALOG_PLAYER_TEXT = 6;
@@ -150,8 +148,12 @@ public class KittenPlugin extends Plugin {
     private static final int TICKS_ATTENTION_FIRST_WARNING = 6; // 9m
     private static final int TICKS_ATTENTION_FINAL_WARNING = 3; // 4.5m
 
+    private static final int NO_TICK = -1;
+
     private boolean ready;
-    private Instant kittenLastAttentionTime;
+    // game ticks counted since startUp - the clock for all kitten timing below
+    private int gameTicks = 0;
+    private int kittenLastAttentionTick = NO_TICK;
     private int timeNeglected = 0;
     private int followerID = 0;
     private int previousFollowerId = 0;
@@ -161,10 +163,9 @@ public class KittenPlugin extends Plugin {
     private int nextHungryTick = 0;
     private int nextAttentionTick = 0;
     private int secondsInTick = 0;
-    private Duration timeInTick;
-    private Instant growthTickStartTime = null;
-    private Instant lastLoadingTime = null;
-    private final ArrayList<Instant> growthTimes = new ArrayList<>();
+    private int growthTickStartTick = NO_TICK;
+    private int lastLoadingTick = NO_TICK;
+    private final ArrayList<Integer> growthTimes = new ArrayList<>();
     // the first growth tick can be very early upon login - probably something to do with loading the game or plugin.
     private boolean noGrowthSinceLoggedIn = true;
 
@@ -247,6 +248,8 @@ public class KittenPlugin extends Plugin {
     @Inject
     private FeedKittenEvent feedKittenEvent;
 
+    private KittenConfigBuffer configBuffer;
+
     @Provides
     KittenConfig provideConfig(ConfigManager configManager) {
         return configManager.getConfig(KittenConfig.class);
@@ -254,8 +257,9 @@ public class KittenPlugin extends Plugin {
 
     @Override
     public void startUp() {
+        configBuffer = new KittenConfigBuffer(config);
         clientThread.invokeLater(this::checkForFollower);
-        previousFollowerId = config.felineId();
+        previousFollowerId = configBuffer.felineId();
         overlayManager.add(overlay);
         script.run(config);
         Microbot.getBlockingEventManager().add(kittenAttentionEvent);
@@ -319,11 +323,11 @@ public class KittenPlugin extends Plugin {
                 if (followerID == previousFollowerId) // The same kitten is back!
                 {
                     secondsInTick = 0;
-                    growthTicksAlive = config.growthTicksAlive();
-                    nextHungryTick = config.nextHungryTick();
-                    nextAttentionTick = config.nextAttentionTick();
-                    growthTickStartTime = Instant.now();
-                    lastAttentionType = config.lastAttentionType();
+                    growthTicksAlive = configBuffer.growthTicksAlive();
+                    nextHungryTick = configBuffer.nextHungryTick();
+                    nextAttentionTick = configBuffer.nextAttentionTick();
+                    growthTickStartTick = gameTicks;
+                    lastAttentionType = configBuffer.lastAttentionType();
                     // no need to subtract secondsInTick here - it will be zero by definition
 
                     addKittenGrowthBox((TICKS_TO_ADULTHOOD - growthTicksAlive) * GROWTH_TICK_IN_SECONDS);
@@ -332,28 +336,28 @@ public class KittenPlugin extends Plugin {
 
                 } else // new kitten, new timer
                 {
-                    config.lastAttentionType(KittenAttentionType.NEW_KITTEN);
-                    kittenLastAttentionTime = Instant.now();
+                    configBuffer.lastAttentionType(KittenAttentionType.NEW_KITTEN);
+                    kittenLastAttentionTick = gameTicks;
 
                     addKittenGrowthBox(TIME_TO_ADULTHOOD_IN_SECONDS);
                     addHungryTimer(HUNGRY_TIME_BEFORE_KITTEN_RUNS_AWAY_IN_SECONDS);
                     addAttentionTimer(ATTENTION_TIME_BEFORE_KITTEN_RUNS_AWAY_MULTIPLE_STROKES_IN_SECONDS);
 
                     // new stuff
-                    config.growthTicksAlive(0);
-                    growthTickStartTime = Instant.now();
+                    configBuffer.growthTicksAlive(0);
+                    growthTickStartTick = gameTicks;
                     nextHungryTick = TICKS_TO_HUNGER_RUN_AWAY;
                     nextAttentionTick = TICKS_TO_ATTENTION_RUN_AWAY_MULTIPLE_STROKES;
                 }
                 break;
             case NORMAL_CAT:
                 if (followerID == previousFollowerId) { // The same cat is back!
-                    growthTicksAlive = config.growthTicksAlive();
-                    growthTickStartTime = Instant.now();
+                    growthTicksAlive = configBuffer.growthTicksAlive();
+                    growthTickStartTick = gameTicks;
                     addKittenGrowthBox(((TICKS_TO_ADULTHOOD + TICKS_TO_OVERGROWN) - growthTicksAlive) *
                             GROWTH_TICK_IN_SECONDS);
                 } else { // new cat, new timer
-                    growthTickStartTime = Instant.now();
+                    growthTickStartTick = gameTicks;
                     addKittenGrowthBox(TIME_TILL_OVERGROWN_IN_SECONDS);
                 }
                 break;
@@ -363,27 +367,29 @@ public class KittenPlugin extends Plugin {
             case NON_FELINE:
                 break;
         }
+        configBuffer.flush();
     }
 
     private void byeFollower() {
         switch (followerKind) {
             case KITTEN:
                 saveGrowthProgress();
-                growthTickStartTime = null;
-                kittenLastAttentionTime = null;
+                growthTickStartTick = NO_TICK;
+                kittenLastAttentionTick = NO_TICK;
                 break;
             case NORMAL_CAT:
                 saveGrowthProgress();
-                growthTickStartTime = null;
+                growthTickStartTick = NO_TICK;
                 break;
             case LAZY_CAT:
             case WILY_CAT:
             case OVERGROWN_CAT:
             case NON_FELINE:
-                growthTickStartTime = null;
-                kittenLastAttentionTime = null;
+                growthTickStartTick = NO_TICK;
+                kittenLastAttentionTick = NO_TICK;
                 break;
         }
+        configBuffer.flush();
 
         infoBoxManager.removeIf(t -> t instanceof KittenGrowthTimer);
         infoBoxManager.removeIf(t -> t instanceof KittenHungryTimer);
@@ -395,23 +401,23 @@ public class KittenPlugin extends Plugin {
     private void saveGrowthProgress() {
         switch (followerKind) {
             case KITTEN: {
-                config.felineId(followerID);
-                if (null != growthTickStartTime) {
-                    config.growthTicksAlive(growthTicksAlive);
-                    config.nextHungryTick(nextHungryTick);
-                    config.nextAttentionTick(nextAttentionTick);
+                configBuffer.felineId(followerID);
+                if (NO_TICK != growthTickStartTick) {
+                    configBuffer.growthTicksAlive(growthTicksAlive);
+                    configBuffer.nextHungryTick(nextHungryTick);
+                    configBuffer.nextAttentionTick(nextAttentionTick);
                 } else {
-                    log.debug("growthTickStartTime is null, no follower...");
+                    log.debug("growthTickStartTick is not set, no follower...");
                 }
-                config.lastAttentionType(lastAttentionType);
+                configBuffer.lastAttentionType(lastAttentionType);
                 break;
             }
             case NORMAL_CAT: {
-                config.felineId(followerID);
-                if (null != growthTickStartTime) {
-                    config.growthTicksAlive(growthTicksAlive);
+                configBuffer.felineId(followerID);
+                if (NO_TICK != growthTickStartTick) {
+                    configBuffer.growthTicksAlive(growthTicksAlive);
                 } else {
-                    log.debug("growthTickStartTime is null, no follower...");
+                    log.debug("growthTickStartTick is not set, no follower...");
                 }
                 break;
             }
@@ -539,7 +545,7 @@ public class KittenPlugin extends Plugin {
     }
 
     private void advanceGrowthTick() {
-        growthTickStartTime = Instant.now();
+        growthTickStartTick = gameTicks;
         growthTicksAlive += 1;
         followerKind = FollowerKind.getFromFollowerId(followerID);
         if (FollowerKind.KITTEN == followerKind) {
@@ -553,7 +559,7 @@ public class KittenPlugin extends Plugin {
         this could happen with the loading condition triggering simultaneously with the overhead condition and advancing
         2 ticks instead of 1.
          */
-        growthTimes.add(growthTickStartTime);
+        growthTimes.add(growthTickStartTick);
         noGrowthSinceLoggedIn = false;
     }
 
@@ -579,7 +585,7 @@ public class KittenPlugin extends Plugin {
         }
         int growthTicksToSubtract = 0;
         for (int i = 0; i < growthTimes.size() - 1; i++) {
-            if (2 > Math.toIntExact(Duration.between(growthTimes.get(i), growthTimes.get(i + 1)).getSeconds())) {
+            if (2000 > (growthTimes.get(i + 1) - growthTimes.get(i)) * Constants.GAME_TICK_LENGTH) {
                 growthTicksToSubtract += 1;
 
             }
@@ -624,11 +630,10 @@ public class KittenPlugin extends Plugin {
         String message = Text.removeTags(event.getMessage());
         switch (message) {
             case CHAT_STROKE_CAT: {
-                timeInTick = Duration.between(growthTickStartTime, Instant.now());
-                int secondsInTick = Math.toIntExact(timeInTick.getSeconds());
+                int secondsInTick = currentSecondsInTick();
 
-                if (null != kittenLastAttentionTime) { // if kitten has had attention within the time since spawn
-                    long timeSinceLastAttentionSeconds = Duration.between(kittenLastAttentionTime, Instant.now()).toMillis() / 1000 + timeNeglected;
+                if (NO_TICK != kittenLastAttentionTick) { // if kitten has had attention within the time since spawn
+                    long timeSinceLastAttentionSeconds = (long) (gameTicks - kittenLastAttentionTick) * Constants.GAME_TICK_LENGTH / 1000 + timeNeglected;
 
                     // max time depending on whether previous stroke already was a single stroke or a multistroke
                     int maxTimePastForMultiStrokeSeconds = -1;
@@ -662,7 +667,7 @@ public class KittenPlugin extends Plugin {
                     }
                     lastAttentionType = KittenAttentionType.SINGLE_STROKE;
                 }
-                kittenLastAttentionTime = Instant.now();
+                kittenLastAttentionTick = gameTicks;
                 timeNeglected = 0;
                 break;
             }
@@ -670,8 +675,7 @@ public class KittenPlugin extends Plugin {
             case CHAT_THE_KITTEN_LAPS_UP_THE_MILK: {
                 if (config.kittenHungryOverlay()) {
                     nextHungryTick = growthTicksAlive + TICKS_TO_HUNGER_RUN_AWAY;
-                    timeInTick = Duration.between(growthTickStartTime, Instant.now());
-                    secondsInTick = Math.toIntExact(timeInTick.getSeconds());
+                    secondsInTick = currentSecondsInTick();
                     addHungryTimer(TICKS_TO_HUNGER_RUN_AWAY * 90 - secondsInTick);
                 }
                 break;
@@ -724,14 +728,15 @@ public class KittenPlugin extends Plugin {
                     notifier.notify(message);
                 }
                 // new stuff
-                growthTickStartTime = null;
+                growthTickStartTick = NO_TICK;
                 nextHungryTick = TICKS_TO_HUNGER_RUN_AWAY;
                 nextAttentionTick = TICKS_TO_ATTENTION_RUN_AWAY_MULTIPLE_STROKES;
                 growthTicksAlive = 0;
 
-                kittenLastAttentionTime = null;
+                kittenLastAttentionTick = NO_TICK;
                 previousFollowerId = 0;
-                config.felineId(0); // in case the new kitten has the same NpcID. We need to track growth progress from the beginning.
+                configBuffer.felineId(0); // in case the new kitten has the same NpcID. We need to track growth progress from the beginning.
+                configBuffer.flush();
 
                 infoBoxManager.removeIf(t -> t instanceof KittenGrowthTimer);
                 infoBoxManager.removeIf(t -> t instanceof KittenHungryTimer);
@@ -744,22 +749,21 @@ public class KittenPlugin extends Plugin {
 
     @Subscribe
     public void onGameTick(GameTick tick) {
+        gameTicks++;
 
-        // need to update secondsInTick regularly to keep timers tracking properly... but make sure it's not null (kitten is not out)
-        if (null != growthTickStartTime) {
-            timeInTick = Duration.between(growthTickStartTime, Instant.now());
+        // need to update secondsInTick regularly to keep timers tracking properly... but make sure it's set (kitten is not out)
+        if (NO_TICK != growthTickStartTick) {
             /* i ended up not using the millisecond version anyway, since checking for growth at 89.5s caused the
                interface method to run slowly which was more of an issue than it running quickly. */
-            // double secondsInTickWithMs = (double) timeInTick.toMillis() / 1000;
-            secondsInTick = Math.toIntExact(timeInTick.getSeconds());
+            secondsInTick = currentSecondsInTick();
 
             // check our other methods of growth progress:
             // a) high population world where your kitten may or not be rendered.  200 players is relatively arbitrary btw
             // b) you teleported recently and your kitten grew but didn't have overhead text as you were teleporting
-            Duration timeSinceLastLoad = Duration.between(lastLoadingTime, Instant.now());
+            boolean loadedRecently = NO_TICK != lastLoadingTick && 3000 > (long) (gameTicks - lastLoadingTick) * Constants.GAME_TICK_LENGTH;
             if (89 <= secondsInTick && 200 <= client.getPlayers().size()) {
                 checkToProgressGrowthInterfaceMethod();
-            } else if (89 <= secondsInTick && 2 >= Math.toIntExact(timeSinceLastLoad.getSeconds())) {
+            } else if (89 <= secondsInTick && loadedRecently) {
                 // check if the kitten is ready to grow on teleports.  apparently the kitten will not have overhead text
                 //  if you teleport on the same tick as when it grows.  by the way you need to check if there was a
                 //  recent teleport, client.getGameState() = GameState.LOADING doesn't work all the time.
@@ -781,175 +785,202 @@ public class KittenPlugin extends Plugin {
             notifier.notify(NOTIFICATION_KITTEN_WILL_RUN_AWAY_IN_1_MINUTE);
             hungryNotificationSend = true;
         }
+    }
 
-        Widget playerDialog = Rs2Widget.findWidget(DIALOG_CAT_BALL_OF_WOOL);
-
-        if (null != playerDialog) {
-            log.info("Kitten is playing with the ball of wool");
-
-            if (config.kittenAttentionOverlay()) {
-                nextAttentionTick = growthTicksAlive + TICKS_TO_ATTENTION_RUN_AWAY_BALL_OF_WOOL;
-                addAttentionTimer(ATTENTION_TIME_BEFORE_KITTEN_RUNS_AWAY_BALL_OF_WOOL_IN_SECONDS - secondsInTick);
-            }
-            lastAttentionType = KittenAttentionType.BALL_OF_WOOL;
-            kittenLastAttentionTime = Instant.now();
-            timeNeglected = 0;
+    @Subscribe
+    public void onWidgetLoaded(WidgetLoaded event) {
+        // the dialog text is set by the interface's load script, which runs after this event
+        switch (event.getGroupId()) {
+            case WidgetID.DIALOG_PLAYER_GROUP_ID:
+                clientThread.invokeLater(this::checkPlayerDialog);
+                break;
+            case WIDGET_ID_DIALOG_NOTIFICATION_GROUP_ID:
+                clientThread.invokeLater(this::checkNotificationDialog);
+                break;
+            case WidgetID.DIALOG_SPRITE_GROUP_ID:
+                clientThread.invokeLater(this::checkSpriteDialog);
+                break;
+        }
+    }
 
+    private void checkPlayerDialog() {
+        Widget playerDialog = client.getWidget(WidgetID.DIALOG_PLAYER_GROUP_ID, WIDGET_ID_DIALOG_PLAYER_TEXT);
+        if (null == playerDialog || !DIALOG_CAT_BALL_OF_WOOL.equals(Text.sanitizeMultilineText(playerDialog.getText()))) {
+            return;
+        }
+        log.info("Kitten is playing with the ball of wool");
 
+        if (config.kittenAttentionOverlay()) {
+            nextAttentionTick = growthTicksAlive + TICKS_TO_ATTENTION_RUN_AWAY_BALL_OF_WOOL;
+            addAttentionTimer(ATTENTION_TIME_BEFORE_KITTEN_RUNS_AWAY_BALL_OF_WOOL_IN_SECONDS - secondsInTick);
         }
+        lastAttentionType = KittenAttentionType.BALL_OF_WOOL;
+        kittenLastAttentionTick = gameTicks;
+        timeNeglected = 0;
+    }
+
+    private void checkNotificationDialog() {
         Widget notificationDialog = client.getWidget(WIDGET_ID_DIALOG_NOTIFICATION_GROUP_ID, WIDGET_ID_DIALOG_NOTIFICATION_TEXT);
-        if (null != notificationDialog) {
-            String notificationText = Text.removeTags(notificationDialog.getText()); // remove color and linebreaks
-            if (notificationText.equals(DIALOG_GERTRUDE_GIVES_YOU_ANOTHER_KITTEN)) { // new kitten
-                config.lastAttentionType(KittenAttentionType.NEW_KITTEN);
-                kittenLastAttentionTime = Instant.now();
+        if (null == notificationDialog) {
+            return;
+        }
+        String notificationText = Text.removeTags(notificationDialog.getText()); // remove color and linebreaks
+        if (notificationText.equals(DIALOG_GERTRUDE_GIVES_YOU_ANOTHER_KITTEN)) { // new kitten
+            configBuffer.lastAttentionType(KittenAttentionType.NEW_KITTEN);
+            kittenLastAttentionTick = gameTicks;
+
+            growthTicksAlive = 0;
+            growthTickStartTick = gameTicks;
+            nextHungryTick = TICKS_TO_HUNGER_RUN_AWAY;
+            nextAttentionTick = TICKS_TO_ATTENTION_RUN_AWAY_MULTIPLE_STROKES;
+            configBuffer.growthTicksAlive(growthTicksAlive);
+            configBuffer.nextHungryTick(nextHungryTick);
+            configBuffer.nextAttentionTick(nextAttentionTick);
+            addKittenGrowthBox(TIME_TO_ADULTHOOD_IN_SECONDS);
+            addHungryTimer(HUNGRY_TIME_BEFORE_KITTEN_RUNS_AWAY_IN_SECONDS);
+            addAttentionTimer(ATTENTION_TIME_BEFORE_KITTEN_RUNS_AWAY_MULTIPLE_STROKES_IN_SECONDS);
+            configBuffer.flush();
+        } else if (notificationText.equals(DIALOG_CAT_GROWN)) {
+            followerKind = FollowerKind.NORMAL_CAT;
+            // commenting this out - this is also called with onVarbitChanged, which will be called when cat grows up
+            // checkForNewFollower();
+            /* growthTicksAlive should be 120 at this point anyway, but this is a band-aid covering up a different issue...
+            previousFollowerID is set to followerID in checkForNewFollower() immediately before calling
+            newFollower(), where it checks if previousFollowerID == followerID... so it's always true.  so the plugin
+            ALWAYS thinks you have the same kitten/cat as last time even if that's not true.  the kitten has other
+            resets when running away/being turned in so most people probably haven't noticed this bug. */
+            growthTicksAlive = TICKS_TO_ADULTHOOD;
+            configBuffer.growthTicksAlive(growthTicksAlive);
+            configBuffer.flush();
+            infoBoxManager.removeIf(t -> t instanceof KittenAttentionTimer);
+            infoBoxManager.removeIf(t -> t instanceof KittenHungryTimer);
+        } else if (notificationText.equals(DIALOG_CAT_OVERGROWN)) {
+            followerKind = FollowerKind.OVERGROWN_CAT;
+            // commenting this out - this is also called with onVarbitChanged, which will be called when cat grows up
+            // checkForNewFollower();
+        } else if (notificationText.startsWith(DIALOG_AFTER_TAKING_A_GOOD_LOOK)) {
+            String ageStr = notificationText.substring(DIALOG_AFTER_TAKING_A_GOOD_LOOK.length());
+            int end = ageStr.indexOf("And approximate time until");
+            ageStr = ageStr.substring(0, end);
+            int hoursIndex = ageStr.indexOf("hours");
+            if (0 > hoursIndex) {
+                hoursIndex = ageStr.indexOf("hour");
+            }
 
-                growthTicksAlive = 0;
-                growthTickStartTime = Instant.now();
-                nextHungryTick = TICKS_TO_HUNGER_RUN_AWAY;
-                nextAttentionTick = TICKS_TO_ATTENTION_RUN_AWAY_MULTIPLE_STROKES;
-                config.growthTicksAlive(growthTicksAlive);
-                config.nextHungryTick(nextHungryTick);
-                config.nextAttentionTick(nextAttentionTick);
-                addKittenGrowthBox(TIME_TO_ADULTHOOD_IN_SECONDS);
-                addHungryTimer(HUNGRY_TIME_BEFORE_KITTEN_RUNS_AWAY_IN_SECONDS);
-                addAttentionTimer(ATTENTION_TIME_BEFORE_KITTEN_RUNS_AWAY_MULTIPLE_STROKES_IN_SECONDS);
-            } else if (notificationText.equals(DIALOG_CAT_GROWN)) {
-                followerKind = FollowerKind.NORMAL_CAT;
-                // commenting this out - this is also called with onVarbitChanged, which will be called when cat grows up
-                // checkForNewFollower();
-                /* growthTicksAlive should be 120 at this point anyway, but this is a band-aid covering up a different issue...
-                previousFollowerID is set to followerID in checkForNewFollower() immediately before calling
-                newFollower(), where it checks if previousFollowerID == followerID... so it's always true.  so the plugin
-                ALWAYS thinks you have the same kitten/cat as last time even if that's not true.  the kitten has other
-                resets when running away/being turned in so most people probably haven't noticed this bug. */
-                growthTicksAlive = TICKS_TO_ADULTHOOD;
-                config.growthTicksAlive(growthTicksAlive);
-                infoBoxManager.removeIf(t -> t instanceof KittenAttentionTimer);
-                infoBoxManager.removeIf(t -> t instanceof KittenHungryTimer);
-            } else if (notificationText.equals(DIALOG_CAT_OVERGROWN)) {
-                followerKind = FollowerKind.OVERGROWN_CAT;
-                // commenting this out - this is also called with onVarbitChanged, which will be called when cat grows up
-                // checkForNewFollower();
-            } else if (notificationText.startsWith(DIALOG_AFTER_TAKING_A_GOOD_LOOK)) {
-                String ageStr = notificationText.substring(DIALOG_AFTER_TAKING_A_GOOD_LOOK.length());
-                int end = ageStr.indexOf("And approximate time until");
-                ageStr = ageStr.substring(0, end);
-                int hoursIndex = ageStr.indexOf("hours");
-                if (0 > hoursIndex) {
-                    hoursIndex = ageStr.indexOf("hour");
-                }
+            String hoursStr = "";
+            if (0 < hoursIndex) {
+                hoursStr = ageStr.substring(0, hoursIndex);
+                hoursStr = hoursStr.trim();
+            }
+            int minutesIndex = ageStr.indexOf("minutes");
+            if (0 > minutesIndex) {
+                minutesIndex = ageStr.indexOf("minute");
+            }
 
-                String hoursStr = "";
+            String minutesStr = "";
+            if (0 < minutesIndex) {
                 if (0 < hoursIndex) {
-                    hoursStr = ageStr.substring(0, hoursIndex);
-                    hoursStr = hoursStr.trim();
-                }
-                int minutesIndex = ageStr.indexOf("minutes");
-                if (0 > minutesIndex) {
-                    minutesIndex = ageStr.indexOf("minute");
+                    minutesStr = ageStr.substring(hoursIndex + "hours".length(), minutesIndex);
+                    minutesStr = minutesStr.trim();
+                } else {
+                    minutesStr = ageStr.substring(0, minutesIndex);
+                    minutesStr = minutesStr.trim();
                 }
+            }
 
-                String minutesStr = "";
-                if (0 < minutesIndex) {
-                    if (0 < hoursIndex) {
-                        minutesStr = ageStr.substring(hoursIndex + "hours".length(), minutesIndex);
-                        minutesStr = minutesStr.trim();
-                    } else {
-                        minutesStr = ageStr.substring(0, minutesIndex);
-                        minutesStr = minutesStr.trim();
-                    }
+            int hours = 0;
+            int minutes = 0;
+            if (StringUtils.isNotEmpty(hoursStr)) {
+                try {
+                    hours = Integer.parseInt(hoursStr);
+                } catch (NumberFormatException ex) {
+                    log.debug(ex.getMessage());
                 }
+            }
 
-                int hours = 0;
-                int minutes = 0;
-                if (StringUtils.isNotEmpty(hoursStr)) {
-                    try {
-                        hours = Integer.parseInt(hoursStr);
-                    } catch (NumberFormatException ex) {
-                        log.debug(ex.getMessage());
-                    }
+            if (StringUtils.isNotEmpty(minutesStr)) {
+                try {
+                    minutes = Integer.parseInt(minutesStr);
+                } catch (NumberFormatException ex) {
+                    log.debug(ex.getMessage());
                 }
+            }
 
-                if (StringUtils.isNotEmpty(minutesStr)) {
-                    try {
-                        minutes = Integer.parseInt(minutesStr);
-                    } catch (NumberFormatException ex) {
-                        log.debug(ex.getMessage());
-                    }
-                }
+            int ageMinutes = (hours * 60) + minutes;
+            int ageSeconds;
 
-                int ageMinutes = (hours * 60) + minutes;
-                int ageSeconds;
+            if (0 != ageMinutes / 1.5) {
+                // unit given is not an exact number, they truncated it.  add 30s to timer
+                ageSeconds = ageMinutes * 60 + 30;
+            } else {
+                // unit given is an exact number
+                ageSeconds = ageMinutes * 60;
+            }
 
-                if (0 != ageMinutes / 1.5) {
-                    // unit given is not an exact number, they truncated it.  add 30s to timer
-                    ageSeconds = ageMinutes * 60 + 30;
-                } else {
-                    // unit given is an exact number
-                    ageSeconds = ageMinutes * 60;
-                }
+            int ticksAliveInDialog = ageSeconds / 90;
+            if (ticksAliveInDialog == growthTicksAlive) {
+                // ticks alive is accurate.  don't adjust it, it's tracking as it should.
+                return;
+            } else {
 
-                int ticksAliveInDialog = ageSeconds / 90;
-                if (ticksAliveInDialog == growthTicksAlive) {
-                    // ticks alive is accurate.  don't adjust it, it's tracking as it should.
-                    return;
-                } else {
+                double dialogMinutes = ticksAliveInDialog * 1.5;
+                double inaccurateMinutes = growthTicksAlive * 1.5;
+                log.debug("Kitten's growth ticks alive is NOT accurate: adjusting from " + growthTicksAlive +
+                        " to " + ticksAliveInDialog + " ticks alive. (" + inaccurateMinutes + " to " +
+                        dialogMinutes + " min.)");
+                growthTicksAlive = ticksAliveInDialog;
+
+                /* update attn/growth to minimum values if we know they are inaccurate from new kitten growth time.
+                for example, in the case of turning in a cat on mobile, and then you got a new kitten that
+                is the same color (same follower ID), nextHungryTick and nextAttentionTick will not have been reset.
+                if attention required tick OR hunger required tick is too far away to be possible, reset
+                BOTH to the given values upon getting a new kitten so the user doesn't think they're good to go
+                for like 2.5h or whatever.  if one is inaccurate, the other will be too.  these will update
+                accordingly once the user feeds/plays with kitten, or in-game notifications warn of hunger/attention.
+                Need to do this before updating timer values, so it displays properly during first shown growth tick
+                 */
+                if (TICKS_TO_ATTENTION_RUN_AWAY_BALL_OF_WOOL < nextAttentionTick - growthTicksAlive ||
+                        TICKS_TO_HUNGER_RUN_AWAY < nextHungryTick - growthTicksAlive) {
 
-                    double dialogMinutes = ticksAliveInDialog * 1.5;
-                    double inaccurateMinutes = growthTicksAlive * 1.5;
-                    log.debug("Kitten's growth ticks alive is NOT accurate: adjusting from " + growthTicksAlive +
-                            " to " + ticksAliveInDialog + " ticks alive. (" + inaccurateMinutes + " to " +
-                            dialogMinutes + " min.)");
-                    growthTicksAlive = ticksAliveInDialog;
-
-                    /* update attn/growth to minimum values if we know they are inaccurate from new kitten growth time.
-                    for example, in the case of turning in a cat on mobile, and then you got a new kitten that
-                    is the same color (same follower ID), nextHungryTick and nextAttentionTick will not have been reset.
-                    if attention required tick OR hunger required tick is too far away to be possible, reset
-                    BOTH to the given values upon getting a new kitten so the user doesn't think they're good to go
-                    for like 2.5h or whatever.  if one is inaccurate, the other will be too.  these will update
-                    accordingly once the user feeds/plays with kitten, or in-game notifications warn of hunger/attention.
-                    Need to do this before updating timer values, so it displays properly during first shown growth tick
-                     */
-                    if (TICKS_TO_ATTENTION_RUN_AWAY_BALL_OF_WOOL < nextAttentionTick - growthTicksAlive ||
-                            TICKS_TO_HUNGER_RUN_AWAY < nextHungryTick - growthTicksAlive) {
-
-                        nextAttentionTick = TICKS_TO_ATTENTION_RUN_AWAY_MULTIPLE_STROKES;
-                        nextHungryTick = TICKS_TO_HUNGER_RUN_AWAY;
-                    }
+                    nextAttentionTick = TICKS_TO_ATTENTION_RUN_AWAY_MULTIPLE_STROKES;
+                    nextHungryTick = TICKS_TO_HUNGER_RUN_AWAY;
+                }
 
-                    /* note: this will not give you the age in a round increment.  it should give you the exact growth
-                    progress that your kitten has.  even though the overall age was incorrect, the progress within the
-                    tick is still being accurately tracked, and we will use that here.
-                     */
-                    if (90 <= secondsInTick) {
-                        // don't overshoot growth progress if progress paused because you're in the dialog menu
-                        addKittenGrowthBox((TICKS_TO_ADULTHOOD - growthTicksAlive - 1) * 90);
-                        addAttentionTimer((nextAttentionTick - growthTicksAlive - 1) * 90);
-                        addHungryTimer((nextHungryTick - growthTicksAlive - 1) * 90);
-                    } else {
-                        addKittenGrowthBox((TICKS_TO_ADULTHOOD - growthTicksAlive) * 90 - secondsInTick);
-                        addAttentionTimer((nextAttentionTick - growthTicksAlive) * 90 - secondsInTick);
-                        addHungryTimer((nextHungryTick - growthTicksAlive) * 90 - secondsInTick);
-                    }
+                /* note: this will not give you the age in a round increment.  it should give you the exact growth
+                progress that your kitten has.  even though the overall age was incorrect, the progress within the
+                tick is still being accurately tracked, and we will use that here.
+                 */
+                if (90 <= secondsInTick) {
+                    // don't overshoot growth progress if progress paused because you're in the dialog menu
+                    addKittenGrowthBox((TICKS_TO_ADULTHOOD - growthTicksAlive - 1) * 90);
+                    addAttentionTimer((nextAttentionTick - growthTicksAlive - 1) * 90);
+                    addHungryTimer((nextHungryTick - growthTicksAlive - 1) * 90);
+                } else {
+                    addKittenGrowthBox((TICKS_TO_ADULTHOOD - growthTicksAlive) * 90 - secondsInTick);
+                    addAttentionTimer((nextAttentionTick - growthTicksAlive) * 90 - secondsInTick);
+                    addHungryTimer((nextHungryTick - growthTicksAlive) * 90 - secondsInTick);
                 }
             }
         }
-        Widget dialog = client.getWidget(WidgetID.DIALOG_SPRITE_GROUP_ID, 2);
-        if (null != dialog) {
-            String notificationText = Text.removeTags(dialog.getText());
-            if (notificationText.startsWith(DIALOG_HAND_OVER_CAT_CIVILIAN)) {
-                growthTickStartTime = null;
-                kittenLastAttentionTime = null;
-                previousFollowerId = 0;
-                config.felineId(0); // in case the new kitten has the same NpcID. We need to track growth progress from the beginning.
+    }
 
-                infoBoxManager.removeIf(t -> t instanceof KittenGrowthTimer);
-                infoBoxManager.removeIf(t -> t instanceof KittenHungryTimer);
-                infoBoxManager.removeIf(t -> t instanceof KittenAttentionTimer);
-                followerID = 0;
-            }
+    private void checkSpriteDialog() {
+        Widget dialog = client.getWidget(WidgetID.DIALOG_SPRITE_GROUP_ID, 2);
+        if (null == dialog) {
+            return;
+        }
+        String notificationText = Text.removeTags(dialog.getText());
+        if (notificationText.startsWith(DIALOG_HAND_OVER_CAT_CIVILIAN)) {
+            growthTickStartTick = NO_TICK;
+            kittenLastAttentionTick = NO_TICK;
+            previousFollowerId = 0;
+            configBuffer.felineId(0); // in case the new kitten has the same NpcID. We need to track growth progress from the beginning.
+            configBuffer.flush();
+
+            infoBoxManager.removeIf(t -> t instanceof KittenGrowthTimer);
+            infoBoxManager.removeIf(t -> t instanceof KittenHungryTimer);
+            infoBoxManager.removeIf(t -> t instanceof KittenAttentionTimer);
+            followerID = 0;
         }
     }
 
@@ -962,9 +993,8 @@ public class KittenPlugin extends Plugin {
         if (event.getKey().equals("kittenInfoBox")) {
             if (event.getNewValue().equals("true")) {
                 if (isKitten()) {
-                    growthTicksAlive = config.growthTicksAlive();
-                    timeInTick = Duration.between(growthTickStartTime, Instant.now());
-                    int secondsInTick = Math.toIntExact(timeInTick.getSeconds());
+                    growthTicksAlive = configBuffer.growthTicksAlive();
+                    int secondsInTick = currentSecondsInTick();
                     addKittenGrowthBox((TICKS_TO_ADULTHOOD - growthTicksAlive) * GROWTH_TICK_IN_SECONDS - secondsInTick);
                 }
             }
@@ -978,9 +1008,8 @@ public class KittenPlugin extends Plugin {
         if (event.getKey().equals("catInfoBox")) {
             if (event.getNewValue().equals("true")) {
                 if (isCat()) {
-                    growthTicksAlive = config.growthTicksAlive();
-                    timeInTick = Duration.between(growthTickStartTime, Instant.now());
-                    int secondsInTick = Math.toIntExact(timeInTick.getSeconds());
+                    growthTicksAlive = configBuffer.growthTicksAlive();
+                    int secondsInTick = currentSecondsInTick();
                     addKittenGrowthBox(TIME_TILL_OVERGROWN_IN_SECONDS + TIME_TO_ADULTHOOD_IN_SECONDS -
                             growthTicksAlive * GROWTH_TICK_IN_SECONDS - secondsInTick);
 
@@ -995,8 +1024,7 @@ public class KittenPlugin extends Plugin {
 
         if (event.getKey().equals("kittenAttentionBox")) {
             if (event.getNewValue().equals("true")) {
-                timeInTick = Duration.between(growthTickStartTime, Instant.now());
-                int secondsInTick = Math.toIntExact(timeInTick.getSeconds());
+                int secondsInTick = currentSecondsInTick();
                 int secondsTillAttention = (nextAttentionTick - growthTicksAlive) * GROWTH_TICK_IN_SECONDS - secondsInTick;
                 addAttentionTimer(secondsTillAttention);
             }
@@ -1007,8 +1035,7 @@ public class KittenPlugin extends Plugin {
 
         if (event.getKey().equals("kittenHungryBox")) {
             if (event.getNewValue().equals("true")) {
-                timeInTick = Duration.between(growthTickStartTime, Instant.now());
-                int secondsInTick = Math.toIntExact(timeInTick.getSeconds());
+                int secondsInTick = currentSecondsInTick();
                 int secondsTillHungry = (nextHungryTick - growthTicksAlive) * GROWTH_TICK_IN_SECONDS - secondsInTick;
                 addAttentionTimer(secondsTillHungry);
             }
@@ -1078,6 +1105,7 @@ public class KittenPlugin extends Plugin {
             case HOPPING:
                 noGrowthSinceLoggedIn = true;
                 // this doesn't need to break here, and really I want both logging in & hopping to set this to true.
+                configBuffer.flush();
             case CONNECTION_LOST: // CHECK: this may be a condition causing the timer not to stop when the window is closed
                 ready = true;
                 break;
@@ -1090,9 +1118,23 @@ public class KittenPlugin extends Plugin {
                 byeFollower();
                 break;
             case LOADING:
-                lastLoadingTime = Instant.now();
+                lastLoadingTick = gameTicks;
+
+        }
+    }
 
+    /**
+     * Whole seconds into the current growth tick, counted in game ticks; 0 if no growth tick is running.
+     */
+    private int currentSecondsInTick() {
+        if (NO_TICK == growthTickStartTick) {
+            return 0;
         }
+        return (gameTicks - growthTickStartTick) * Constants.GAME_TICK_LENGTH / 1000;
+    }
+
+    private static long millisUntil(Timer timer) {
+        return timer.getEndTime().toEpochMilli() - System.currentTimeMillis();
     }
 
     public boolean playerHasFollower() {
@@ -1109,8 +1151,7 @@ public class KittenPlugin extends Plugin {
         }
         if (isKitten()) {
             long ret;
-            timeInTick = Duration.between(growthTickStartTime, Instant.now());
-            int secondsInTick = Math.toIntExact(timeInTick.getSeconds());
+            int secondsInTick = currentSecondsInTick();
             if (90 < secondsInTick) {
                 // paused at the end of the tick, but it hasn't progressed yet (player is in menus)
                 ret = (long) (TICKS_TO_ADULTHOOD - growthTicksAlive - 1) * 90 * 1000;
@@ -1125,7 +1166,7 @@ public class KittenPlugin extends Plugin {
                 if (growthTimer.cull()) {
                     return 0L;
                 } else {
-                    return Math.abs(growthTimer.getEndTime().until(Instant.now(), ChronoUnit.MILLIS));
+                    return Math.abs(millisUntil(growthTimer));
                 }
             }
         }
@@ -1146,8 +1187,7 @@ public class KittenPlugin extends Plugin {
         }
 
         long ret;
-        timeInTick = Duration.between(growthTickStartTime, Instant.now());
-        int secondsInTick = Math.toIntExact(timeInTick.getSeconds());
+        int secondsInTick = currentSecondsInTick();
         if (90 <= secondsInTick) {
             // paused at the end of the tick, but it hasn't progressed yet (player is in menus)
             ret = (long) (TICKS_TO_ADULTHOOD + TICKS_TO_OVERGROWN - growthTicksAlive - 1) * 90 * 1000;
@@ -1157,7 +1197,7 @@ public class KittenPlugin extends Plugin {
                 return ret;
             }
         } else {
-            ret = Math.abs(growthTimer.getEndTime().until(Instant.now(), ChronoUnit.MILLIS));
+            ret = Math.abs(millisUntil(growthTimer));
         }
 
         if (isCat()) {
@@ -1185,7 +1225,7 @@ public class KittenPlugin extends Plugin {
                 if (kittenHungryTimer.cull()) {
                     return 0L;
                 } else {
-                    return Math.abs(kittenHungryTimer.getEndTime().until(Instant.now(), ChronoUnit.MILLIS));
+                    return Math.abs(millisUntil(kittenHungryTimer));
                 }
             }
         }
@@ -1211,7 +1251,7 @@ public class KittenPlugin extends Plugin {
                 if (kittenAttentionTimer.cull()) {
                     return 0L;
                 } else {
-                    return Math.abs(kittenAttentionTimer.getEndTime().until(Instant.now(), ChronoUnit.MILLIS));
+                    return Math.abs(millisUntil(kittenAttentionTimer));
                 }
             }
         }
@@ -2,10 +2,16 @@ package net.runelite.client.plugins.microbot.mining;
 
 import com.google.inject.Provides;
 import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.events.GameStateChanged;
+import net.runelite.api.events.ItemContainerChanged;
+import net.runelite.api.events.StatChanged;
+import net.runelite.api.events.VarbitChanged;
 import net.runelite.client.config.ConfigManager;
+import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
 import net.runelite.client.plugins.microbot.PluginConstants;
+import net.runelite.client.plugins.microbot.RequirementEngine;
 import net.runelite.client.ui.overlay.OverlayManager;
 
 import javax.inject.Inject;
@@ -24,7 +30,7 @@ import java.awt.*;
 )
 @Slf4j
 public class AutoMiningPlugin extends Plugin {
-    public static final String version = "1.0.10";
+    public static final String version = "1.0.11";
     @Inject
     private AutoMiningConfig config;
     @Provides
@@ -53,4 +59,25 @@ public class AutoMiningPlugin extends Plugin {
         autoMiningScript.shutdown();
         overlayManager.remove(autoMiningOverlay);
     }
+
+    // Location requirement results are cached until one of these changes
+    @Subscribe
+    public void onStatChanged(StatChanged event) {
+        RequirementEngine.invalidate();
+    }
+
+    @Subscribe
+    public void onVarbitChanged(VarbitChanged event) {
+        RequirementEngine.invalidate();
+    }
+
+    @Subscribe
+    public void onItemContainerChanged(ItemContainerChanged event) {
+        RequirementEngine.invalidate();
+    }
+
+    @Subscribe
+    public void onGameStateChanged(GameStateChanged event) {
+        RequirementEngine.onGameStateChanged(event.getGameState());
+    }
 }
@@ -10,6 +10,8 @@ import net.runelite.api.gameval.ItemID;
 import net.runelite.client.plugins.microbot.util.player.Rs2Player;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -24,11 +26,28 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class MiningRockLocations {
 
+    // Location tables are built once; requirement results are cached per LocationOption
+    private static final Map<Rocks, List<LocationOption>> LOCATIONS = new EnumMap<>(Rocks.class);
+    private static final Map<Rocks, List<ResourceLocationOption>> RESOURCE_LOCATIONS = new EnumMap<>(Rocks.class);
+
+    static {
+        for (Rocks rock : Rocks.values()) {
+            LOCATIONS.put(rock, Collections.unmodifiableList(buildLocationsForRock(rock)));
+            RESOURCE_LOCATIONS.put(rock, Collections.unmodifiableList(buildResourceLocationsForRock(rock)));
+        }
+    }
+
     /**
      * Gets the best locations for a specific rock/ore type.
      * Locations are ordered by preference (best locations first).
+     *
+     * @return an unmodifiable, shared list
      */
     public static List<LocationOption> getLocationsForRock(Rocks rock) {
+        return LOCATIONS.getOrDefault(rock, Collections.emptyList());
+    }
+
+    private static List<LocationOption> buildLocationsForRock(Rocks rock) {
         switch (rock) {
             case TIN:
                 return getTinRockLocations();
@@ -98,8 +117,14 @@ public class MiningRockLocations {
      * Gets the best locations for a specific rock type with resource information.
      * Locations are ordered by preference (best locations first).
      * Returns ResourceLocationOption instances with rock count data.
+     *
+     * @return an unmodifiable, shared list
      */
     public static List<ResourceLocationOption> getResourceLocationsForRock(Rocks rock) {
+        return RESOURCE_LOCATIONS.getOrDefault(rock, Collections.emptyList());
+    }
+
+    private static List<ResourceLocationOption> buildResourceLocationsForRock(Rocks rock) {
         switch (rock) {
             case TIN:
                 return getTinRockResourceLocations();
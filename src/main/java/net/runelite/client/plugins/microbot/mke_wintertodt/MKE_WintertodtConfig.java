@@ -369,4 +369,15 @@ public interface MKE_WintertodtConfig extends Config {
     default boolean showAntibanOverlay() {
         return true;
     }
-}
\ No newline at end of file
+
+    @ConfigItem(
+            keyName = "TickDrivenExecution",
+            name = "⏱️ Tick-Driven Execution",
+            description = "Only re-evaluate the state machine when a game tick, varbit or inventory change occurs instead of polling every 60ms. Lowers CPU usage when running many clients.",
+            position = 5,
+            section = advancedSection
+    )
+    default boolean tickDrivenExecution() {
+        return false;
+    }
+}
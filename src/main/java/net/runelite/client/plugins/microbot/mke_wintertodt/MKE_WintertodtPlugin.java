@@ -7,8 +7,11 @@ import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.*;
 import net.runelite.api.events.ChatMessage;
+import net.runelite.api.events.GameTick;
 import net.runelite.api.events.HitsplatApplied;
+import net.runelite.api.events.ItemContainerChanged;
 import net.runelite.api.events.StatChanged;
+import net.runelite.api.events.VarbitChanged;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.plugins.Plugin;
@@ -42,7 +45,7 @@ import java.time.Instant;
 )
 @Slf4j
 public class MKE_WintertodtPlugin extends Plugin {
-    static final String version = "2.1.2";
+    static final String version = "2.1.5";
 
     // Core plugin components
     @Inject
@@ -489,6 +492,30 @@ public class MKE_WintertodtPlugin extends Plugin {
         }
     }
 
+    /**
+     * Forwards game ticks to the script for tick-driven execution and loop statistics.
+     */
+    @Subscribe
+    public void onGameTick(GameTick gameTick) {
+        MKE_WintertodtScript.onGameTick(gameTick);
+    }
+
+    /**
+     * Forwards varbit changes to the script so tick-driven execution can re-evaluate.
+     */
+    @Subscribe
+    public void onVarbitChanged(VarbitChanged varbitChanged) {
+        MKE_WintertodtScript.onVarbitChanged(varbitChanged);
+    }
+
+    /**
+     * Forwards inventory/equipment changes to the script so tick-driven execution can re-evaluate.
+     */
+    @Subscribe
+    public void onItemContainerChanged(ItemContainerChanged itemContainerChanged) {
+        MKE_WintertodtScript.onItemContainerChanged(itemContainerChanged);
+    }
+
     /**
      * Tracks skill experience changes to update action statistics.
      */
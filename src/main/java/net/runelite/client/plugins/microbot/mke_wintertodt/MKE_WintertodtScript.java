@@ -1,11 +1,17 @@
 package net.runelite.client.plugins.microbot.mke_wintertodt;
 
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.*;
 import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.events.GameTick;
 import net.runelite.api.events.HitsplatApplied;
+import net.runelite.api.events.ItemContainerChanged;
 import net.runelite.api.events.StatChanged;
+import net.runelite.api.events.VarbitChanged;
 import net.runelite.api.widgets.Widget;
 import net.runelite.client.plugins.microbot.Microbot;
+import net.runelite.client.plugins.microbot.PluginDiagnostics;
 import net.runelite.client.plugins.microbot.Script;
 import net.runelite.client.plugins.microbot.mke_wintertodt.enums.HealingMethod;
 import net.runelite.client.plugins.microbot.breakhandler.BreakHandlerScript;
@@ -36,9 +42,16 @@ import net.runelite.client.plugins.microbot.mke_wintertodt.startup.inventory.Win
 import java.awt.Point;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.Random;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -86,6 +99,7 @@ import static net.runelite.client.plugins.microbot.util.player.Rs2Player.eatAt;
  * @version 2.1.0
  * @author MakeCD
  */
+@Slf4j
 public class MKE_WintertodtScript extends Script {
 
     // State management
@@ -196,6 +210,27 @@ public class MKE_WintertodtScript extends Script {
     private long lastPerformanceCheck = 0;
     private int actionsPerformed = 0;
     private int consecutiveFailures = 0;
+    private int loopIterations = 0;
+
+    /**
+     * Why a main loop pass skipped its normal activities; counted and summarised once a minute.
+     */
+    private enum SkipReason {
+        EMERGENCY_BANKING_EXIT,
+        BREAK_ACTIVE,
+        BRAZIER_PRIORITY,
+        FINISHING_UP,
+        WAITING_FOR_ROUND_END
+    }
+
+    private final PluginDiagnostics diagnostics = new PluginDiagnostics("Wintertodt", 10_000, 60_000);
+    private int stateEvaluations = 0;
+
+    // Tick-driven execution (opt-in): the 60ms loop only runs a full pass after a relevant event
+    private static final long TICK_DRIVEN_MAX_IDLE_MS = GAME_TICK_LENGTH * 2L;
+    private static final AtomicBoolean reevaluationRequested = new AtomicBoolean(true);
+    private static final AtomicInteger gameTicksObserved = new AtomicInteger();
+    private long lastEvaluationTime = 0;
     
     // Exit failure tracking for banking
     private int consecutiveExitFailures = 0;
@@ -233,28 +268,77 @@ public class MKE_WintertodtScript extends Script {
     private static final int CHOPPING_RADIUS = 10;
 
     // Object IDs for rejuvenation potion creation
+    private static final Pattern ENERGY_PATTERN = Pattern.compile("(\\d+)");
     private static final int CRATE_OBJECT_ID = 29320; // Crate for concoctions
     private static final int SPROUTING_ROOTS_OBJECT_ID = 29315; // Sprouting roots for herbs
 
     private final WorldPoint BREWMA_NPC_LOCATION = new WorldPoint(1635, 3986, 0);
     private final WorldPoint BREWMA_NPC_INTERACT_LOCATION = new WorldPoint(1634, 3986, 0);
 
+    // Object ids indexed by the per-tick snapshot (one scene scan instead of one per lookup)
+    private static final Set<Integer> SNAPSHOT_OBJECT_IDS = Set.of(
+            BRAZIER_29312, BRAZIER_29313, BURNING_BRAZIER_29314,
+            ObjectID.BRUMA_ROOTS, CRATE_OBJECT_ID, SPROUTING_ROOTS_OBJECT_ID);
+
+    // Memoized snapshot, rebuilt on the next game tick or after an inventory change
+    private static volatile GameState cachedGameState;
+    private static volatile int cachedGameStateTick = -1;
+    private static volatile boolean gameStateInvalidated = true;
+
     /**
-     * Inner class to hold comprehensive game state information.
+     * Immutable per-tick snapshot of the world as seen by the state machine.
+     * Built once per game tick by {@link #analyzeGameState()} and shared read-only
+     * by every handle*State method. Object and NPC lists are ordered nearest to the
+     * configured brazier first.
      */
-    private static class GameState {
-        boolean wintertodtRespawning;
-        boolean isWintertodtAlive;
-        int playerWarmth;
-        GameObject brazier;
-        GameObject brokenBrazier;
-        GameObject burningBrazier;
-        boolean needBanking;
-        boolean needPotions = false; // For rejuvenation potion logic
-        int wintertodtHp = -1;
-        boolean inventoryFull;
-        boolean hasItemsToBurn;
-        boolean hasRootsToFletch;
+    @Builder
+    private static final class GameState {
+        final boolean wintertodtRespawning;
+        final boolean isWintertodtAlive;
+        final int playerWarmth;
+        final GameObject brazier;
+        final GameObject brokenBrazier;
+        final GameObject burningBrazier;
+        final boolean needBanking;
+        @Builder.Default
+        final boolean needPotions = false; // For rejuvenation potion logic
+        @Builder.Default
+        final int wintertodtHp = -1;
+        final boolean inventoryFull;
+        final boolean hasItemsToBurn;
+        final boolean hasRootsToFletch;
+        @Builder.Default
+        final List<GameObject> ownSideRoots = Collections.emptyList();
+        @Builder.Default
+        final Map<Integer, List<GameObject>> objectsById = Collections.emptyMap();
+
+        /**
+         * @return the closest Bruma root on our side of the brazier, or null
+         */
+        GameObject nearestOwnSideRoot() {
+            return ownSideRoots.isEmpty() ? null : ownSideRoots.get(0);
+        }
+
+        /**
+         * Finds an indexed object at the given location, falling back to the nearest
+         * one within {@code maxDistance} tiles of it.
+         */
+        GameObject findObject(int objectId, WorldPoint location, int maxDistance) {
+            List<GameObject> objects = objectsById.getOrDefault(objectId, Collections.emptyList());
+            GameObject best = null;
+            int bestDistance = Integer.MAX_VALUE;
+            for (GameObject object : objects) {
+                int distance = object.getWorldLocation().distanceTo(location);
+                if (distance == 0) {
+                    return object;
+                }
+                if (distance <= maxDistance && distance < bestDistance) {
+                    best = object;
+                    bestDistance = distance;
+                }
+            }
+            return best;
+        }
     }
     
     /**
@@ -319,16 +403,11 @@ public class MKE_WintertodtScript extends Script {
     }
 
     /* Returns the closest Bruma root that is on the same side as the
-       selected brazier (<= 8 tiles from that brazier). */
+       selected brazier (<= 10 tiles from that brazier), read from the
+       per-tick snapshot. */
     private GameObject getOwnSideRoot()
     {
-        WorldPoint ref = config.brazierLocation().getBRAZIER_LOCATION();
-        return Rs2GameObject.getGameObjects(10).stream()
-                .filter(o -> o.getId() == ObjectID.BRUMA_ROOTS)
-                .filter(o -> o.getWorldLocation().distanceTo(ref) <= 10)
-                .min(java.util.Comparator.comparingInt(o -> o.getWorldLocation()
-                                                           .distanceTo(ref)))
-                .orElse(null);
+        return analyzeGameState().nearestOwnSideRoot();
     }
 
     // ---------------------------------------------------------------
@@ -394,6 +473,41 @@ public class MKE_WintertodtScript extends Script {
     }
     // ---------------------------------------------------------------
 
+    /**
+     * Game tick hook. Counts ticks for performance reporting and requests a
+     * state machine pass when tick-driven execution is enabled.
+     *
+     * @param event The game tick event
+     */
+    public static void onGameTick(GameTick event) {
+        gameTicksObserved.incrementAndGet();
+        reevaluationRequested.set(true);
+    }
+
+    /**
+     * Varbit hook. Any varbit/varp change may affect the current state, so a pass is requested.
+     *
+     * @param event The varbit changed event
+     */
+    public static void onVarbitChanged(VarbitChanged event) {
+        reevaluationRequested.set(true);
+    }
+
+    /**
+     * Item container hook. Only inventory, equipment and bank changes request a pass.
+     *
+     * @param event The item container changed event
+     */
+    public static void onItemContainerChanged(ItemContainerChanged event) {
+        int containerId = event.getContainerId();
+        if (containerId == InventoryID.INVENTORY.getId()
+                || containerId == InventoryID.EQUIPMENT.getId()
+                || containerId == InventoryID.BANK.getId()) {
+            gameStateInvalidated = true;
+            reevaluationRequested.set(true);
+        }
+    }
+
     // --------------- planning a new run ----------------------------
     public  static int rootsChoppedThisRun   = 0;
 
@@ -1035,6 +1149,15 @@ public class MKE_WintertodtScript extends Script {
 
                 if (!super.run()) return;
 
+                loopIterations++;
+                diagnostics.flushIfDue();
+
+                // Tick-driven mode: skip this pass if nothing changed since the last one
+                if (!shouldEvaluateThisPass()) {
+                    return;
+                }
+                stateEvaluations++;
+
                 // Performance monitoring
                 long loopStartTime = System.currentTimeMillis();
 
@@ -1187,6 +1310,14 @@ public class MKE_WintertodtScript extends Script {
         // Reset performance tracking
         lastPerformanceCheck = 0;
         actionsPerformed = 0;
+        loopIterations = 0;
+        stateEvaluations = 0;
+        lastEvaluationTime = 0;
+        cachedGameState = null;
+        cachedGameStateTick = -1;
+        gameStateInvalidated = true;
+        gameTicksObserved.set(0);
+        reevaluationRequested.set(true);
         consecutiveFailures = 0;
         
         // Reset fletching state
@@ -1428,10 +1559,29 @@ public class MKE_WintertodtScript extends Script {
     }
 
     /**
-     * Analyzes the current game state and returns a comprehensive state object.
+     * Returns the world snapshot for the current game tick, building it on first use.
+     * Every caller within the same tick (handlers, interruption checks, hover logic)
+     * shares one instance; an inventory change forces a rebuild.
      */
     private GameState analyzeGameState() {
-        GameState gameState = new GameState();
+        int tick = Microbot.getClient().getTickCount();
+        GameState snapshot = cachedGameState;
+        if (snapshot != null && !gameStateInvalidated && cachedGameStateTick == tick) {
+            return snapshot;
+        }
+
+        gameStateInvalidated = false;
+        snapshot = buildGameState();
+        cachedGameState = snapshot;
+        cachedGameStateTick = tick;
+        return snapshot;
+    }
+
+    /**
+     * Analyzes the current game state and returns a comprehensive state object.
+     */
+    private GameState buildGameState() {
+        GameState.GameStateBuilder gameState = GameState.builder();
 
         try {
             /* ----- round-timer + HP based lifecycle detection ----- */
@@ -1442,7 +1592,7 @@ public class MKE_WintertodtScript extends Script {
             int wtHp = -1;
             Widget energyWidget = Rs2Widget.getWidget(396, 26);
             if (energyWidget != null) {
-                Matcher m = Pattern.compile("(\\d+)").matcher(energyWidget.getText());
+                Matcher m = ENERGY_PATTERN.matcher(energyWidget.getText());
                 if (m.find()) {
                     wtHp = Integer.parseInt(m.group(1));
                 }
@@ -1454,20 +1604,30 @@ public class MKE_WintertodtScript extends Script {
 
             boolean roundActive = !timerVisible && wtHp != 0;     // active only if timer gone AND HP not 0
 
-            gameState.wintertodtRespawning = !roundActive;        // includes HP 0 or timer visible
-            gameState.isWintertodtAlive   = roundActive;
-            gameState.wintertodtHp        = wtHp;
+            gameState.wintertodtRespawning(!roundActive);        // includes HP 0 or timer visible
+            gameState.isWintertodtAlive(roundActive);
+            gameState.wintertodtHp(wtHp);
             /* ----------------------------------------------------- */
 
-            gameState.playerWarmth      = getWarmthLevel();
-
-            // Object detection
-            gameState.brazier        = Rs2GameObject.findObject(BRAZIER_29312,
-                                          config.brazierLocation().getOBJECT_BRAZIER_LOCATION());
-            gameState.brokenBrazier  = Rs2GameObject.findObject(BRAZIER_29313,
-                                          config.brazierLocation().getOBJECT_BRAZIER_LOCATION());
-            gameState.burningBrazier = Rs2GameObject.findObject(BURNING_BRAZIER_29314,
-                                          config.brazierLocation().getOBJECT_BRAZIER_LOCATION());
+            int playerWarmth = getWarmthLevel();
+            gameState.playerWarmth(playerWarmth);
+
+            // Object detection - single scene scan, indexed by id and ordered by distance to our brazier
+            WorldPoint brazierLocation = config.brazierLocation().getOBJECT_BRAZIER_LOCATION();
+            WorldPoint brazierStandLocation = config.brazierLocation().getBRAZIER_LOCATION();
+            Map<Integer, List<GameObject>> objectsById = indexObjectsById(brazierStandLocation);
+            gameState.objectsById(objectsById);
+            gameState.brazier(findObjectAt(objectsById, BRAZIER_29312, brazierLocation));
+            gameState.brokenBrazier(findObjectAt(objectsById, BRAZIER_29313, brazierLocation));
+            gameState.burningBrazier(findObjectAt(objectsById, BURNING_BRAZIER_29314, brazierLocation));
+
+            List<GameObject> ownSideRoots = new ArrayList<>();
+            for (GameObject root : objectsById.getOrDefault(ObjectID.BRUMA_ROOTS, Collections.emptyList())) {
+                if (root.getWorldLocation().distanceTo(brazierStandLocation) <= 10) {
+                    ownSideRoots.add(root);
+                }
+            }
+            gameState.ownSideRoots(Collections.unmodifiableList(ownSideRoots));
 
             // Health and food management - determine healing strategy
             if (!autoAdjustedPotionUsage) {
@@ -1480,49 +1640,80 @@ public class MKE_WintertodtScript extends Script {
 
             boolean lowAndOutOfFood =
                     (foodCount == 0) &&
-                    (gameState.playerWarmth <= config.eatAtWarmthLevel());
+                    (playerWarmth <= config.eatAtWarmthLevel());
 
             /* ─────────── BANKING RULES FOR REJUVENATION POTIONS ─────────── */
             if (usesPotions) {
                 // When using rejuvenation potions, we make them instead of banking
-                if (gameState.wintertodtRespawning) {
+                if (!roundActive) {
                     // During round break, make potions if we need them
-                    gameState.needBanking = false; // Never bank with rejuv potions
-                    gameState.needPotions = foodCount < config.minHealingItems();
+                    gameState.needBanking(false); // Never bank with rejuv potions
+                    gameState.needPotions(foodCount < config.minHealingItems());
                 } else if (inBossRoom) {
                     // During active round, only make potions if we're out AND low warmth
-                    gameState.needBanking = false;
-                    gameState.needPotions = lowAndOutOfFood;
+                    gameState.needBanking(false);
+                    gameState.needPotions(lowAndOutOfFood);
                 } else {
                     // In lobby area with rejuv potions
-                    gameState.needBanking = false;
-                    gameState.needPotions = foodCount < config.minHealingItems();
+                    gameState.needBanking(false);
+                    gameState.needPotions(foodCount < config.minHealingItems());
                 }
             } else {
                 // Original banking logic for regular food
-                if (gameState.wintertodtRespawning) {
-                    gameState.needBanking = foodCount < config.minHealingItems();
+                if (!roundActive) {
+                    gameState.needBanking(foodCount < config.minHealingItems());
                 } else if (inBossRoom) {
-                    gameState.needBanking = lowAndOutOfFood;
+                    gameState.needBanking(lowAndOutOfFood);
                 } else {
-                    gameState.needBanking = foodCount < config.minHealingItems();
+                    gameState.needBanking(foodCount < config.minHealingItems());
                 }
-                gameState.needPotions = false;
+                gameState.needPotions(false);
             }
 
             // Inventory state
-            gameState.inventoryFull = Rs2Inventory.isFull();
-            gameState.hasItemsToBurn = Rs2Inventory.hasItem(ItemID.BRUMA_KINDLING) || Rs2Inventory.hasItem(ItemID.BRUMA_ROOT);
-            gameState.hasRootsToFletch = Rs2Inventory.hasItem(ItemID.BRUMA_ROOT);
+            int rootCount = Rs2Inventory.count(ItemID.BRUMA_ROOT);
+            int kindlingCount = Rs2Inventory.count(ItemID.BRUMA_KINDLING);
+            gameState.inventoryFull(Rs2Inventory.isFull());
+            gameState.hasItemsToBurn(kindlingCount > 0 || rootCount > 0);
+            gameState.hasRootsToFletch(rootCount > 0);
 
             // For overlay action plan
-            currentBurnableCount = Rs2Inventory.count(ItemID.BRUMA_ROOT) + Rs2Inventory.count(ItemID.BRUMA_KINDLING);
+            currentBurnableCount = rootCount + kindlingCount;
 
         } catch (Exception e) {
             System.err.println("Error analyzing game state: " + e.getMessage());
         }
 
-        return gameState;
+        return gameState.build();
+    }
+
+    /**
+     * Scans the scene once for every object the state machine cares about and
+     * groups them by id, each list ordered by distance to the given reference point.
+     */
+    private static Map<Integer, List<GameObject>> indexObjectsById(WorldPoint reference) {
+        Map<Integer, List<GameObject>> objectsById = new HashMap<>();
+        for (GameObject object : Rs2GameObject.getGameObjects(o -> SNAPSHOT_OBJECT_IDS.contains(o.getId()))) {
+            objectsById.computeIfAbsent(object.getId(), id -> new ArrayList<>()).add(object);
+        }
+        Comparator<GameObject> byDistance = Comparator.comparingInt(o -> o.getWorldLocation().distanceTo(reference));
+        for (Map.Entry<Integer, List<GameObject>> entry : objectsById.entrySet()) {
+            entry.getValue().sort(byDistance);
+            entry.setValue(Collections.unmodifiableList(entry.getValue()));
+        }
+        return Collections.unmodifiableMap(objectsById);
+    }
+
+    /**
+     * @return the indexed object with the given id standing exactly on the given tile, or null
+     */
+    private static GameObject findObjectAt(Map<Integer, List<GameObject>> objectsById, int objectId, WorldPoint location) {
+        for (GameObject object : objectsById.getOrDefault(objectId, Collections.emptyList())) {
+            if (object.getWorldLocation().equals(location)) {
+                return object;
+            }
+        }
+        return null;
     }
 
     /**
@@ -1850,7 +2041,7 @@ public class MKE_WintertodtScript extends Script {
         if (state == State.BANKING && isInsideWintertodtArea()) {
             // Skip round timer updates, reward cart checks, and main game activities
             // But execute the banking state logic directly to handle the actual exit
-            Microbot.log("Emergency banking exit in progress - executing banking logic directly");
+            diagnostics.count(SkipReason.EMERGENCY_BANKING_EXIT, () -> "Emergency banking exit in progress - executing banking logic directly");
             executeStateLogic(gameState);
             return;
         }
@@ -1859,7 +2050,7 @@ public class MKE_WintertodtScript extends Script {
         if ((BreakHandlerScript.isBreakActive() || Rs2AntibanSettings.microBreakActive) && 
             state != State.BANKING && state != State.GET_CONCOCTIONS && 
             state != State.GET_HERBS && state != State.MAKE_POTIONS) {
-            Microbot.log("Skipping main game logic due to active break");
+            diagnostics.count(SkipReason.BREAK_ACTIVE, () -> "Skipping main game logic due to active break");
             return;
         }
 
@@ -1989,14 +2180,15 @@ public class MKE_WintertodtScript extends Script {
     {
         /* If we're waiting for round to end, don't do any activities */
         if (waitingForRoundEnd) {
+            diagnostics.count(SkipReason.WAITING_FOR_ROUND_END);
             return; // Just idle until round ends naturally
         }
 
         /* Prioritize brazier lighting immediately when round starts */
         if (shouldPriorizeBrazierAtStart) {
-            Microbot.log("Round start priority active - checking if brazier needs lighting");
+            diagnostics.log("brazierPriority", () -> "Round start priority active - checking if brazier needs lighting");
             if (shouldLightBrazier(gameState)) {
-                Microbot.log("Prioritizing brazier lighting at round start (state: " + state + ")");
+                diagnostics.count(SkipReason.BRAZIER_PRIORITY, () -> "Prioritizing brazier lighting at round start (state: " + state + ")");
                 return; // Light the brazier first, then resume normal flow next tick
             } else {
                 // Brazier is already lit or doesn't need lighting, reset the flag
@@ -2010,7 +2202,7 @@ public class MKE_WintertodtScript extends Script {
         {
             if (gameState.hasItemsToBurn) {
                 if (shouldBurnLogs(gameState)) {
-                    Microbot.log("Time is almost over and we have items to burn, lets just burn them!");
+                    diagnostics.count(SkipReason.FINISHING_UP, () -> "Time is almost over and we have items to burn, lets just burn them!");
                     return;
                 }
             }
@@ -2049,7 +2241,7 @@ public class MKE_WintertodtScript extends Script {
                 // Check points before leaving - wait for rewards if we have enough
                 int currentPoints = getWintertodtPoints();
                 if (currentPoints >= 500) {
-                    Microbot.log("Have " + currentPoints + " points - waiting near door for round to end naturally");
+                    diagnostics.log("waitNearDoor", () -> "Have " + currentPoints + " points - waiting near door for round to end naturally");
                     waitingForRoundEnd = true; // Set flag to prevent resuming activities
                 } else {
                     waitingForRoundEnd = false; // Reset waiting flag if points dropped below threshold
@@ -2649,13 +2841,7 @@ public class MKE_WintertodtScript extends Script {
             }
 
             // Find and interact with crate
-            TileObject crate = Rs2GameObject.findObject(CRATE_OBJECT_ID, CRATE_LOCATION);
-            if (crate == null) {
-                crate = Rs2GameObject.getGameObjects(CRATE_OBJECT_ID).stream()
-                    .filter(c -> c.getWorldLocation().distanceTo(CRATE_LOCATION) <= 2)
-                    .findFirst()
-                    .orElse(null);
-            }
+            TileObject crate = analyzeGameState().findObject(CRATE_OBJECT_ID, CRATE_LOCATION, 2);
             
             if (crate != null) {
                 if (Rs2GameObject.interact(crate, "Take-concoction")) {
@@ -2755,13 +2941,7 @@ public class MKE_WintertodtScript extends Script {
             }
 
             // Find sprouting roots and pick
-            TileObject roots = Rs2GameObject.findObject(SPROUTING_ROOTS_OBJECT_ID, SPROUTING_ROOTS);
-            if (roots == null) {
-                roots = Rs2GameObject.getGameObjects(SPROUTING_ROOTS_OBJECT_ID).stream()
-                    .filter(r -> r.getWorldLocation().distanceTo(SPROUTING_ROOTS) <= 2)
-                    .findFirst()
-                    .orElse(null);
-            }
+            TileObject roots = analyzeGameState().findObject(SPROUTING_ROOTS_OBJECT_ID, SPROUTING_ROOTS, 2);
             
             if (roots != null) {
                 Microbot.log("Picking herbs (need " + herbsNeeded + " more)");
@@ -3552,11 +3732,19 @@ public class MKE_WintertodtScript extends Script {
 
         // Log performance occasionally
         if (System.currentTimeMillis() - lastPerformanceCheck > 60000) { // Every minute
-            System.out.println(String.format("Performance: %d actions in last minute, avg loop time: %dms",
-                    actionsPerformed, loopTime));
+            int ticks = Math.max(1, gameTicksObserved.getAndSet(0));
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("Performance: %d actions in last minute, avg loop time: %dms, "
+                                + "loops/tick: %.2f, evaluations/tick: %.2f (tick-driven: %s)",
+                        actionsPerformed, loopTime,
+                        loopIterations / (double) ticks, stateEvaluations / (double) ticks,
+                        config.tickDrivenExecution()));
+            }
 
             // Reset counters
             actionsPerformed = 0;
+            loopIterations = 0;
+            stateEvaluations = 0;
             lastPerformanceCheck = System.currentTimeMillis();
 
             // Reset consecutive failures if we're performing actions
@@ -3576,6 +3764,25 @@ public class MKE_WintertodtScript extends Script {
 
 
 
+    /**
+     * Decides whether the current loop iteration should run a full state machine pass.
+     * Always true in polling mode. In tick-driven mode a pass only runs after a game tick,
+     * varbit or inventory change, while spam clicking, or if no event arrived for two ticks.
+     *
+     * @return true if the state machine should be evaluated
+     */
+    private boolean shouldEvaluateThisPass() {
+        long now = System.currentTimeMillis();
+        if (!config.tickDrivenExecution()
+                || spamClickingActive
+                || reevaluationRequested.getAndSet(false)
+                || now - lastEvaluationTime >= TICK_DRIVEN_MAX_IDLE_MS) {
+            lastEvaluationTime = now;
+            return true;
+        }
+        return false;
+    }
+
     /**
      * Determines if a break should be triggered based on various conditions.
      *
@@ -4038,6 +4245,7 @@ public class MKE_WintertodtScript extends Script {
     @Override
     public void shutdown() {
         Microbot.log("Shutting down Enhanced Wintertodt Script");
+        diagnostics.flush();
         
         // Complete state reset to ensure clean shutdown
         resetAllScriptState();
@@ -4191,7 +4399,7 @@ public class MKE_WintertodtScript extends Script {
             
             // Priority 4: Bruma roots on our side (if we intend to chop)
             if (!gameState.inventoryFull && !gameState.hasItemsToBurn && !gameState.needBanking && !gameState.needPotions) {
-                GameObject root = getOwnSideRoot();
+                GameObject root = gameState.nearestOwnSideRoot();
                 if (root != null) {
                     Microbot.log("DEBUG: Will hover over bruma roots for chopping");
                     return root;
@@ -421,7 +421,7 @@ public class WintertodtStartupManager {
             
             // Use the gear database to check warmth flags
             net.runelite.client.plugins.microbot.mke_wintertodt.startup.gear.WintertodtGearDatabase gearDatabase = 
-                new net.runelite.client.plugins.microbot.mke_wintertodt.startup.gear.WintertodtGearDatabase();
+                net.runelite.client.plugins.microbot.mke_wintertodt.startup.gear.WintertodtGearDatabase.getInstance();
             
             Microbot.log("Analyzing equipped gear for warmth using providesWarmth() flags...");
             
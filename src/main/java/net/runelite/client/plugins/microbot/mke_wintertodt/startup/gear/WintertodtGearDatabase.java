@@ -28,13 +28,45 @@ import static net.runelite.api.EquipmentInventorySlot.*;
  */
 public class WintertodtGearDatabase {
     
+    private static volatile WintertodtGearDatabase sharedInstance;
+    
+    // Built once; every per-slot list is already sorted by effective priority (highest first)
     private final Map<EquipmentInventorySlot, List<WintertodtGearItem>> gearBySlot;
+    private final Map<Integer, WintertodtGearItem> gearById;
     private final List<WintertodtGearItem> allGearItems;
     
     public WintertodtGearDatabase() {
-        this.allGearItems = createGearDatabase();
-        this.gearBySlot = allGearItems.stream()
-                .collect(Collectors.groupingBy(WintertodtGearItem::getSlot));
+        this.allGearItems = Collections.unmodifiableList(createGearDatabase());
+        
+        Map<EquipmentInventorySlot, List<WintertodtGearItem>> bySlot = new EnumMap<>(EquipmentInventorySlot.class);
+        Map<Integer, WintertodtGearItem> byId = new HashMap<>(allGearItems.size() * 2);
+        for (WintertodtGearItem item : allGearItems) {
+            bySlot.computeIfAbsent(item.getSlot(), slot -> new ArrayList<>()).add(item);
+            // First (highest priority) entry wins, same as the previous linear search
+            byId.putIfAbsent(item.getItemId(), item);
+        }
+        bySlot.replaceAll((slot, items) -> Collections.unmodifiableList(items));
+        
+        this.gearBySlot = bySlot;
+        this.gearById = byId;
+    }
+    
+    /**
+     * Gets the shared database instance. The database is immutable, so there is no need
+     * to rebuild the ~300 entries every time gear is evaluated.
+     */
+    public static WintertodtGearDatabase getInstance() {
+        WintertodtGearDatabase instance = sharedInstance;
+        if (instance == null) {
+            synchronized (WintertodtGearDatabase.class) {
+                instance = sharedInstance;
+                if (instance == null) {
+                    instance = new WintertodtGearDatabase();
+                    sharedInstance = instance;
+                }
+            }
+        }
+        return instance;
     }
     
     /**
@@ -73,8 +105,8 @@ public class WintertodtGearDatabase {
         // CAPE SLOT ITEMS
         items.addAll(createCapeGear());
         
-        // Sort all items by effective priority (highest first)
-        items.sort((a, b) -> Integer.compare(b.getEffectivePriority(), a.getEffectivePriority()));
+        // Sort all items by effective priority (highest first), stable so ties keep declaration order
+        items.sort(Comparator.comparingInt(WintertodtGearItem::getEffectivePriority).reversed());
         
         return items;
     }
@@ -1467,10 +1499,11 @@ public class WintertodtGearDatabase {
     }
     
     /**
-     * Gets all gear items for a specific equipment slot.
+     * Gets all gear items for a specific equipment slot, sorted by effective priority (highest first).
+     * The returned list is read-only.
      */
     public List<WintertodtGearItem> getGearForSlot(EquipmentInventorySlot slot) {
-        return gearBySlot.getOrDefault(slot, new ArrayList<>());
+        return gearBySlot.getOrDefault(slot, Collections.emptyList());
     }
     
     /**
@@ -1484,10 +1517,7 @@ public class WintertodtGearDatabase {
      * Finds a specific gear item by ID.
      */
     public WintertodtGearItem findGearItemById(int itemId) {
-        return allGearItems.stream()
-                .filter(item -> item.getItemId() == itemId)
-                .findFirst()
-                .orElse(null);
+        return gearById.get(itemId);
     }
     
     /**
@@ -15,7 +15,6 @@ import net.runelite.client.plugins.microbot.mke_wintertodt.MKE_WintertodtConfig;
 import net.runelite.client.plugins.microbot.mke_wintertodt.startup.inventory.WintertodtInventoryManager;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 import static net.runelite.client.plugins.microbot.util.Global.sleepUntil;
 import static net.runelite.client.plugins.microbot.util.Global.sleepUntilTrue;
@@ -38,10 +37,11 @@ public class WintertodtGearManager {
     // Cache these to avoid repeated API calls during analysis
     private Map<Skill, Integer> cachedPlayerLevels;
     private Set<String> cachedCompletedQuests;
+    private Set<Integer> cachedOwnedItemIds;
     
     public WintertodtGearManager(MKE_WintertodtConfig config) {
         this.config = config;
-        this.gearDatabase = new WintertodtGearDatabase();
+        this.gearDatabase = WintertodtGearDatabase.getInstance();
         this.optimalGear = new HashMap<>();
         this.gearAnalysisLog = new ArrayList<>();
     }
@@ -82,6 +82,7 @@ public class WintertodtGearManager {
     private void cachePlayerData() {
         cachedPlayerLevels = getCurrentPlayerSkillLevels();
         cachedCompletedQuests = getCompletedQuests();
+        cachedOwnedItemIds = getOwnedItemIds();
         gearAnalysisLog.add("Cached player data - " + cachedCompletedQuests.size() + " quests completed");
     }
     
@@ -119,13 +120,13 @@ public class WintertodtGearManager {
     private void analyzeSlotFromDatabase(EquipmentInventorySlot slot) {
         gearAnalysisLog.add("=== " + slot.name() + " SLOT ANALYSIS ===");
         
-        // Get all gear items for this slot from database
-        List<WintertodtGearItem> availableGear = gearDatabase.getGearForSlot(slot)
-            .stream()
-            .filter(this::canPlayerUseItem)
-            .filter(this::hasAccessToItem)
-            .sorted((a, b) -> Integer.compare(b.getEffectivePriority(), a.getEffectivePriority()))
-            .collect(Collectors.toList());
+        // Slot lists come pre-sorted by effective priority from the database
+        List<WintertodtGearItem> availableGear = new ArrayList<>();
+        for (WintertodtGearItem item : gearDatabase.getGearForSlot(slot)) {
+            if (canPlayerUseItem(item) && hasAccessToItem(item)) {
+                availableGear.add(item);
+            }
+        }
             
         if (availableGear.isEmpty()) {
             gearAnalysisLog.add("No suitable gear found for " + slot.name());
@@ -294,14 +295,25 @@ public class WintertodtGearManager {
         }
     }
     
+    /**
+     * Snapshots the item ids in the inventory and bank once per analysis.
+     */
+    private Set<Integer> getOwnedItemIds() {
+        Set<Integer> ownedItemIds = new HashSet<>();
+        Rs2Inventory.items().forEach(item -> ownedItemIds.add(item.getId()));
+        for (Rs2ItemModel item : Rs2Bank.bankItems()) {
+            ownedItemIds.add(item.getId());
+        }
+        return ownedItemIds;
+    }
+    
     /**
      * Checks if player has access to an item.
      */
     private boolean hasAccessToItem(WintertodtGearItem item) {
         int itemId = item.getItemId();
-        return Rs2Inventory.hasItem(itemId) || 
-               Rs2Equipment.isWearing(itemId) || 
-               Rs2Bank.hasItem(itemId);
+        return cachedOwnedItemIds.contains(itemId) || 
+               Rs2Equipment.isWearing(itemId);
     }
     
     /**
@@ -7,10 +7,13 @@ import java.util.List;
 import javax.inject.Inject;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.GameObject;
 import net.runelite.api.GameState;
 import net.runelite.api.ObjectID;
 import net.runelite.api.WallObject;
 import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.events.GameObjectDespawned;
+import net.runelite.api.events.GameObjectSpawned;
 import net.runelite.api.events.GameStateChanged;
 import net.runelite.api.events.WallObjectSpawned;
 import net.runelite.client.config.ConfigManager;
@@ -36,7 +39,10 @@ import net.runelite.client.ui.overlay.OverlayManager;
 )
 public class MotherloadMinePlugin extends Plugin {
 
-	static final String version = "1.8.2";
+	static final String version = "1.8.3";
+
+	private static final int ROCKFALL = 26679;
+	private static final int ROCKFALL_26680 = 26680;
 
     @Inject
     private MotherloadMineConfig config;
@@ -79,6 +85,27 @@ public class MotherloadMinePlugin extends Plugin {
 
     }
 
+	@Subscribe
+	public void onGameObjectSpawned(GameObjectSpawned event)
+	{
+		if (isRockfall(event.getGameObject())) {
+			motherloadMineScript.invalidateVeinWalkability();
+		}
+	}
+
+	@Subscribe
+	public void onGameObjectDespawned(GameObjectDespawned event)
+	{
+		if (isRockfall(event.getGameObject())) {
+			motherloadMineScript.invalidateVeinWalkability();
+		}
+	}
+
+	private static boolean isRockfall(GameObject gameObject)
+	{
+		return gameObject != null && (gameObject.getId() == ROCKFALL || gameObject.getId() == ROCKFALL_26680);
+	}
+
     protected void shutDown() {
         motherloadMineScript.shutdown();
         overlayManager.remove(motherloadMineOverlay);
@@ -91,5 +118,8 @@ public class MotherloadMinePlugin extends Plugin {
 		if (event.getGameState() == GameState.HOPPING || event.getGameState() == GameState.LOGIN_SCREEN) {
 			blacklistedCrates.clear();
 		}
+		if (event.getGameState() == GameState.LOADING) {
+			motherloadMineScript.invalidateVeinWalkability();
+		}
 	}
 }
@@ -50,7 +50,6 @@ import net.runelite.client.plugins.microbot.util.inventory.Rs2ItemModel;
 import net.runelite.client.plugins.microbot.util.math.Rs2Random;
 import net.runelite.client.plugins.microbot.util.misc.Rs2UiHelper;
 import net.runelite.client.plugins.microbot.util.player.Rs2Player;
-import net.runelite.client.plugins.microbot.util.tile.Rs2Tile;
 import net.runelite.client.plugins.microbot.util.walker.Rs2Walker;
 
 @Slf4j
@@ -88,7 +87,7 @@ public class MotherloadMineScript extends Script
 	private final MotherloadMinePlugin plugin;
     private final MotherloadMineConfig config;
     private final Rs2TileObjectCache rs2TileObjectCache;
-    private final Rs2PlayerCache rs2PlayerCache;
+    private final VeinIndex veinIndex;
 
 
     private boolean shouldEmptySack = false;
@@ -101,7 +100,7 @@ public class MotherloadMineScript extends Script
 		this.plugin = plugin;
 		this.config = config;
         this.rs2TileObjectCache = rs2TileObjectCache;
-        this.rs2PlayerCache = rs2PlayerCache;
+        this.veinIndex = new VeinIndex(rs2PlayerCache);
     }
 
     public boolean run()
@@ -118,6 +117,7 @@ public class MotherloadMineScript extends Script
         status = MLMStatus.IDLE;
         shouldEmptySack = false;
 		shouldRepairWaterwheel = false;
+		veinIndex.reset();
     }
 
     private void executeTask()
@@ -534,33 +534,52 @@ public class MotherloadMineScript extends Script
         boolean isVein = (id == 26661 || id == 26662 || id == 26663 || id == 26664);
         if (!isVein) return false;
 
+        WorldArea area = getVeinArea();
         WorldPoint location = wallObject.getWorldLocation();
+        if (area == null || !area.contains(location)) return false;
 
-		if (!config.mineUpstairs() && config.useAntiCrash())
-		{
-			boolean isPlayerNearBy = rs2PlayerCache.query().where(p -> p != null && p.getWorldLocation().distanceTo(wallObject.getWorldLocation()) <= 2).first() != null;
-			if (isPlayerNearBy) return false;
-		}
+		if (!config.mineUpstairs() && config.useAntiCrash() && veinIndex.isOccupied(location)) return false;
+
+        return veinIndex.hasWalkableTilesAround(location);
+    }
 
+    /**
+     * @return the area veins are picked from for the current mining spot, or null if the spot has none
+     */
+    private WorldArea getVeinArea()
+    {
+        if (miningSpot == null) return null;
         if (config.mineUpstairs())
         {
-        boolean inUpperArea = (miningSpot == MLMMiningSpot.WEST_UPPER && WEST_UPPER_AREA.contains(location))
-                || (miningSpot == MLMMiningSpot.EAST_UPPER && EAST_UPPER_AREA.contains(location));
-            return inUpperArea && hasWalkableTilesAround(wallObject);
+            switch (miningSpot)
+            {
+                case WEST_UPPER:
+                    return WEST_UPPER_AREA;
+                case EAST_UPPER:
+                    return EAST_UPPER_AREA;
+                default:
+                    return null;
+            }
         }
-        else
+        switch (miningSpot)
         {
-        boolean inLowerArea = (miningSpot == MLMMiningSpot.WEST_LOWER && WEST_LOWER_AREA.contains(location))
-                || (miningSpot == MLMMiningSpot.WEST_MID && WEST_LOWER_AREA.contains(location))
-                || (miningSpot == MLMMiningSpot.SOUTH_WEST && SOUTH_LOWER_AREA.contains(location))
-                || (miningSpot == MLMMiningSpot.SOUTH_EAST && SOUTH_LOWER_AREA.contains(location));
-        return inLowerArea && hasWalkableTilesAround(wallObject);
+            case WEST_LOWER:
+            case WEST_MID:
+                return WEST_LOWER_AREA;
+            case SOUTH_WEST:
+            case SOUTH_EAST:
+                return SOUTH_LOWER_AREA;
+            default:
+                return null;
         }
     }
 
-    private boolean hasWalkableTilesAround(Rs2TileObjectModel wallObject)
+    /**
+     * Called from the plugin when a rockfall spawns or despawns, or the scene reloads.
+     */
+    void invalidateVeinWalkability()
     {
-        return Rs2Tile.areSurroundingTilesWalkable(wallObject.getWorldLocation(), 1, 1);
+        veinIndex.invalidateWalkability();
     }
 
     private void repositionCameraAndMove()
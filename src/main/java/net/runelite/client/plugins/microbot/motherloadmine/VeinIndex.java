@@ -0,0 +1,137 @@
+package net.runelite.client.plugins.microbot.motherloadmine;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.plugins.microbot.Microbot;
+import net.runelite.client.plugins.microbot.api.player.Rs2PlayerCache;
+import net.runelite.client.plugins.microbot.util.tile.Rs2Tile;
+
+/**
+ * Player occupancy and vein walkability lookups for vein selection.
+ * <p>
+ * Both mining floors are on plane 0 of the 64x64 Motherlode Mine region, so the tiles within
+ * {@link #OCCUPIED_DISTANCE} of any other player are kept as one bit per tile and rebuilt once per game tick.
+ * Whether the tiles around a vein are walkable only changes when a rockfall appears or is cleared, so it is
+ * computed once per vein location and kept until {@link #invalidateWalkability()}.
+ */
+final class VeinIndex
+{
+	private static final int ORIGIN_X = 3712;
+	private static final int ORIGIN_Y = 5632;
+	private static final int SIZE = 64;
+	private static final int OCCUPIED_DISTANCE = 2;
+
+	private final IntSupplier tickCount;
+	private final Supplier<Collection<WorldPoint>> playerLocations;
+	private final Predicate<WorldPoint> walkabilityCheck;
+	private final Map<WorldPoint, Boolean> walkable = new ConcurrentHashMap<>();
+
+	// Only touched by the script thread
+	private final long[] occupied = new long[SIZE];
+	private int occupiedTick = -1;
+
+	VeinIndex(Rs2PlayerCache rs2PlayerCache)
+	{
+		this(() -> Microbot.getClient().getTickCount(),
+			() -> rs2PlayerCache.query().where(p -> p != null).toList().stream()
+				.map(p -> p.getWorldLocation())
+				.collect(Collectors.toList()),
+			location -> Rs2Tile.areSurroundingTilesWalkable(location, 1, 1));
+	}
+
+	VeinIndex(IntSupplier tickCount, Supplier<Collection<WorldPoint>> playerLocations, Predicate<WorldPoint> walkabilityCheck)
+	{
+		this.tickCount = tickCount;
+		this.playerLocations = playerLocations;
+		this.walkabilityCheck = walkabilityCheck;
+	}
+
+	/**
+	 * @return true if a player other than us stands within two tiles of the location
+	 */
+	boolean isOccupied(WorldPoint location)
+	{
+		int tick = tickCount.getAsInt();
+		if (tick != occupiedTick)
+		{
+			rebuildOccupied();
+			occupiedTick = tick;
+		}
+		if (location.getPlane() != 0)
+		{
+			return false;
+		}
+		int x = location.getX() - ORIGIN_X;
+		int y = location.getY() - ORIGIN_Y;
+		if (x < 0 || x >= SIZE || y < 0 || y >= SIZE)
+		{
+			return false;
+		}
+		return (occupied[y] & (1L << x)) != 0;
+	}
+
+	/**
+	 * @return true if the tiles around the vein are walkable, computed once per location
+	 */
+	boolean hasWalkableTilesAround(WorldPoint location)
+	{
+		Boolean result = walkable.get(location);
+		if (result == null)
+		{
+			result = walkabilityCheck.test(location);
+			walkable.put(location, result);
+		}
+		return result;
+	}
+
+	/**
+	 * Forgets the walkability of every vein, e.g. when a rockfall spawns or despawns or the scene reloads.
+	 */
+	void invalidateWalkability()
+	{
+		walkable.clear();
+	}
+
+	void reset()
+	{
+		walkable.clear();
+		occupiedTick = -1;
+	}
+
+	private void rebuildOccupied()
+	{
+		for (int row = 0; row < SIZE; row++)
+		{
+			occupied[row] = 0;
+		}
+		playerLocations.get().forEach(this::markAround);
+	}
+
+	private void markAround(WorldPoint location)
+	{
+		if (location == null || location.getPlane() != 0)
+		{
+			return;
+		}
+		int x = location.getX() - ORIGIN_X;
+		int y = location.getY() - ORIGIN_Y;
+		int minX = Math.max(0, x - OCCUPIED_DISTANCE);
+		int maxX = Math.min(SIZE - 1, x + OCCUPIED_DISTANCE);
+		if (minX > maxX)
+		{
+			return;
+		}
+		// Bits minX..maxX set
+		long columns = (-1L >>> (SIZE - 1 - maxX + minX)) << minX;
+		for (int row = Math.max(0, y - OCCUPIED_DISTANCE); row <= Math.min(SIZE - 1, y + OCCUPIED_DISTANCE); row++)
+		{
+			occupied[row] |= columns;
+		}
+	}
+}
@@ -9,16 +9,18 @@ import java.awt.event.MouseEvent;
 public class MouseListener extends MouseAdapter {
   
   private final Client client;
+  private final PlayerMonitorScript script;
 
   
-  MouseListener(Client client){
+  MouseListener(Client client, PlayerMonitorScript script){
     this.client = client;
+    this.script = script;
   }
   
   public MouseEvent mousePressed(MouseEvent event) {
     if (this.client.getGameState() == GameState.LOGGED_IN) {
       if(SwingUtilities.isMiddleMouseButton(event)) {
-        if (PlayerMonitorPlugin.mouseAlarm) { PlayerMonitorPlugin.mouseAlarm=false; }
+        if (PlayerMonitorPlugin.mouseAlarm) { PlayerMonitorPlugin.mouseAlarm=false; script.onMouseAlarmChanged(); }
         PlayerMonitorPlugin.resetMouseClickCounterListener();
       }
     } 
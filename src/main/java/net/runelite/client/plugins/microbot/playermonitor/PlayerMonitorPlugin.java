@@ -2,14 +2,24 @@ package net.runelite.client.plugins.microbot.playermonitor;
 
 import com.google.inject.Provides;
 import lombok.Getter;
-import net.runelite.api.Actor;
 import net.runelite.api.Client;
+import net.runelite.api.Constants;
 import net.runelite.api.GameState;
 import net.runelite.api.Player;
 import net.runelite.api.coords.LocalPoint;
-import net.runelite.api.events.ClientTick;
+import net.runelite.api.events.ClanChannelChanged;
+import net.runelite.api.events.ClanMemberJoined;
+import net.runelite.api.events.ClanMemberLeft;
+import net.runelite.api.events.FriendsChatChanged;
+import net.runelite.api.events.FriendsChatMemberJoined;
+import net.runelite.api.events.FriendsChatMemberLeft;
 import net.runelite.api.events.GameStateChanged;
+import net.runelite.api.events.GameTick;
 import net.runelite.api.events.MenuOptionClicked;
+import net.runelite.api.events.NameableNameChanged;
+import net.runelite.api.events.PlayerDespawned;
+import net.runelite.api.events.PlayerSpawned;
+import net.runelite.api.events.RemovedFriend;
 import net.runelite.client.Notifier;
 import net.runelite.client.RuneLite;
 import net.runelite.client.config.ConfigManager;
@@ -31,13 +41,12 @@ import java.io.FileNotFoundException;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Scanner;
 import java.util.stream.Collectors;
 
  @PluginDescriptor(
-        version = "1.0.4",
+        version = "1.0.6",
         name = PluginDescriptor.eXioStorm + "Player Monitor",
         enabledByDefault = false,
         minClientVersion = "2.0.0",
@@ -85,7 +94,11 @@ import java.util.stream.Collectors;
    
    @Getter
    private boolean overlayOn = false;
-   private final HashMap<String, Integer> playerNameToTimeInRange = new HashMap<>();
+   // Other players in the scene, maintained from spawn and despawn events on the client thread
+   private final ThreatTable threatTable = new ThreatTable();
+   // Friend and ignore list additions have no event, so classifications are also refreshed on this interval
+   private static final int CLASSIFICATION_REFRESH_TICKS = 50;
+   private int ticksSinceClassification;
 
    private boolean isDangerousPlayerNearby() {
      // Get local player's position
@@ -125,32 +138,77 @@ import java.util.stream.Collectors;
      if(!config.liteMode()){
      overlayManager.add(mouseOverlay);
      loadMouseClicks();
-     this.mouseListener = new MouseListener(this.client);
+     this.mouseListener = new MouseListener(this.client, playerMonitorScript);
      this.mouseManager.registerMouseListener((net.runelite.client.input.MouseListener) this.mouseListener);
      this.previousClickTime=System.currentTimeMillis();
      playerMonitorScript.run(config, overlayManager);}
      if(config.liteMode()){playerMonitorScript.run(config, overlayManager);}
+     Microbot.getClientThread().invokeLater(this::seedPlayersInScene);
+   }
+
+   private void seedPlayersInScene() {
+     threatTable.clear();
+     if (client.getGameState() != GameState.LOGGED_IN)
+     { return; }
+     for (Player player : client.getPlayers()) {
+       if (player != null && player != client.getLocalPlayer())
+       { threatTable.add(player); }
+     }
+     evaluateAlarm();
+   }
+
+   @Subscribe
+   public void onPlayerSpawned(PlayerSpawned event) {
+     Player player = event.getPlayer();
+     if (player != null && player != client.getLocalPlayer()) {
+       threatTable.add(player);
+       // React to a new player right away instead of on the next tick
+       evaluateAlarm();
+     }
+   }
+
+   @Subscribe
+   public void onPlayerDespawned(PlayerDespawned event) {
+     if (event.getPlayer() != null) {
+       threatTable.remove(event.getPlayer());
+       evaluateAlarm();
+     }
    }
 
    @Subscribe
-   public void onClientTick(ClientTick clientTick) {
+   public void onGameTick(GameTick gameTick) {
+     // Players only move on game ticks, so this covers every movement in or out of the alarm radius
+     if (++ticksSinceClassification >= CLASSIFICATION_REFRESH_TICKS) {
+       ticksSinceClassification = 0;
+       threatTable.invalidateClassification();
+     }
+     if (!config.liteMode() && this.config.timeoutToIgnore() > 0 && client.getLocalPlayer() != null)
+     { threatTable.advanceTimeInRange(client.getLocalPlayer().getLocalLocation(), config.alarmRadius(), Constants.GAME_TICK_LENGTH); }
+     evaluateAlarm();
+   }
+
+   /**
+    * Re-checks the alarm condition and tells the script about transitions only.
+    */
+   private void evaluateAlarm() {
      if(!config.liteMode()) {
-     List<Player> dangerousPlayers = getPlayersInRange().stream().filter(this::shouldPlayerTriggerAlarm).collect(Collectors.toList());
-     if (this.config.timeoutToIgnore() > 0)
-     { updatePlayersInRange(); }
-     boolean shouldAlarm = (dangerousPlayers.size() > 0);
+     boolean shouldAlarm = client.getGameState() == GameState.LOGGED_IN && client.getLocalPlayer() != null && hasPlayerTriggeringAlarm();
      if (shouldAlarm && !this.overlayOn) {
        if (this.config.desktopNotification())
        { this.notifier.notify("Player spotted!"); }
        this.overlayOn = true;
+       playerMonitorScript.onAlarmChanged(true);
      }
-     if (!shouldAlarm) {
+     if (!shouldAlarm && this.overlayOn) {
        this.overlayOn = false;
+       playerMonitorScript.onAlarmChanged(false);
      } }
       if(config.liteMode()) {
         if (client.getGameState() != GameState.LOGGED_IN) {
           if (playerDetected) {
             playerDetected = false;
+            wasPlayerDetected = false;
+            playerMonitorScript.onPlayerDetectedChanged(false);
             //log.debug("Not logged in, player detection disabled");
           }
           return;
@@ -168,48 +226,45 @@ import java.util.stream.Collectors;
             log.debug("No dangerous players detected");
           }
           wasPlayerDetected = playerDetected;
+          playerMonitorScript.onPlayerDetectedChanged(playerDetected);
         }
       }
      }
 
-   private List<Player> getPlayersInRange() {
-     LocalPoint currentPosition = this.client.getLocalPlayer().getLocalLocation();
-     return this.client.getPlayers()
-       .stream()
-       .filter(player -> (player.getLocalLocation().distanceTo(currentPosition) / 128 <= this.config.alarmRadius()))
-       .collect(Collectors.toList());
-   }
-   private boolean shouldPlayerTriggerAlarm(Player player) {
-     if (player.getId() == this.client.getLocalPlayer().getId())
-     { return false; }
-     if (this.config.ignoreClan() && player.isClanMember())
+   private boolean hasPlayerTriggeringAlarm() {
+     // The local player can spawn before getLocalPlayer() is set
+     threatTable.remove(client.getLocalPlayer());
+     if (threatTable.isEmpty())
      { return false; }
-     if (this.config.ignoreFriends() && player.isFriend())
-     { return false; }
-     if (this.config.ignoreFriendsChat() && player.isFriendsChatMember())
-     { return false; }
-     if (this.config.ignoreIgnored() && this.client.getIgnoreContainer().findByName(player.getName()) != null)
-     { return false; }
-     if (this.config.timeoutToIgnore() > 0) {
-       int timePlayerIsOnScreen = this.playerNameToTimeInRange.getOrDefault(player.getName(), Integer.valueOf(0)).intValue();
-        return timePlayerIsOnScreen <= this.config.timeoutToIgnore() * 1000;
-     }
-     return true;
+     int ignoredMask = 0;
+     if (this.config.ignoreFriends())
+     { ignoredMask |= ThreatTable.FRIEND; }
+     if (this.config.ignoreClan())
+     { ignoredMask |= ThreatTable.CLAN; }
+     if (this.config.ignoreFriendsChat())
+     { ignoredMask |= ThreatTable.FRIENDS_CHAT; }
+     if (this.config.ignoreIgnored())
+     { ignoredMask |= ThreatTable.IGNORED; }
+     return threatTable.hasThreat(client, client.getLocalPlayer().getLocalLocation(), config.alarmRadius(), ignoredMask, config.timeoutToIgnore() * 1000);
    }
 
-     private void updatePlayersInRange() {
-     List<Player> playersInRange = getPlayersInRange();
-     for (Player player : playersInRange) {
-       String playerName = player.getName();
-       int timeInRange = this.playerNameToTimeInRange.containsKey(playerName) ? (this.playerNameToTimeInRange.get(playerName).intValue() + 20) : 20;
-       this.playerNameToTimeInRange.put(playerName, Integer.valueOf(timeInRange));
-     }
-     List<String> playerNames = playersInRange.stream().map(Actor::getName).collect(Collectors.toList());
-     List<String> playersToReset = this.playerNameToTimeInRange.keySet().stream().filter(playerName -> !playerNames.contains(playerName)).collect(Collectors.toList());
-     for (String playerName : playersToReset) {
-       this.playerNameToTimeInRange.remove(playerName);
-     }
-   }
+   @Subscribe
+   public void onFriendsChatChanged(FriendsChatChanged event) { threatTable.invalidateClassification(); }
+   @Subscribe
+   public void onFriendsChatMemberJoined(FriendsChatMemberJoined event) { threatTable.invalidateClassification(); }
+   @Subscribe
+   public void onFriendsChatMemberLeft(FriendsChatMemberLeft event) { threatTable.invalidateClassification(); }
+   @Subscribe
+   public void onClanChannelChanged(ClanChannelChanged event) { threatTable.invalidateClassification(); }
+   @Subscribe
+   public void onClanMemberJoined(ClanMemberJoined event) { threatTable.invalidateClassification(); }
+   @Subscribe
+   public void onClanMemberLeft(ClanMemberLeft event) { threatTable.invalidateClassification(); }
+   @Subscribe
+   public void onRemovedFriend(RemovedFriend event) { threatTable.invalidateClassification(); }
+   @Subscribe
+   public void onNameableNameChanged(NameableNameChanged event) { threatTable.invalidateClassification(); }
+
    protected void shutDown() throws Exception {
      this.overlayManager.remove(this.mouseOverlay);
      if (this.flashOverlay != null) {
@@ -223,17 +278,22 @@ import java.util.stream.Collectors;
        playerMonitorScript.shutdown();
      }
      playerMonitorScript.shutdown();
+     threatTable.clear();
    }
    @Subscribe
    public void onGameStateChanged(GameStateChanged event) throws IOException {
      GameState state = event.getGameState();
      if (state == GameState.LOGIN_SCREEN || state == GameState.UNKNOWN)
        saveMouseClicks();
+     if (state == GameState.LOGIN_SCREEN || state == GameState.HOPPING) {
+       threatTable.clear();
+       evaluateAlarm();
+     }
    }
    @Subscribe
    public void onMenuOptionClicked(MenuOptionClicked event) {
      if (this.client.getGameState() == GameState.LOGGED_IN) {
-       if (System.currentTimeMillis()-previousClickTime < 55 && !mouseAlarm) { mouseAlarm = true; }
+       if (!config.liteMode() && System.currentTimeMillis()-previousClickTime < 55 && !mouseAlarm) { mouseAlarm = true; playerMonitorScript.onMouseAlarmChanged(); }
        previousClickTime = System.currentTimeMillis();
        System.out.println("PlayerMonitor : getOption="+event.getMenuOption());
        if (config.doPlayClickSound()) {
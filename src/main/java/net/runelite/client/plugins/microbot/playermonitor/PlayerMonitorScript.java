@@ -16,6 +16,7 @@ import org.slf4j.LoggerFactory;
 
 import javax.inject.Inject;
 import java.awt.*;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
@@ -36,6 +37,10 @@ public class PlayerMonitorScript extends Script {
     private boolean logoutInitiated = false;
     Color offColor = new Color(0, 0, 0, 0);
     private boolean naturalmouse = false;
+    // Half of the old 20 game cycle blink period, one cycle being 20 ms
+    private static final long BLINK_INTERVAL_MS = 200;
+    private ScheduledFuture<?> blinkFuture;
+    private volatile boolean active = false;
 
     public boolean run(PlayerMonitorConfig config, OverlayManager overlayManager) {
         this.config = config;
@@ -43,111 +48,150 @@ public class PlayerMonitorScript extends Script {
         otherPlayerWorld = 0;
         newPlayer = false;
         playAlarm = false;
+        logoutInitiated = false;
         flashOverlay = new FlashOverlay();
         flashOverlay.setFlashColor(offColor);
         overlayManager.add(flashOverlay);
-        mainScheduledFuture = scheduledExecutorService.scheduleWithFixedDelay(() -> {
+        // Nothing is polled: the plugin reports alarm transitions, and the blink timer only runs while an alarm is on
+        active = true;
+        return true;
+    }
+
+    /**
+     * Called by the plugin on the client thread when the player alarm turns on or off.
+     */
+    synchronized void onAlarmChanged(boolean alarmOn) {
+        if (!active) return;
+        if (alarmOn) {
+            dispatchEmergency();
+        }
+        updateBlinkTimer();
+    }
+
+    /**
+     * Called when the unnatural click alarm turns on (fast click detected) or off (middle mouse button).
+     */
+    synchronized void onMouseAlarmChanged() {
+        if (!active) return;
+        updateBlinkTimer();
+    }
+
+    /**
+     * Called by the plugin on the client thread when lite mode detection turns on or off.
+     */
+    synchronized void onPlayerDetectedChanged(boolean detected) {
+        if (!active) return;
+        if (detected && !logoutInitiated) {
+            log.info("Player detected - initiating logout");
+            Microbot.log("PlayerMonitorLite: Player detected - logging out");
+            logoutInitiated = true;
+            // Perform logout
+            if (Rs2AntibanSettings.naturalMouse) {Rs2AntibanSettings.naturalMouse = false; naturalmouse = true;}
+            Microbot.getClientThread().runOnSeperateThread(() -> {
+                logoutPlayer();
+                return true;
+            });
+            if (naturalmouse && !Rs2AntibanSettings.naturalMouse) {Rs2AntibanSettings.naturalMouse = true; naturalmouse = false;}
+        } else if (!detected && logoutInitiated) {
+            logoutInitiated = false;
+        }
+    }
+
+    private void updateBlinkTimer() {
+        boolean needed = plugin.isOverlayOn() || (PlayerMonitorPlugin.mouseAlarm && config.mouseAlarm());
+        if (needed && blinkFuture == null) {
+            blinkFuture = scheduledExecutorService.scheduleAtFixedRate(this::blink, 0, BLINK_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        } else if (!needed && blinkFuture != null) {
+            blinkFuture.cancel(false);
+            blinkFuture = null;
+            playAlarm = false;
+            flashOverlay.setFlashColor(offColor);
+        }
+    }
+
+    private synchronized void blink() {
+        try {
             if (!Microbot.isLoggedIn()) return;
-            try {
-                if (!config.liteMode()) {
-                    if (Microbot.getClient().getGameCycle() % 20 >= 10) {
-                        if (!playAlarm) {
-                            if (plugin.isOverlayOn()) {
-                                if (config.playAlarmSound()) {
-                                    Microbot.getClientThread().invokeLater(() -> Microbot.getClient().playSoundEffect(config.alarmSoundID().getId(), 127));
-                                }
-                                playAlarm = true;
-                                if (config.useFlash()) {
-                                    flashOverlay.setFlashColor(config.flashColor());
-                                }
-                                if ((config.useFlash() || config.playAlarmSound()) && config.useEmergency() && !newPlayer && (config.onlyWilderness() && Microbot.getVarbitValue(Varbits.IN_WILDERNESS) == 1) || !config.onlyWilderness()) {
-                                    newPlayer = true;
-                                    otherPlayerLocation = Rs2Player.getWorldLocation();
-                                    otherPlayerWorld = Rs2Player.getWorld();
-                                    Microbot.getClientThread().runOnSeperateThread(() -> {
-                                        switch (config.emergencyAction()) {
-                                            case LOGOUT:
-                                                logoutPlayer();
-                                                break;
-                                            case HOP_WORLDS:
-                                                ClientUI.getClient().setEnabled(false);
-                                                if (this.isRunning()) {
-                                                    sleep(61, 93);
-                                                }
-                                                if (this.isRunning()) {
-                                                    Microbot.getClient().openWorldHopper();
-                                                }
-                                                if (this.isRunning()) {
-                                                    sleepUntil(() -> Rs2Widget.hasWidget("Current world - " + Rs2Player.getWorld()));
-                                                }
-                                                if (this.isRunning()) {
-                                                    sleep(61, 93);
-                                                }
-                                                if (this.isRunning()) {
-                                                    Microbot.hopToWorld(Login.getRandomWorld(Rs2Player.isMember()));
-                                                }
-                                                if (this.isRunning()) {
-                                                    sleep(61, 93);
-                                                }
-                                                ClientUI.getClient().setEnabled(true);
-                                                break;
-                                            case USE_ITEM:
-                                                ClientUI.getClient().setEnabled(false);
-                                                if (this.isRunning()) {
-                                                    sleep(61, 93);
-                                                }
-                                                if (Pattern.compile("[0-9]+").matcher(config.emergencyItem()).matches()) {
-                                                    Rs2Inventory.interact(Integer.parseInt(config.emergencyItem()), config.emergencyItemMenu());
-                                                } else {
-                                                    Rs2Inventory.interact(config.emergencyItem(), config.emergencyItemMenu());
-                                                }
-                                                if (this.isRunning()) {
-                                                    sleep(61, 93);
-                                                }
-                                                ClientUI.getClient().setEnabled(true);
-                                                break;
-                                        }
-                                        return true;
-                                    });
-                                }
-                            }
-                            if (PlayerMonitorPlugin.mouseAlarm && config.mouseAlarm()) {
-                                Microbot.getClientThread().invokeLater(() -> Microbot.getClient().playSoundEffect(config.mouseAlarmSound().getId(), 127));
-                            }
-                        }
-                    } else {
-                        if (playAlarm) {
-                            playAlarm = false;
-                            flashOverlay.setFlashColor(offColor);
-                        }
+            if (!playAlarm) {
+                playAlarm = true;
+                if (plugin.isOverlayOn()) {
+                    if (config.playAlarmSound()) {
+                        Microbot.getClientThread().invokeLater(() -> Microbot.getClient().playSoundEffect(config.alarmSoundID().getId(), 127));
                     }
-                    if (newPlayer && !plugin.isOverlayOn() && (Rs2Player.getWorldLocation().distanceTo(otherPlayerLocation) > 32 || otherPlayerWorld != Rs2Player.getWorld())) {
-                        newPlayer = false;
+                    if (config.useFlash()) {
+                        flashOverlay.setFlashColor(config.flashColor());
                     }
                 }
-
-                if (config.liteMode()) {
-                    if (plugin.isPlayerDetected() && !logoutInitiated) {
-                        log.info("Player detected - initiating logout");
-                        Microbot.log("PlayerMonitorLite: Player detected - logging out");
-                        logoutInitiated = true;
-                        // Perform logout
-                        if (Rs2AntibanSettings.naturalMouse) {Rs2AntibanSettings.naturalMouse = false; naturalmouse = true;}
-                        Microbot.getClientThread().runOnSeperateThread(() -> {
-                            logoutPlayer();
-                            return true;
-                        });
-                        if (naturalmouse && !Rs2AntibanSettings.naturalMouse) {Rs2AntibanSettings.naturalMouse = true; naturalmouse = false;}
-                    } else if (!plugin.isPlayerDetected() && logoutInitiated) {
-                        logoutInitiated = false;
-                    }
+                if (PlayerMonitorPlugin.mouseAlarm && config.mouseAlarm()) {
+                    Microbot.getClientThread().invokeLater(() -> Microbot.getClient().playSoundEffect(config.mouseAlarmSound().getId(), 127));
                 }
+            } else {
+                playAlarm = false;
+                flashOverlay.setFlashColor(offColor);
+            }
+        } catch (Exception ex) {
+            Microbot.log(ex.getMessage());
+        }
+    }
+
+    /**
+     * Runs the emergency action once per alarm, unless it already ran for a player we have not moved away from.
+     */
+    private void dispatchEmergency() {
+        if (newPlayer && (Rs2Player.getWorldLocation().distanceTo(otherPlayerLocation) > 32 || otherPlayerWorld != Rs2Player.getWorld())) {
+            newPlayer = false;
+        }
+        if (newPlayer || !config.useEmergency() || !(config.useFlash() || config.playAlarmSound())) return;
+        if (config.onlyWilderness() && Microbot.getVarbitValue(Varbits.IN_WILDERNESS) != 1) return;
 
-            } catch (Exception ex) {
-                Microbot.log(ex.getMessage());
+        newPlayer = true;
+        otherPlayerLocation = Rs2Player.getWorldLocation();
+        otherPlayerWorld = Rs2Player.getWorld();
+        Microbot.getClientThread().runOnSeperateThread(() -> {
+            switch (config.emergencyAction()) {
+                case LOGOUT:
+                    logoutPlayer();
+                    break;
+                case HOP_WORLDS:
+                    ClientUI.getClient().setEnabled(false);
+                    if (active) {
+                        sleep(61, 93);
+                    }
+                    if (active) {
+                        Microbot.getClient().openWorldHopper();
+                    }
+                    if (active) {
+                        sleepUntil(() -> Rs2Widget.hasWidget("Current world - " + Rs2Player.getWorld()));
+                    }
+                    if (active) {
+                        sleep(61, 93);
+                    }
+                    if (active) {
+                        Microbot.hopToWorld(Login.getRandomWorld(Rs2Player.isMember()));
+                    }
+                    if (active) {
+                        sleep(61, 93);
+                    }
+                    ClientUI.getClient().setEnabled(true);
+                    break;
+                case USE_ITEM:
+                    ClientUI.getClient().setEnabled(false);
+                    if (active) {
+                        sleep(61, 93);
+                    }
+                    if (Pattern.compile("[0-9]+").matcher(config.emergencyItem()).matches()) {
+                        Rs2Inventory.interact(Integer.parseInt(config.emergencyItem()), config.emergencyItemMenu());
+                    } else {
+                        Rs2Inventory.interact(config.emergencyItem(), config.emergencyItemMenu());
+                    }
+                    if (active) {
+                        sleep(61, 93);
+                    }
+                    ClientUI.getClient().setEnabled(true);
+                    break;
             }
-        }, 0, 1, TimeUnit.MILLISECONDS);
-        return true;
+            return true;
+        });
     }
 
     private void logoutPlayer() {
@@ -159,7 +203,12 @@ public class PlayerMonitorScript extends Script {
     }
 
     @Override
-    public void shutdown() {
+    public synchronized void shutdown() {
+        active = false;
+        if (blinkFuture != null) {
+            blinkFuture.cancel(true);
+            blinkFuture = null;
+        }
         if (mainScheduledFuture != null) {
             mainScheduledFuture.cancel(true);
         }
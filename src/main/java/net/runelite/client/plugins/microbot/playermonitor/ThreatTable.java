@@ -0,0 +1,130 @@
+package net.runelite.client.plugins.microbot.playermonitor;
+
+import net.runelite.api.Client;
+import net.runelite.api.Player;
+import net.runelite.api.coords.LocalPoint;
+
+/**
+ * The other players in the scene, stored in arrays keyed by player index.
+ * <p>
+ * Each slot holds the player, its time in alarm range and its friend/clan/friends chat/ignore classification.
+ * The classification is only recomputed after {@link #invalidateClassification()}, which the plugin calls when one
+ * of those lists changes. Range checks compare squared local distances, so a tick does no allocation beyond the
+ * client's own getters. Only used from the client thread.
+ */
+class ThreatTable {
+    static final int FRIEND = 1;
+    static final int CLAN = 1 << 1;
+    static final int FRIENDS_CHAT = 1 << 2;
+    static final int IGNORED = 1 << 3;
+
+    private static final int MAX_PLAYERS = 2048;
+    private static final int TILE_SIZE = 128;
+
+    private final Player[] players = new Player[MAX_PLAYERS];
+    private final int[] timeInRange = new int[MAX_PLAYERS];
+    private final int[] classification = new int[MAX_PLAYERS];
+    private final int[] classifiedGeneration = new int[MAX_PLAYERS];
+    // Dense list of occupied indices, and each index's position in it
+    private final int[] occupied = new int[MAX_PLAYERS];
+    private final int[] position = new int[MAX_PLAYERS];
+    private int size;
+    private int generation;
+
+    void add(Player player) {
+        int index = player.getId();
+        if (index < 0 || index >= MAX_PLAYERS) return;
+        if (players[index] == null) {
+            position[index] = size;
+            occupied[size++] = index;
+        }
+        players[index] = player;
+        timeInRange[index] = 0;
+        // Force classification on first use
+        classifiedGeneration[index] = generation - 1;
+    }
+
+    void remove(Player player) {
+        int index = player.getId();
+        if (index < 0 || index >= MAX_PLAYERS || players[index] != player) return;
+        players[index] = null;
+        int last = occupied[--size];
+        occupied[position[index]] = last;
+        position[last] = position[index];
+    }
+
+    void clear() {
+        for (int i = 0; i < size; i++) {
+            players[occupied[i]] = null;
+        }
+        size = 0;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Marks every cached classification as stale.
+     */
+    void invalidateClassification() {
+        generation++;
+    }
+
+    /**
+     * Adds the elapsed time to the players in range and resets it for the players out of range.
+     */
+    void advanceTimeInRange(LocalPoint center, int alarmRadius, int elapsedMs) {
+        long maxDistanceSquared = maxDistanceSquared(alarmRadius);
+        for (int i = 0; i < size; i++) {
+            int index = occupied[i];
+            timeInRange[index] = isInRange(players[index], center, maxDistanceSquared) ? timeInRange[index] + elapsedMs : 0;
+        }
+    }
+
+    /**
+     * @param ignoredMask   classification bits that never trigger the alarm
+     * @param timeoutMs     players in range for longer than this are ignored; 0 to never ignore
+     * @return true if any player in range should trigger the alarm
+     */
+    boolean hasThreat(Client client, LocalPoint center, int alarmRadius, int ignoredMask, int timeoutMs) {
+        long maxDistanceSquared = maxDistanceSquared(alarmRadius);
+        for (int i = 0; i < size; i++) {
+            int index = occupied[i];
+            if (!isInRange(players[index], center, maxDistanceSquared)) continue;
+            if (timeoutMs > 0 && timeInRange[index] > timeoutMs) continue;
+            if (ignoredMask != 0 && (classify(client, index) & ignoredMask) != 0) continue;
+            return true;
+        }
+        return false;
+    }
+
+    private int classify(Client client, int index) {
+        if (classifiedGeneration[index] == generation) {
+            return classification[index];
+        }
+        Player player = players[index];
+        int flags = 0;
+        if (player.isFriend()) flags |= FRIEND;
+        if (player.isClanMember()) flags |= CLAN;
+        if (player.isFriendsChatMember()) flags |= FRIENDS_CHAT;
+        if (player.getName() != null && client.getIgnoreContainer().findByName(player.getName()) != null) flags |= IGNORED;
+        classification[index] = flags;
+        classifiedGeneration[index] = generation;
+        return flags;
+    }
+
+    private static boolean isInRange(Player player, LocalPoint center, long maxDistanceSquared) {
+        LocalPoint location = player.getLocalLocation();
+        if (location == null) return false;
+        long dx = location.getX() - center.getX();
+        long dy = location.getY() - center.getY();
+        return dx * dx + dy * dy < maxDistanceSquared;
+    }
+
+    // distanceTo(center) / 128 <= radius holds exactly when the distance is below (radius + 1) tiles
+    private static long maxDistanceSquared(int alarmRadius) {
+        long limit = (long) (alarmRadius + 1) * TILE_SIZE;
+        return limit * limit;
+    }
+}
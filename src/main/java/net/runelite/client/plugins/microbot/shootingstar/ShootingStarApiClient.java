@@ -25,9 +25,11 @@
 package net.runelite.client.plugins.microbot.shootingstar;
 
 import com.google.gson.Gson;
-import com.google.gson.JsonSyntaxException;
+import com.google.gson.JsonParseException;
 import com.google.gson.reflect.TypeToken;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.Reader;
 import java.lang.reflect.Type;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
@@ -35,8 +37,12 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import lombok.extern.slf4j.Slf4j;
@@ -51,15 +57,24 @@ import net.runelite.client.plugins.microbot.shootingstar.model.ZeroSevenStarMode
 import net.runelite.http.api.worlds.World;
 import net.runelite.http.api.worlds.WorldResult;
 import net.runelite.http.api.worlds.WorldType;
+import okhttp3.Call;
+import okhttp3.Callback;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.Response;
+import okhttp3.ResponseBody;
 
 @Slf4j
 @Singleton
 public class ShootingStarApiClient
 {
-	private final OkHttpClient okHttpClient = new OkHttpClient();
+	private static final Type ZERO_SEVEN_LIST_TYPE = new TypeToken<List<ZeroSevenStarModel>>() {}.getType();
+	private static final Type OSRS_VAULT_LIST_TYPE = new TypeToken<List<OSRSVaultStarModel>>() {}.getType();
+	// Responses younger than this are served from the cache without touching the network
+	private static final long CACHE_TTL_MS = TimeUnit.SECONDS.toMillis(60);
+
+	private final OkHttpClient okHttpClient;
+	private final Gson gson;
 
 	private final Client client;
 	private final WorldService worldService;
@@ -68,145 +83,250 @@ public class ShootingStarApiClient
 
 	private final ZoneId utcZoneId = ZoneId.of("UTC");
 
+	private final Map<ShootingStarProvider, CachedResponse> responseCache = new ConcurrentHashMap<>();
+	private final Map<ShootingStarProvider, CompletableFuture<List<Star>>> inFlightRequests = new ConcurrentHashMap<>();
+
 	@Inject
-	public ShootingStarApiClient(Client client, WorldService worldService)
+	public ShootingStarApiClient(Client client, WorldService worldService, OkHttpClient okHttpClient, Gson gson)
+	{
+		this(client, worldService, okHttpClient, gson, loadProperties());
+	}
+
+	ShootingStarApiClient(Client client, WorldService worldService, OkHttpClient okHttpClient, Gson gson, Properties properties)
 	{
 		this.client = client;
 		this.worldService = worldService;
-		Properties properties = loadProperties();
+		this.okHttpClient = okHttpClient;
+		this.gson = gson;
 		this.zeroSevenEndpoint = properties.getProperty("microbot.shootingstar.zeroseven");
 		this.osrsVaultEndpoint = properties.getProperty("microbot.shootingstar.osrsvault");
 	}
 
-	private String getData(ShootingStarProvider provider)
+	/**
+	 * Parsed provider response together with the validators needed for a conditional re-request. The cached stars
+	 * are never handed out; every caller gets its own copies, since callers mutate their stars.
+	 */
+	private static final class CachedResponse
+	{
+		private final List<Star> stars;
+		private final String etag;
+		private final String lastModified;
+		private volatile long fetchedAt;
+
+		private CachedResponse(List<Star> stars, String etag, String lastModified, long fetchedAt)
+		{
+			this.stars = stars;
+			this.etag = etag;
+			this.lastModified = lastModified;
+			this.fetchedAt = fetchedAt;
+		}
+	}
+
+	/**
+	 * Returns the shared, unfiltered stars of a provider, or an empty list if there are none. Fresh cached responses are
+	 * returned directly, concurrent callers share a single in-flight request and stale entries are revalidated with
+	 * If-None-Match / If-Modified-Since so an unchanged list costs a 304 instead of a full download.
+	 */
+	private CompletableFuture<List<Star>> getData(ShootingStarProvider provider)
+	{
+		CachedResponse cached = responseCache.get(provider);
+		if (cached != null && System.currentTimeMillis() - cached.fetchedAt < CACHE_TTL_MS)
+		{
+			return CompletableFuture.completedFuture(cached.stars);
+		}
+
+		CompletableFuture<List<Star>> request = new CompletableFuture<>();
+		CompletableFuture<List<Star>> inFlight = inFlightRequests.putIfAbsent(provider, request);
+		if (inFlight != null)
+		{
+			return inFlight;
+		}
+
+		fetch(provider, cached).whenComplete((stars, ex) -> {
+			inFlightRequests.remove(provider, request);
+			if (ex != null)
+			{
+				request.completeExceptionally(ex);
+			}
+			else
+			{
+				request.complete(stars);
+			}
+		});
+		return request;
+	}
+
+	private CompletableFuture<List<Star>> fetch(ShootingStarProvider provider, CachedResponse cached)
 	{
+		CompletableFuture<List<Star>> future = new CompletableFuture<>();
 		String endpoint = getEndpoint(provider);
 
 		if (endpoint == null || endpoint.isEmpty())
 		{
 			log.warn("Shooting star API endpoint is not configured or is empty");
-			return "";
+			future.complete(Collections.emptyList());
+			return future;
 		}
 
-		Request httpRequest = new Request.Builder()
+		Request.Builder requestBuilder = new Request.Builder()
 			.url(endpoint)
-			.get()
-			.build();
+			.get();
 
-		String jsonResponse;
+		if (cached != null)
+		{
+			if (cached.etag != null)
+			{
+				requestBuilder.header("If-None-Match", cached.etag);
+			}
+			if (cached.lastModified != null)
+			{
+				requestBuilder.header("If-Modified-Since", cached.lastModified);
+			}
+		}
 
-		try (Response response = okHttpClient.newCall(httpRequest).execute())
+		okHttpClient.newCall(requestBuilder.build()).enqueue(new Callback()
 		{
-			if (!response.isSuccessful())
+			@Override
+			public void onFailure(Call call, IOException e)
+			{
+				log.trace("Error fetching shooting star data", e);
+				future.complete(cached != null ? cached.stars : Collections.emptyList());
+			}
+
+			@Override
+			public void onResponse(Call call, Response response)
 			{
-				log.warn("Failed to fetch shooting star data: {}", response.message());
-				return "";
+				try (response)
+				{
+					future.complete(handleResponse(provider, cached, response));
+				}
+				catch (Exception e)
+				{
+					log.trace("Error reading shooting star data", e);
+					future.complete(cached != null ? cached.stars : Collections.emptyList());
+				}
 			}
-			jsonResponse = response.body() != null ? response.body().string() : null;
+		});
+
+		return future;
+	}
+
+	private List<Star> handleResponse(ShootingStarProvider provider, CachedResponse cached, Response response)
+	{
+		long now = System.currentTimeMillis();
+
+		if (response.code() == 304 && cached != null)
+		{
+			cached.fetchedAt = now;
+			return cached.stars;
 		}
-		catch (Exception e)
+
+		if (!response.isSuccessful())
 		{
-			log.trace("Error fetching shooting star data", e);
-			return "";
+			log.warn("Failed to fetch shooting star data: {}", response.message());
+			return cached != null ? cached.stars : Collections.emptyList();
 		}
 
-		if (jsonResponse == null || jsonResponse.isEmpty())
+		ResponseBody body = response.body();
+		if (body == null)
 		{
 			log.warn("Received empty response from shooting star API endpoint");
-			return "";
+			return Collections.emptyList();
 		}
 
-		return jsonResponse;
+		List<Star> stars = read(provider, body.charStream());
+		responseCache.put(provider, new CachedResponse(stars, response.header("ETag"), response.header("Last-Modified"), now));
+		return stars;
 	}
 
-	private List<Star> fetchZeroSeven(String jsonResponse)
+	/**
+	 * Streams the response body straight into star models without materialising it as a String.
+	 */
+	private List<Star> read(ShootingStarProvider provider, Reader reader)
 	{
-		Gson gson = new Gson();
-		Type listType = new TypeToken<List<ZeroSevenStarModel>>() {}.getType();
+		Type listType = Objects.equals(provider, ShootingStarProvider.ZERO_SEVEN) ? ZERO_SEVEN_LIST_TYPE : OSRS_VAULT_LIST_TYPE;
 
-		List<ZeroSevenStarModel> deserializedStarData = Collections.emptyList();
 		try
 		{
-			List<ZeroSevenStarModel> result = gson.fromJson(jsonResponse, listType);
+			List<? extends Star> result = gson.fromJson(reader, listType);
 			if (result != null)
 			{
-				deserializedStarData = result;
+				return Collections.unmodifiableList(new ArrayList<>(result));
 			}
 		}
-		catch (JsonSyntaxException e)
+		catch (JsonParseException e)
 		{
-			log.trace("Failed to parse response: {}", jsonResponse, e);
+			log.trace("Failed to parse response from {}", provider, e);
 		}
-		return new ArrayList<>(deserializedStarData);
+		return Collections.emptyList();
 	}
 
-	private List<Star> fetchOSRSVault(String jsonResponse)
+	/**
+	 * @return new, caller-owned copies of the shared cached stars
+	 */
+	private static List<Star> copyStars(List<Star> stars)
 	{
-		Gson gson = new Gson();
-		Type listType = new TypeToken<List<OSRSVaultStarModel>>() {}.getType();
-
-		List<OSRSVaultStarModel> deserializedStarData = Collections.emptyList();
-		try
-		{
-			List<OSRSVaultStarModel> result = gson.fromJson(jsonResponse, listType);
-			if (result != null)
-			{
-				deserializedStarData = result;
-			}
-		}
-		catch (JsonSyntaxException e)
+		List<Star> copies = new ArrayList<>(stars.size());
+		for (Star star : stars)
 		{
-			log.trace("Failed to parse response: {}", jsonResponse, e);
+			copies.add(star.copy());
 		}
-		return new ArrayList<>(deserializedStarData);
+		return copies;
 	}
 
-	public List<Star> getStarData(ShootingStarProvider provider)
+	/**
+	 * Fetches the stars of the given provider asynchronously, falling back to the alternative
+	 * provider when the primary one has nothing to offer.
+	 */
+	public CompletableFuture<List<Star>> getStarData(ShootingStarProvider provider)
 	{
 		if (client.getGameState() != GameState.LOGGED_IN)
 		{
 			log.warn("GameState is not {}", GameState.LOGGED_IN.name());
-			return Collections.emptyList();
+			return CompletableFuture.completedFuture(Collections.emptyList());
 		}
 
 		if (worldService.getWorlds() == null)
 		{
 			log.warn("Worlds are not available");
-			return Collections.emptyList();
+			return CompletableFuture.completedFuture(Collections.emptyList());
 		}
 
-		ZonedDateTime now = ZonedDateTime.now(utcZoneId);
-
-		List<Star> starData = tryProvider(provider, now);
-
 		ShootingStarProvider _alternativeProvider = provider != ShootingStarProvider.OSRS_VAULT ? ShootingStarProvider.ZERO_SEVEN : ShootingStarProvider.OSRS_VAULT;
-		if (starData.isEmpty())
-		{
-			log.info("Primary provider {} returned no data, falling back to {}", provider.getProviderName(), _alternativeProvider.getProviderName());
-			starData = tryProvider(_alternativeProvider, now);
-		}
 
-		return starData;
+		return tryProvider(provider).thenCompose(starData -> {
+			if (!starData.isEmpty())
+			{
+				return CompletableFuture.completedFuture(starData);
+			}
+			log.info("Primary provider {} returned no data, falling back to {}", provider.getProviderName(), _alternativeProvider.getProviderName());
+			return tryProvider(_alternativeProvider);
+		});
 	}
 
-	private List<Star> tryProvider(ShootingStarProvider provider, ZonedDateTime now)
+	/**
+	 * @return unfiltered, caller-owned stars of the provider
+	 */
+	CompletableFuture<List<Star>> getStars(ShootingStarProvider provider)
 	{
-		String response = getData(provider);
-		if (response.isEmpty() || response.equals("[]"))
-		{
-			log.debug("Provider {} returned empty or null response", provider);
-			return Collections.emptyList();
-		}
-
-		List<Star> starData = (Objects.equals(provider, ShootingStarProvider.ZERO_SEVEN)) ?
-			fetchZeroSeven(response) : fetchOSRSVault(response);
+		return getData(provider).thenApply(ShootingStarApiClient::copyStars);
+	}
 
-		if (starData.isEmpty())
-		{
-			log.debug("Provider {} returned empty star data after parsing", provider);
-			return Collections.emptyList();
-		}
+	private CompletableFuture<List<Star>> tryProvider(ShootingStarProvider provider)
+	{
+		return getStars(provider).thenApply(stars -> {
+			if (stars.isEmpty())
+			{
+				log.debug("Provider {} returned empty star data", provider);
+				return Collections.emptyList();
+			}
+			return filterStars(stars);
+		});
+	}
 
+	private List<Star> filterStars(List<Star> starData)
+	{
+		ZonedDateTime now = ZonedDateTime.now(utcZoneId);
 		boolean inSeasonalWorld = client.getWorldType().contains(WorldType.SEASONAL);
 
 		// Remove stars that are older than 3 minutes
@@ -289,7 +409,7 @@ public class ShootingStarApiClient
 		return "";
 	}
 
-	private Properties loadProperties()
+	private static Properties loadProperties()
 	{
 		Properties properties = new Properties();
 		try (InputStream input = ShootingStarApiClient.class.getResourceAsStream("shootingstar.properties"))
@@ -0,0 +1,288 @@
+package net.runelite.client.plugins.microbot.shootingstar;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import net.runelite.client.plugins.microbot.shootingstar.enums.ShootingStarLocation;
+import net.runelite.client.plugins.microbot.shootingstar.model.Star;
+
+/**
+ * Holds the known shooting stars keyed by world and location, bucketed by tier.
+ * <p>
+ * All mutations are synchronized and publish a new immutable snapshot, so readers (panel, overlay, script)
+ * never see a half-updated list and never need to copy or re-sort it themselves.
+ */
+class ShootingStarIndex
+{
+	static final int MIN_TIER = 1;
+	static final int MAX_TIER = 9;
+
+	private final Map<Long, Star> starsByKey = new LinkedHashMap<>();
+	private final Map<Integer, Map<Long, Star>> starsByTier = new HashMap<>();
+
+	private volatile List<Star> snapshot = Collections.emptyList();
+	private volatile Star selectedStar;
+	private volatile Set<String> blacklistedLocations = Collections.emptySet();
+
+	/**
+	 * Merges the latest fetch into the index. Known stars get their end time and tier refreshed in place,
+	 * unknown stars are added.
+	 *
+	 * @return true if at least one new star was added
+	 */
+	synchronized boolean upsert(Collection<Star> latestStars)
+	{
+		boolean added = false;
+
+		for (Star star : latestStars)
+		{
+			long key = keyOf(star);
+			Star oldStar = starsByKey.get(key);
+
+			if (oldStar != null)
+			{
+				oldStar.setEndsAt(star.getEndsAt());
+				if (oldStar.getTier() != star.getTier())
+				{
+					removeFromTier(key, oldStar.getTier());
+					oldStar.setTier(star.getTier());
+					addToTier(key, oldStar);
+				}
+				continue;
+			}
+
+			starsByKey.put(key, star);
+			addToTier(key, star);
+			added = true;
+		}
+
+		publish();
+		return added;
+	}
+
+	/**
+	 * Removes every star that ended before the given epoch millis.
+	 *
+	 * @return true if any star was removed
+	 */
+	synchronized boolean expireBefore(long threshold)
+	{
+		boolean removed = false;
+		Iterator<Map.Entry<Long, Star>> iterator = starsByKey.entrySet().iterator();
+
+		while (iterator.hasNext())
+		{
+			Map.Entry<Long, Star> entry = iterator.next();
+			Star star = entry.getValue();
+			if (star.getEndsAt() >= threshold)
+			{
+				continue;
+			}
+
+			iterator.remove();
+			removeFromTier(entry.getKey(), star.getTier());
+			clearSelectionIf(star);
+			removed = true;
+		}
+
+		if (removed)
+		{
+			publish();
+		}
+		return removed;
+	}
+
+	synchronized void remove(Star star)
+	{
+		if (star == null)
+		{
+			return;
+		}
+
+		long key = keyOf(star);
+		Star removed = starsByKey.remove(key);
+		if (removed != null)
+		{
+			removeFromTier(key, removed.getTier());
+		}
+		clearSelectionIf(star);
+		publish();
+	}
+
+	synchronized void clear()
+	{
+		starsByKey.clear();
+		starsByTier.clear();
+		selectedStar = null;
+		publish();
+	}
+
+	/**
+	 * @return the selected star, or null. Falls back to null if the star was unselected directly on the model.
+	 */
+	Star getSelected()
+	{
+		Star star = selectedStar;
+		return star != null && star.isSelected() ? star : null;
+	}
+
+	/**
+	 * Makes {@code star} the only selected star, or clears the selection when {@code star} is null.
+	 */
+	synchronized void select(Star star)
+	{
+		Star current = selectedStar;
+		if (current != null && current != star)
+		{
+			current.setSelected(false);
+		}
+		if (star != null)
+		{
+			star.setSelected(true);
+		}
+		selectedStar = star;
+	}
+
+	/**
+	 * @return an immutable view of all stars in insertion order
+	 */
+	List<Star> snapshot()
+	{
+		return snapshot;
+	}
+
+	boolean isEmpty()
+	{
+		return snapshot.isEmpty();
+	}
+
+	/**
+	 * Recomputes the hidden flag of every star with the given filter plus the blacklist.
+	 */
+	synchronized void updateHidden(Predicate<Star> hideFilter)
+	{
+		Set<String> blacklist = blacklistedLocations;
+		for (Star star : starsByKey.values())
+		{
+			star.setHidden(hideFilter.test(star) || blacklist.contains(star.getShootingStarLocation().getLocationName()));
+		}
+	}
+
+	/**
+	 * @return the visible stars with tiers in {@code [minTier, maxTier]} matching the filter, highest tier first
+	 */
+	synchronized List<Star> visibleStarsByTierDesc(int minTier, int maxTier, Predicate<Star> filter)
+	{
+		List<Star> stars = new ArrayList<>();
+		for (int tier = Math.min(maxTier, MAX_TIER); tier >= Math.max(minTier, MIN_TIER); tier--)
+		{
+			Map<Long, Star> bucket = starsByTier.get(tier);
+			if (bucket == null)
+			{
+				continue;
+			}
+			for (Star star : bucket.values())
+			{
+				if (!star.isHidden() && filter.test(star))
+				{
+					stars.add(star);
+				}
+			}
+		}
+		return stars;
+	}
+
+	/**
+	 * @return the highest tier that has a visible star matching the filter, or -1
+	 */
+	synchronized int highestVisibleTier(Predicate<Star> filter)
+	{
+		for (int tier = MAX_TIER; tier >= MIN_TIER; tier--)
+		{
+			Map<Long, Star> bucket = starsByTier.get(tier);
+			if (bucket == null)
+			{
+				continue;
+			}
+			for (Star star : bucket.values())
+			{
+				if (!star.isHidden() && filter.test(star))
+				{
+					return tier;
+				}
+			}
+		}
+		return -1;
+	}
+
+	Set<String> getBlacklistedLocations()
+	{
+		return blacklistedLocations;
+	}
+
+	void setBlacklistedLocations(Set<String> locations)
+	{
+		blacklistedLocations = Collections.unmodifiableSet(new HashSet<>(locations));
+	}
+
+	/**
+	 * Parses the comma separated config value once into the blacklist set.
+	 */
+	void loadBlacklistedLocations(String raw)
+	{
+		if (raw == null || raw.isEmpty())
+		{
+			blacklistedLocations = Collections.emptySet();
+			return;
+		}
+		setBlacklistedLocations(Arrays.stream(raw.split(","))
+			.map(String::trim)
+			.filter(s -> !s.isEmpty())
+			.collect(Collectors.toSet()));
+	}
+
+	private void clearSelectionIf(Star star)
+	{
+		Star current = selectedStar;
+		if (current != null && current.equals(star))
+		{
+			current.setSelected(false);
+			selectedStar = null;
+		}
+	}
+
+	private void addToTier(long key, Star star)
+	{
+		starsByTier.computeIfAbsent(star.getTier(), t -> new LinkedHashMap<>()).put(key, star);
+	}
+
+	private void removeFromTier(long key, int tier)
+	{
+		Map<Long, Star> bucket = starsByTier.get(tier);
+		if (bucket != null)
+		{
+			bucket.remove(key);
+		}
+	}
+
+	private void publish()
+	{
+		snapshot = Collections.unmodifiableList(new ArrayList<>(starsByKey.values()));
+	}
+
+	private static long keyOf(Star star)
+	{
+		ShootingStarLocation location = star.getShootingStarLocation();
+		return ((long) star.getWorld() << 32) | (location == null ? 0xFFFFFFFFL : location.ordinal());
+	}
+}
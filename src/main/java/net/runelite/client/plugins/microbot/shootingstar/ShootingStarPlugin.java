@@ -13,17 +13,11 @@ import java.time.Duration;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Comparator;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
-import java.util.Objects;
-import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.Collectors;
 import javax.inject.Inject;
 import javax.swing.JFileChooser;
 import javax.swing.JOptionPane;
@@ -38,6 +32,7 @@ import net.runelite.api.coords.WorldArea;
 import net.runelite.api.coords.WorldPoint;
 import net.runelite.api.events.ChatMessage;
 import net.runelite.api.events.GameStateChanged;
+import net.runelite.client.callback.ClientThread;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.events.ConfigChanged;
@@ -73,10 +68,9 @@ import net.runelite.client.util.ImageUtil;
 public class ShootingStarPlugin extends Plugin
 {
 
-	static final String version = "1.4.3";
+	static final String version = "1.6.0";
 
-	@Getter
-	private final List<Star> starList = new ArrayList<>();
+	private final ShootingStarIndex starIndex = new ShootingStarIndex();
 
 	@Inject
 	private ShootingStarScript shootingStarScript;
@@ -84,6 +78,9 @@ public class ShootingStarPlugin extends Plugin
 	@Inject
 	private ShootingStarApiClient shootingStarApiClient;
 
+	@Inject
+	private ClientThread clientThread;
+
 	@Inject
 	private ShootingStarConfig config;
 
@@ -118,8 +115,6 @@ public class ShootingStarPlugin extends Plugin
 	@Getter
 	private boolean hideF2PWorlds;
 
-	private Set<String> blacklistedLocations = new HashSet<>();
-
 	@Override
 	protected void startUp() throws AWTException
 	{
@@ -128,9 +123,9 @@ public class ShootingStarPlugin extends Plugin
 		hideF2PWorlds = Rs2Player.isInMemberWorld();
 
 		loadBlacklistedLocations();
-		fetchStars();
 		createPanel();
 		updatePanelList(true);
+		fetchStars();
 
 		toggleOverlay(config.isHideOverlay());
 		shootingStarScript.run();
@@ -140,7 +135,7 @@ public class ShootingStarPlugin extends Plugin
 	{
 		shootingStarScript.shutdown();
 		removePanel();
-		starList.clear();
+		starIndex.clear();
 		lastWorld = -1;
 		apiTickCounter.set(0);
 		overlayManager.remove(shootingStarOverlay);
@@ -175,10 +170,8 @@ public class ShootingStarPlugin extends Plugin
 
 		if (event.getKey().equals(ShootingStarConfig.providerName)) {
 			log.info("Provider changed to: {}", config.getProvider());
-			final int beforeSize = starList.size();
-			starList.clear();
+			starIndex.clear();
 			fetchStars();
-			log.info("Stars fetched: {} (before: {})", starList.size(), beforeSize);
 		}
 
 		if (event.getKey().equals(ShootingStarConfig.hideOverlay))
@@ -245,28 +238,18 @@ public class ShootingStarPlugin extends Plugin
 
 	public void fetchStars()
 	{
-		List<Star> latestStars = shootingStarApiClient.getStarData(config.getProvider());
-		boolean fullUpdate = false;
-
-		for (Star star : latestStars) {
-			// Find oldStar inside starList
-			Star oldStar = starList.stream()
-				.filter(star::equals)
-				.findFirst()
-				.orElse(null);
-
-			// If there is an oldStar in the same world & location
-			if (oldStar != null)
-			{
-				oldStar.setEndsAt(star.getEndsAt());
-				oldStar.setTier(star.getTier());
-				continue;
-			}
+		// Responses complete on the OkHttp callback thread; merge on the client thread instead
+		shootingStarApiClient.getStarData(config.getProvider())
+			.thenAcceptAsync(this::mergeStars, clientThread::invokeLater)
+			.exceptionally(ex -> {
+				log.warn("Failed to fetch shooting stars", ex);
+				return null;
+			});
+	}
 
-			// If oldStar not found, add new star into the list
-			starList.add(star);
-			fullUpdate = true;
-		}
+	private void mergeStars(List<Star> latestStars)
+	{
+		boolean fullUpdate = starIndex.upsert(latestStars);
 
 		if (fullUpdate) {
 			updateHiddenStars();
@@ -280,23 +263,21 @@ public class ShootingStarPlugin extends Plugin
 		ZonedDateTime now = ZonedDateTime.now(utcZoneId);
 		long threshold = now.minusMinutes(UPDATE_INTERVAL).toInstant().toEpochMilli();
 
-		List<Star> depletedStars = starList.stream()
-			.filter(star -> star.getEndsAt() < threshold)
-			.collect(Collectors.toList());
-
-		depletedStars.forEach(this::removeStar);
-
-		boolean fullUpdate = !depletedStars.isEmpty();
+		boolean fullUpdate = starIndex.expireBefore(threshold);
 		updatePanelList(fullUpdate);
 	}
 
+	/**
+	 * @return a consistent, read-only snapshot of the known stars
+	 */
+	public List<Star> getStarList()
+	{
+		return starIndex.snapshot();
+	}
+
 	public void removeStar(Star star)
 	{
-		if (star.equals(getSelectedStar()))
-		{
-			star.setSelected(false);
-		}
-		starList.remove(star);
+		starIndex.remove(star);
 	}
 
 	public void updateSelectedStar(Star star)
@@ -304,29 +285,32 @@ public class ShootingStarPlugin extends Plugin
 		Star oldStar = getSelectedStar();
 		if (oldStar == null)
 		{
-			star.setSelected(!star.isSelected());
+			if (star.isSelected())
+			{
+				star.setSelected(false);
+			}
+			else
+			{
+				starIndex.select(star);
+			}
 		}
 		else if (!oldStar.equals(star))
 		{
-			oldStar.setSelected(false);
-			star.setSelected(!star.isSelected());
+			starIndex.select(star);
 		}
 	}
 
 	public void updateHiddenStars()
 	{
-		starList.forEach(star -> {
-			boolean hide = hideMembersWorlds && star.isMemberWorld()
-				|| (hideF2PWorlds && !star.isMemberWorld())
-				|| (config.isHideWildernessLocations() && star.isInWilderness())
-				|| blacklistedLocations.contains(star.getShootingStarLocation().getLocationName());
-			star.setHidden(hide);
-		});
+		boolean hideWilderness = config.isHideWildernessLocations();
+		starIndex.updateHidden(star -> hideMembersWorlds && star.isMemberWorld()
+			|| (hideF2PWorlds && !star.isMemberWorld())
+			|| (hideWilderness && star.isInWilderness()));
 	}
 
 	public Star getSelectedStar()
 	{
-		return starList.stream().filter(Star::isSelected).findFirst().orElse(null);
+		return starIndex.getSelected();
 	}
 
 	private void createPanel()
@@ -355,7 +339,12 @@ public class ShootingStarPlugin extends Plugin
 
 	public void updatePanelList(boolean fullUpdate)
 	{
-		List<Star> stars = new ArrayList<>(starList);
+		if (panel == null)
+		{
+			return;
+		}
+
+		List<Star> stars = starIndex.snapshot();
 
 		if (fullUpdate)
 		{
@@ -396,12 +385,8 @@ public class ShootingStarPlugin extends Plugin
 
 	public Star getClosestHighestTierStar()
 	{
-		// Get the highest tier available
-		int highestTier = starList.stream()
-			.filter(s -> !s.isHidden() && s.hasRequirements())
-			.mapToInt(Star::getTier)
-			.max()
-			.orElse(-1);  // Return -1 if no star meets the requirements
+		// Get the highest tier available, walking the tier buckets from the top
+		int highestTier = starIndex.highestVisibleTier(Star::hasRequirements);
 
 		// If no star meets the requirements, return null
 		if (highestTier == -1)
@@ -409,20 +394,20 @@ public class ShootingStarPlugin extends Plugin
 			return null;
 		}
 
-		int minTier = Math.max(1, highestTier - 2); // The lowest tier to consider (at least 1)
-		int maxTier = Math.min(9, highestTier + 1); // The highest tier to consider (up to 9)
+		int minTier = Math.max(ShootingStarIndex.MIN_TIER, highestTier - 2); // The lowest tier to consider (at least 1)
+		int maxTier = Math.min(ShootingStarIndex.MAX_TIER, highestTier + 1); // The highest tier to consider (up to 9)
 
-		List<Star> accessibleStars = starList.stream()
-			.filter(s -> !s.isHidden() && s.hasRequirements())
-			.filter(s -> s.getTier() >= minTier && s.getTier() <= maxTier)
-			.sorted(Comparator.comparingInt(Star::getTier).reversed())
-			.distinct()
-			.collect(Collectors.toList());
+		List<Star> accessibleStars = starIndex.visibleStarsByTierDesc(minTier, maxTier, Star::hasRequirements);
 
-		Set<WorldPoint> accessibleStarPoints = accessibleStars.stream()
-			.map(s -> s.getShootingStarLocation().getWorldPoint())
-			.filter(Objects::nonNull)
-			.collect(Collectors.toSet());
+		Set<WorldPoint> accessibleStarPoints = new HashSet<>();
+		for (Star star : accessibleStars)
+		{
+			WorldPoint worldPoint = star.getShootingStarLocation().getWorldPoint();
+			if (worldPoint != null)
+			{
+				accessibleStarPoints.add(worldPoint);
+			}
+		}
 
 		if (accessibleStarPoints.isEmpty())
 		{
@@ -446,30 +431,18 @@ public class ShootingStarPlugin extends Plugin
 		WorldPoint finalTile = path.get(path.size() - 1);
 		WorldArea finalTileArea = new WorldArea(finalTile, 3, 3);
 
-		Map<Star, WorldArea> starAreas = accessibleStars.stream()
-			.collect(Collectors.toMap(
-				star -> star,
-				star -> {
-					WorldPoint wp = star.getShootingStarLocation().getWorldPoint();
-					return new WorldArea(wp, 3, 3);
-				}
-			));
-
-		Optional<Star> intersectingStar = starAreas.entrySet().stream()
-			.filter(entry -> entry.getValue().intersectsWith2D(finalTileArea))
-			.map(Map.Entry::getKey)
-			.findFirst();
-
-		if (intersectingStar.isEmpty())
+		// Stars are in tier-descending order, so the first one around the final tile is the best match
+		for (Star star : accessibleStars)
 		{
-			return null;
-		}
-		else
-		{
-			Star closestStar = intersectingStar.get();
-			closestStar.setSelected(true);
-			return closestStar;
+			WorldPoint worldPoint = star.getShootingStarLocation().getWorldPoint();
+			if (worldPoint != null && new WorldArea(worldPoint, 3, 3).intersectsWith2D(finalTileArea))
+			{
+				starIndex.select(star);
+				return star;
+			}
 		}
+
+		return null;
 	}
 
 	private void enableBreakHandler()
@@ -492,20 +465,14 @@ public class ShootingStarPlugin extends Plugin
 	private void loadBlacklistedLocations()
 	{
 		String raw = Microbot.getConfigManager().getConfiguration(ShootingStarConfig.configGroup, ShootingStarConfig.blacklistedLocations);
-		if (raw == null || raw.isEmpty())
-		{
-			blacklistedLocations.clear();
-			return;
-		}
-		blacklistedLocations = Arrays.stream(raw.split(","))
-			.map(String::trim)
-			.filter(s -> !s.isEmpty())
-			.collect(Collectors.toSet());
+		starIndex.loadBlacklistedLocations(raw);
 	}
 
 	public void addLocationToBlacklist(String locationName)
 	{
+		Set<String> blacklistedLocations = new HashSet<>(starIndex.getBlacklistedLocations());
 		blacklistedLocations.add(locationName);
+		starIndex.setBlacklistedLocations(blacklistedLocations);
 		String joined = String.join(",", blacklistedLocations);
 		Microbot.getConfigManager().setConfiguration(ShootingStarConfig.configGroup, ShootingStarConfig.blacklistedLocations, joined);
 		updateHiddenStars();
@@ -514,7 +481,7 @@ public class ShootingStarPlugin extends Plugin
 
 	public void clearBlacklistedLocations()
 	{
-		blacklistedLocations.clear();
+		starIndex.setBlacklistedLocations(Collections.emptySet());
 		Microbot.getConfigManager().setConfiguration(ShootingStarConfig.configGroup, ShootingStarConfig.blacklistedLocations, "");
 		updateHiddenStars();
 		updatePanelList(true);
@@ -523,7 +490,7 @@ public class ShootingStarPlugin extends Plugin
 	public void exportBlacklistedLocations()
 	{
 		StringBuilder sb = new StringBuilder();
-		blacklistedLocations.forEach(location -> sb.append(location).append(System.lineSeparator()));
+		starIndex.getBlacklistedLocations().forEach(location -> sb.append(location).append(System.lineSeparator()));
 
 		try {
 			File file = chooseFileToSave("Export Blacklisted Locations", "txt");
@@ -554,8 +521,8 @@ public class ShootingStarPlugin extends Plugin
 						}
 					}
 
-					blacklistedLocations = importedLocations;
-					String joined = String.join(",", blacklistedLocations);
+					starIndex.setBlacklistedLocations(importedLocations);
+					String joined = String.join(",", importedLocations);
 					Microbot.getConfigManager().setConfiguration(ShootingStarConfig.configGroup, ShootingStarConfig.blacklistedLocations, joined);
 
 					updateHiddenStars();
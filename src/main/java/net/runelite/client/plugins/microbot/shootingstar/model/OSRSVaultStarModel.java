@@ -57,6 +57,25 @@ public class OSRSVaultStarModel implements Star
 		this.endsAt = Instant.ofEpochMilli(endsAt).toString();
 	}
 
+	@Override
+	public Star copy()
+	{
+		OSRSVaultStarModel copy = new OSRSVaultStarModel();
+		copy.calledAt = calledAt;
+		copy.endsAt = endsAt;
+		copy.world = world;
+		copy.locationKey = locationKey;
+		copy.rawLocation = rawLocation;
+		copy.shootingStarLocation = shootingStarLocation;
+		copy.tier = tier;
+		copy.selected = selected;
+		copy.hidden = hidden;
+		copy.memberWorld = memberWorld;
+		copy.gameModeWorld = gameModeWorld;
+		copy.seasonalWorld = seasonalWorld;
+		return copy;
+	}
+
 	@Override
 	public boolean equals(Object obj)
 	{
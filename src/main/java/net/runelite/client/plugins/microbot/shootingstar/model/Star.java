@@ -50,6 +50,11 @@ public interface Star
 
 	void setHidden(boolean hidden);
 
+	/**
+	 * @return a new star with the same state, which can be changed without affecting this one
+	 */
+	Star copy();
+
 	default boolean hasRequirements()
 	{
 		return hasLocationRequirements() && hasMiningLevel();
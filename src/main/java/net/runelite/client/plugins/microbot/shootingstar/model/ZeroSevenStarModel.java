@@ -42,6 +42,25 @@ public class ZeroSevenStarModel implements Star
 	@Setter
 	private boolean seasonalWorld;
 
+	@Override
+	public Star copy()
+	{
+		ZeroSevenStarModel copy = new ZeroSevenStarModel();
+		copy.calledAt = calledAt;
+		copy.endsAt = endsAt;
+		copy.world = world;
+		copy.locationKey = locationKey;
+		copy.rawLocation = rawLocation;
+		copy.shootingStarLocation = shootingStarLocation;
+		copy.tier = tier;
+		copy.selected = selected;
+		copy.hidden = hidden;
+		copy.memberWorld = memberWorld;
+		copy.gameModeWorld = gameModeWorld;
+		copy.seasonalWorld = seasonalWorld;
+		return copy;
+	}
+
 	@Override
 	public boolean equals(Object obj)
 	{
@@ -18,11 +18,11 @@ import net.runelite.client.plugins.microbot.theatre.Room;
 import net.runelite.client.plugins.microbot.theatre.RoomOverlay;
 import net.runelite.client.plugins.microbot.theatre.TheatreConfig;
 import net.runelite.client.plugins.microbot.theatre.TheatrePlugin;
+import net.runelite.client.plugins.microbot.theatre.TickTimers;
 
 import javax.inject.Inject;
 import java.awt.*;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.Objects;
 import java.util.Set;
 
@@ -47,7 +47,7 @@ public class Bloat extends Room
 	private NPC bloatNPC;
 
 	@Getter
-	private HashMap<WorldPoint, Integer> bloatHands = new HashMap<>();
+	private final TickTimers<WorldPoint, Void> bloatHands = new TickTimers<>(0);
 
 	@Getter
 	private int bloatTickCount = -1;
@@ -61,6 +61,12 @@ public class Bloat extends Room
 	public static final Set<Integer> topOfTankObjectIDs = ImmutableSet.of(32958, 32962, 32964, 32965, 33062);
 	public static final Set<Integer> ceilingChainsObjectIDs = ImmutableSet.of(32949, 32950, 32951, 32952, 32953, 32954, 32970);
 
+	@Override
+	public int[] getRegionIds()
+	{
+		return new int[]{TheatrePlugin.BLOAT_REGION};
+	}
+
 	@Override
 	public void load()
 	{
@@ -174,10 +180,7 @@ public class Bloat extends Room
 			if (graphicsObject.getId() >= 1560 && graphicsObject.getId() <= 1590)
 			{
 				WorldPoint point = WorldPoint.fromLocal(client, graphicsObject.getLocation());
-				if (!bloatHands.containsKey(point))
-				{
-					bloatHands.put(point, 4);
-				}
+				bloatHands.putIfAbsent(point, 4);
 			}
 		}
 	}
@@ -190,8 +193,7 @@ public class Bloat extends Room
 			bloatDownCount++;
 			bloatTickCount++;
 
-			bloatHands.values().removeIf(v -> v <= 0);
-			bloatHands.replaceAll((k, v) -> v - 1);
+			bloatHands.advance();
 
 			if (bloatNPC.getAnimation() == -1) // 1 = UP, 2 = DOWN, 3 = WARN, 4 = PAST THRESHOLD;
 			{
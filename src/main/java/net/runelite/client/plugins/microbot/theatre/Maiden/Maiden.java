@@ -70,6 +70,12 @@ public class Maiden extends Room
 
 	private static final int GRAPHICSOBJECT_ID_MAIDEN = 1579;
 
+	@Override
+	public int[] getRegionIds()
+	{
+		return new int[]{TheatrePlugin.MAIDEN_REGION};
+	}
+
 	@Override
 	public void load()
 	{
@@ -8,6 +8,7 @@ import net.runelite.api.coords.LocalPoint;
 import net.runelite.api.coords.WorldPoint;
 import net.runelite.api.events.*;
 import net.runelite.api.kit.KitType;
+import net.runelite.client.callback.ClientThread;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.events.ConfigChanged;
 import net.runelite.client.game.SkillIconManager;
@@ -16,6 +17,7 @@ import net.runelite.client.plugins.microbot.theatre.Room;
 import net.runelite.client.plugins.microbot.theatre.TheatreConfig;
 import net.runelite.client.plugins.microbot.theatre.TheatreInputListener;
 import net.runelite.client.plugins.microbot.theatre.TheatrePlugin;
+import net.runelite.client.plugins.microbot.theatre.TickTimers;
 import net.runelite.client.plugins.microbot.theatre.enums.WeaponID;
 import net.runelite.client.ui.overlay.components.InfoBoxComponent;
 import net.runelite.client.util.ColorUtil;
@@ -26,7 +28,6 @@ import javax.inject.Inject;
 import java.awt.*;
 import java.time.Instant;
 import java.util.*;
-import java.util.List;
 
 public class Nylocas extends Room
 {
@@ -40,6 +41,9 @@ public class Nylocas extends Room
 	@Inject
 	private Client client;
 
+	@Inject
+	private ClientThread clientThread;
+
 	@Inject
 	private NylocasOverlay nylocasOverlay;
 
@@ -81,7 +85,7 @@ public class Nylocas extends Room
 	private HashMap<NPC, Integer> nylocasPillars = new HashMap<>();
 
 	@Getter
-	private HashMap<NPC, Integer> nylocasNpcs = new HashMap<>();
+	private final TickTimers<NPC, Void> nylocasNpcs = new TickTimers<>(-1);
 
 	@Getter
 	private HashSet<NPC> aggressiveNylocas = new HashSet<>();
@@ -115,7 +119,10 @@ public class Nylocas extends Room
 	private HashMap<NyloNPC, NPC> currentWave = new HashMap<>();
 
 	@Getter
-	private final Map<LocalPoint, Integer> splitsMap = new HashMap();
+	private final TickTimers<LocalPoint, Void> splitsMap = new TickTimers<>(1);
+	// NPC index -> NPC, for menu entries that do not carry their NPC
+	private final Map<Integer, NPC> npcsByIndex = new HashMap<>();
+	private boolean menuRewritePending;
 	private final Set<NPC> bigNylos = new HashSet();
 
 	private int varbit6447 = -1;
@@ -141,6 +148,13 @@ public class Nylocas extends Room
 	private static final Set<Integer> NYLO_BOSS_MAGE = Set.of(NpcID.NYLOCAS_VASILIAS_10809, NpcID.NYLOCAS_PRINKIPAS_10805, NpcID.NYLOCAS_VASILIAS_8356);
 	private static final Set<Integer> NYLO_BOSS_RANGE = Set.of(NpcID.NYLOCAS_VASILIAS_10810, NpcID.NYLOCAS_PRINKIPAS_10806, NpcID.NYLOCAS_VASILIAS_8357);
 
+	// The instance timer starts on the Bloat room exit
+	@Override
+	public int[] getRegionIds()
+	{
+		return new int[]{TheatrePlugin.NYLOCAS_REGION, TheatrePlugin.BLOAT_REGION};
+	}
+
 	@Override
 	public void init()
 	{
@@ -207,6 +221,16 @@ public class Nylocas extends Room
 	{
 		overlayManager.add(nylocasOverlay);
 		weaponStyle = null;
+		// NPCs already in the scene when the plugin starts get no spawn event
+		clientThread.invokeLater(this::indexSceneNpcs);
+	}
+
+	private void indexSceneNpcs()
+	{
+		for (NPC npc : client.getNpcs())
+		{
+			npcsByIndex.put(npc.getIndex(), npc);
+		}
 	}
 
 	public void unload()
@@ -220,6 +244,8 @@ public class Nylocas extends Room
 		weaponStyle = null;
 		splitsMap.clear();
 		bigNylos.clear();
+		npcsByIndex.clear();
+		menuRewritePending = false;
 	}
 
 	private void resetNylo()
@@ -293,6 +319,7 @@ public class Nylocas extends Room
 	public void onNpcSpawned(NpcSpawned npcSpawned)
 	{
 		NPC npc = npcSpawned.getNpc();
+		npcsByIndex.put(npc.getIndex(), npc);
 		switch (npc.getId())
 		{
 			case NPCID_NYLOCAS_PILLAR:
@@ -452,6 +479,7 @@ public class Nylocas extends Room
 	public void onNpcDespawned(NpcDespawned npcDespawned)
 	{
 		NPC npc = npcDespawned.getNpc();
+		npcsByIndex.remove(npc.getIndex(), npc);
 		switch (npc.getId())
 		{
 			case NPCID_NYLOCAS_PILLAR:
@@ -503,7 +531,7 @@ public class Nylocas extends Room
 			case 10800:
 			case 10801:
 			case 10802:
-				if (nylocasNpcs.remove(npc) != null)
+				if (nylocasNpcs.remove(npc))
 				{
 					nylocasAliveCounterOverlay.setNyloAlive(nylocasNpcs.size());
 				}
@@ -664,18 +692,7 @@ public class Nylocas extends Room
 				weaponStyle = determineWeaponStyle(equippedWeapon);
 			}
 
-			for (Iterator<NPC> it = nylocasNpcs.keySet().iterator(); it.hasNext(); )
-			{
-				NPC npc = it.next();
-				int ticksLeft = nylocasNpcs.get(npc);
-
-				if (ticksLeft < 0)
-				{
-					it.remove();
-					continue;
-				}
-				nylocasNpcs.replace(npc, ticksLeft - 1);
-			}
+			nylocasNpcs.advance();
 
 			for (NPC pillar : nylocasPillars.keySet())
 			{
@@ -702,11 +719,7 @@ public class Nylocas extends Room
 			ticksSinceLastWave = Math.max(0, ticksSinceLastWave - 1);
 			ticksUntilNextWave = Math.max(0, ticksUntilNextWave - 1);
 
-			if (!splitsMap.isEmpty())
-			{
-				splitsMap.values().removeIf((value) -> value <= 1);
-				splitsMap.replaceAll((key, value) -> value - 1);
-			}
+			splitsMap.advance();
 		}
 
 
@@ -723,26 +736,30 @@ public class Nylocas extends Room
 	@Subscribe
 	public void onClientTick(ClientTick event)
 	{
-		List<Player> players = client.getPlayers();
-		for (Player player : players)
+		if (!nextInstance || !inRoomRegion(TheatrePlugin.BLOAT_REGION))
+		{
+			return;
+		}
+
+		for (Player player : client.getPlayers())
 		{
-			if (player.getWorldLocation() != null)
+			WorldPoint wp = player.getWorldLocation();
+			if (wp != null)
 			{
 				LocalPoint lp = player.getLocalLocation();
-
-				WorldPoint wp = WorldPoint.fromRegion(player.getWorldLocation().getRegionID(), 5, 33, 0);
-				LocalPoint lp1 = LocalPoint.fromWorld(client, wp.getX(), wp.getY());
-				if (lp1 != null)
+				LocalPoint base = plugin.getRoomDispatcher().regionPoint(wp.getRegionID(), 5, 33);
+				if (lp != null && base != null)
 				{
-					Point base = new Point(lp1.getSceneX(), lp1.getSceneY());
-					Point point = new Point(lp.getSceneX() - base.getX(), lp.getSceneY() - base.getY());
+					int x = lp.getSceneX() - base.getSceneX();
+					int y = lp.getSceneY() - base.getSceneY();
 
-					if (inRoomRegion(TheatrePlugin.BLOAT_REGION) && point.getX() == -1 && (point.getY() == -1 || point.getY() == -2 || point.getY() == -3) && nextInstance)
+					if (x == -1 && (y == -1 || y == -2 || y == -3))
 					{
 						client.addChatMessage(ChatMessageType.GAMEMESSAGE, "", "Nylo instance timer started.", "");
 						instanceTimer = 3;
 						isInstanceTimerRunning = true;
 						nextInstance = false;
+						return;
 					}
 				}
 			}
@@ -766,129 +783,149 @@ public class Nylocas extends Room
 	@Subscribe
 	public void onMenuEntryAdded(MenuEntryAdded entry)
 	{
+		if (!nyloActive && !nyloBossAlive)
+		{
+			return;
+		}
+
+		// Only note that the menu needs rewriting; all entries are handled at once in onPostMenuSort
 		MenuEntry menuEntry = entry.getMenuEntry();
-		MenuAction menuAction = menuEntry.getType();
-		if (nyloActive || nyloBossAlive)
+		if (menuEntry.getType() == MenuAction.NPC_SECOND_OPTION || "Attack".equals(entry.getOption()))
 		{
-			if (config.removeNyloBossEntries() && menuAction == MenuAction.NPC_SECOND_OPTION && weaponStyle != null)
-			{
-				NPC npc = menuEntry.getNpc();
-				if (npc == null)
-				{
-					npc = findNpcByIndex(entry.getIdentifier());
-				}
-				if (npc != null)
-				{
-					int id = npc.getId();
-					switch (weaponStyle)
-					{
-						case MAGIC:
-							if (NYLO_BOSS_MELEE.contains(id) || NYLO_BOSS_RANGE.contains(id))
-							{
-								removeLatestMenuEntry();
-							}
-							break;
-						case MELEE:
-							if (NYLO_BOSS_RANGE.contains(id) || NYLO_BOSS_MAGE.contains(id))
-							{
-								removeLatestMenuEntry();
-							}
-							break;
-						case RANGE:
-							if (NYLO_BOSS_MELEE.contains(id) || NYLO_BOSS_MAGE.contains(id))
-							{
-								removeLatestMenuEntry();
-							}
-							break;
-					}
-				}
-			}
+			menuRewritePending = true;
 		}
+	}
 
-		if (!nyloActive)
+	@Subscribe
+	public void onPostMenuSort(PostMenuSort event)
+	{
+		if (!menuRewritePending || client.isMenuOpen())
 		{
 			return;
 		}
+		menuRewritePending = false;
 
-		String target = entry.getTarget();
-
-		if (config.removeNyloEntries() && menuAction == MenuAction.NPC_SECOND_OPTION && weaponStyle != null)
+		MenuEntry[] entries = client.getMenuEntries();
+		int kept = 0;
+		boolean changed = false;
+		for (MenuEntry menuEntry : entries)
 		{
-			switch (weaponStyle)
+			if (shouldRemoveMenuEntry(menuEntry))
 			{
-				case MAGIC:
-					if (target.contains(MELEE_NYLO) || target.contains(RANGE_NYLO))
-					{
-						removeLatestMenuEntry();
-					}
-					break;
-				case MELEE:
-					if (target.contains(RANGE_NYLO) || target.contains(MAGE_NYLO))
-					{
-						removeLatestMenuEntry();
-					}
-					break;
-				case RANGE:
-					if (target.contains(MELEE_NYLO) || target.contains(MAGE_NYLO))
-					{
-						removeLatestMenuEntry();
-					}
-					break;
+				changed = true;
+				continue;
 			}
+			changed |= recolorMenuEntry(menuEntry);
+			entries[kept++] = menuEntry;
 		}
 
-		if (config.nyloRecolorMenu() && entry.getOption().equals("Attack"))
+		if (changed)
 		{
-			MenuEntry[] entries = client.getMenuEntries();
-			MenuEntry toEdit = entries[entries.length - 1];
+			client.setMenuEntries(kept == entries.length ? entries : Arrays.copyOf(entries, kept));
+		}
+	}
 
-			String strippedTarget = Text.removeTags(target);
+	private boolean shouldRemoveMenuEntry(MenuEntry menuEntry)
+	{
+		if (menuEntry.getType() != MenuAction.NPC_SECOND_OPTION || weaponStyle == null)
+		{
+			return false;
+		}
 
-			if (strippedTarget.startsWith(MAGE_NYLO))
-			{
-				toEdit.setTarget(ColorUtil.prependColorTag(strippedTarget, Color.CYAN));
-			}
-			else if (strippedTarget.startsWith(MELEE_NYLO))
+		if (config.removeNyloBossEntries() && (nyloActive || nyloBossAlive))
+		{
+			NPC npc = menuEntry.getNpc();
+			if (npc == null)
 			{
-				toEdit.setTarget(ColorUtil.prependColorTag(strippedTarget, new Color(255, 188, 188)));
+				npc = npcsByIndex.get(menuEntry.getIdentifier());
 			}
-			else if (strippedTarget.startsWith(RANGE_NYLO))
+			if (npc != null)
 			{
-				toEdit.setTarget(ColorUtil.prependColorTag(strippedTarget, Color.GREEN));
+				int id = npc.getId();
+				switch (weaponStyle)
+				{
+					case MAGIC:
+						if (NYLO_BOSS_MELEE.contains(id) || NYLO_BOSS_RANGE.contains(id))
+						{
+							return true;
+						}
+						break;
+					case MELEE:
+						if (NYLO_BOSS_RANGE.contains(id) || NYLO_BOSS_MAGE.contains(id))
+						{
+							return true;
+						}
+						break;
+					case RANGE:
+						if (NYLO_BOSS_MELEE.contains(id) || NYLO_BOSS_MAGE.contains(id))
+						{
+							return true;
+						}
+						break;
+				}
 			}
-			client.setMenuEntries(entries);
 		}
-	}
 
-	@Subscribe
-	public void onMenuOpened(MenuOpened menu)
-	{
-		if (!config.nyloRecolorMenu() || !nyloActive || !nyloBossAlive)
+		if (!nyloActive || !config.removeNyloEntries())
 		{
-			return;
+			return false;
 		}
 
-		// Filter all entries with Examine
-		client.setMenuEntries(Arrays.stream(menu.getMenuEntries()).filter(s -> !s.getOption().equals("Examine")).toArray(MenuEntry[]::new));
+		String target = menuEntry.getTarget();
+		switch (weaponStyle)
+		{
+			case MAGIC:
+				return target.contains(MELEE_NYLO) || target.contains(RANGE_NYLO);
+			case MELEE:
+				return target.contains(RANGE_NYLO) || target.contains(MAGE_NYLO);
+			case RANGE:
+				return target.contains(MELEE_NYLO) || target.contains(MAGE_NYLO);
+			default:
+				return false;
+		}
 	}
 
-	private void removeLatestMenuEntry()
+	/**
+	 * @return true if the target was recolored
+	 */
+	private boolean recolorMenuEntry(MenuEntry menuEntry)
 	{
-		MenuEntry[] entries = client.getMenuEntries();
-		if (entries.length == 0)
+		if (!nyloActive || !config.nyloRecolorMenu() || !"Attack".equals(menuEntry.getOption()))
 		{
-			return;
+			return false;
 		}
 
-		client.setMenuEntries(Arrays.copyOf(entries, entries.length - 1));
+		String strippedTarget = Text.removeTags(menuEntry.getTarget());
+
+		if (strippedTarget.startsWith(MAGE_NYLO))
+		{
+			menuEntry.setTarget(ColorUtil.prependColorTag(strippedTarget, Color.CYAN));
+		}
+		else if (strippedTarget.startsWith(MELEE_NYLO))
+		{
+			menuEntry.setTarget(ColorUtil.prependColorTag(strippedTarget, new Color(255, 188, 188)));
+		}
+		else if (strippedTarget.startsWith(RANGE_NYLO))
+		{
+			menuEntry.setTarget(ColorUtil.prependColorTag(strippedTarget, Color.GREEN));
+		}
+		else
+		{
+			return false;
+		}
+		return true;
 	}
 
-	private NPC findNpcByIndex(int index)
+	@Subscribe
+	public void onMenuOpened(MenuOpened menu)
 	{
-		return client.getNpcs().stream()
-			.filter(npc -> npc != null && npc.getIndex() == index)
-			.findFirst()
-			.orElse(null);
+		if (!config.nyloRecolorMenu() || !nyloActive || !nyloBossAlive)
+		{
+			return;
+		}
+
+		// Filter all entries with Examine
+		client.setMenuEntries(Arrays.stream(menu.getMenuEntries()).filter(s -> !s.getOption().equals("Examine")).toArray(MenuEntry[]::new));
 	}
 
 	private WeaponStyle determineWeaponStyle(int weaponId)
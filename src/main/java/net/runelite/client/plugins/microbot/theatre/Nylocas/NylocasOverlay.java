@@ -10,6 +10,7 @@ import net.runelite.api.coords.WorldPoint;
 import net.runelite.client.plugins.microbot.theatre.RoomOverlay;
 import net.runelite.client.plugins.microbot.theatre.TheatreConfig;
 import net.runelite.client.plugins.microbot.theatre.TheatrePlugin;
+import net.runelite.client.plugins.microbot.theatre.TickTimers;
 import net.runelite.client.ui.overlay.OverlayLayer;
 import net.runelite.client.ui.overlay.OverlayUtil;
 
@@ -224,9 +225,9 @@ public class NylocasOverlay extends RoomOverlay
 				}
 			}
 
-			final Map<NPC, Integer> npcMap = nylocas.getNylocasNpcs();
+			final TickTimers<NPC, Void> npcTimers = nylocas.getNylocasNpcs();
 
-			for (NPC npc : npcMap.keySet())
+			for (NPC npc : npcTimers.keySet())
 			{
 				int npcSize = npc.getComposition().getSize();
 				if (config.nyloAggressiveOverlay() && nylocas.getAggressiveNylocas().contains(npc) && !npc.isDead())
@@ -256,7 +257,7 @@ public class NylocasOverlay extends RoomOverlay
 
 				}
 
-				int ticksLeft = npcMap.get(npc);
+				int ticksLeft = npcTimers.remaining(npc);
 				if (ticksLeft > -1 && ticksLeft <= config.nyloExplosionDisplayTicks())
 				{
 					if (config.nyloTimeAlive() && !npc.isDead())
@@ -319,7 +320,7 @@ public class NylocasOverlay extends RoomOverlay
 
 			if (config.bigSplits())
 			{
-				nylocas.getSplitsMap().forEach((lp, ticks) ->
+				nylocas.getSplitsMap().forEach((lp, value, ticks) ->
 				{
 					Polygon poly = Perspective.getCanvasTileAreaPoly(this.client, lp, 2);
 					if (poly != null)
@@ -1,8 +1,14 @@
 package net.runelite.client.plugins.microbot.theatre;
 
-import net.runelite.api.Client;
+import net.runelite.api.events.AnimationChanged;
+import net.runelite.api.events.ClientTick;
+import net.runelite.api.events.GameTick;
+import net.runelite.api.events.GraphicsObjectCreated;
+import net.runelite.api.events.MenuEntryAdded;
+import net.runelite.api.events.MenuOpened;
+import net.runelite.api.events.PostMenuSort;
+import net.runelite.api.events.ProjectileMoved;
 import net.runelite.client.ui.overlay.OverlayManager;
-import org.apache.commons.lang3.ArrayUtils;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -16,9 +22,6 @@ public abstract class Room
 	@Inject
 	protected OverlayManager overlayManager;
 
-	@Inject
-	private Client client;
-
 	@Inject
 	protected Room(TheatrePlugin plugin, TheatreConfig config)
 	{
@@ -38,9 +41,48 @@ public abstract class Room
 	{
 	}
 
+	/**
+	 * @return the regions in which this room receives the high-frequency events below
+	 */
+	public abstract int[] getRegionIds();
+
 	public boolean inRoomRegion(Integer roomRegionId)
 	{
-		return ArrayUtils.contains(client.getMapRegions(), roomRegionId);
+		return plugin.getRoomDispatcher().inRegion(roomRegionId);
+	}
+
+	// High-frequency events, only dispatched while one of the room's regions is loaded
+
+	public void onGameTick(GameTick event)
+	{
+	}
+
+	public void onClientTick(ClientTick event)
+	{
+	}
+
+	public void onMenuEntryAdded(MenuEntryAdded entry)
+	{
+	}
+
+	public void onMenuOpened(MenuOpened menu)
+	{
+	}
+
+	public void onPostMenuSort(PostMenuSort event)
+	{
+	}
+
+	public void onAnimationChanged(AnimationChanged event)
+	{
+	}
+
+	public void onProjectileMoved(ProjectileMoved event)
+	{
+	}
+
+	public void onGraphicsObjectCreated(GraphicsObjectCreated event)
+	{
 	}
 }
 
@@ -0,0 +1,99 @@
+package net.runelite.client.plugins.microbot.theatre;
+
+import net.runelite.api.Client;
+import net.runelite.api.coords.LocalPoint;
+import net.runelite.api.coords.WorldPoint;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tracks which rooms have one of their regions loaded, so high-frequency events only reach those rooms.
+ * <p>
+ * The loaded map regions only change on a scene load, so they are read once per load in {@link #refresh()}
+ * instead of on every {@link Room#inRoomRegion(Integer)} call. Derived scene coordinates of region-relative points
+ * are cached until the next load for the same reason.
+ */
+public class RoomDispatcher
+{
+	private static final Room[] NO_ROOMS = new Room[0];
+
+	private final Client client;
+	private final Room[] rooms;
+
+	private volatile int[] mapRegions = new int[0];
+	private volatile Room[] activeRooms = NO_ROOMS;
+	// Packed region id and region coordinates -> scene location, valid until the next scene load
+	private final Map<Long, LocalPoint> regionPoints = new HashMap<>();
+
+	RoomDispatcher(Client client, Room[] rooms)
+	{
+		this.client = client;
+		this.rooms = rooms;
+	}
+
+	/**
+	 * Re-reads the loaded map regions. Called on start and whenever the scene is (re)loaded.
+	 */
+	void refresh()
+	{
+		int[] regions = client.getMapRegions();
+		mapRegions = regions == null ? new int[0] : regions.clone();
+		regionPoints.clear();
+
+		List<Room> active = new ArrayList<>();
+		for (Room room : rooms)
+		{
+			for (int regionId : room.getRegionIds())
+			{
+				if (inRegion(regionId))
+				{
+					active.add(room);
+					break;
+				}
+			}
+		}
+		activeRooms = active.isEmpty() ? NO_ROOMS : active.toArray(NO_ROOMS);
+	}
+
+	/**
+	 * @return the rooms with at least one of their regions loaded, in dispatch order; empty outside the Theatre
+	 */
+	Room[] getActiveRooms()
+	{
+		return activeRooms;
+	}
+
+	public boolean inRegion(int regionId)
+	{
+		for (int region : mapRegions)
+		{
+			if (region == regionId)
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Scene location of a point given relative to a region, cached until the next scene load.
+	 * Only call from the client thread.
+	 *
+	 * @return the local point, or null if the point is not in the loaded scene
+	 */
+	public LocalPoint regionPoint(int regionId, int regionX, int regionY)
+	{
+		long key = ((long) regionId << 16) | (regionX << 8) | regionY;
+		if (regionPoints.containsKey(key))
+		{
+			return regionPoints.get(key);
+		}
+		WorldPoint worldPoint = WorldPoint.fromRegion(regionId, regionX, regionY, 0);
+		LocalPoint localPoint = LocalPoint.fromWorld(client, worldPoint.getX(), worldPoint.getY());
+		regionPoints.put(key, localPoint);
+		return localPoint;
+	}
+}
@@ -82,6 +82,12 @@ public class Sotetseg extends Room
 	@Getter
 	private int attacksLeft = 10;
 
+	@Override
+	public int[] getRegionIds()
+	{
+		return new int[]{TheatrePlugin.SOTETSEG_REGION_OVERWORLD, TheatrePlugin.SOTETSEG_REGION_UNDERWORLD};
+	}
+
 	@Override
 	public void load()
 	{
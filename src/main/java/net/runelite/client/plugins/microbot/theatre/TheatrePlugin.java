@@ -2,8 +2,10 @@ package net.runelite.client.plugins.microbot.theatre;
 
 import com.google.inject.Binder;
 import com.google.inject.Provides;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
+import net.runelite.api.GameState;
 import net.runelite.api.Varbits;
 import net.runelite.api.events.*;
 import net.runelite.client.config.ConfigManager;
@@ -37,7 +39,7 @@ import javax.inject.Inject;
 @Slf4j
 public class TheatrePlugin extends Plugin
 {
-	public static final String VERSION = "1.0.2";
+	public static final String VERSION = "1.0.5";
 
 	@Inject
 	private Client client;
@@ -69,6 +71,9 @@ public class TheatrePlugin extends Plugin
 
 	private Room[] rooms = null;
 
+	@Getter
+	private RoomDispatcher roomDispatcher;
+
 	private boolean tobActive;
 	public static int partySize;
 
@@ -90,6 +95,7 @@ public class TheatrePlugin extends Plugin
 		if (rooms == null)
 		{
 			rooms = new Room[]{maiden, bloat, nylocas, sotetseg, xarpus, verzik};
+			roomDispatcher = new RoomDispatcher(client, rooms);
 
 			for (Room room : rooms)
 			{
@@ -97,6 +103,8 @@ public class TheatrePlugin extends Plugin
 			}
 		}
 
+		roomDispatcher.refresh();
+
 		for (Room room : rooms)
 		{
 			room.load();
@@ -155,19 +163,19 @@ public class TheatrePlugin extends Plugin
 			}
 		}
 
-		maiden.onGameTick(event);
-		bloat.onGameTick(event);
-		nylocas.onGameTick(event);
-		sotetseg.onGameTick(event);
-		xarpus.onGameTick(event);
-		verzik.onGameTick(event);
+		for (Room room : roomDispatcher.getActiveRooms())
+		{
+			room.onGameTick(event);
+		}
 	}
 
 	@Subscribe
 	public void onClientTick(ClientTick event)
 	{
-		nylocas.onClientTick(event);
-		xarpus.onClientTick(event);
+		for (Room room : roomDispatcher.getActiveRooms())
+		{
+			room.onClientTick(event);
+		}
 	}
 
 	@Subscribe
@@ -183,6 +191,12 @@ public class TheatrePlugin extends Plugin
 	@Subscribe
 	public void onGameStateChanged(GameStateChanged gameStateChanged)
 	{
+		// The map regions are set before LOADING and final at LOGGED_IN
+		if (gameStateChanged.getGameState() == GameState.LOADING || gameStateChanged.getGameState() == GameState.LOGGED_IN)
+		{
+			roomDispatcher.refresh();
+		}
+
 		bloat.onGameStateChanged(gameStateChanged);
 		nylocas.onGameStateChanged(gameStateChanged);
 		xarpus.onGameStateChanged(gameStateChanged);
@@ -191,8 +205,19 @@ public class TheatrePlugin extends Plugin
 	@Subscribe
 	public void onMenuEntryAdded(MenuEntryAdded entry)
 	{
-		nylocas.onMenuEntryAdded(entry);
-		verzik.onMenuEntryAdded(entry);
+		for (Room room : roomDispatcher.getActiveRooms())
+		{
+			room.onMenuEntryAdded(entry);
+		}
+	}
+
+	@Subscribe
+	public void onPostMenuSort(PostMenuSort event)
+	{
+		for (Room room : roomDispatcher.getActiveRooms())
+		{
+			room.onPostMenuSort(event);
+		}
 	}
 
 	@Subscribe
@@ -204,7 +229,10 @@ public class TheatrePlugin extends Plugin
 	@Subscribe
 	public void onMenuOpened(MenuOpened menu)
 	{
-		nylocas.onMenuOpened(menu);
+		for (Room room : roomDispatcher.getActiveRooms())
+		{
+			room.onMenuOpened(menu);
+		}
 	}
 
 	@Subscribe
@@ -222,7 +250,10 @@ public class TheatrePlugin extends Plugin
 	@Subscribe
 	public void onGraphicsObjectCreated(GraphicsObjectCreated graphicsObjectC)
 	{
-		bloat.onGraphicsObjectCreated(graphicsObjectC);
+		for (Room room : roomDispatcher.getActiveRooms())
+		{
+			room.onGraphicsObjectCreated(graphicsObjectC);
+		}
 	}
 
 	@Subscribe
@@ -235,16 +266,19 @@ public class TheatrePlugin extends Plugin
 	@Subscribe
 	public void onAnimationChanged(AnimationChanged animationChanged)
 	{
-		bloat.onAnimationChanged(animationChanged);
-		nylocas.onAnimationChanged(animationChanged);
-		sotetseg.onAnimationChanged(animationChanged);
+		for (Room room : roomDispatcher.getActiveRooms())
+		{
+			room.onAnimationChanged(animationChanged);
+		}
 	}
 
 	@Subscribe
 	public void onProjectileMoved(ProjectileMoved event)
 	{
-		sotetseg.onProjectileMoved(event);
-		verzik.onProjectileMoved(event);
+		for (Room room : roomDispatcher.getActiveRooms())
+		{
+			room.onProjectileMoved(event);
+		}
 	}
 
 	@Subscribe
@@ -0,0 +1,194 @@
+package net.runelite.client.plugins.microbot.theatre;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Countdowns keyed by K, stored as deadlines on a timing wheel.
+ * <p>
+ * Each entry stores the tick it reaches zero, so {@link #advance()} never touches the other entries and readers
+ * get the ticks remaining by subtraction. Entries are dropped during the {@link #advance()} at which their remaining
+ * ticks would fall below the floor given to the constructor. The tick count is the owner's own: rooms call
+ * {@link #advance()} from their game tick handler, under the same conditions the old per-tick decrement ran.
+ * Only used from the client thread.
+ *
+ * @param <K> the key, e.g. an NPC or a tile
+ * @param <V> an optional value kept with the key; {@code Void} if there is none
+ */
+public class TickTimers<K, V>
+{
+	private static final int WHEEL_SIZE = 64;
+	private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+	private final int floor;
+	private final Map<K, Timer<V>> timers = new HashMap<>();
+	@SuppressWarnings("unchecked")
+	private final List<K>[] wheel = new List[WHEEL_SIZE];
+	private int tick;
+
+	/**
+	 * @param floor the lowest remaining tick count that is still kept
+	 */
+	public TickTimers(int floor)
+	{
+		this.floor = floor;
+	}
+
+	public void put(K key, int ticks)
+	{
+		put(key, null, ticks);
+	}
+
+	/**
+	 * Starts or restarts the countdown of the key.
+	 */
+	public void put(K key, V value, int ticks)
+	{
+		Timer<V> timer = new Timer<>(value, tick + ticks);
+		timers.put(key, timer);
+		// Dropped on the advance that would take the remaining ticks below the floor
+		int expiry = timer.deadline - floor + 1;
+		if (expiry <= tick)
+		{
+			timers.remove(key);
+			return;
+		}
+		List<K> slot = wheel[expiry & WHEEL_MASK];
+		if (slot == null)
+		{
+			slot = new ArrayList<>();
+			wheel[expiry & WHEEL_MASK] = slot;
+		}
+		slot.add(key);
+	}
+
+	public void putIfAbsent(K key, int ticks)
+	{
+		if (!timers.containsKey(key))
+		{
+			put(key, null, ticks);
+		}
+	}
+
+	/**
+	 * @return true if the key had a countdown
+	 */
+	public boolean remove(K key)
+	{
+		// The wheel slot is cleaned up lazily when it comes around
+		return timers.remove(key) != null;
+	}
+
+	public boolean containsKey(K key)
+	{
+		return timers.containsKey(key);
+	}
+
+	public V get(K key)
+	{
+		Timer<V> timer = timers.get(key);
+		return timer == null ? null : timer.value;
+	}
+
+	/**
+	 * @return the ticks left until the key's countdown reaches zero, or {@link Integer#MIN_VALUE} if there is none
+	 */
+	public int remaining(K key)
+	{
+		Timer<V> timer = timers.get(key);
+		return timer == null ? Integer.MIN_VALUE : timer.deadline - tick;
+	}
+
+	/**
+	 * Moves time one tick forward and drops the entries that fell below the floor.
+	 */
+	public void advance()
+	{
+		tick++;
+		List<K> slot = wheel[tick & WHEEL_MASK];
+		if (slot == null || slot.isEmpty())
+		{
+			return;
+		}
+
+		int kept = 0;
+		for (int i = 0; i < slot.size(); i++)
+		{
+			K key = slot.get(i);
+			Timer<V> timer = timers.get(key);
+			if (timer == null)
+			{
+				continue;
+			}
+			int expiry = timer.deadline - floor + 1;
+			if (expiry == tick)
+			{
+				timers.remove(key);
+			}
+			else if ((expiry & WHEEL_MASK) == (tick & WHEEL_MASK) && expiry > tick)
+			{
+				// Not due until a later turn of the wheel
+				slot.set(kept++, key);
+			}
+			// Otherwise the key was restarted and sits in another slot
+		}
+		slot.subList(kept, slot.size()).clear();
+	}
+
+	public void forEach(TimerConsumer<K, V> consumer)
+	{
+		for (Map.Entry<K, Timer<V>> entry : timers.entrySet())
+		{
+			Timer<V> timer = entry.getValue();
+			consumer.accept(entry.getKey(), timer.value, timer.deadline - tick);
+		}
+	}
+
+	public Set<K> keySet()
+	{
+		return timers.keySet();
+	}
+
+	public int size()
+	{
+		return timers.size();
+	}
+
+	public boolean isEmpty()
+	{
+		return timers.isEmpty();
+	}
+
+	public void clear()
+	{
+		timers.clear();
+		for (List<K> slot : wheel)
+		{
+			if (slot != null)
+			{
+				slot.clear();
+			}
+		}
+	}
+
+	@FunctionalInterface
+	public interface TimerConsumer<K, V>
+	{
+		void accept(K key, V value, int remainingTicks);
+	}
+
+	private static final class Timer<V>
+	{
+		private final V value;
+		private final int deadline;
+
+		private Timer(V value, int deadline)
+		{
+			this.value = value;
+			this.deadline = deadline;
+		}
+	}
+}
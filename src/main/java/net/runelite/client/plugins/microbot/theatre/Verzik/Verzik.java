@@ -12,6 +12,7 @@ import net.runelite.client.events.ConfigChanged;
 import net.runelite.client.plugins.microbot.theatre.Room;
 import net.runelite.client.plugins.microbot.theatre.TheatreConfig;
 import net.runelite.client.plugins.microbot.theatre.TheatrePlugin;
+import net.runelite.client.plugins.microbot.theatre.TickTimers;
 import net.runelite.client.plugins.microbot.theatre.prayer.TheatrePrayerUtil;
 import net.runelite.client.plugins.microbot.theatre.prayer.TheatreUpcomingAttack;
 import org.apache.commons.lang3.tuple.MutablePair;
@@ -125,7 +126,7 @@ public class Verzik extends Room
 	Queue<TheatreUpcomingAttack> upcomingAttackQueue = new PriorityQueue<>();
 
 	@Getter(AccessLevel.PACKAGE)
-	Set<VerzikPoisonTile> verzikPoisonTiles = new HashSet<>();
+	private final TickTimers<WorldPoint, Void> verzikPoisonTiles = new TickTimers<>(1);
 
 	@Getter
 	private boolean verzikEnraged = false;
@@ -165,6 +166,12 @@ public class Verzik extends Room
 
 	private boolean verzikHardmodeSeenYellows = false;
 
+	@Override
+	public int[] getRegionIds()
+	{
+		return new int[]{TheatrePlugin.VERZIK_REGION};
+	}
+
 	@Override
 	public void load()
 	{
@@ -293,7 +300,7 @@ public class Verzik extends Room
 	{
 		if (verzikActive && verzikPhase == Phase.PHASE2)
 		{
-			verzikPoisonTiles.add(new VerzikPoisonTile(WorldPoint.fromLocal(client, gameObject.getTile().getLocalLocation())));
+			verzikPoisonTiles.putIfAbsent(WorldPoint.fromLocal(client, gameObject.getTile().getLocalLocation()), VerzikPoisonTile.VERZIK_P2_POISON_TICKS);
 		}
 	}
 
@@ -488,7 +495,7 @@ public class Verzik extends Room
 
 				if (isHM)
 				{
-					VerzikPoisonTile.updateTiles(verzikPoisonTiles);
+					verzikPoisonTiles.advance();
 				}
 			}
 
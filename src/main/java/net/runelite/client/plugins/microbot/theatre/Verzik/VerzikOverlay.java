@@ -188,12 +188,12 @@ public class VerzikOverlay extends RoomOverlay
 
 				if (verzik.isHM() && config.verzikPoisonTileHighlight())
 				{
-					verzik.getVerzikPoisonTiles()
-						.stream()
-						.filter(VerzikPoisonTile::shouldHighlight)
-						.forEach(tile -> {
-							drawTile(graphics, tile.getTile(), config.verzikPoisonTileHighlightColor(), 1, 255, 20);
-						});
+					verzik.getVerzikPoisonTiles().forEach((tile, value, ticks) -> {
+						if (VerzikPoisonTile.shouldHighlight(ticks))
+						{
+							drawTile(graphics, tile, config.verzikPoisonTileHighlightColor(), 1, 255, 20);
+						}
+					});
 				}
 			}
 
@@ -1,69 +1,20 @@
 package net.runelite.client.plugins.microbot.theatre.Verzik;
 
-import lombok.Getter;
-import net.runelite.api.coords.WorldPoint;
-
-import java.util.Objects;
-import java.util.Set;
-
-public class VerzikPoisonTile
+/**
+ * Timings of the phase 2 poison tiles. The tiles themselves are kept by {@link Verzik}.
+ */
+public final class VerzikPoisonTile
 {
-	private static final int VERZIK_P2_POISON_TICKS = 14;
-
-	@Getter
-	WorldPoint tile;
-
-	@Getter
-	int ticksRemaining;
-
-	public VerzikPoisonTile(WorldPoint tile)
-	{
-		this.tile = tile;
-		this.ticksRemaining = VERZIK_P2_POISON_TICKS;
-	}
-
-	public void decrement()
-	{
-		if (ticksRemaining > 0)
-		{
-			ticksRemaining -= 1;
-		}
-	}
+	static final int VERZIK_P2_POISON_TICKS = 14;
 
-	public boolean isDead()
-	{
-		return ticksRemaining == 0;
-	}
-
-	@Override
-	public boolean equals(Object o)
-	{
-		if (this == o)
-		{
-			return true;
-		}
-		if (o == null || getClass() != o.getClass())
-		{
-			return false;
-		}
-		VerzikPoisonTile that = (VerzikPoisonTile) o;
-		return tile.equals(that.tile);
-	}
-
-	public boolean shouldHighlight()
-	{
-		return ticksRemaining < 4;
-	}
+	private static final int HIGHLIGHT_TICKS = 4;
 
-	@Override
-	public int hashCode()
+	private VerzikPoisonTile()
 	{
-		return Objects.hash(tile);
 	}
 
-	static void updateTiles(Set<VerzikPoisonTile> tileSet)
+	static boolean shouldHighlight(int ticksRemaining)
 	{
-		tileSet.forEach(VerzikPoisonTile::decrement);
-		tileSet.removeIf(VerzikPoisonTile::isDead);
+		return ticksRemaining < HIGHLIGHT_TICKS;
 	}
 }
@@ -10,16 +10,13 @@ import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.plugins.microbot.theatre.Room;
 import net.runelite.client.plugins.microbot.theatre.TheatreConfig;
 import net.runelite.client.plugins.microbot.theatre.TheatrePlugin;
+import net.runelite.client.plugins.microbot.theatre.TickTimers;
 import net.runelite.client.ui.overlay.infobox.Counter;
 import net.runelite.client.ui.overlay.infobox.InfoBoxManager;
 import net.runelite.client.util.ImageUtil;
-import org.apache.commons.lang3.tuple.Pair;
 
 import javax.inject.Inject;
 import java.awt.image.BufferedImage;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
 import java.util.Set;
 
 public class Xarpus extends Room
@@ -60,7 +57,7 @@ public class Xarpus extends Room
 	private boolean exhumedSpawned = false;
 
 	@Getter
-	private final Map<Long, Pair<GroundObject, Integer>> xarpusExhumeds = new HashMap<>();
+	private final TickTimers<Long, GroundObject> xarpusExhumeds = new TickTimers<>(1);
 
 	@Getter
 	private Counter exhumedCounter;
@@ -82,6 +79,13 @@ public class Xarpus extends Room
 	private boolean isHM;
 	private static final Set<Integer> XARPUS_HM_ID = ImmutableSet.of(10770, 10771, 10772, 10773);
 
+	// The instance timer starts on the Sotetseg room exit
+	@Override
+	public int[] getRegionIds()
+	{
+		return new int[]{TheatrePlugin.XARPUS_REGION, TheatrePlugin.SOTETSEG_REGION_OVERWORLD, TheatrePlugin.SOTETSEG_REGION_UNDERWORLD};
+	}
+
 	@Override
 	public void init()
 	{
@@ -214,7 +218,7 @@ public class Xarpus extends Room
 					exhumedCounter.setCount(config.xarpusExhumedCount() == TheatreConfig.XARPUS_EXHUMED_COUNT.DOWN ? exhumedCounter.getCount() - 1 : exhumedCounter.getCount() + 1);
 				}
 
-				xarpusExhumeds.put(hash, Pair.of(o, isHM ? 9 : 11));
+				xarpusExhumeds.put(hash, o, isHM ? 9 : 11);
 			}
 		}
 	}
@@ -234,11 +238,7 @@ public class Xarpus extends Room
 	{
 		if (xarpusActive)
 		{
-			if (!xarpusExhumeds.isEmpty())
-			{
-				xarpusExhumeds.replaceAll((k, v) -> Pair.of(v.getLeft(), v.getRight() - 1));
-				xarpusExhumeds.values().removeIf((p) -> p.getRight() <= 0);
-			}
+			xarpusExhumeds.advance();
 
 			if (xarpusNPC.getOverheadText() != null && !xarpusStare)
 			{
@@ -278,30 +278,29 @@ public class Xarpus extends Room
 	@Subscribe
 	public void onClientTick(ClientTick event)
 	{
-		if (client.getLocalPlayer() == null)
+		if (client.getLocalPlayer() == null || !nextInstance || !isInSotetsegRegion())
 		{
 			return;
 		}
-		List<Player> players = client.getPlayers();
-		for (Player player : players)
+		for (Player player : client.getPlayers())
 		{
-			if (player.getWorldLocation() != null)
+			WorldPoint wpPlayer = player.getWorldLocation();
+			if (wpPlayer != null)
 			{
-				WorldPoint wpPlayer = player.getWorldLocation();
 				LocalPoint lpPlayer = LocalPoint.fromWorld(client, wpPlayer.getX(), wpPlayer.getY());
-
-				WorldPoint wpChest = WorldPoint.fromRegion(player.getWorldLocation().getRegionID(), 17, 5, player.getWorldLocation().getPlane());
-				LocalPoint lpChest = LocalPoint.fromWorld(client, wpChest.getX(), wpChest.getY());
-				if (lpChest != null)
+				LocalPoint lpChest = plugin.getRoomDispatcher().regionPoint(wpPlayer.getRegionID(), 17, 5);
+				if (lpPlayer != null && lpChest != null)
 				{
-					Point point = new Point(lpChest.getSceneX() - lpPlayer.getSceneX(), lpChest.getSceneY() - lpPlayer.getSceneY());
+					int x = lpChest.getSceneX() - lpPlayer.getSceneX();
+					int y = lpChest.getSceneY() - lpPlayer.getSceneY();
 
-					if (isInSotetsegRegion() && point.getY() == 1 && (point.getX() == 1 || point.getX() == 2 || point.getX() == 3) && nextInstance)
+					if (y == 1 && (x == 1 || x == 2 || x == 3))
 					{
 						client.addChatMessage(ChatMessageType.GAMEMESSAGE, "", "Xarpus instance timer started", "");
 						instanceTimer = 2;
 						isInstanceTimerRunning = true;
 						nextInstance = false;
+						return;
 					}
 				}
 			}
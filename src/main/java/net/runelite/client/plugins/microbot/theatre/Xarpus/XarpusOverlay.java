@@ -9,12 +9,10 @@ import net.runelite.client.plugins.microbot.theatre.RoomOverlay;
 import net.runelite.client.plugins.microbot.theatre.TheatreConfig;
 import net.runelite.client.plugins.microbot.theatre.TheatrePlugin;
 import net.runelite.client.ui.overlay.OverlayLayer;
-import org.apache.commons.lang3.tuple.Pair;
 
 import javax.inject.Inject;
 import java.awt.*;
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.Objects;
 import java.util.function.Function;
 
@@ -72,10 +70,7 @@ public class XarpusOverlay extends RoomOverlay
 			{
 				if (!xarpus.getXarpusExhumeds().isEmpty())
 				{
-					Collection<Pair<GroundObject, Integer>> exhumeds = xarpus.getXarpusExhumeds().values();
-					exhumeds.forEach((p) -> {
-						GroundObject o = p.getLeft();
-						int ticks = p.getRight();
+					xarpus.getXarpusExhumeds().forEach((hash, o, ticks) -> {
 
 						if (config.xarpusExhumed())
 						{
@@ -17,6 +17,7 @@ import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
 import net.runelite.client.plugins.microbot.Microbot;
 import net.runelite.client.plugins.microbot.PluginConstants;
+import net.runelite.client.plugins.microbot.RequirementEngine;
 import net.runelite.client.plugins.microbot.api.tileobject.Rs2TileObjectCache;
 import net.runelite.client.plugins.microbot.util.gameobject.Rs2GameObject;
 import net.runelite.client.plugins.microbot.util.inventory.InteractOrder;
@@ -50,7 +51,7 @@ import static net.runelite.client.plugins.microbot.util.Global.sleepUntil;
 )
 @Slf4j
 public class AutoWoodcuttingPlugin extends Plugin {
-    public static final String version = "1.7.8";
+    public static final String version = "1.7.9";
     @Inject
     @Getter(AccessLevel.MODULE)
     public AutoWoodcuttingScript autoWoodcuttingScript;
@@ -298,6 +299,27 @@ public class AutoWoodcuttingPlugin extends Plugin {
         }
     }
 
+    // Location requirement results are cached until one of these changes
+    @Subscribe
+    public void onStatChanged(StatChanged event) {
+        RequirementEngine.invalidate();
+    }
+
+    @Subscribe
+    public void onVarbitChanged(VarbitChanged event) {
+        RequirementEngine.invalidate();
+    }
+
+    @Subscribe
+    public void onItemContainerChanged(ItemContainerChanged event) {
+        RequirementEngine.invalidate();
+    }
+
+    @Subscribe
+    public void onGameStateChanged(GameStateChanged event) {
+        RequirementEngine.onGameStateChanged(event.getGameState());
+    }
+
     @Subscribe
     public void onConfigChanged (ConfigChanged ev){
         if (ev.getGroup().equals(AutoWoodcuttingConfig.configGroup)) {
@@ -10,6 +10,8 @@ import net.runelite.client.plugins.microbot.util.player.Rs2Player;
 import net.runelite.client.plugins.microbot.woodcutting.ResourceLocationOption;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -22,12 +24,27 @@ import java.util.stream.Collectors;
 @Getter
 @RequiredArgsConstructor
 public class WoodcuttingTreeLocations {
-    
+
+    // Location tables are built once; requirement results are cached per ResourceLocationOption
+    private static final Map<WoodcuttingTree, List<ResourceLocationOption>> LOCATIONS = new EnumMap<>(WoodcuttingTree.class);
+
+    static {
+        for (WoodcuttingTree tree : WoodcuttingTree.values()) {
+            LOCATIONS.put(tree, Collections.unmodifiableList(buildLocationsForTree(tree)));
+        }
+    }
+
     /**
      * Gets the best locations for a specific tree type.
      * Locations are ordered by preference (best locations first).
+     *
+     * @return an unmodifiable, shared list
      */
     public static List<ResourceLocationOption> getLocationsForTree(WoodcuttingTree tree) {
+        return LOCATIONS.getOrDefault(tree, Collections.emptyList());
+    }
+
+    private static List<ResourceLocationOption> buildLocationsForTree(WoodcuttingTree tree) {
         switch (tree) {
             case TREE:
                 return getRegularTreeLocations();
@@ -0,0 +1,185 @@
+package net.runelite.client.plugins.microbot.agility.courses;
+
+import net.runelite.api.TileObject;
+import net.runelite.client.plugins.microbot.agility.models.AgilityObstacleModel;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class ObstacleIndexTest
+{
+	private static final List<AgilityCourseHandler> COURSES = Arrays.asList(
+			new DraynorCourse(),
+			new SeersCourse(),
+			new PollnivneachCourse(),
+			new ShayzienAdvancedCourse());
+
+	@Test
+	public void candidateIdsMatchTheObstacleConditionsAroundEveryBound()
+	{
+		for (AgilityCourseHandler course : COURSES)
+		{
+			List<AgilityObstacleModel> obstacles = course.getObstacles();
+			ObstacleIndex index = new ObstacleIndex(obstacles);
+			for (int x : probes(obstacles, true))
+			{
+				for (int y : probes(obstacles, false))
+				{
+					assertArrayEquals(course.getClass().getSimpleName() + " at " + x + "," + y,
+							baselineIds(obstacles, x, y), index.candidateIds(x, y));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void candidateIdsAreSharedPerCandidateSet()
+	{
+		List<AgilityObstacleModel> obstacles = new DraynorCourse().getObstacles();
+		ObstacleIndex index = new ObstacleIndex(obstacles);
+		int[] probeXs = probes(obstacles, true);
+		int[] probeYs = probes(obstacles, false);
+		for (int x : probeXs)
+		{
+			for (int y : probeYs)
+			{
+				int[] ids = index.candidateIds(x, y);
+				// The resolved-object cache relies on identical candidate sets returning the same array
+				assertSame(ids, index.candidateIds(x, y));
+			}
+		}
+	}
+
+	@Test
+	public void resolvedObstacleIsOnlyReusedForTheSameCandidates()
+	{
+		ObstacleIndex index = new ObstacleIndex(new DraynorCourse().getObstacles());
+		int[] ids = new int[]{1};
+		int[] otherIds = new int[]{1};
+		TileObject obstacle = tileObject();
+
+		index.setResolved(ids, obstacle);
+		assertSame(obstacle, index.getResolved(ids));
+		assertNull(index.getResolved(otherIds));
+
+		index.onDespawned(tileObject());
+		assertSame(obstacle, index.getResolved(ids));
+		index.onDespawned(obstacle);
+		assertNull(index.getResolved(ids));
+
+		index.setResolved(ids, obstacle);
+		index.clearResolved();
+		assertNull(index.getResolved(ids));
+	}
+
+	/**
+	 * Replays a synthetic position trace through the baseline stream filter and the index, checks they agree and
+	 * reports the per-lookup cost of both.
+	 */
+	@Test
+	public void replayedTraceMatchesBaselineAndReportsCost()
+	{
+		Random random = new Random(15);
+		for (AgilityCourseHandler course : COURSES)
+		{
+			List<AgilityObstacleModel> obstacles = course.getObstacles();
+			ObstacleIndex index = new ObstacleIndex(obstacles);
+			int[] probeXs = probes(obstacles, true);
+			int[] probeYs = probes(obstacles, false);
+
+			int[][] trace = new int[20_000][];
+			for (int i = 0; i < trace.length; i++)
+			{
+				trace[i] = new int[]{probeXs[random.nextInt(probeXs.length)], probeYs[random.nextInt(probeYs.length)]};
+			}
+
+			for (int[] position : trace)
+			{
+				assertArrayEquals(baselineIds(obstacles, position[0], position[1]), index.candidateIds(position[0], position[1]));
+			}
+
+			long baselineNanos = time(() ->
+			{
+				for (int[] position : trace)
+				{
+					baselineIds(obstacles, position[0], position[1]);
+				}
+			});
+			long indexNanos = time(() ->
+			{
+				for (int[] position : trace)
+				{
+					index.candidateIds(position[0], position[1]);
+				}
+			});
+			System.out.printf("%s: baseline %d ns/lookup, index %d ns/lookup%n", course.getClass().getSimpleName(),
+					baselineNanos / trace.length, indexNanos / trace.length);
+		}
+	}
+
+	/**
+	 * The pre-index lookup: a stream over the obstacle list into a boxed id list.
+	 */
+	private static int[] baselineIds(List<AgilityObstacleModel> obstacles, int x, int y)
+	{
+		List<Integer> ids = obstacles.stream()
+				.filter(o -> o.getOperationX().check(x, o.getRequiredX()) && o.getOperationY().check(y, o.getRequiredY()))
+				.map(AgilityObstacleModel::getObjectID)
+				.collect(Collectors.toList());
+		return ids.stream().mapToInt(Integer::intValue).toArray();
+	}
+
+	/**
+	 * Every required value and its neighbours, plus points far outside, on one axis.
+	 */
+	private static int[] probes(List<AgilityObstacleModel> obstacles, boolean xAxis)
+	{
+		List<Integer> values = new ArrayList<>();
+		for (AgilityObstacleModel obstacle : obstacles)
+		{
+			int required = xAxis ? obstacle.getRequiredX() : obstacle.getRequiredY();
+			for (int delta = -2; delta <= 2; delta++)
+			{
+				values.add(required + delta);
+			}
+		}
+		values.add(Integer.MIN_VALUE / 2);
+		values.add(Integer.MAX_VALUE / 2);
+		return values.stream().distinct().mapToInt(Integer::intValue).toArray();
+	}
+
+	private static long time(Runnable run)
+	{
+		// One warm-up round, then the measured one
+		run.run();
+		long start = System.nanoTime();
+		run.run();
+		return System.nanoTime() - start;
+	}
+
+	private static TileObject tileObject()
+	{
+		return (TileObject) Proxy.newProxyInstance(TileObject.class.getClassLoader(), new Class<?>[]{TileObject.class},
+				(proxy, method, args) ->
+				{
+					switch (method.getName())
+					{
+						case "equals":
+							return proxy == args[0];
+						case "hashCode":
+							return System.identityHashCode(proxy);
+						default:
+							return null;
+					}
+				});
+	}
+}
@@ -0,0 +1,96 @@
+package net.runelite.client.plugins.microbot.banksorter;
+
+import net.runelite.client.plugins.microbot.banksorter.BankRearrangePlanner.Mode;
+import net.runelite.client.plugins.microbot.banksorter.BankRearrangePlanner.Move;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class BankRearrangePlannerTest {
+
+    @Test
+    public void sortedLayoutNeedsNoMoves() {
+        int[] layout = {0, 1, 2, 3};
+        for (Mode mode : Mode.values()) {
+            assertTrue(BankRearrangePlanner.plan(layout, mode).isEmpty());
+        }
+    }
+
+    @Test
+    public void swapPlanUsesOneMovePerCycleElement() {
+        // Cycles (0 2 1) and (3 4): 5 slots, 2 cycles
+        int[] layout = {2, 0, 1, 4, 3};
+        List<Move> moves = BankRearrangePlanner.plan(layout, Mode.SWAP);
+        assertEquals(3, moves.size());
+        assertTrue(BankRearrangePlanner.isSorted(BankRearrangePlanner.simulate(layout, moves, Mode.SWAP)));
+    }
+
+    @Test
+    public void insertPlanKeepsLongestIncreasingRun() {
+        // 0 1 2 3 already in order, only 4 has to be inserted
+        int[] layout = {4, 0, 1, 2, 3};
+        List<Move> moves = BankRearrangePlanner.plan(layout, Mode.INSERT);
+        assertEquals(1, moves.size());
+        assertTrue(BankRearrangePlanner.isSorted(BankRearrangePlanner.simulate(layout, moves, Mode.INSERT)));
+    }
+
+    @Test
+    public void randomLayoutsAreSortedInBothModes() {
+        Random random = new Random(42);
+        for (int run = 0; run < 200; run++) {
+            int[] layout = shuffledLayout(random, 1 + random.nextInt(120));
+            for (Mode mode : Mode.values()) {
+                List<Move> moves = BankRearrangePlanner.plan(layout, mode);
+                assertTrue(mode + " " + run, BankRearrangePlanner.isSorted(BankRearrangePlanner.simulate(layout, moves, mode)));
+            }
+        }
+    }
+
+    @Test
+    public void applyMoveTracksItemIdsLikeTheLayout() {
+        Random random = new Random(7);
+        for (Mode mode : Mode.values()) {
+            int[] layout = shuffledLayout(random, 40);
+            int[] itemIds = new int[layout.length];
+            for (int slot = 0; slot < layout.length; slot++) {
+                itemIds[slot] = 1000 + layout[slot];
+            }
+
+            for (Move move : BankRearrangePlanner.plan(layout, mode)) {
+                BankRearrangePlanner.applyMove(itemIds, move, mode);
+            }
+
+            for (int slot = 0; slot < itemIds.length; slot++) {
+                assertEquals(1000 + slot, itemIds[slot]);
+            }
+        }
+    }
+
+    @Test
+    public void simulateDoesNotModifyInput() {
+        int[] layout = {1, 0, 2};
+        BankRearrangePlanner.simulate(layout, BankRearrangePlanner.plan(layout, Mode.INSERT), Mode.INSERT);
+        assertArrayEquals(new int[]{1, 0, 2}, layout);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsDuplicateDestinations() {
+        BankRearrangePlanner.plan(new int[]{0, 0, 1}, Mode.SWAP);
+    }
+
+    private static int[] shuffledLayout(Random random, int size) {
+        List<Integer> destinations = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            destinations.add(i);
+        }
+        Collections.shuffle(destinations, random);
+        return destinations.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
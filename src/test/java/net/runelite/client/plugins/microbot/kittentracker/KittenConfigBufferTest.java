@@ -0,0 +1,111 @@
+package net.runelite.client.plugins.microbot.kittentracker;
+
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class KittenConfigBufferTest {
+    private final Map<String, Object> stored = new HashMap<>();
+    private final List<String> writes = new ArrayList<>();
+    private final KittenConfig config = config();
+
+    @Test
+    public void readsFallThroughToTheConfigUntilSomethingIsSet() {
+        stored.put("felineId", 5591);
+        stored.put("lastAttentionType", KittenAttentionType.BALL_OF_WOOL);
+        stored.put("growthTicksAlive", 12);
+        stored.put("nextHungryTick", 34);
+        stored.put("nextAttentionTick", 56);
+        KittenConfigBuffer buffer = new KittenConfigBuffer(config);
+
+        assertEquals(5591, buffer.felineId());
+        assertEquals(KittenAttentionType.BALL_OF_WOOL, buffer.lastAttentionType());
+        assertEquals(12, buffer.growthTicksAlive());
+        assertEquals(34, buffer.nextHungryTick());
+        assertEquals(56, buffer.nextAttentionTick());
+
+        // Later changes to the config are still visible
+        stored.put("growthTicksAlive", 13);
+        assertEquals(13, buffer.growthTicksAlive());
+        assertTrue(writes.isEmpty());
+    }
+
+    @Test
+    public void repeatedSetsCoalesceIntoOneWritePerKey() {
+        KittenConfigBuffer buffer = new KittenConfigBuffer(config);
+        for (int tick = 1; tick <= 1_000; tick++) {
+            buffer.growthTicksAlive(tick);
+            buffer.nextHungryTick(5_000 - tick);
+            assertEquals(tick, buffer.growthTicksAlive());
+        }
+        assertTrue(writes.isEmpty());
+
+        buffer.flush();
+        assertEquals(Arrays.asList("growthTicksAlive", "nextHungryTick"), writes);
+        assertEquals(1_000, stored.get("growthTicksAlive"));
+        assertEquals(4_000, stored.get("nextHungryTick"));
+
+        // Nothing pending: a second flush writes nothing and reads go back to the config
+        buffer.flush();
+        assertEquals(2, writes.size());
+        stored.put("growthTicksAlive", 7);
+        assertEquals(7, buffer.growthTicksAlive());
+    }
+
+    @Test
+    public void flushWritesEveryPendingKeyOnce() {
+        KittenConfigBuffer buffer = new KittenConfigBuffer(config);
+        buffer.felineId(5598);
+        buffer.lastAttentionType(KittenAttentionType.SINGLE_STROKE);
+        buffer.lastAttentionType(KittenAttentionType.MULTIPLE_STROKES);
+        buffer.growthTicksAlive(1);
+        buffer.nextHungryTick(2);
+        buffer.nextAttentionTick(3);
+        buffer.flush();
+
+        assertEquals(Arrays.asList("felineId", "lastAttentionType", "growthTicksAlive", "nextHungryTick", "nextAttentionTick"), writes);
+        assertEquals(5598, stored.get("felineId"));
+        assertEquals(KittenAttentionType.MULTIPLE_STROKES, stored.get("lastAttentionType"));
+        assertEquals(1, stored.get("growthTicksAlive"));
+        assertEquals(2, stored.get("nextHungryTick"));
+        assertEquals(3, stored.get("nextAttentionTick"));
+    }
+
+    @Test
+    public void pendingNullAttentionTypeHidesTheStoredOne() {
+        stored.put("lastAttentionType", KittenAttentionType.NEW_KITTEN);
+        KittenConfigBuffer buffer = new KittenConfigBuffer(config);
+
+        buffer.lastAttentionType(null);
+        assertNull(buffer.lastAttentionType());
+        buffer.flush();
+        assertEquals(Arrays.asList("lastAttentionType"), writes);
+        assertNull(stored.get("lastAttentionType"));
+    }
+
+    private KittenConfig config() {
+        return (KittenConfig) Proxy.newProxyInstance(KittenConfig.class.getClassLoader(), new Class<?>[]{KittenConfig.class},
+                (proxy, method, args) -> {
+                    String key = method.getName();
+                    if (args != null && args.length == 1) {
+                        writes.add(key);
+                        stored.put(key, args[0]);
+                        return null;
+                    }
+                    Object value = stored.get(key);
+                    if (value == null && method.getReturnType() == int.class) {
+                        return 0;
+                    }
+                    return value;
+                });
+    }
+}
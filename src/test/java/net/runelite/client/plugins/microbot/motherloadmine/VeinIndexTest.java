@@ -0,0 +1,212 @@
+package net.runelite.client.plugins.microbot.motherloadmine;
+
+import net.runelite.api.coords.WorldPoint;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class VeinIndexTest
+{
+	private static final int ORIGIN_X = 3712;
+	private static final int ORIGIN_Y = 5632;
+
+	private int tick;
+	private List<WorldPoint> players = new ArrayList<>();
+	private final Map<WorldPoint, Integer> walkabilityChecks = new HashMap<>();
+
+	@Test
+	public void occupancyMatchesThePlayerDistanceQuery()
+	{
+		Random random = new Random(18);
+		VeinIndex index = index();
+		for (int round = 0; round < 200; round++)
+		{
+			tick++;
+			players = randomPlayers(random, 1 + random.nextInt(40));
+			for (int x = ORIGIN_X; x < ORIGIN_X + 64; x++)
+			{
+				for (int y = ORIGIN_Y; y < ORIGIN_Y + 64; y++)
+				{
+					WorldPoint vein = new WorldPoint(x, y, 0);
+					assertEquals("tick " + tick + " at " + vein, baselineOccupied(players, vein), index.isOccupied(vein));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void playersOnTheRegionEdgeOnlyMarkTilesInsideIt()
+	{
+		VeinIndex index = index();
+		players = Arrays.asList(new WorldPoint(ORIGIN_X - 1, ORIGIN_Y + 10, 0), new WorldPoint(ORIGIN_X + 64, ORIGIN_Y + 63, 0));
+
+		assertTrue(index.isOccupied(new WorldPoint(ORIGIN_X, ORIGIN_Y + 10, 0)));
+		assertTrue(index.isOccupied(new WorldPoint(ORIGIN_X + 1, ORIGIN_Y + 12, 0)));
+		assertFalse(index.isOccupied(new WorldPoint(ORIGIN_X + 2, ORIGIN_Y + 10, 0)));
+		assertTrue(index.isOccupied(new WorldPoint(ORIGIN_X + 62, ORIGIN_Y + 61, 0)));
+		assertFalse(index.isOccupied(new WorldPoint(ORIGIN_X + 61, ORIGIN_Y + 63, 0)));
+	}
+
+	@Test
+	public void playersAndVeinsOffTheLowerFloorAreIgnored()
+	{
+		VeinIndex index = index();
+		players = Arrays.asList(new WorldPoint(ORIGIN_X + 20, ORIGIN_Y + 20, 1), null);
+
+		assertFalse(index.isOccupied(new WorldPoint(ORIGIN_X + 20, ORIGIN_Y + 20, 0)));
+		assertFalse(index.isOccupied(new WorldPoint(ORIGIN_X + 20, ORIGIN_Y + 20, 1)));
+		assertFalse(index.isOccupied(new WorldPoint(ORIGIN_X + 200, ORIGIN_Y, 0)));
+	}
+
+	@Test
+	public void occupancyIsRebuiltOncePerTick()
+	{
+		VeinIndex index = index();
+		WorldPoint vein = new WorldPoint(ORIGIN_X + 30, ORIGIN_Y + 30, 0);
+		players = Arrays.asList(new WorldPoint(ORIGIN_X + 31, ORIGIN_Y + 31, 0));
+		assertTrue(index.isOccupied(vein));
+
+		// The player leaves within the same tick: the grid is kept until the tick changes
+		players = new ArrayList<>();
+		assertTrue(index.isOccupied(vein));
+		tick++;
+		assertFalse(index.isOccupied(vein));
+
+		players = Arrays.asList(vein);
+		index.reset();
+		assertTrue(index.isOccupied(vein));
+	}
+
+	@Test
+	public void walkabilityIsComputedOncePerVeinUntilInvalidated()
+	{
+		VeinIndex index = index();
+		WorldPoint vein = new WorldPoint(ORIGIN_X + 5, ORIGIN_Y + 5, 0);
+		WorldPoint blocked = new WorldPoint(ORIGIN_X + 6, ORIGIN_Y + 5, 0);
+
+		for (int i = 0; i < 3; i++)
+		{
+			assertTrue(index.hasWalkableTilesAround(vein));
+			assertFalse(index.hasWalkableTilesAround(blocked));
+		}
+		assertEquals(1, (int) walkabilityChecks.get(vein));
+		assertEquals(1, (int) walkabilityChecks.get(blocked));
+
+		index.invalidateWalkability();
+		index.hasWalkableTilesAround(vein);
+		assertEquals(2, (int) walkabilityChecks.get(vein));
+
+		index.reset();
+		index.hasWalkableTilesAround(vein);
+		assertEquals(3, (int) walkabilityChecks.get(vein));
+	}
+
+	/**
+	 * Replays synthetic ticks of moving players and vein scans through the per-vein player query the script used
+	 * before and through the index, checks they agree and reports the per-vein cost of both.
+	 */
+	@Test
+	public void replayedTicksMatchBaselineAndReportCost()
+	{
+		Random random = new Random(1800);
+		List<WorldPoint> veins = new ArrayList<>();
+		for (int i = 0; i < 60; i++)
+		{
+			veins.add(new WorldPoint(ORIGIN_X + random.nextInt(64), ORIGIN_Y + random.nextInt(64), 0));
+		}
+
+		for (int playerCount : new int[]{5, 25, 100})
+		{
+			List<List<WorldPoint>> ticks = new ArrayList<>();
+			for (int i = 0; i < 2_000; i++)
+			{
+				ticks.add(randomPlayers(random, playerCount));
+			}
+
+			VeinIndex index = index();
+			for (List<WorldPoint> tickPlayers : ticks)
+			{
+				tick++;
+				players = tickPlayers;
+				for (WorldPoint vein : veins)
+				{
+					assertEquals(baselineOccupied(tickPlayers, vein), index.isOccupied(vein));
+				}
+			}
+
+			long baselineNanos = time(() ->
+			{
+				for (List<WorldPoint> tickPlayers : ticks)
+				{
+					for (WorldPoint vein : veins)
+					{
+						baselineOccupied(tickPlayers, vein);
+					}
+				}
+			});
+			long indexNanos = time(() ->
+			{
+				for (List<WorldPoint> tickPlayers : ticks)
+				{
+					tick++;
+					players = tickPlayers;
+					for (WorldPoint vein : veins)
+					{
+						index.isOccupied(vein);
+					}
+				}
+			});
+			int checks = ticks.size() * veins.size();
+			System.out.printf("%d players: baseline %d ns/vein, index %d ns/vein%n", playerCount,
+				baselineNanos / checks, indexNanos / checks);
+		}
+	}
+
+	private VeinIndex index()
+	{
+		return new VeinIndex(() -> tick, () -> players, location ->
+		{
+			walkabilityChecks.merge(location, 1, Integer::sum);
+			return location.getX() % 2 == 1;
+		});
+	}
+
+	/**
+	 * The pre-index check: any player within two tiles of the vein.
+	 */
+	private static boolean baselineOccupied(List<WorldPoint> players, WorldPoint vein)
+	{
+		return players.stream().anyMatch(p -> p != null && p.distanceTo(vein) <= 2);
+	}
+
+	/**
+	 * Players spread over and just outside the region, with a few on the upper floor.
+	 */
+	private static List<WorldPoint> randomPlayers(Random random, int count)
+	{
+		List<WorldPoint> result = new ArrayList<>(count);
+		for (int i = 0; i < count; i++)
+		{
+			result.add(new WorldPoint(ORIGIN_X - 3 + random.nextInt(70), ORIGIN_Y - 3 + random.nextInt(70), random.nextInt(10) == 0 ? 1 : 0));
+		}
+		return result;
+	}
+
+	private static long time(Runnable run)
+	{
+		// One warm-up round, then the measured one
+		run.run();
+		long start = System.nanoTime();
+		run.run();
+		return System.nanoTime() - start;
+	}
+}
@@ -0,0 +1,278 @@
+package net.runelite.client.plugins.microbot.playermonitor;
+
+import net.runelite.api.Client;
+import net.runelite.api.Constants;
+import net.runelite.api.Ignore;
+import net.runelite.api.NameableContainer;
+import net.runelite.api.Player;
+import net.runelite.api.coords.LocalPoint;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ThreatTableTest {
+    private static final LocalPoint CENTER = new LocalPoint(6400, 6400);
+
+    private final Set<String> ignoredNames = new HashSet<>();
+    private final Client client = client();
+
+    @Test
+    public void rangeCheckMatchesTheTileDistance() {
+        Random random = new Random(20);
+        for (int radius = 0; radius <= 15; radius++) {
+            int span = (radius + 2) * 128;
+            for (int i = 0; i < 2_000; i++) {
+                FakePlayer player = new FakePlayer(1, "a");
+                player.location = new LocalPoint(CENTER.getX() - span + random.nextInt(2 * span + 1),
+                        CENTER.getY() - span + random.nextInt(2 * span + 1));
+                ThreatTable table = new ThreatTable();
+                table.add(player.player);
+
+                boolean expected = player.location.distanceTo(CENTER) / 128 <= radius;
+                assertEquals("radius " + radius + " at " + player.location, expected, table.hasThreat(client, CENTER, radius, 0, 0));
+            }
+        }
+    }
+
+    @Test
+    public void playersInRangeForLongerThanTheTimeoutAreIgnored() {
+        ThreatTable table = new ThreatTable();
+        FakePlayer player = new FakePlayer(5, "a");
+        player.location = CENTER;
+        table.add(player.player);
+
+        int timeoutMs = 3 * Constants.GAME_TICK_LENGTH;
+        for (int tick = 0; tick < 3; tick++) {
+            table.advanceTimeInRange(CENTER, 5, Constants.GAME_TICK_LENGTH);
+            assertTrue(table.hasThreat(client, CENTER, 5, 0, timeoutMs));
+        }
+        table.advanceTimeInRange(CENTER, 5, Constants.GAME_TICK_LENGTH);
+        assertFalse(table.hasThreat(client, CENTER, 5, 0, timeoutMs));
+        assertTrue(table.hasThreat(client, CENTER, 5, 0, 0));
+
+        // Stepping out of range resets the timer
+        player.location = new LocalPoint(CENTER.getX() + 10 * 128, CENTER.getY());
+        table.advanceTimeInRange(CENTER, 5, Constants.GAME_TICK_LENGTH);
+        player.location = CENTER;
+        table.advanceTimeInRange(CENTER, 5, Constants.GAME_TICK_LENGTH);
+        assertTrue(table.hasThreat(client, CENTER, 5, 0, timeoutMs));
+    }
+
+    @Test
+    public void classificationIsCachedUntilInvalidated() {
+        ThreatTable table = new ThreatTable();
+        FakePlayer player = new FakePlayer(7, "friend");
+        player.location = CENTER;
+        player.friend = true;
+        table.add(player.player);
+
+        for (int i = 0; i < 5; i++) {
+            assertFalse(table.hasThreat(client, CENTER, 5, ThreatTable.FRIEND, 0));
+        }
+        assertEquals(1, player.classifications);
+
+        player.friend = false;
+        assertFalse(table.hasThreat(client, CENTER, 5, ThreatTable.FRIEND, 0));
+        table.invalidateClassification();
+        assertTrue(table.hasThreat(client, CENTER, 5, ThreatTable.FRIEND, 0));
+        assertEquals(2, player.classifications);
+
+        // Re-adding a player always classifies it again
+        player.clan = true;
+        table.add(player.player);
+        assertFalse(table.hasThreat(client, CENTER, 5, ThreatTable.CLAN, 0));
+        assertEquals(3, player.classifications);
+
+        // Without an ignored mask the classification is never needed
+        table.invalidateClassification();
+        assertTrue(table.hasThreat(client, CENTER, 5, 0, 0));
+        assertEquals(3, player.classifications);
+    }
+
+    @Test
+    public void ignoredMaskCoversEveryList() {
+        FakePlayer friend = new FakePlayer(1, "friend");
+        friend.friend = true;
+        FakePlayer clan = new FakePlayer(2, "clan");
+        clan.clan = true;
+        FakePlayer friendsChat = new FakePlayer(3, "chat");
+        friendsChat.friendsChat = true;
+        FakePlayer ignored = new FakePlayer(4, "ignored");
+        ignoredNames.add("ignored");
+
+        int all = ThreatTable.FRIEND | ThreatTable.CLAN | ThreatTable.FRIENDS_CHAT | ThreatTable.IGNORED;
+        FakePlayer[] players = {friend, clan, friendsChat, ignored};
+        int[] flags = {ThreatTable.FRIEND, ThreatTable.CLAN, ThreatTable.FRIENDS_CHAT, ThreatTable.IGNORED};
+        for (int i = 0; i < players.length; i++) {
+            ThreatTable table = new ThreatTable();
+            players[i].location = CENTER;
+            table.add(players[i].player);
+            assertFalse(table.hasThreat(client, CENTER, 5, all, 0));
+            assertFalse(table.hasThreat(client, CENTER, 5, flags[i], 0));
+            assertTrue(table.hasThreat(client, CENTER, 5, all & ~flags[i], 0));
+        }
+    }
+
+    @Test
+    public void removeOnlyDropsTheSamePlayer() {
+        ThreatTable table = new ThreatTable();
+        FakePlayer first = new FakePlayer(10, "a");
+        FakePlayer second = new FakePlayer(11, "b");
+        first.location = CENTER;
+        second.location = CENTER;
+        table.add(first.player);
+        table.add(second.player);
+
+        // A different player object that reuses the index is not the one in the table
+        table.remove(new FakePlayer(10, "c").player);
+        table.remove(first.player);
+        assertFalse(table.isEmpty());
+        assertTrue(table.hasThreat(client, CENTER, 5, 0, 0));
+        table.remove(second.player);
+        assertTrue(table.isEmpty());
+
+        table.add(new FakePlayer(-1, "x").player);
+        table.add(new FakePlayer(2048, "y").player);
+        assertTrue(table.isEmpty());
+
+        table.add(first.player);
+        table.add(second.player);
+        table.clear();
+        assertTrue(table.isEmpty());
+        assertFalse(table.hasThreat(client, CENTER, 5, 0, 0));
+    }
+
+    /**
+     * Replays random scenes of joining, moving and leaving players through the name-keyed timer the plugin used
+     * before and through the table, and checks that both raise the alarm on the same ticks.
+     */
+    @Test
+    public void replayedScenesMatchTheNameKeyedBaseline() {
+        Random random = new Random(2020);
+        int radius = 6;
+        int ignoredMask = ThreatTable.FRIEND | ThreatTable.IGNORED;
+        ignoredNames.add("p3");
+        for (int timeoutMs : new int[]{0, 1_800, 6_000}) {
+            ThreatTable table = new ThreatTable();
+            List<FakePlayer> scene = new ArrayList<>();
+            Map<String, Integer> baselineTimes = new HashMap<>();
+            int nextId = 0;
+
+            for (int tick = 0; tick < 5_000; tick++) {
+                if (scene.size() < 40 && random.nextInt(3) == 0) {
+                    FakePlayer joined = new FakePlayer(nextId, "p" + nextId);
+                    nextId = (nextId + 1) % 2048;
+                    joined.friend = random.nextInt(5) == 0;
+                    joined.location = randomLocation(random, radius + 4);
+                    scene.add(joined);
+                    table.add(joined.player);
+                }
+                if (!scene.isEmpty() && random.nextInt(4) == 0) {
+                    table.remove(scene.remove(random.nextInt(scene.size())).player);
+                }
+                for (FakePlayer player : scene) {
+                    if (random.nextBoolean()) {
+                        player.location = randomLocation(random, radius + 4);
+                    }
+                }
+
+                boolean expected = baselineAlarm(scene, baselineTimes, radius, ignoredMask, timeoutMs);
+                if (timeoutMs > 0) {
+                    table.advanceTimeInRange(CENTER, radius, Constants.GAME_TICK_LENGTH);
+                }
+                assertEquals("timeout " + timeoutMs + " tick " + tick, expected, table.hasThreat(client, CENTER, radius, ignoredMask, timeoutMs));
+            }
+        }
+    }
+
+    /**
+     * The pre-table check: a name-keyed map of time in range, rebuilt from the in-range players every tick.
+     */
+    private boolean baselineAlarm(List<FakePlayer> scene, Map<String, Integer> times, int radius, int ignoredMask, int timeoutMs) {
+        List<FakePlayer> inRange = new ArrayList<>();
+        for (FakePlayer player : scene) {
+            if (player.location.distanceTo(CENTER) / 128 <= radius) {
+                inRange.add(player);
+            }
+        }
+        if (timeoutMs > 0) {
+            Set<String> names = new HashSet<>();
+            for (FakePlayer player : inRange) {
+                times.merge(player.name, Constants.GAME_TICK_LENGTH, Integer::sum);
+                names.add(player.name);
+            }
+            times.keySet().retainAll(names);
+        }
+        for (FakePlayer player : inRange) {
+            if ((ignoredMask & ThreatTable.FRIEND) != 0 && player.friend) continue;
+            if ((ignoredMask & ThreatTable.IGNORED) != 0 && ignoredNames.contains(player.name)) continue;
+            if (timeoutMs > 0 && times.getOrDefault(player.name, 0) > timeoutMs) continue;
+            return true;
+        }
+        return false;
+    }
+
+    private static LocalPoint randomLocation(Random random, int tiles) {
+        int span = tiles * 128;
+        return new LocalPoint(CENTER.getX() - span + random.nextInt(2 * span + 1), CENTER.getY() - span + random.nextInt(2 * span + 1));
+    }
+
+    private Client client() {
+        Ignore ignore = (Ignore) Proxy.newProxyInstance(Ignore.class.getClassLoader(), new Class<?>[]{Ignore.class},
+                (proxy, method, args) -> null);
+        NameableContainer<?> ignoreContainer = (NameableContainer<?>) Proxy.newProxyInstance(NameableContainer.class.getClassLoader(),
+                new Class<?>[]{NameableContainer.class},
+                (proxy, method, args) -> method.getName().equals("findByName") && ignoredNames.contains(args[0]) ? ignore : null);
+        return (Client) Proxy.newProxyInstance(Client.class.getClassLoader(), new Class<?>[]{Client.class},
+                (proxy, method, args) -> method.getName().equals("getIgnoreContainer") ? ignoreContainer : null);
+    }
+
+    private static final class FakePlayer {
+        final String name;
+        final Player player;
+        LocalPoint location;
+        boolean friend;
+        boolean clan;
+        boolean friendsChat;
+        int classifications;
+
+        FakePlayer(int id, String name) {
+            this.name = name;
+            this.player = (Player) Proxy.newProxyInstance(Player.class.getClassLoader(), new Class<?>[]{Player.class},
+                    (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "getId":
+                                return id;
+                            case "getName":
+                                return name;
+                            case "getLocalLocation":
+                                return location;
+                            case "isFriend":
+                                classifications++;
+                                return friend;
+                            case "isClanMember":
+                                return clan;
+                            case "isFriendsChatMember":
+                                return friendsChat;
+                            case "equals":
+                                return proxy == args[0];
+                            case "hashCode":
+                                return System.identityHashCode(proxy);
+                            default:
+                                return null;
+                        }
+                    });
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package net.runelite.client.plugins.microbot.shootingstar;
+
+import com.google.gson.Gson;
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import net.runelite.client.plugins.microbot.shootingstar.enums.ShootingStarProvider;
+import net.runelite.client.plugins.microbot.shootingstar.model.Star;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ShootingStarApiClientTest
+{
+	private static final String STARS = "[" +
+		"{\"calledAt\":1000,\"estimatedEnd\":2000,\"world\":301,\"locationKey\":\"DRAYNOR_VILLAGE\",\"rawLocation\":\"Draynor Village\",\"tier\":5}," +
+		"{\"calledAt\":1100,\"estimatedEnd\":2100,\"world\":302,\"locationKey\":\"NARDAH\",\"rawLocation\":\"Nardah bank\",\"tier\":7}" +
+		"]";
+
+	private MockWebServer server;
+	private ShootingStarApiClient apiClient;
+
+	@Before
+	public void setUp() throws Exception
+	{
+		server = new MockWebServer();
+		server.start();
+
+		Properties properties = new Properties();
+		properties.setProperty("microbot.shootingstar.zeroseven", server.url("/stars").toString());
+		apiClient = new ShootingStarApiClient(null, null, new OkHttpClient(), new Gson(), properties);
+	}
+
+	@After
+	public void tearDown() throws Exception
+	{
+		server.shutdown();
+	}
+
+	@Test
+	public void parsesOnceAndHandsOutIndependentCopies() throws Exception
+	{
+		server.enqueue(new MockResponse().setBody(STARS).setHeader("ETag", "\"v1\""));
+
+		List<Star> first = getStars();
+		assertEquals(2, first.size());
+		assertEquals(301, first.get(0).getWorld());
+		assertEquals(5, first.get(0).getTier());
+		first.get(0).setTier(1);
+		first.get(0).setHidden(true);
+		first.remove(1);
+
+		// Served from the cache: no second request, and none of the changes above are visible
+		List<Star> second = getStars();
+		assertEquals(1, server.getRequestCount());
+		assertEquals(2, second.size());
+		assertNotSame(first.get(0), second.get(0));
+		assertEquals(5, second.get(0).getTier());
+		assertFalse(second.get(0).isHidden());
+	}
+
+	@Test
+	public void revalidatesAStaleResponseWithItsValidators() throws Exception
+	{
+		server.enqueue(new MockResponse().setBody(STARS)
+			.setHeader("ETag", "\"v1\"")
+			.setHeader("Last-Modified", "Sat, 17 Oct 2026 12:00:00 GMT"));
+		server.enqueue(new MockResponse().setResponseCode(304));
+
+		getStars().get(0).setTier(1);
+		RecordedRequest initial = server.takeRequest(5, TimeUnit.SECONDS);
+		assertNull(initial.getHeader("If-None-Match"));
+
+		expireCache();
+		List<Star> revalidated = getStars();
+
+		RecordedRequest conditional = server.takeRequest(5, TimeUnit.SECONDS);
+		assertEquals("\"v1\"", conditional.getHeader("If-None-Match"));
+		assertEquals("Sat, 17 Oct 2026 12:00:00 GMT", conditional.getHeader("If-Modified-Since"));
+		assertEquals(2, revalidated.size());
+		assertEquals(5, revalidated.get(0).getTier());
+	}
+
+	@Test
+	public void unparsableResponseGivesNoStars() throws Exception
+	{
+		server.enqueue(new MockResponse().setBody("{\"error\":\"not a list\"}"));
+
+		assertTrue(getStars().isEmpty());
+	}
+
+	@Test
+	public void failedRequestFallsBackToTheCachedStars() throws Exception
+	{
+		server.enqueue(new MockResponse().setBody(STARS));
+		server.enqueue(new MockResponse().setResponseCode(500));
+
+		assertEquals(2, getStars().size());
+		expireCache();
+		assertEquals(2, getStars().size());
+		assertEquals(2, server.getRequestCount());
+	}
+
+	private List<Star> getStars() throws Exception
+	{
+		return apiClient.getStars(ShootingStarProvider.ZERO_SEVEN).get(5, TimeUnit.SECONDS);
+	}
+
+	/**
+	 * Ages every cached response past the TTL so the next call goes back to the server.
+	 */
+	private void expireCache() throws Exception
+	{
+		Field responseCache = ShootingStarApiClient.class.getDeclaredField("responseCache");
+		responseCache.setAccessible(true);
+		for (Object cached : ((Map<?, ?>) responseCache.get(apiClient)).values())
+		{
+			Field fetchedAt = cached.getClass().getDeclaredField("fetchedAt");
+			fetchedAt.setAccessible(true);
+			fetchedAt.setLong(cached, 0L);
+		}
+	}
+}
@@ -0,0 +1,253 @@
+package net.runelite.client.plugins.microbot.theatre.Nylocas;
+
+import net.runelite.api.Client;
+import net.runelite.api.MenuAction;
+import net.runelite.api.MenuEntry;
+import net.runelite.api.NPC;
+import net.runelite.api.NpcID;
+import net.runelite.client.plugins.microbot.theatre.TheatreConfig;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class NylocasMenuTest
+{
+	private static final String MAGE_NYLO = "Nylocas Hagios";
+	private static final String RANGE_NYLO = "Nylocas Toxobolos";
+	private static final String MELEE_NYLO = "Nylocas Ischyros";
+	private static final int MELEE_BOSS_INDEX = 1;
+	private static final int MAGE_BOSS_INDEX = 2;
+
+	private MenuEntry[] menu;
+	private MenuEntry[] setMenu;
+	private int setCalls;
+
+	/**
+	 * With a magic weapon, melee and range Nylocas entries and the melee boss entry are removed, and the remaining
+	 * Attack entries on Nylocas are recolored; everything else is kept in order.
+	 */
+	@Test
+	public void rewritesSyntheticMenusOfSeveralSizes() throws Exception
+	{
+		for (int size : new int[]{1, 5, 20, 100, 500})
+		{
+			Nylocas nylocas = nylocas("MAGIC");
+			List<MenuEntry> expectedKept = new ArrayList<>();
+			List<String> expectedTargets = new ArrayList<>();
+			menu = new MenuEntry[size];
+			for (int i = 0; i < size; i++)
+			{
+				MenuEntry entry;
+				switch (i % 6)
+				{
+					case 0:
+						entry = entry("Attack", MELEE_NYLO + "  (level-162)", MenuAction.NPC_SECOND_OPTION, -1);
+						break;
+					case 1:
+						entry = entry("Attack", "<col=ffff00>" + MAGE_NYLO + "  (level-162)", MenuAction.NPC_SECOND_OPTION, -1);
+						expectedKept.add(entry);
+						expectedTargets.add("<col=00ffff>" + MAGE_NYLO + "  (level-162)");
+						break;
+					case 2:
+						entry = entry("Attack", RANGE_NYLO + "  (level-162)", MenuAction.NPC_SECOND_OPTION, -1);
+						break;
+					case 3:
+						entry = entry("Attack", "Nylocas Vasilias", MenuAction.NPC_SECOND_OPTION, MELEE_BOSS_INDEX);
+						break;
+					case 4:
+						entry = entry("Attack", "Nylocas Vasilias", MenuAction.NPC_SECOND_OPTION, MAGE_BOSS_INDEX);
+						expectedKept.add(entry);
+						expectedTargets.add("Nylocas Vasilias");
+						break;
+					default:
+						entry = entry("Walk here", "", MenuAction.WALK, -1);
+						expectedKept.add(entry);
+						expectedTargets.add("");
+						break;
+				}
+				menu[i] = entry;
+			}
+
+			setCalls = 0;
+			nylocas.onPostMenuSort(null);
+
+			assertEquals("size " + size, 1, setCalls);
+			assertEquals("size " + size, expectedKept.size(), setMenu.length);
+			for (int i = 0; i < setMenu.length; i++)
+			{
+				assertSame("size " + size + " entry " + i, expectedKept.get(i), setMenu[i]);
+				assertEquals("size " + size + " entry " + i, expectedTargets.get(i), setMenu[i].getTarget());
+			}
+		}
+	}
+
+	@Test
+	public void leavesAnUnchangedMenuAlone() throws Exception
+	{
+		Nylocas nylocas = nylocas("MAGIC");
+		menu = new MenuEntry[]{entry("Walk here", "", MenuAction.WALK, -1), entry("Examine", "Pillar", MenuAction.EXAMINE_OBJECT, -1)};
+		setCalls = 0;
+		nylocas.onPostMenuSort(null);
+		assertEquals(0, setCalls);
+	}
+
+	@Test
+	public void rewritesOnlyAfterAMenuEntryWasFlagged() throws Exception
+	{
+		Nylocas nylocas = nylocas("MAGIC");
+		menu = new MenuEntry[]{entry("Attack", MELEE_NYLO, MenuAction.NPC_SECOND_OPTION, -1)};
+		setCalls = 0;
+		nylocas.onPostMenuSort(null);
+		assertEquals(1, setCalls);
+
+		// The flag is consumed by the rewrite
+		nylocas.onPostMenuSort(null);
+		assertEquals(1, setCalls);
+	}
+
+	@Test
+	public void indexesNpcsAlreadyInTheScene() throws Exception
+	{
+		Nylocas nylocas = nylocas("MAGIC");
+		NPC npc = npc(NpcID.NYLOCAS_VASILIAS_8355, 7);
+		field("client").set(nylocas, client(List.of(npc)));
+
+		Method indexSceneNpcs = Nylocas.class.getDeclaredMethod("indexSceneNpcs");
+		indexSceneNpcs.setAccessible(true);
+		indexSceneNpcs.invoke(nylocas);
+
+		assertSame(npc, ((Map<?, ?>) field("npcsByIndex").get(nylocas)).get(7));
+	}
+
+	private Nylocas nylocas(String weaponStyle) throws Exception
+	{
+		Nylocas nylocas = new Nylocas(null, config());
+		field("client").set(nylocas, client(List.of()));
+		field("nyloActive").set(nylocas, true);
+		field("menuRewritePending").set(nylocas, true);
+
+		Field style = field("weaponStyle");
+		for (Object constant : style.getType().getEnumConstants())
+		{
+			if (((Enum<?>) constant).name().equals(weaponStyle))
+			{
+				style.set(nylocas, constant);
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		Map<Integer, NPC> npcsByIndex = (Map<Integer, NPC>) field("npcsByIndex").get(nylocas);
+		npcsByIndex.put(MELEE_BOSS_INDEX, npc(NpcID.NYLOCAS_VASILIAS_8355, MELEE_BOSS_INDEX));
+		npcsByIndex.put(MAGE_BOSS_INDEX, npc(NpcID.NYLOCAS_VASILIAS_8356, MAGE_BOSS_INDEX));
+		return nylocas;
+	}
+
+	private static Field field(String name) throws NoSuchFieldException
+	{
+		Field field = Nylocas.class.getDeclaredField(name);
+		field.setAccessible(true);
+		return field;
+	}
+
+	private Client client(List<NPC> npcs)
+	{
+		return (Client) Proxy.newProxyInstance(Client.class.getClassLoader(), new Class<?>[]{Client.class},
+			(proxy, method, args) ->
+			{
+				switch (method.getName())
+				{
+					case "getMenuEntries":
+						return menu.clone();
+					case "setMenuEntries":
+						setMenu = (MenuEntry[]) args[0];
+						setCalls++;
+						return null;
+					case "isMenuOpen":
+						return false;
+					case "getNpcs":
+						return npcs;
+					default:
+						return null;
+				}
+			});
+	}
+
+	private static TheatreConfig config()
+	{
+		return (TheatreConfig) Proxy.newProxyInstance(TheatreConfig.class.getClassLoader(), new Class<?>[]{TheatreConfig.class},
+			(proxy, method, args) ->
+			{
+				switch (method.getName())
+				{
+					case "removeNyloEntries":
+					case "removeNyloBossEntries":
+					case "nyloRecolorMenu":
+						return true;
+					default:
+						return null;
+				}
+			});
+	}
+
+	private static NPC npc(int id, int index)
+	{
+		return (NPC) Proxy.newProxyInstance(NPC.class.getClassLoader(), new Class<?>[]{NPC.class},
+			(proxy, method, args) ->
+			{
+				switch (method.getName())
+				{
+					case "getId":
+						return id;
+					case "getIndex":
+						return index;
+					case "equals":
+						return proxy == args[0];
+					case "hashCode":
+						return System.identityHashCode(proxy);
+					default:
+						return null;
+				}
+			});
+	}
+
+	private static MenuEntry entry(String option, String target, MenuAction type, int identifier)
+	{
+		Map<String, Object> state = new HashMap<>();
+		state.put("target", target);
+		return (MenuEntry) Proxy.newProxyInstance(MenuEntry.class.getClassLoader(), new Class<?>[]{MenuEntry.class},
+			(proxy, method, args) ->
+			{
+				switch (method.getName())
+				{
+					case "getOption":
+						return option;
+					case "getTarget":
+						return state.get("target");
+					case "setTarget":
+						state.put("target", args[0]);
+						return proxy;
+					case "getType":
+						return type;
+					case "getIdentifier":
+						return identifier;
+					case "getNpc":
+						return null;
+					case "equals":
+						return proxy == args[0];
+					case "hashCode":
+						return System.identityHashCode(proxy);
+					default:
+						return null;
+				}
+			});
+	}
+}
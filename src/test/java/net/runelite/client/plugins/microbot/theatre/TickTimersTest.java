@@ -0,0 +1,166 @@
+package net.runelite.client.plugins.microbot.theatre;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class TickTimersTest
+{
+	/**
+	 * Nylocas explosions: decremented while not negative, so shown down to -1.
+	 */
+	@Test
+	public void matchesNylocasExplosionCountdown()
+	{
+		replay(-1, 52, (map) ->
+		{
+			for (Iterator<Map.Entry<Integer, Integer>> it = map.entrySet().iterator(); it.hasNext(); )
+			{
+				Map.Entry<Integer, Integer> entry = it.next();
+				if (entry.getValue() < 0)
+				{
+					it.remove();
+				}
+				else
+				{
+					entry.setValue(entry.getValue() - 1);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Nylocas splits: entries at 1 are dropped before the rest are decremented.
+	 */
+	@Test
+	public void matchesNylocasSplitCountdown()
+	{
+		replay(1, 6, (map) ->
+		{
+			map.values().removeIf(v -> v <= 1);
+			map.replaceAll((k, v) -> v - 1);
+		});
+	}
+
+	/**
+	 * Bloat hands: entries at 0 are dropped before the rest are decremented.
+	 */
+	@Test
+	public void matchesBloatHandCountdown()
+	{
+		replay(0, 4, (map) ->
+		{
+			map.values().removeIf(v -> v <= 0);
+			map.replaceAll((k, v) -> v - 1);
+		});
+	}
+
+	/**
+	 * Xarpus exhumeds and Verzik poison tiles: decremented first, then dropped at 0.
+	 */
+	@Test
+	public void matchesXarpusAndVerzikCountdowns()
+	{
+		for (int ticks : new int[]{11, 14})
+		{
+			replay(1, ticks, (map) ->
+			{
+				map.replaceAll((k, v) -> v - 1);
+				map.values().removeIf(v -> v <= 0);
+			});
+		}
+	}
+
+	@Test
+	public void countdownsLongerThanTheWheelSurviveFullTurns()
+	{
+		replay(1, 200, (map) ->
+		{
+			map.replaceAll((k, v) -> v - 1);
+			map.values().removeIf(v -> v <= 0);
+		});
+	}
+
+	@Test
+	public void keepsValuesAndForgetsRemovedKeys()
+	{
+		TickTimers<String, String> timers = new TickTimers<>(1);
+		timers.put("tile", "poison", 3);
+		assertEquals("poison", timers.get("tile"));
+		assertEquals(3, timers.remaining("tile"));
+
+		timers.advance();
+		assertEquals(2, timers.remaining("tile"));
+		assertTrue(timers.remove("tile"));
+		assertFalse(timers.remove("tile"));
+		assertNull(timers.get("tile"));
+		assertEquals(Integer.MIN_VALUE, timers.remaining("tile"));
+
+		timers.put("tile", "poison", 3);
+		timers.clear();
+		assertTrue(timers.isEmpty());
+		for (int i = 0; i < 5; i++)
+		{
+			timers.advance();
+		}
+		assertTrue(timers.isEmpty());
+	}
+
+	/**
+	 * Runs random put/putIfAbsent/remove/advance sequences through TickTimers and through the HashMap decrement
+	 * a room used before, and checks both hold the same keys with the same remaining ticks after every tick.
+	 */
+	private static void replay(int floor, int ticks, MapDecrement decrement)
+	{
+		Random random = new Random(23);
+		TickTimers<Integer, Void> timers = new TickTimers<>(floor);
+		Map<Integer, Integer> map = new HashMap<>();
+
+		for (int step = 0; step < 5_000; step++)
+		{
+			for (int i = 0; i < 3; i++)
+			{
+				int key = random.nextInt(40);
+				int operation = random.nextInt(10);
+				if (operation < 3)
+				{
+					map.putIfAbsent(key, ticks);
+					timers.putIfAbsent(key, ticks);
+				}
+				else if (operation < 4)
+				{
+					map.put(key, ticks);
+					timers.put(key, ticks);
+				}
+				else if (operation < 5)
+				{
+					map.remove(key);
+					timers.remove(key);
+				}
+			}
+
+			decrement.apply(map);
+			timers.advance();
+
+			assertEquals("step " + step, map.size(), timers.size());
+			for (Map.Entry<Integer, Integer> entry : map.entrySet())
+			{
+				assertEquals("step " + step + " key " + entry.getKey(), (int) entry.getValue(), timers.remaining(entry.getKey()));
+			}
+		}
+	}
+
+	@FunctionalInterface
+	private interface MapDecrement
+	{
+		void apply(Map<Integer, Integer> map);
+	}
+}